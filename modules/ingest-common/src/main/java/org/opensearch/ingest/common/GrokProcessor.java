@@ -34,6 +34,9 @@ package org.opensearch.ingest.common;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.AbstractProcessor;
@@ -41,9 +44,13 @@ import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.Processor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 
@@ -58,18 +65,33 @@ public final class GrokProcessor extends AbstractProcessor {
     private final Grok grok;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
+    // a literal per pattern that any value matched by the pattern must contain, or null if not all patterns have one
+    private final List<String> requiredLiterals;
 
     GrokProcessor(String tag, String description, Map<String, String> patternBank, List<String> matchPatterns, String matchField,
                   boolean traceMatch, boolean ignoreMissing, MatcherWatchdog matcherWatchdog) {
+        this(tag, description, compile(patternBank, matchPatterns, traceMatch, matcherWatchdog), matchPatterns, matchField, traceMatch,
+            ignoreMissing);
+    }
+
+    GrokProcessor(String tag, String description, Grok grok, List<String> matchPatterns, String matchField, boolean traceMatch,
+                  boolean ignoreMissing) {
         super(tag, description);
         this.matchField = matchField;
         this.matchPatterns = matchPatterns;
-        this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
+        this.grok = grok;
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
+        this.requiredLiterals = requiredLiterals(matchPatterns);
+    }
+
+    static Grok compile(Map<String, String> patternBank, List<String> matchPatterns, boolean traceMatch,
+                        MatcherWatchdog matcherWatchdog) {
+        Grok grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
         // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
         // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
         new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+        return grok;
     }
 
     @Override
@@ -82,7 +104,7 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
-        Map<String, Object> matches = grok.captures(fieldValue);
+        Map<String, Object> matches = mayMatch(fieldValue) ? grok.captures(fieldValue) : null;
         if (matches == null) {
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
         }
@@ -103,6 +125,22 @@ public final class GrokProcessor extends AbstractProcessor {
         return ingestDocument;
     }
 
+    /**
+     * Returns false if none of the patterns can match the given value because the value lacks the literals they require, which is much
+     * cheaper to find out than running the regular expression.
+     */
+    boolean mayMatch(String fieldValue) {
+        if (requiredLiterals == null) {
+            return true;
+        }
+        for (String requiredLiteral : requiredLiterals) {
+            if (fieldValue.contains(requiredLiteral)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -149,14 +187,93 @@ public final class GrokProcessor extends AbstractProcessor {
         return combinedPattern;
     }
 
+    private static List<String> requiredLiterals(List<String> patterns) {
+        List<String> requiredLiterals = new ArrayList<>(patterns.size());
+        for (String pattern : patterns) {
+            String requiredLiteral = requiredLiteral(pattern);
+            if (requiredLiteral == null) {
+                return null;
+            }
+            requiredLiterals.add(requiredLiteral);
+        }
+        return Collections.unmodifiableList(requiredLiterals);
+    }
+
+    /**
+     * Returns the longest literal that any value matched by the given grok pattern must contain, or null if there is none or if the
+     * pattern uses constructs that make it hard to tell, like groups, alternations or character classes. References to other patterns
+     * (like <code>%{IP:client}</code>) always expand to a group and never make the surrounding literals optional.
+     */
+    static String requiredLiteral(String pattern) {
+        String longest = "";
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '%' && i + 1 < pattern.length() && pattern.charAt(i + 1) == '{') {
+                int end = pattern.indexOf('}', i + 2);
+                if (end == -1) {
+                    return null;
+                }
+                longest = longest(longest, current);
+                i = end + 1;
+            } else if (c == '\\') {
+                if (i + 1 == pattern.length()) {
+                    return null;
+                }
+                char escaped = pattern.charAt(i + 1);
+                if (Character.isLetterOrDigit(escaped)) {
+                    // only allow escapes that are a single character class, others like \x41 or \p{L} consume the following characters
+                    if ("sSdDwWbBhH".indexOf(escaped) == -1) {
+                        return null;
+                    }
+                    longest = longest(longest, current);
+                } else {
+                    current.append(escaped);
+                }
+                i += 2;
+            } else if (c == '?' || c == '*' || c == '+') {
+                // the quantified atom is optional (or repeated), so it can't be part of a required literal
+                if (current.length() > 0) {
+                    current.setLength(current.length() - 1);
+                }
+                longest = longest(longest, current);
+                i++;
+            } else if (c == '.' || c == '^' || c == '$') {
+                longest = longest(longest, current);
+                i++;
+            } else if ("()[]{}|".indexOf(c) != -1) {
+                return null;
+            } else {
+                current.append(c);
+                i++;
+            }
+        }
+        longest = longest(longest, current);
+        return longest.isEmpty() ? null : longest;
+    }
+
+    private static String longest(String longest, StringBuilder current) {
+        String candidate = current.toString();
+        current.setLength(0);
+        return candidate.length() > longest.length() ? candidate : longest;
+    }
+
     public static final class Factory implements Processor.Factory {
 
         private final Map<String, String> builtinPatterns;
         private final MatcherWatchdog matcherWatchdog;
+        // compiled expressions are immutable, so processors with the same patterns can share them, e.g. across pipeline versions
+        private final Cache<CacheKey, Grok> grokCache;
 
         public Factory(Map<String, String> builtinPatterns, MatcherWatchdog matcherWatchdog) {
+            this(builtinPatterns, matcherWatchdog, IngestCommonPlugin.GROK_CACHE_SIZE.get(Settings.EMPTY));
+        }
+
+        public Factory(Map<String, String> builtinPatterns, MatcherWatchdog matcherWatchdog, int cacheSize) {
             this.builtinPatterns = builtinPatterns;
             this.matcherWatchdog = matcherWatchdog;
+            this.grokCache = cacheSize > 0 ? CacheBuilder.<CacheKey, Grok>builder().setMaximumWeight(cacheSize).build() : null;
         }
 
         @Override
@@ -177,13 +294,57 @@ public final class GrokProcessor extends AbstractProcessor {
             }
 
             try {
-                return new GrokProcessor(processorTag, description, patternBank, matchPatterns, matchField, traceMatch, ignoreMissing,
-                    matcherWatchdog);
+                Grok grok;
+                if (grokCache == null) {
+                    grok = compile(patternBank, matchPatterns, traceMatch, matcherWatchdog);
+                } else {
+                    CacheKey key = new CacheKey(matchPatterns, traceMatch, customPatternBank);
+                    try {
+                        grok = grokCache.computeIfAbsent(key, k -> compile(patternBank, matchPatterns, traceMatch, matcherWatchdog));
+                    } catch (ExecutionException e) {
+                        throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+                return new GrokProcessor(processorTag, description, grok, matchPatterns, matchField, traceMatch, ignoreMissing);
             } catch (Exception e) {
                 throw newConfigurationException(TYPE, processorTag, "patterns",
                     "Invalid regex pattern found in: " + matchPatterns + ". " + e.getMessage());
             }
 
         }
+
+        /**
+         * Identifies a compiled grok expression. The built-in patterns are the same for all the processors of a factory, so only the
+         * custom pattern definitions need to be part of the key.
+         */
+        private static final class CacheKey {
+            private final List<String> matchPatterns;
+            private final boolean traceMatch;
+            private final Map<String, String> customPatternBank;
+
+            private CacheKey(List<String> matchPatterns, boolean traceMatch, Map<String, String> customPatternBank) {
+                this.matchPatterns = matchPatterns;
+                this.traceMatch = traceMatch;
+                this.customPatternBank = customPatternBank == null ? Collections.emptyMap() : customPatternBank;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) {
+                    return true;
+                }
+                if (o == null || getClass() != o.getClass()) {
+                    return false;
+                }
+                CacheKey that = (CacheKey) o;
+                return traceMatch == that.traceMatch && matchPatterns.equals(that.matchPatterns)
+                    && customPatternBank.equals(that.customPatternBank);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(matchPatterns, traceMatch, customPatternBank);
+            }
+        }
     }
 }
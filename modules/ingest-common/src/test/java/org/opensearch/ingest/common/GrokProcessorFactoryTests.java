@@ -42,7 +42,9 @@ import java.util.Map;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class GrokProcessorFactoryTests extends OpenSearchTestCase {
 
@@ -132,4 +134,32 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         assertThat(e.getMessage(),
             equalTo("[patterns] Invalid regex pattern found in: [%{MY_PATTERN:name}!]. premature end of char-class"));
     }
+
+    public void testCompiledPatternsAreShared() throws Exception {
+        GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
+        GrokProcessor first = factory.create(null, randomAlphaOfLength(10), null, grokConfig("(?<foo>\\w+)", false));
+        GrokProcessor second = factory.create(null, randomAlphaOfLength(10), null, grokConfig("(?<foo>\\w+)", false));
+        assertThat(second.getGrok(), sameInstance(first.getGrok()));
+
+        assertThat(factory.create(null, randomAlphaOfLength(10), null, grokConfig("(?<foo>\\w+)", true)).getGrok(),
+            not(sameInstance(first.getGrok())));
+        assertThat(factory.create(null, randomAlphaOfLength(10), null, grokConfig("(?<bar>\\w+)", false)).getGrok(),
+            not(sameInstance(first.getGrok())));
+        Map<String, Object> config = grokConfig("(?<foo>\\w+)", false);
+        config.put("pattern_definitions", Collections.singletonMap("MY_PATTERN", "foo"));
+        assertThat(factory.create(null, randomAlphaOfLength(10), null, config).getGrok(), not(sameInstance(first.getGrok())));
+
+        factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop(), 0);
+        first = factory.create(null, randomAlphaOfLength(10), null, grokConfig("(?<foo>\\w+)", false));
+        second = factory.create(null, randomAlphaOfLength(10), null, grokConfig("(?<foo>\\w+)", false));
+        assertThat(second.getGrok(), not(sameInstance(first.getGrok())));
+    }
+
+    private static Map<String, Object> grokConfig(String pattern, boolean traceMatch) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("field", "_field");
+        config.put("patterns", Collections.singletonList(pattern));
+        config.put("trace_match", traceMatch);
+        return config;
+    }
 }
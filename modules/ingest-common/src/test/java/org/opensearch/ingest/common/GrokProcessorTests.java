@@ -44,6 +44,7 @@ import java.util.Map;
 
 import static org.opensearch.ingest.IngestDocumentMatcher.assertIngestDocument;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 
 
 public class GrokProcessorTests extends OpenSearchTestCase {
@@ -263,4 +264,43 @@ public class GrokProcessorTests extends OpenSearchTestCase {
         assertFalse(doc.hasField("first"));
         assertThat(doc.getFieldValue("second", String.class), equalTo("3"));
     }
+
+    public void testRequiredLiteral() {
+        assertThat(GrokProcessor.requiredLiteral("%{IP:client} GET %{URIPATH:path}"), equalTo(" GET "));
+        assertThat(GrokProcessor.requiredLiteral("\\[%{HTTPDATE:timestamp}\\] status=%{NUMBER:status}"), equalTo("] status="));
+        assertThat(GrokProcessor.requiredLiteral("%{WORD:verb}\\s+request: %{GREEDYDATA:rest}"), equalTo("request: "));
+        // quantified characters are optional
+        assertThat(GrokProcessor.requiredLiteral("%{WORD:verb} users?:%{NUMBER:count}"), equalTo(" user"));
+        assertThat(GrokProcessor.requiredLiteral("%{WORD:a}.%{WORD:b}"), nullValue());
+        assertThat(GrokProcessor.requiredLiteral("%{ONETWO:first}|%{THREE:second}"), nullValue());
+        assertThat(GrokProcessor.requiredLiteral("(?<a>(?i)A)"), nullValue());
+        assertThat(GrokProcessor.requiredLiteral("[abc]+ suffix"), nullValue());
+        assertThat(GrokProcessor.requiredLiteral("\\x41BC %{WORD:word}"), nullValue());
+    }
+
+    public void testValuesWithoutRequiredLiteralsDoNotMatch() throws Exception {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        Map<String, String> patternBank = new HashMap<>();
+        patternBank.put("ONE", "1");
+        patternBank.put("TWO", "2");
+        GrokProcessor processor = new GrokProcessor(randomAlphaOfLength(10), null, patternBank,
+            Arrays.asList("first=%{ONE:one}", "second=%{TWO:two}"), fieldName, false, false, MatcherWatchdog.noop());
+        assertFalse(processor.mayMatch("third=3"));
+        assertTrue(processor.mayMatch("second=1"));
+
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "third=3");
+        Exception e = expectThrows(Exception.class, () -> processor.execute(doc));
+        assertThat(e.getMessage(), equalTo("Provided Grok expressions do not match field value: [third=3]"));
+
+        doc.setFieldValue(fieldName, "second=2");
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("two", String.class), equalTo("2"));
+    }
+
+    public void testPatternsWithoutRequiredLiteralsAreNotPrefiltered() {
+        GrokProcessor processor = new GrokProcessor(randomAlphaOfLength(10), null, Collections.singletonMap("ONE", "1"),
+            Arrays.asList("first=%{ONE:one}", "%{ONE:one}"), "field", false, false, MatcherWatchdog.noop());
+        assertTrue(processor.mayMatch("1"));
+    }
 }
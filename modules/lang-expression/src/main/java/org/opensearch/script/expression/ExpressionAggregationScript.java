@@ -85,6 +85,17 @@ class ExpressionAggregationScript implements AggregationScript.LeafFactory {
 
             @Override
             public Object execute() {
+                return runAsDouble();
+            }
+
+            // expressions always evaluate to a single double, aggregations read it without boxing it
+            @Override
+            public boolean returnsSingleNumber() {
+                return true;
+            }
+
+            @Override
+            public double runAsDouble() {
                 try {
                     return values.doubleValue();
                 } catch (Exception exception) {
@@ -92,6 +103,11 @@ class ExpressionAggregationScript implements AggregationScript.LeafFactory {
                 }
             }
 
+            @Override
+            public long runAsLong() {
+                return (long) runAsDouble();
+            }
+
             @Override
             public void setDocument(int d) {
                 try {
@@ -40,6 +40,7 @@ import org.opensearch.painless.node.SClass;
 import org.opensearch.painless.phase.DefaultConstantFoldingOptimizationPhase;
 import org.opensearch.painless.phase.DefaultStringConcatenationOptimizationPhase;
 import org.opensearch.painless.phase.DocFieldsPhase;
+import org.opensearch.painless.phase.PainlessParamsHoistingOptimizationPhase;
 import org.opensearch.painless.phase.PainlessSemanticAnalysisPhase;
 import org.opensearch.painless.phase.PainlessSemanticHeaderPhase;
 import org.opensearch.painless.phase.PainlessUserTreeToIRTreePhase;
@@ -239,6 +240,7 @@ final class Compiler {
         ClassNode classNode = (ClassNode)scriptScope.getDecoration(root, IRNodeDecoration.class).getIRNode();
         new DefaultStringConcatenationOptimizationPhase().visitClass(classNode, null);
         new DefaultConstantFoldingOptimizationPhase().visitClass(classNode, null);
+        new PainlessParamsHoistingOptimizationPhase().visitClass(classNode, null);
         byte[] bytes = classNode.write();
 
         try {
@@ -274,6 +276,7 @@ final class Compiler {
         ClassNode classNode = (ClassNode)scriptScope.getDecoration(root, IRNodeDecoration.class).getIRNode();
         new DefaultStringConcatenationOptimizationPhase().visitClass(classNode, null);
         new DefaultConstantFoldingOptimizationPhase().visitClass(classNode, null);
+        new PainlessParamsHoistingOptimizationPhase().visitClass(classNode, null);
         classNode.setDebugStream(debugStream);
 
         return classNode.write();
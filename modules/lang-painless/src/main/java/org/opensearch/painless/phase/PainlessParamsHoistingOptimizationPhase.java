@@ -0,0 +1,425 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.painless.phase;
+
+import org.opensearch.painless.Location;
+import org.opensearch.painless.Operation;
+import org.opensearch.painless.ScriptClassInfo;
+import org.opensearch.painless.ir.BinaryImplNode;
+import org.opensearch.painless.ir.BinaryMathNode;
+import org.opensearch.painless.ir.BlockNode;
+import org.opensearch.painless.ir.CastNode;
+import org.opensearch.painless.ir.ClassNode;
+import org.opensearch.painless.ir.ComparisonNode;
+import org.opensearch.painless.ir.ConstantNode;
+import org.opensearch.painless.ir.DeclarationNode;
+import org.opensearch.painless.ir.ExpressionNode;
+import org.opensearch.painless.ir.FieldNode;
+import org.opensearch.painless.ir.FunctionNode;
+import org.opensearch.painless.ir.IfNode;
+import org.opensearch.painless.ir.InvokeCallMemberNode;
+import org.opensearch.painless.ir.LoadFieldMemberNode;
+import org.opensearch.painless.ir.LoadMapShortcutNode;
+import org.opensearch.painless.ir.LoadVariableNode;
+import org.opensearch.painless.ir.ReturnNode;
+import org.opensearch.painless.ir.StatementExpressionNode;
+import org.opensearch.painless.ir.StoreBraceDefNode;
+import org.opensearch.painless.ir.StoreBraceNode;
+import org.opensearch.painless.ir.StoreDotDefNode;
+import org.opensearch.painless.ir.StoreDotNode;
+import org.opensearch.painless.ir.StoreDotShortcutNode;
+import org.opensearch.painless.ir.StoreFieldMemberNode;
+import org.opensearch.painless.ir.StoreListShortcutNode;
+import org.opensearch.painless.ir.StoreMapShortcutNode;
+import org.opensearch.painless.ir.StoreVariableNode;
+import org.opensearch.painless.ir.UnaryMathNode;
+import org.opensearch.painless.lookup.PainlessLookupUtility;
+import org.opensearch.painless.symbol.FunctionTable.LocalFunction;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.Method;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * This optimization pass moves the expressions of the execute method that only depend on constants and
+ * on reads of {@code params} into synthetic methods that compute them the first time they are evaluated
+ * and return the cached value after that. Scripts are instantiated for each segment and executed for
+ * each document, so a score computed from {@code params.weight * params.boost} is otherwise computed
+ * again with two map lookups and dynamic math for every hit.
+ *
+ * The values are computed lazily at their original location so an expression that is never evaluated
+ * or that throws behaves exactly as it did before. Script instances may be executed by several threads
+ * at once, so the flag that marks a value as computed is volatile and only set after the value.
+ *
+ * Expressions are only cached when it is certain that they produce the same value on every execution
+ * of a script instance:
+ * <ul>
+ * <li>{@code params} must be provided by the {@code getParams} getter of the script rather than being
+ * an argument of the execute method</li>
+ * <li>{@code params} must only ever be used to read a value by a constant key, so the script can
+ * neither modify it nor pass it anywhere else</li>
+ * <li>keys starting with an underscore and {@code doc} are never cached since they hold per document
+ * values, such as {@code _source}</li>
+ * <li>only non-regex unary, binary and comparison operations, and casts of them, are cached</li>
+ * </ul>
+ * This reuses the expression replacing traversal of the constant folding pass which it runs after.
+ */
+public class PainlessParamsHoistingOptimizationPhase extends DefaultConstantFoldingOptimizationPhase {
+
+    private static final String PARAMS = "params";
+    private static final String PARAMS_GETTER = "getParams";
+
+    private final List<FieldNode> hoistedFieldNodes = new ArrayList<>();
+    private final List<FunctionNode> hoistedFunctionNodes = new ArrayList<>();
+    private LocalFunction paramsGetter;
+
+    @Override
+    public void visitClass(ClassNode irClassNode, Consumer<ExpressionNode> scope) {
+        paramsGetter = paramsGetter(irClassNode.getScriptScope().getScriptClassInfo());
+
+        if (paramsGetter == null) {
+            return;
+        }
+
+        ParamsUsageVisitor paramsUsageVisitor = new ParamsUsageVisitor();
+        irClassNode.visit(paramsUsageVisitor, null);
+
+        if (paramsUsageVisitor.readOnly == false || paramsUsageVisitor.loads != paramsUsageVisitor.reads) {
+            return;
+        }
+
+        for (FunctionNode irFunctionNode : irClassNode.getFunctionsNodes()) {
+            if ("execute".equals(irFunctionNode.getName())) {
+                irFunctionNode.visit(this, null);
+            }
+        }
+
+        hoistedFieldNodes.forEach(irClassNode::addFieldNode);
+        hoistedFunctionNodes.forEach(irClassNode::addFunctionNode);
+    }
+
+    @Override
+    public void visitUnaryMath(UnaryMathNode irUnaryMathNode, Consumer<ExpressionNode> scope) {
+        if (hoist(irUnaryMathNode, scope) == false) {
+            super.visitUnaryMath(irUnaryMathNode, scope);
+        }
+    }
+
+    @Override
+    public void visitBinaryMath(BinaryMathNode irBinaryMathNode, Consumer<ExpressionNode> scope) {
+        if (hoist(irBinaryMathNode, scope) == false) {
+            super.visitBinaryMath(irBinaryMathNode, scope);
+        }
+    }
+
+    @Override
+    public void visitComparison(ComparisonNode irComparisonNode, Consumer<ExpressionNode> scope) {
+        if (hoist(irComparisonNode, scope) == false) {
+            super.visitComparison(irComparisonNode, scope);
+        }
+    }
+
+    @Override
+    public void visitCast(CastNode irCastNode, Consumer<ExpressionNode> scope) {
+        if (hoist(irCastNode, scope) == false) {
+            super.visitCast(irCastNode, scope);
+        }
+    }
+
+    /**
+     * Replaces the given expression with a call to a synthetic method that caches its value if it only
+     * depends on {@code params} and constants.
+     */
+    private boolean hoist(ExpressionNode irExpressionNode, Consumer<ExpressionNode> scope) {
+        if (paramsReads(irExpressionNode) <= 0 || isOperation(irExpressionNode) == false) {
+            return false;
+        }
+
+        Location internalLocation = new Location("$internal$ParamsHoistingPhase$hoist", 0);
+        String name = "$hoisted$" + hoistedFunctionNodes.size();
+        String isSetName = name + "$isSet";
+        Class<?> type = irExpressionNode.getExpressionType();
+
+        FieldNode irFieldNode = new FieldNode(internalLocation);
+        irFieldNode.setModifiers(Opcodes.ACC_PRIVATE);
+        irFieldNode.setFieldType(PainlessLookupUtility.typeToJavaType(type));
+        irFieldNode.setName(name);
+        hoistedFieldNodes.add(irFieldNode);
+
+        // script instances are shared between threads, the volatile flag is written after the value so a
+        // thread that sees it set also sees the value, while racing threads at worst compute the value twice
+        irFieldNode = new FieldNode(internalLocation);
+        irFieldNode.setModifiers(Opcodes.ACC_PRIVATE | Opcodes.ACC_VOLATILE);
+        irFieldNode.setFieldType(boolean.class);
+        irFieldNode.setName(isSetName);
+        hoistedFieldNodes.add(irFieldNode);
+
+        // def params = this.getParams();
+        // if (this.$hoisted$N$isSet) {
+        //     return this.$hoisted$N;
+        // }
+        // this.$hoisted$N = <expression>;
+        // this.$hoisted$N$isSet = true;
+        // return this.$hoisted$N;
+        BlockNode irBlockNode = new BlockNode(internalLocation);
+        irBlockNode.setAllEscape(true);
+
+        DeclarationNode irDeclarationNode = new DeclarationNode(internalLocation);
+        irDeclarationNode.setName(PARAMS);
+        irDeclarationNode.setDeclarationType(paramsGetter.getReturnType());
+        InvokeCallMemberNode irInvokeCallMemberNode = new InvokeCallMemberNode(internalLocation);
+        irInvokeCallMemberNode.setExpressionType(paramsGetter.getReturnType());
+        irInvokeCallMemberNode.setLocalFunction(paramsGetter);
+        irDeclarationNode.setExpressionNode(irInvokeCallMemberNode);
+        irBlockNode.addStatementNode(irDeclarationNode);
+
+        BlockNode irIfBlockNode = new BlockNode(internalLocation);
+        irIfBlockNode.setAllEscape(true);
+        irIfBlockNode.addStatementNode(returnField(internalLocation, name, type));
+        IfNode irIfNode = new IfNode(internalLocation);
+        irIfNode.setConditionNode(loadField(internalLocation, isSetName, boolean.class));
+        irIfNode.setBlockNode(irIfBlockNode);
+        irBlockNode.addStatementNode(irIfNode);
+
+        irBlockNode.addStatementNode(storeField(internalLocation, name, type, irExpressionNode));
+        ConstantNode irConstantNode = new ConstantNode(internalLocation);
+        irConstantNode.setExpressionType(boolean.class);
+        irConstantNode.setConstant(true);
+        irBlockNode.addStatementNode(storeField(internalLocation, isSetName, boolean.class, irConstantNode));
+        irBlockNode.addStatementNode(returnField(internalLocation, name, type));
+
+        FunctionNode irFunctionNode = new FunctionNode(internalLocation);
+        irFunctionNode.setBlockNode(irBlockNode);
+        irFunctionNode.setName(name);
+        irFunctionNode.setReturnType(type);
+        irFunctionNode.setStatic(false);
+        irFunctionNode.setVarArgs(false);
+        irFunctionNode.setSynthetic(true);
+        irFunctionNode.setMaxLoopCounter(0);
+        hoistedFunctionNodes.add(irFunctionNode);
+
+        InvokeCallMemberNode irHoistedCallNode = new InvokeCallMemberNode(irExpressionNode.getLocation());
+        irHoistedCallNode.setExpressionType(type);
+        irHoistedCallNode.setLocalFunction(new LocalFunction(name, type, Collections.emptyList(), true, false));
+        scope.accept(irHoistedCallNode);
+
+        return true;
+    }
+
+    /**
+     * Returns the number of reads of {@code params} in the given expression if it can be cached, or
+     * {@code -1} if it can't.
+     */
+    static int paramsReads(ExpressionNode irExpressionNode) {
+        if (irExpressionNode instanceof ConstantNode) {
+            return 0;
+        } else if (cacheableParamsKey(irExpressionNode) != null) {
+            return 1;
+        } else if (irExpressionNode instanceof BinaryMathNode) {
+            Operation operation = ((BinaryMathNode)irExpressionNode).getOperation();
+
+            if (operation == Operation.FIND || operation == Operation.MATCH) {
+                return -1;
+            }
+
+            return paramsReads(((BinaryMathNode)irExpressionNode).getLeftNode(), ((BinaryMathNode)irExpressionNode).getRightNode());
+        } else if (irExpressionNode instanceof ComparisonNode) {
+            return paramsReads(((ComparisonNode)irExpressionNode).getLeftNode(), ((ComparisonNode)irExpressionNode).getRightNode());
+        } else if (irExpressionNode instanceof UnaryMathNode) {
+            return paramsReads(((UnaryMathNode)irExpressionNode).getChildNode());
+        } else if (irExpressionNode instanceof CastNode) {
+            return paramsReads(((CastNode)irExpressionNode).getChildNode());
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns whether the given expression is an operation, possibly wrapped in casts. Single reads are
+     * left alone since caching them would save little over the read itself.
+     */
+    private static boolean isOperation(ExpressionNode irExpressionNode) {
+        while (irExpressionNode instanceof CastNode) {
+            irExpressionNode = ((CastNode)irExpressionNode).getChildNode();
+        }
+
+        return irExpressionNode instanceof BinaryMathNode
+            || irExpressionNode instanceof ComparisonNode
+            || irExpressionNode instanceof UnaryMathNode;
+    }
+
+    private static int paramsReads(ExpressionNode irLeftNode, ExpressionNode irRightNode) {
+        int left = paramsReads(irLeftNode);
+        int right = paramsReads(irRightNode);
+        return left < 0 || right < 0 ? -1 : left + right;
+    }
+
+    /**
+     * Returns the key if the given expression is a read of {@code params.key} that does not hold a per
+     * document value, otherwise {@code null}.
+     */
+    static String cacheableParamsKey(ExpressionNode irExpressionNode) {
+        String key = paramsKey(irExpressionNode);
+        return key == null || key.startsWith("_") || key.equals("doc") ? null : key;
+    }
+
+    /**
+     * Returns the key if the given expression has the structure of a read of {@code params.key},
+     * otherwise {@code null}.
+     */
+    private static String paramsKey(ExpressionNode irExpressionNode) {
+        if (irExpressionNode instanceof BinaryImplNode == false) {
+            return null;
+        }
+
+        BinaryImplNode irBinaryImplNode = (BinaryImplNode)irExpressionNode;
+
+        if (irBinaryImplNode.getLeftNode() instanceof BinaryImplNode == false
+                || irBinaryImplNode.getRightNode() instanceof LoadMapShortcutNode == false) {
+            return null;
+        }
+
+        BinaryImplNode irPrefixNode = (BinaryImplNode)irBinaryImplNode.getLeftNode();
+
+        if (irPrefixNode.getLeftNode() instanceof LoadVariableNode == false
+                || PARAMS.equals(((LoadVariableNode)irPrefixNode.getLeftNode()).getName()) == false
+                || irPrefixNode.getRightNode() instanceof ConstantNode == false) {
+            return null;
+        }
+
+        Object key = ((ConstantNode)irPrefixNode.getRightNode()).getConstant();
+
+        return key instanceof String ? (String)key : null;
+    }
+
+    private static LocalFunction paramsGetter(ScriptClassInfo scriptClassInfo) {
+        for (ScriptClassInfo.MethodArgument methodArgument : scriptClassInfo.getExecuteArguments()) {
+            if (PARAMS.equals(methodArgument.getName())) {
+                return null;
+            }
+        }
+
+        for (int i = 0; i < scriptClassInfo.getGetMethods().size(); ++i) {
+            Method getMethod = scriptClassInfo.getGetMethods().get(i);
+
+            if (PARAMS_GETTER.equals(getMethod.getName())) {
+                return new LocalFunction(getMethod.getName(), scriptClassInfo.getGetReturns().get(i), Collections.emptyList(), true, false);
+            }
+        }
+
+        return null;
+    }
+
+    private static LoadFieldMemberNode loadField(Location location, String name, Class<?> type) {
+        LoadFieldMemberNode irLoadFieldMemberNode = new LoadFieldMemberNode(location);
+        irLoadFieldMemberNode.setExpressionType(type);
+        irLoadFieldMemberNode.setName(name);
+        irLoadFieldMemberNode.setStatic(false);
+        return irLoadFieldMemberNode;
+    }
+
+    private static ReturnNode returnField(Location location, String name, Class<?> type) {
+        ReturnNode irReturnNode = new ReturnNode(location);
+        irReturnNode.setExpressionNode(loadField(location, name, type));
+        return irReturnNode;
+    }
+
+    private static StatementExpressionNode storeField(Location location, String name, Class<?> type, ExpressionNode irValueNode) {
+        StoreFieldMemberNode irStoreFieldMemberNode = new StoreFieldMemberNode(location);
+        irStoreFieldMemberNode.setExpressionType(void.class);
+        irStoreFieldMemberNode.setStoreType(type);
+        irStoreFieldMemberNode.setName(name);
+        irStoreFieldMemberNode.setStatic(false);
+        irStoreFieldMemberNode.setChildNode(irValueNode);
+
+        StatementExpressionNode irStatementExpressionNode = new StatementExpressionNode(location);
+        irStatementExpressionNode.setExpressionNode(irStoreFieldMemberNode);
+        return irStatementExpressionNode;
+    }
+
+    /**
+     * Checks that every use of {@code params} in the script is a read by a constant key.
+     */
+    private static class ParamsUsageVisitor extends IRTreeBaseVisitor<Void> {
+
+        private int loads;
+        private int reads;
+        private boolean readOnly = true;
+
+        @Override
+        public void visitLoadVariable(LoadVariableNode irLoadVariableNode, Void scope) {
+            if (PARAMS.equals(irLoadVariableNode.getName())) {
+                ++loads;
+            }
+        }
+
+        // store nodes don't visit the value they store, which holds the load of a compound assignment
+
+        @Override
+        public void visitStoreVariable(StoreVariableNode irStoreVariableNode, Void scope) {
+            if (PARAMS.equals(irStoreVariableNode.getName())) {
+                readOnly = false;
+            }
+
+            irStoreVariableNode.getChildNode().visit(this, scope);
+        }
+
+        @Override
+        public void visitStoreDotDef(StoreDotDefNode irStoreDotDefNode, Void scope) {
+            irStoreDotDefNode.getChildNode().visit(this, scope);
+        }
+
+        @Override
+        public void visitStoreDot(StoreDotNode irStoreDotNode, Void scope) {
+            irStoreDotNode.getChildNode().visit(this, scope);
+        }
+
+        @Override
+        public void visitStoreDotShortcut(StoreDotShortcutNode irStoreDotShortcutNode, Void scope) {
+            irStoreDotShortcutNode.getChildNode().visit(this, scope);
+        }
+
+        @Override
+        public void visitStoreListShortcut(StoreListShortcutNode irStoreListShortcutNode, Void scope) {
+            irStoreListShortcutNode.getChildNode().visit(this, scope);
+        }
+
+        @Override
+        public void visitStoreMapShortcut(StoreMapShortcutNode irStoreMapShortcutNode, Void scope) {
+            irStoreMapShortcutNode.getChildNode().visit(this, scope);
+        }
+
+        @Override
+        public void visitStoreFieldMember(StoreFieldMemberNode irStoreFieldMemberNode, Void scope) {
+            irStoreFieldMemberNode.getChildNode().visit(this, scope);
+        }
+
+        @Override
+        public void visitStoreBraceDef(StoreBraceDefNode irStoreBraceDefNode, Void scope) {
+            irStoreBraceDefNode.getChildNode().visit(this, scope);
+        }
+
+        @Override
+        public void visitStoreBrace(StoreBraceNode irStoreBraceNode, Void scope) {
+            irStoreBraceNode.getChildNode().visit(this, scope);
+        }
+
+        @Override
+        public void visitBinaryImpl(BinaryImplNode irBinaryImplNode, Void scope) {
+            if (paramsKey(irBinaryImplNode) != null) {
+                ++reads;
+            }
+
+            irBinaryImplNode.visitChildren(this, scope);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.painless;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.opensearch.painless.action.PainlessExecuteAction.PainlessTestScript;
+
+public class ParamsHoistingTests extends ScriptTestCase {
+
+    public void testParamsExpressionsAreHoisted() {
+        assertHoisted("params.a * params.b + 1");
+        assertHoisted("double x = (double)params.a * 2; return x");
+        assertHoisted("params.a > params.b ? 1 : 0");
+        assertHoisted("-params.a");
+    }
+
+    public void testSingleReadsAreNotHoisted() {
+        assertNotHoisted("params.a");
+        assertNotHoisted("def x = params.a; return x");
+        assertNotHoisted("double x = (double)params.a; return x");
+    }
+
+    public void testPerDocumentKeysAreNotHoisted() {
+        assertNotHoisted("params._source * 2");
+        assertNotHoisted("params.doc * 2");
+    }
+
+    public void testModifiedParamsAreNotHoisted() {
+        assertNotHoisted("params.a = 2; return params.a * params.b");
+        assertNotHoisted("params.a += 2; return params.a * params.b");
+        assertNotHoisted("params.put('a', 2); return params.a * params.b");
+        assertNotHoisted("def p = params; return params.a * params.b");
+        assertNotHoisted("def p; p = params; p.a = 2; return params.a * params.b");
+        assertNotHoisted("params.a++; return params.a * params.b");
+    }
+
+    public void testRegexesAreNotHoisted() {
+        assertNotHoisted("params.a =~ /b/", CompilerSettings.RegexEnabled.TRUE);
+    }
+
+    public void testResults() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("a", 3);
+        params.put("b", 4);
+        assertEquals(13, exec("params.a * params.b + 1", params, true));
+        assertEquals(26, exec("int r = 0; for (int i = 0; i < 2; ++i) { r += params.a * params.b + 1 } return r", params, true));
+        assertEquals(0, exec("params.a > params.b ? 1 : 0", params, true));
+        assertEquals(-3, exec("-params.a", params, true));
+        assertEquals(1.5, exec("(double)params.a / 2", params, true));
+    }
+
+    public void testValuesAreComputedOncePerInstance() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("a", 3);
+        params.put("b", 4);
+        PainlessTestScript.Factory factory = getEngine().compile(null, "params.a * params.b", PainlessTestScript.CONTEXT,
+            Collections.emptyMap());
+        PainlessTestScript script = factory.newInstance(params);
+        assertEquals(12, script.execute());
+        params.put("a", 5);
+        assertEquals(12, script.execute());
+        assertEquals(20, factory.newInstance(params).execute());
+    }
+
+    public void testExpressionsAreComputedLazily() {
+        assertEquals(0, exec("params.containsKey('a') ? params.a * 2 : 0", Collections.emptyMap(), true));
+        assertEquals(0, exec("if (params.containsKey('a')) { return params.a * 2 } return 0", Collections.emptyMap(), true));
+    }
+
+    public void testFailuresAreNotCached() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("a", 3);
+        params.put("b", 0);
+        PainlessTestScript.Factory factory = getEngine().compile(null, "params.a / params.b", PainlessTestScript.CONTEXT,
+            Collections.emptyMap());
+        PainlessTestScript script = factory.newInstance(params);
+        expectScriptThrows(ArithmeticException.class, script::execute);
+        params.put("b", 1);
+        assertEquals(3, script.execute());
+    }
+
+    public void testConcurrentExecutionsOfASharedInstance() throws Exception {
+        Map<String, Object> params = new HashMap<>();
+        params.put("a", 3);
+        params.put("b", 4);
+        PainlessTestScript.Factory factory = getEngine().compile(null, "params.a * params.b + params.a", PainlessTestScript.CONTEXT,
+            Collections.emptyMap());
+        Thread[] threads = new Thread[randomIntBetween(2, 8)];
+        CyclicBarrier barrier = new CyclicBarrier(threads.length);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int round = 0; round < 20; round++) {
+            PainlessTestScript script = factory.newInstance(params);
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    try {
+                        barrier.await();
+                        for (int j = 0; j < 100; j++) {
+                            assertEquals(15, script.execute());
+                        }
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    }
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            if (failure.get() != null) {
+                throw new AssertionError(failure.get());
+            }
+        }
+    }
+
+    public void testIsSetFlagIsVolatile() {
+        String asm = Debugger.toString(PainlessTestScript.class, "params.a * params.b", new CompilerSettings());
+        assertTrue("expected a volatile flag, got: \n" + asm, asm.contains("private volatile synthetic Z $hoisted$0$isSet"));
+    }
+
+    private static void assertHoisted(String script) {
+        assertBytecodeExists(script, "$hoisted$0");
+    }
+
+    private static void assertNotHoisted(String script) {
+        assertNotHoisted(script, CompilerSettings.RegexEnabled.LIMITED);
+    }
+
+    private static void assertNotHoisted(String script, CompilerSettings.RegexEnabled regexes) {
+        CompilerSettings settings = new CompilerSettings();
+        settings.setRegexesEnabled(regexes);
+        String asm = Debugger.toString(PainlessTestScript.class, script, settings);
+        assertFalse("unexpected hoisting, got: \n" + asm, asm.contains("$hoisted$"));
+    }
+}
@@ -32,6 +32,8 @@
 
 package org.opensearch.join;
 
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.index.mapper.Mapper;
 import org.opensearch.join.aggregations.ChildrenAggregationBuilder;
 import org.opensearch.join.aggregations.InternalChildren;
@@ -41,6 +43,7 @@ import org.opensearch.join.mapper.ParentJoinFieldMapper;
 import org.opensearch.join.query.HasChildQueryBuilder;
 import org.opensearch.join.query.HasParentQueryBuilder;
 import org.opensearch.join.query.ParentIdQueryBuilder;
+import org.opensearch.join.query.ParentJoinQueryCache;
 import org.opensearch.plugins.MapperPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.SearchPlugin;
@@ -52,7 +55,10 @@ import java.util.Map;
 
 public class ParentJoinPlugin extends Plugin implements SearchPlugin, MapperPlugin {
 
-    public ParentJoinPlugin() {
+    private final ParentJoinQueryCache joinQueryCache;
+
+    public ParentJoinPlugin(Settings settings) {
+        this.joinQueryCache = ParentJoinQueryCache.build(settings);
     }
 
     @Override
@@ -76,6 +82,11 @@ public class ParentJoinPlugin extends Plugin implements SearchPlugin, MapperPlug
 
     @Override
     public Map<String, Mapper.TypeParser> getMappers() {
-        return Collections.singletonMap(ParentJoinFieldMapper.CONTENT_TYPE, new ParentJoinFieldMapper.TypeParser());
+        return Collections.singletonMap(ParentJoinFieldMapper.CONTENT_TYPE, new ParentJoinFieldMapper.TypeParser(joinQueryCache));
+    }
+
+    @Override
+    public List<Setting<?>> getSettings() {
+        return Collections.singletonList(ParentJoinQueryCache.CACHE_SIZE_SETTING);
     }
 }
@@ -57,6 +57,7 @@ import org.opensearch.index.mapper.SourceValueFetcher;
 import org.opensearch.index.mapper.StringFieldType;
 import org.opensearch.index.mapper.TextSearchInfo;
 import org.opensearch.index.mapper.ValueFetcher;
+import org.opensearch.join.query.ParentJoinQueryCache;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
 import org.opensearch.search.lookup.SearchLookup;
 
@@ -145,6 +146,7 @@ public final class ParentJoinFieldMapper extends FieldMapper {
     public static class Builder extends FieldMapper.Builder<Builder> {
         final List<ParentIdFieldMapper.Builder> parentIdFieldBuilders = new ArrayList<>();
         boolean eagerGlobalOrdinals = true;
+        ParentJoinQueryCache joinQueryCache;
 
         public Builder(String name) {
             super(name, Defaults.FIELD_TYPE);
@@ -162,6 +164,14 @@ public final class ParentJoinFieldMapper extends FieldMapper {
             return builder;
         }
 
+        /**
+         * Sets the cache of the joins executed against this field, {@code null} to not cache them.
+         */
+        public Builder joinQueryCache(ParentJoinQueryCache joinQueryCache) {
+            this.joinQueryCache = joinQueryCache;
+            return builder;
+        }
+
         @Override
         public ParentJoinFieldMapper build(BuilderContext context) {
             checkObjectOrNested(context.path(), name);
@@ -176,18 +186,32 @@ public final class ParentJoinFieldMapper extends FieldMapper {
                 .forEach(parentIdFields::add);
             checkParentFields(name(), parentIdFields);
             MetaJoinFieldMapper unique = new MetaJoinFieldMapper.Builder(name).build(context);
-            return new ParentJoinFieldMapper(name, fieldType, new JoinFieldType(buildFullName(context), meta),
+            return new ParentJoinFieldMapper(name, fieldType, new JoinFieldType(buildFullName(context), meta, joinQueryCache),
                 unique, Collections.unmodifiableList(parentIdFields), eagerGlobalOrdinals);
         }
     }
 
     public static class TypeParser implements Mapper.TypeParser {
+
+        private final ParentJoinQueryCache joinQueryCache;
+
+        public TypeParser() {
+            this(null);
+        }
+
+        /**
+         * @param joinQueryCache the cache of the joins executed against the parsed fields, or {@code null} to not cache them
+         */
+        public TypeParser(ParentJoinQueryCache joinQueryCache) {
+            this.joinQueryCache = joinQueryCache;
+        }
+
         @Override
         public Mapper.Builder<?> parse(String name, Map<String, Object> node, ParserContext parserContext) throws MapperParsingException {
             final IndexSettings indexSettings = parserContext.mapperService().getIndexSettings();
             checkIndexCompatibility(indexSettings, name);
 
-            Builder builder = new Builder(name);
+            Builder builder = new Builder(name).joinQueryCache(joinQueryCache);
             for (Iterator<Map.Entry<String, Object>> iterator = node.entrySet().iterator(); iterator.hasNext();) {
                 Map.Entry<String, Object> entry = iterator.next();
                 if ("type".equals(entry.getKey())) {
@@ -219,9 +243,19 @@ public final class ParentJoinFieldMapper extends FieldMapper {
     }
 
     public static final class JoinFieldType extends StringFieldType {
-        private JoinFieldType(String name, Map<String, String> meta) {
+        private final ParentJoinQueryCache joinQueryCache;
+
+        private JoinFieldType(String name, Map<String, String> meta, ParentJoinQueryCache joinQueryCache) {
             super(name, true, false, true, TextSearchInfo.SIMPLE_MATCH_ONLY, meta);
             setIndexAnalyzer(Lucene.KEYWORD_ANALYZER);
+            this.joinQueryCache = joinQueryCache;
+        }
+
+        /**
+         * The cache of the joins executed against this field, or {@code null} if they aren't cached.
+         */
+        public ParentJoinQueryCache getJoinQueryCache() {
+            return joinQueryCache;
         }
 
         @Override
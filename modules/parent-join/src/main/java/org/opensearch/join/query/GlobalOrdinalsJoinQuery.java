@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.join.query;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.LongBitSet;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.IntArray;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A non-scoring join that matches the documents of {@code toQuery} whose join field holds one of the global ordinals
+ * collected from the documents matching {@code fromQuery}. This is what {@link org.apache.lucene.search.join.JoinUtil}
+ * builds for {@link org.apache.lucene.search.join.ScoreMode#None}, but the query that Lucene builds can only be used
+ * with the exact reader instance that it was created with, while every search wraps the shard's reader in a new
+ * exitable reader. This query only depends on the segments of the reader it was collected from, so the collected
+ * ordinals can be cached for as long as that reader is open.
+ */
+final class GlobalOrdinalsJoinQuery extends Query implements Accountable {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(GlobalOrdinalsJoinQuery.class);
+
+    private final Object readerKey;
+    private final String joinField;
+    private final OrdinalMap ordinalMap;
+    private final Query fromQuery;
+    private final Query toQuery;
+    private final int minChildren;
+    private final int maxChildren;
+    private final LongBitSet matchingOrds;
+
+    private GlobalOrdinalsJoinQuery(Object readerKey, String joinField, OrdinalMap ordinalMap, Query fromQuery, Query toQuery,
+                                    int minChildren, int maxChildren, LongBitSet matchingOrds) {
+        this.readerKey = readerKey;
+        this.joinField = joinField;
+        this.ordinalMap = ordinalMap;
+        this.fromQuery = fromQuery;
+        this.toQuery = toQuery;
+        this.minChildren = minChildren;
+        this.maxChildren = maxChildren;
+        this.matchingOrds = matchingOrds;
+    }
+
+    /**
+     * Collects the global ordinals of the join field of the documents that match {@code fromQuery} at least
+     * {@code minChildren} and at most {@code maxChildren} times and returns a query that matches the documents of
+     * {@code toQuery} with one of these ordinals, like {@link org.apache.lucene.search.join.JoinUtil#createJoinQuery}.
+     */
+    static Query create(String joinField, Query fromQuery, Query toQuery, IndexSearcher searcher, OrdinalMap ordinalMap,
+                        int minChildren, int maxChildren) throws IOException {
+        if (minChildren <= 0) {
+            throw new IllegalArgumentException("min argument must be bigger than 0");
+        }
+        if (minChildren > maxChildren) {
+            throw new IllegalArgumentException("max argument must be bigger than min argument");
+        }
+        IndexReader reader = searcher.getIndexReader();
+        final long valueCount;
+        if (reader.leaves().isEmpty()) {
+            return new MatchNoDocsQuery("no segments to join");
+        } else if (reader.leaves().size() == 1) {
+            // a single segment doesn't need global ordinals
+            ordinalMap = null;
+            SortedDocValues values = reader.leaves().get(0).reader().getSortedDocValues(joinField);
+            if (values == null) {
+                return new MatchNoDocsQuery("no join field [" + joinField + "] in the only segment");
+            }
+            valueCount = values.getValueCount();
+        } else if (ordinalMap == null) {
+            throw new IllegalArgumentException("an ordinal map is required to join more than one segment");
+        } else {
+            valueCount = ordinalMap.getValueCount();
+        }
+
+        Query rewrittenFromQuery = searcher.rewrite(fromQuery);
+        Query rewrittenToQuery = searcher.rewrite(toQuery);
+        LongBitSet matchingOrds = new LongBitSet(valueCount);
+        if (minChildren <= 1 && maxChildren == Integer.MAX_VALUE) {
+            searcher.search(rewrittenFromQuery, new OrdinalsCollector(joinField, ordinalMap) {
+                @Override
+                void collect(long globalOrd) {
+                    matchingOrds.set(globalOrd);
+                }
+            });
+        } else {
+            try (IntArray counts = BigArrays.NON_RECYCLING_INSTANCE.newIntArray(valueCount)) {
+                searcher.search(rewrittenFromQuery, new OrdinalsCollector(joinField, ordinalMap) {
+                    @Override
+                    void collect(long globalOrd) {
+                        counts.increment(globalOrd, 1);
+                    }
+                });
+                for (long ord = 0; ord < valueCount; ord++) {
+                    int count = counts.get(ord);
+                    if (count >= minChildren && count <= maxChildren) {
+                        matchingOrds.set(ord);
+                    }
+                }
+            }
+        }
+        IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+        Object readerKey = cacheHelper != null ? cacheHelper.getKey() : reader;
+        return new GlobalOrdinalsJoinQuery(readerKey, joinField, ordinalMap, rewrittenFromQuery, rewrittenToQuery,
+            minChildren, maxChildren, matchingOrds);
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        IndexReader.CacheHelper cacheHelper = searcher.getIndexReader().getReaderCacheHelper();
+        if (cacheHelper == null || cacheHelper.getKey() != readerKey) {
+            throw new IllegalStateException("the join was collected from a different reader than the one it is executed against");
+        }
+        Weight approximationWeight = searcher.createWeight(searcher.rewrite(toQuery), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        return new ConstantScoreWeight(this, boost) {
+            @Override
+            public Scorer scorer(LeafReaderContext context) throws IOException {
+                SortedDocValues values = context.reader().getSortedDocValues(joinField);
+                if (values == null) {
+                    return null;
+                }
+                Scorer approximationScorer = approximationWeight.scorer(context);
+                if (approximationScorer == null) {
+                    return null;
+                }
+                LongValues globalOrds = ordinalMap == null ? LongValues.IDENTITY : ordinalMap.getGlobalOrds(context.ord);
+                DocIdSetIterator approximation = approximationScorer.iterator();
+                TwoPhaseIterator twoPhase = new TwoPhaseIterator(approximation) {
+                    @Override
+                    public boolean matches() throws IOException {
+                        return values.advanceExact(approximation.docID()) && matchingOrds.get(globalOrds.get(values.ordValue()));
+                    }
+
+                    @Override
+                    public float matchCost() {
+                        return 10;
+                    }
+                };
+                return new ConstantScoreScorer(this, score(), scoreMode, twoPhase);
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext ctx) {
+                return DocValues.isCacheable(ctx, joinField) && approximationWeight.isCacheable(ctx);
+            }
+        };
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        visitor.visitLeaf(this);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return BASE_RAM_BYTES_USED + matchingOrds.ramBytesUsed();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (sameClassAs(o) == false) {
+            return false;
+        }
+        GlobalOrdinalsJoinQuery that = (GlobalOrdinalsJoinQuery) o;
+        return readerKey == that.readerKey
+            && minChildren == that.minChildren
+            && maxChildren == that.maxChildren
+            && joinField.equals(that.joinField)
+            && fromQuery.equals(that.fromQuery)
+            && toQuery.equals(that.toQuery);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), readerKey, joinField, fromQuery, toQuery, minChildren, maxChildren);
+    }
+
+    @Override
+    public String toString(String field) {
+        return "GlobalOrdinalsJoinQuery{joinField=" + joinField + ",from=" + fromQuery + ",to=" + toQuery
+            + ",minChildren=" + minChildren + ",maxChildren=" + maxChildren + "}";
+    }
+
+    /**
+     * Collects the global ordinal of the join field of every matching document.
+     */
+    private abstract static class OrdinalsCollector extends SimpleCollector {
+
+        private final String joinField;
+        private final OrdinalMap ordinalMap;
+        private SortedDocValues values;
+        private LongValues globalOrds;
+
+        OrdinalsCollector(String joinField, OrdinalMap ordinalMap) {
+            this.joinField = joinField;
+            this.ordinalMap = ordinalMap;
+        }
+
+        abstract void collect(long globalOrd);
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            values = DocValues.getSorted(context.reader(), joinField);
+            globalOrds = ordinalMap == null ? LongValues.IDENTITY : ordinalMap.getGlobalOrds(context.ord);
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (values.advanceExact(doc)) {
+                collect(globalOrds.get(values.ordValue()));
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+}
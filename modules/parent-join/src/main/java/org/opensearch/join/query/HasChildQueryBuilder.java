@@ -338,7 +338,7 @@ public class HasChildQueryBuilder extends AbstractQueryBuilder<HasChildQueryBuil
             MappedFieldType fieldType = parentIdFieldMapper.fieldType();
             final SortedSetOrdinalsIndexFieldData fieldData = context.getForField(fieldType);
             return new LateParsingQuery(parentFilter, innerQuery, minChildren(), maxChildren(),
-                fieldType.name(), scoreMode, fieldData, context.getSearchSimilarity());
+                fieldType.name(), scoreMode, fieldData, context.getSearchSimilarity(), joinFieldMapper.fieldType().getJoinQueryCache());
         } else {
             if (ignoreUnmapped) {
                 return new MatchNoDocsQuery();
@@ -369,10 +369,11 @@ public class HasChildQueryBuilder extends AbstractQueryBuilder<HasChildQueryBuil
         private final ScoreMode scoreMode;
         private final SortedSetOrdinalsIndexFieldData fieldDataJoin;
         private final Similarity similarity;
+        private final ParentJoinQueryCache joinQueryCache;
 
         LateParsingQuery(Query toQuery, Query innerQuery, int minChildren, int maxChildren,
                          String joinField, ScoreMode scoreMode,
-                         SortedSetOrdinalsIndexFieldData fieldData, Similarity similarity) {
+                         SortedSetOrdinalsIndexFieldData fieldData, Similarity similarity, ParentJoinQueryCache joinQueryCache) {
             this.toQuery = toQuery;
             this.innerQuery = innerQuery;
             this.minChildren = minChildren;
@@ -381,6 +382,7 @@ public class HasChildQueryBuilder extends AbstractQueryBuilder<HasChildQueryBuil
             this.scoreMode = scoreMode;
             this.fieldDataJoin = fieldData;
             this.similarity = similarity;
+            this.joinQueryCache = joinQueryCache;
         }
 
         @Override
@@ -395,6 +397,13 @@ public class HasChildQueryBuilder extends AbstractQueryBuilder<HasChildQueryBuil
                 indexSearcher.setSimilarity(similarity);
                 IndexOrdinalsFieldData indexParentChildFieldData = fieldDataJoin.loadGlobal((DirectoryReader) reader);
                 OrdinalMap ordinalMap = indexParentChildFieldData.getOrdinalMap();
+                if (joinQueryCache != null && scoreMode == ScoreMode.None) {
+                    // the join is collected through the reader of this search so that it can be cancelled, but only
+                    // depends on the segments of the shard, so it can be reused by later searches until a refresh
+                    return joinQueryCache.getOrCompute((DirectoryReader) reader, this,
+                        () -> GlobalOrdinalsJoinQuery.create(joinField, innerQuery, toQuery, indexSearcher, ordinalMap,
+                            minChildren, maxChildren));
+                }
                 return JoinUtil.createJoinQuery(joinField, innerQuery, toQuery, indexSearcher, scoreMode,
                     ordinalMap, minChildren, maxChildren);
             } else {
@@ -197,7 +197,8 @@ public class HasParentQueryBuilder extends AbstractQueryBuilder<HasParentQueryBu
             final SortedSetOrdinalsIndexFieldData fieldData = context.getForField(fieldType);
             return new HasChildQueryBuilder.LateParsingQuery(childFilter, innerQuery,
                 HasChildQueryBuilder.DEFAULT_MIN_CHILDREN, HasChildQueryBuilder.DEFAULT_MAX_CHILDREN,
-                fieldType.name(), score ? ScoreMode.Max : ScoreMode.None, fieldData, context.getSearchSimilarity());
+                fieldType.name(), score ? ScoreMode.Max : ScoreMode.None, fieldData, context.getSearchSimilarity(),
+                joinFieldMapper.fieldType().getJoinQueryCache());
         } else {
             if (ignoreUnmapped) {
                 return new MatchNoDocsQuery();
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.join.query;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A node level cache of the joins executed by non-scoring {@code has_child} and {@code has_parent} queries.
+ * Executing such a query runs its inner query against the whole shard to collect the global ordinals of the
+ * matching parent ids, this caches the resulting query per top level reader so that repeating the same join
+ * filter doesn't collect them again until the shard is refreshed. Scoring joins aren't cached since their
+ * scores depend on the similarity of the search.
+ *
+ * Entries are keyed by the cache key of the reader, which readers that wrap it without changing its content
+ * share, such as the exitable reader that every search wraps the shard's reader in. The cached queries must
+ * therefore not depend on the wrapper that they were created with, see {@link GlobalOrdinalsJoinQuery}.
+ */
+public final class ParentJoinQueryCache {
+
+    /**
+     * The maximum memory used by the cached joins, {@code 0} disables caching.
+     */
+    public static final Setting<ByteSizeValue> CACHE_SIZE_SETTING =
+        Setting.memorySizeSetting("parent_join.query_cache.size", "1%", Setting.Property.NodeScope);
+
+    private final Cache<CacheKey, CachedJoin> cache;
+    private final Set<IndexReader.CacheKey> trackedReaders = ConcurrentCollections.newConcurrentSet();
+    private final IndexReader.ClosedListener onReaderClosed = this::invalidateReader;
+
+    ParentJoinQueryCache(long sizeInBytes) {
+        if (sizeInBytes <= 0) {
+            throw new IllegalArgumentException("parent join query cache size must be positive but was [" + sizeInBytes + "]");
+        }
+        this.cache = CacheBuilder.<CacheKey, CachedJoin>builder()
+            .setMaximumWeight(sizeInBytes)
+            .weigher((key, join) -> join.ramBytesUsed)
+            .build();
+    }
+
+    /**
+     * Builds the cache configured by the given node settings or returns {@code null} if caching is disabled.
+     */
+    public static ParentJoinQueryCache build(Settings settings) {
+        long sizeInBytes = CACHE_SIZE_SETTING.get(settings).getBytes();
+        return sizeInBytes == 0 ? null : new ParentJoinQueryCache(sizeInBytes);
+    }
+
+    /**
+     * Returns the join query that the given query rewrites to against the given reader, executing the join with the
+     * given supplier if it isn't cached. Readers that don't expose a cache key aren't cached.
+     * <p>
+     * Concurrent searches of the same join wait for the first one to execute it. The join is executed against the
+     * exitable reader of that search, so if it fails, for instance because that search was cancelled or timed out,
+     * the waiting searches execute the join themselves rather than failing with it.
+     */
+    Query getOrCompute(DirectoryReader reader, Query query, CheckedSupplier<Query, IOException> join) throws IOException {
+        IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return join.get();
+        }
+        CacheKey key = new CacheKey(cacheHelper.getKey(), query);
+        boolean[] executed = new boolean[1];
+        try {
+            return cache.computeIfAbsent(key, k -> {
+                executed[0] = true;
+                return newCachedJoin(k, cacheHelper, join.get());
+            }).query;
+        } catch (ExecutionException e) {
+            if (executed[0] == false) {
+                // another search failed to execute the join
+                CachedJoin cachedJoin = newCachedJoin(key, cacheHelper, join.get());
+                cache.put(key, cachedJoin);
+                return cachedJoin.query;
+            }
+            // rethrow failures of the join as is, e.g. the cancellation of the search
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
+
+    private CachedJoin newCachedJoin(CacheKey key, IndexReader.CacheHelper cacheHelper, Query joinQuery) {
+        if (trackedReaders.add(key.reader)) {
+            // first time we are seeing this reader, drop its entries once it is closed
+            cacheHelper.addClosedListener(onReaderClosed);
+        }
+        return new CachedJoin(joinQuery);
+    }
+
+    private void invalidateReader(IndexReader.CacheKey reader) {
+        trackedReaders.remove(reader);
+        List<CacheKey> keys = new ArrayList<>();
+        for (CacheKey key : cache.keys()) {
+            if (key.reader == reader) {
+                keys.add(key);
+            }
+        }
+        keys.forEach(cache::invalidate);
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    Cache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static final class CachedJoin {
+        private final Query query;
+        private final long ramBytesUsed;
+
+        private CachedJoin(Query query) {
+            this.query = query;
+            this.ramBytesUsed = RamUsageEstimator.sizeOf(query);
+        }
+    }
+
+    private static final class CacheKey {
+        private final IndexReader.CacheKey reader;
+        private final Query query;
+
+        private CacheKey(IndexReader.CacheKey reader, Query query) {
+            this.reader = reader;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return reader == that.reader && query.equals(that.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(reader, query);
+        }
+    }
+}
@@ -33,6 +33,7 @@
 package org.opensearch.join.aggregations;
 
 import org.opensearch.common.ParseField;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.NamedXContentRegistry.Entry;
 import org.opensearch.join.ParentJoinPlugin;
 import org.opensearch.plugins.SearchPlugin;
@@ -49,7 +50,7 @@ public class InternalParentTests extends InternalSingleBucketAggregationTestCase
 
     @Override
     protected SearchPlugin registerPlugin() {
-        return new ParentJoinPlugin();
+        return new ParentJoinPlugin(Settings.EMPTY);
     }
 
     @Override
@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.join.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.join.JoinUtil;
+import org.apache.lucene.search.join.ScoreMode;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.packed.PackedInts;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.tasks.TaskCancelledException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ParentJoinQueryCacheTests extends OpenSearchTestCase {
+
+    public void testJoinsAreCachedUntilTheReaderIsClosed() throws Exception {
+        ParentJoinQueryCache cache = new ParentJoinQueryCache(ByteSizeUnit.KB.toBytes(16));
+        AtomicInteger joins = new AtomicInteger();
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+                writer.addDocument(new Document());
+            }
+            Query query = new TermQuery(new Term("field", "value"));
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                Query first = cache.getOrCompute(reader, query, () -> {
+                    joins.incrementAndGet();
+                    return new MatchAllDocsQuery();
+                });
+                Query second = cache.getOrCompute(reader, new TermQuery(new Term("field", "value")), () -> {
+                    joins.incrementAndGet();
+                    return new MatchAllDocsQuery();
+                });
+                assertThat(second, sameInstance(first));
+                assertThat(joins.get(), equalTo(1));
+
+                cache.getOrCompute(reader, new TermQuery(new Term("field", "other")), () -> {
+                    joins.incrementAndGet();
+                    return new MatchAllDocsQuery();
+                });
+                assertThat(joins.get(), equalTo(2));
+                assertThat(cache.count(), equalTo(2));
+            }
+            assertThat(cache.count(), equalTo(0));
+
+            // a new reader over the same index executes the join again
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                cache.getOrCompute(reader, query, () -> {
+                    joins.incrementAndGet();
+                    return new MatchAllDocsQuery();
+                });
+                assertThat(joins.get(), equalTo(3));
+            }
+        }
+    }
+
+    public void testFailuresAreNotCached() throws Exception {
+        ParentJoinQueryCache cache = new ParentJoinQueryCache(ByteSizeUnit.KB.toBytes(16));
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+                writer.addDocument(new Document());
+            }
+            Query query = new TermQuery(new Term("field", "value"));
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                IOException e = expectThrows(IOException.class, () -> cache.getOrCompute(reader, query, () -> {
+                    throw new IOException("boom");
+                }));
+                assertThat(e.getMessage(), equalTo("boom"));
+                assertThat(cache.count(), equalTo(0));
+
+                Query joined = new MatchAllDocsQuery();
+                assertThat(cache.getOrCompute(reader, query, () -> joined), sameInstance(joined));
+            }
+        }
+    }
+
+    public void testCancellationOfTheSearchExecutingAJoinDoesNotFailTheWaitingSearches() throws Exception {
+        ParentJoinQueryCache cache = new ParentJoinQueryCache(ByteSizeUnit.KB.toBytes(16));
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+                writer.addDocument(new Document());
+            }
+            Query query = new TermQuery(new Term("field", "value"));
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                CountDownLatch executing = new CountDownLatch(1);
+                CountDownLatch cancel = new CountDownLatch(1);
+                AtomicReference<Exception> cancelledFailure = new AtomicReference<>();
+                Thread cancelled = new Thread(() -> {
+                    try {
+                        cache.getOrCompute(reader, query, () -> {
+                            executing.countDown();
+                            try {
+                                cancel.await();
+                            } catch (InterruptedException e) {
+                                throw new AssertionError(e);
+                            }
+                            throw new TaskCancelledException("cancelled");
+                        });
+                    } catch (Exception e) {
+                        cancelledFailure.set(e);
+                    }
+                });
+                cancelled.start();
+                executing.await();
+
+                Query joined = new MatchAllDocsQuery();
+                AtomicReference<Query> waitingResult = new AtomicReference<>();
+                Thread waiting = new Thread(() -> {
+                    try {
+                        waitingResult.set(cache.getOrCompute(reader, query, () -> joined));
+                    } catch (IOException e) {
+                        throw new AssertionError(e);
+                    }
+                });
+                waiting.start();
+                // the second search waits for the join that the first one executes
+                assertBusy(() -> assertThat(waiting.getState(), equalTo(Thread.State.WAITING)));
+
+                cancel.countDown();
+                cancelled.join();
+                waiting.join();
+                assertThat(cancelledFailure.get(), instanceOf(TaskCancelledException.class));
+                assertThat(waitingResult.get(), sameInstance(joined));
+                assertThat(cache.getOrCompute(reader, query, () -> {
+                    throw new AssertionError("the join of the waiting search should be cached");
+                }), sameInstance(joined));
+            }
+        }
+    }
+
+    public void testJoinsAreReusedAcrossExitableReaders() throws Exception {
+        ParentJoinQueryCache cache = new ParentJoinQueryCache(ByteSizeUnit.MB.toBytes(1));
+        AtomicInteger joins = new AtomicInteger();
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int i = 0; i < 5; i++) {
+                    addDocument(writer, "parent", "p" + i, null);
+                    // parent i has i red children, spread over several segments
+                    for (int j = 0; j < i; j++) {
+                        addDocument(writer, "child", "p" + i, "red");
+                        addDocument(writer, "child", "p" + i, "blue");
+                    }
+                    writer.commit();
+                }
+            }
+            Query childQuery = new TermQuery(new Term("color", "red"));
+            Query parentFilter = new TermQuery(new Term("type", "parent"));
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                OrdinalMap ordinalMap = ordinalMap(reader);
+                for (int minChildren : new int[] { 1, 3 }) {
+                    Query key = new BooleanQuery.Builder().add(childQuery, BooleanClause.Occur.MUST)
+                        .add(new TermQuery(new Term("min", Integer.toString(minChildren))), BooleanClause.Occur.MUST).build();
+                    int joinsBefore = joins.get();
+                    for (int i = 0; i < 3; i++) {
+                        // like every search, wrap the reader in a new exitable reader
+                        ContextIndexSearcher searcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(), null,
+                            IndexSearcher.getDefaultQueryCachingPolicy(), true);
+                        Query join = cache.getOrCompute((DirectoryReader) searcher.getIndexReader(), key, () -> {
+                            joins.incrementAndGet();
+                            return GlobalOrdinalsJoinQuery.create("join#parent", childQuery, parentFilter, searcher, ordinalMap,
+                                minChildren, Integer.MAX_VALUE);
+                        });
+                        Query expected = JoinUtil.createJoinQuery("join#parent", childQuery, parentFilter, searcher,
+                            ScoreMode.None, ordinalMap, minChildren, Integer.MAX_VALUE);
+                        assertThat(searcher.count(join), equalTo(5 - minChildren));
+                        assertThat(parentIds(searcher, join), equalTo(parentIds(searcher, expected)));
+                    }
+                    assertThat(joins.get(), equalTo(joinsBefore + 1));
+                }
+            }
+            assertThat(cache.count(), equalTo(0));
+        }
+    }
+
+    public void testDisabledBySetting() {
+        Settings settings = Settings.builder().put(ParentJoinQueryCache.CACHE_SIZE_SETTING.getKey(), "0b").build();
+        assertThat(ParentJoinQueryCache.build(settings), nullValue());
+    }
+
+    private static void addDocument(IndexWriter writer, String type, String parentId, String color) throws IOException {
+        Document document = new Document();
+        document.add(new StringField("type", type, Field.Store.YES));
+        document.add(new StringField("parent_id", parentId, Field.Store.YES));
+        document.add(new SortedDocValuesField("join#parent", new BytesRef(parentId)));
+        if (color != null) {
+            document.add(new StringField("color", color, Field.Store.NO));
+        }
+        writer.addDocument(document);
+    }
+
+    private static OrdinalMap ordinalMap(DirectoryReader reader) throws IOException {
+        SortedDocValues[] values = new SortedDocValues[reader.leaves().size()];
+        for (LeafReaderContext leaf : reader.leaves()) {
+            values[leaf.ord] = DocValues.getSorted(leaf.reader(), "join#parent");
+        }
+        return OrdinalMap.build(null, values, PackedInts.DEFAULT);
+    }
+
+    private static Set<String> parentIds(IndexSearcher searcher, Query query) throws IOException {
+        Set<String> parentIds = new HashSet<>();
+        for (ScoreDoc scoreDoc : searcher.search(query, 100).scoreDocs) {
+            parentIds.add(searcher.doc(scoreDoc.doc).get("parent_id"));
+        }
+        return parentIds;
+    }
+}
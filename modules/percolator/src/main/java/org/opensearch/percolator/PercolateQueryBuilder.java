@@ -61,6 +61,7 @@ import org.opensearch.ResourceNotFoundException;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.get.GetRequest;
+import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.InputStreamStreamInput;
@@ -601,7 +602,7 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
         String name = this.name != null ? this.name : pft.name();
         QueryShardContext percolateShardContext = wrap(context);
         PercolatorFieldMapper.configureContext(percolateShardContext, pft.mapUnmappedFieldsAsText);;
-        PercolateQuery.QueryStore queryStore = createStore(pft.queryBuilderField,
+        PercolateQuery.QueryStore queryStore = createStore(pft.queryBuilderField, pft.queryCache,
             percolateShardContext);
 
         return pft.percolateQuery(name, queryStore, documents, docSearcher, excludeNestedDocuments, context.indexVersionCreated());
@@ -650,6 +651,11 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
 
     static PercolateQuery.QueryStore createStore(MappedFieldType queryBuilderFieldType,
                                                  QueryShardContext context) {
+        return createStore(queryBuilderFieldType, null, context);
+    }
+
+    static PercolateQuery.QueryStore createStore(MappedFieldType queryBuilderFieldType, PercolatorQueryCache queryCache,
+                                                 QueryShardContext context) {
         Version indexVersion = context.indexVersionCreated();
         NamedWriteableRegistry registry = context.getWriteableRegistry();
         return ctx -> {
@@ -658,54 +664,58 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
             if (binaryDocValues == null) {
                 return docId -> null;
             }
+            final CheckedFunction<BytesRef, QueryBuilder, IOException> parser;
             if (indexVersion.onOrAfter(LegacyESVersion.V_6_0_0_beta2)) {
-                return docId -> {
-                    if (binaryDocValues.advanceExact(docId)) {
-                        BytesRef qbSource = binaryDocValues.binaryValue();
-                        try (InputStream in = new ByteArrayInputStream(qbSource.bytes, qbSource.offset, qbSource.length)) {
-                            try (StreamInput input = new NamedWriteableAwareStreamInput(
-                                    new InputStreamStreamInput(in, qbSource.length), registry)) {
-                                input.setVersion(indexVersion);
-                                // Query builder's content is stored via BinaryFieldMapper, which has a custom encoding
-                                // to encode multiple binary values into a single binary doc values field.
-                                // This is the reason we need to first need to read the number of values and
-                                // then the length of the field value in bytes.
-                                int numValues = input.readVInt();
-                                assert numValues == 1;
-                                int valueLength = input.readVInt();
-                                assert valueLength > 0;
-                                QueryBuilder queryBuilder = input.readNamedWriteable(QueryBuilder.class);
-                                assert in.read() == -1;
-                                queryBuilder = Rewriteable.rewrite(queryBuilder, context);
-                                return queryBuilder.toQuery(context);
-                            }
+                parser = qbSource -> {
+                    try (InputStream in = new ByteArrayInputStream(qbSource.bytes, qbSource.offset, qbSource.length)) {
+                        try (StreamInput input = new NamedWriteableAwareStreamInput(
+                                new InputStreamStreamInput(in, qbSource.length), registry)) {
+                            input.setVersion(indexVersion);
+                            // Query builder's content is stored via BinaryFieldMapper, which has a custom encoding
+                            // to encode multiple binary values into a single binary doc values field.
+                            // This is the reason we need to first need to read the number of values and
+                            // then the length of the field value in bytes.
+                            int numValues = input.readVInt();
+                            assert numValues == 1;
+                            int valueLength = input.readVInt();
+                            assert valueLength > 0;
+                            QueryBuilder queryBuilder = input.readNamedWriteable(QueryBuilder.class);
+                            assert in.read() == -1;
+                            return queryBuilder;
                         }
-                    } else {
-                        return null;
                     }
                 };
             } else {
-                return docId -> {
-                    if (binaryDocValues.advanceExact(docId)) {
-                        BytesRef qbSource = binaryDocValues.binaryValue();
-                        if (qbSource.length > 0) {
-                            XContent xContent = PercolatorFieldMapper.QUERY_BUILDER_CONTENT_TYPE.xContent();
-                            try (XContentParser sourceParser = xContent
-                                    .createParser(context.getXContentRegistry(), LoggingDeprecationHandler.INSTANCE,
-                                        qbSource.bytes, qbSource.offset, qbSource.length)) {
-                                QueryBuilder queryBuilder = PercolatorFieldMapper.parseQueryBuilder(sourceParser,
-                                        sourceParser.getTokenLocation());
-                                queryBuilder = Rewriteable.rewrite(queryBuilder, context);
-                                return queryBuilder.toQuery(context);
-                            }
-                        } else {
-                            return null;
+                parser = qbSource -> {
+                    if (qbSource.length > 0) {
+                        XContent xContent = PercolatorFieldMapper.QUERY_BUILDER_CONTENT_TYPE.xContent();
+                        try (XContentParser sourceParser = xContent
+                                .createParser(context.getXContentRegistry(), LoggingDeprecationHandler.INSTANCE,
+                                    qbSource.bytes, qbSource.offset, qbSource.length)) {
+                            return PercolatorFieldMapper.parseQueryBuilder(sourceParser, sourceParser.getTokenLocation());
                         }
                     } else {
                         return null;
                     }
                 };
             }
+            final CheckedFunction<Integer, BytesRef, IOException> sources =
+                docId -> binaryDocValues.advanceExact(docId) ? binaryDocValues.binaryValue() : null;
+            return docId -> {
+                // only the stored builder is cached, rewriting it depends on the mappings and the time of this request
+                QueryBuilder queryBuilder;
+                if (queryCache != null) {
+                    queryBuilder = queryCache.getOrLoad(ctx, docId, sources, parser);
+                } else {
+                    BytesRef qbSource = sources.apply(docId);
+                    queryBuilder = qbSource != null ? parser.apply(qbSource) : null;
+                }
+                if (queryBuilder == null) {
+                    return null;
+                }
+                queryBuilder = Rewriteable.rewrite(queryBuilder, context);
+                return queryBuilder.toQuery(context);
+            };
         };
     }
 
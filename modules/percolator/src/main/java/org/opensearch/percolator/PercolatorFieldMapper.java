@@ -132,7 +132,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
 
     @Override
     public ParametrizedFieldMapper.Builder getMergeBuilder() {
-        return new Builder(simpleName(), queryShardContext).init(this);
+        return new Builder(simpleName(), queryShardContext, ((PercolatorFieldType) fieldType()).queryCache).init(this);
     }
 
     static class Builder extends ParametrizedFieldMapper.Builder {
@@ -140,10 +140,12 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
         private final Parameter<Map<String, String>> meta = Parameter.metaParam();
 
         private final Supplier<QueryShardContext> queryShardContext;
+        private final PercolatorQueryCache queryCache;
 
-        Builder(String fieldName, Supplier<QueryShardContext> queryShardContext) {
+        Builder(String fieldName, Supplier<QueryShardContext> queryShardContext, PercolatorQueryCache queryCache) {
             super(fieldName);
             this.queryShardContext = queryShardContext;
+            this.queryCache = queryCache;
         }
 
         @Override
@@ -168,6 +170,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             NumberFieldMapper minimumShouldMatchFieldMapper = createMinimumShouldMatchField(context);
             fieldType.minimumShouldMatchField = minimumShouldMatchFieldMapper.fieldType();
             fieldType.mapUnmappedFieldsAsText = getMapUnmappedFieldAsText(context.indexSettings());
+            fieldType.queryCache = queryCache;
 
             context.path().remove();
             return new PercolatorFieldMapper(name(), fieldType,
@@ -208,9 +211,18 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
 
     static class TypeParser implements FieldMapper.TypeParser {
 
+        private final PercolatorQueryCache queryCache;
+
+        /**
+         * @param queryCache the cache of the stored query builders to use, or {@code null} to not cache them
+         */
+        TypeParser(PercolatorQueryCache queryCache) {
+            this.queryCache = queryCache;
+        }
+
         @Override
         public Builder parse(String name, Map<String, Object> node, ParserContext parserContext) throws MapperParsingException {
-            return new Builder(name, parserContext.queryShardContextSupplier());
+            return new Builder(name, parserContext.queryShardContextSupplier(), queryCache);
         }
     }
 
@@ -223,6 +235,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
 
         RangeFieldMapper.RangeFieldType rangeField;
         boolean mapUnmappedFieldsAsText;
+        PercolatorQueryCache queryCache;
 
         private PercolatorFieldType(String name, Map<String, String> meta) {
             super(name, false, false, false, TextSearchInfo.NONE, meta);
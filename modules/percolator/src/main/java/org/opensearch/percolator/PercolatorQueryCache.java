@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.percolator;
+
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.query.QueryBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A node level cache of the query builders of stored percolator queries, keyed by the segment and the document that they are stored
+ * in. Verifying a candidate match otherwise deserializes its query builder from the binary doc values of its document every time the
+ * query is a candidate. Only the deserialized builders are cached: rewriting them and turning them into Lucene queries depends on the
+ * mappings and the time of the request, so that is still done for every percolate query.
+ */
+final class PercolatorQueryCache {
+
+    /**
+     * The maximum amount of memory used by the cached query builders, {@code 0} disables caching.
+     */
+    static final Setting<ByteSizeValue> QUERY_CACHE_SIZE_SETTING =
+        Setting.memorySizeSetting("percolator.query_cache.size", "1%", Setting.Property.NodeScope);
+
+    // the key, the cache entry and the map entries that track it per segment
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final Cache<CacheKey, QueryBuilder> cache;
+    private final Map<IndexReader.CacheKey, Set<Integer>> segments = ConcurrentCollections.newConcurrentMap();
+    private final IndexReader.ClosedListener onSegmentClosed = this::invalidateSegment;
+
+    PercolatorQueryCache(long maxSizeInBytes) {
+        if (maxSizeInBytes <= 0) {
+            throw new IllegalArgumentException("percolator query cache size must be positive but was [" + maxSizeInBytes + "]");
+        }
+        this.cache = CacheBuilder.<CacheKey, QueryBuilder>builder()
+            .setMaximumWeight(maxSizeInBytes)
+            .weigher((key, queryBuilder) -> key.weight)
+            .removalListener(this::onRemoval)
+            .build();
+    }
+
+    /**
+     * Builds the cache configured by the given node settings or returns {@code null} if caching is disabled.
+     */
+    static PercolatorQueryCache build(Settings settings) {
+        long size = QUERY_CACHE_SIZE_SETTING.get(settings).getBytes();
+        return size == 0 ? null : new PercolatorQueryCache(size);
+    }
+
+    /**
+     * Returns the query builder stored in the given document of the given segment, parsing it from the stored source if it isn't
+     * cached. Entries are weighed by the length of their stored source, which is cheap to get and grows with the size of the parsed
+     * builder, but underestimates the heap the builder itself uses. Segments that don't expose a core cache key aren't cached.
+     */
+    QueryBuilder getOrLoad(LeafReaderContext ctx, int docId, CheckedFunction<Integer, BytesRef, IOException> sources,
+                           CheckedFunction<BytesRef, QueryBuilder, IOException> parser) throws IOException {
+        IndexReader.CacheHelper cacheHelper = ctx.reader().getCoreCacheHelper();
+        if (cacheHelper == null) {
+            return load(docId, sources, parser);
+        }
+        IndexReader.CacheKey segment = cacheHelper.getKey();
+        QueryBuilder queryBuilder = cache.get(new CacheKey(segment, docId, 0));
+        if (queryBuilder != null) {
+            return queryBuilder;
+        }
+        BytesRef source = sources.apply(docId);
+        if (source == null) {
+            return null;
+        }
+        final long weight = source.length + ENTRY_OVERHEAD_BYTES;
+        queryBuilder = parser.apply(source);
+        if (queryBuilder == null) {
+            return null;
+        }
+        // the segment may have been closed while we were loading, holding a reference keeps it open until the entry is tracked
+        LeafReader segmentReader = FilterLeafReader.unwrap(ctx.reader());
+        if (segmentReader.tryIncRef() == false) {
+            return queryBuilder;
+        }
+        try {
+            segments.computeIfAbsent(segment, key -> {
+                // first time we are seeing this segment, drop its entries once it is closed
+                cacheHelper.addClosedListener(onSegmentClosed);
+                return ConcurrentCollections.newConcurrentSet();
+            }).add(docId);
+            cache.put(new CacheKey(segment, docId, weight), queryBuilder);
+        } finally {
+            segmentReader.decRef();
+        }
+        return queryBuilder;
+    }
+
+    private static QueryBuilder load(int docId, CheckedFunction<Integer, BytesRef, IOException> sources,
+                                     CheckedFunction<BytesRef, QueryBuilder, IOException> parser) throws IOException {
+        BytesRef source = sources.apply(docId);
+        return source == null ? null : parser.apply(source);
+    }
+
+    private void onRemoval(RemovalNotification<CacheKey, QueryBuilder> notification) {
+        if (notification.getRemovalReason() == RemovalNotification.RemovalReason.REPLACED) {
+            // a concurrent load of the same document, which is still cached
+            return;
+        }
+        CacheKey key = notification.getKey();
+        Set<Integer> docIds = segments.get(key.segment);
+        if (docIds != null) {
+            docIds.remove(key.docId);
+        }
+    }
+
+    private void invalidateSegment(IndexReader.CacheKey segment) {
+        Set<Integer> docIds = segments.remove(segment);
+        if (docIds != null) {
+            for (Integer docId : docIds) {
+                cache.invalidate(new CacheKey(segment, docId, 0));
+            }
+        }
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    Cache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static final class CacheKey {
+        private final IndexReader.CacheKey segment;
+        private final int docId;
+        // not part of equality, only set on the keys that are put into the cache
+        private final long weight;
+
+        private CacheKey(IndexReader.CacheKey segment, int docId, long weight) {
+            this.segment = segment;
+            this.docId = docId;
+            this.weight = weight;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return docId == that.docId && segment == that.segment;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(segment, docId);
+        }
+    }
+}
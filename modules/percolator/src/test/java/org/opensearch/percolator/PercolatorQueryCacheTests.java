@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.percolator;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class PercolatorQueryCacheTests extends OpenSearchTestCase {
+
+    public void testQueryBuildersAreCachedUntilTheSegmentIsClosed() throws Exception {
+        PercolatorQueryCache cache = new PercolatorQueryCache(ByteSizeUnit.KB.toBytes(100));
+        AtomicInteger loads = new AtomicInteger();
+        try (Directory directory = newDirectory()) {
+            indexDocs(directory, 3);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                LeafReaderContext ctx = reader.leaves().get(0);
+                QueryBuilder first = cache.getOrLoad(ctx, 0, docId -> new BytesRef("source"), source -> {
+                    loads.incrementAndGet();
+                    return new TermQueryBuilder("field", "value");
+                });
+                QueryBuilder second = cache.getOrLoad(ctx, 0, docId -> new BytesRef("source"), source -> {
+                    loads.incrementAndGet();
+                    return new TermQueryBuilder("field", "value");
+                });
+                assertThat(second, sameInstance(first));
+                assertThat(loads.get(), equalTo(1));
+
+                cache.getOrLoad(ctx, 1, docId -> new BytesRef("source"), source -> {
+                    loads.incrementAndGet();
+                    return new TermQueryBuilder("field", "other");
+                });
+                assertThat(loads.get(), equalTo(2));
+                assertThat(cache.count(), equalTo(2));
+
+                // documents without a stored query aren't cached
+                assertThat(cache.getOrLoad(ctx, 2, docId -> null, source -> new TermQueryBuilder("field", "value")), nullValue());
+                assertThat(cache.count(), equalTo(2));
+            }
+            assertThat(cache.count(), equalTo(0));
+        }
+    }
+
+    public void testCacheIsEvictedByWeight() throws Exception {
+        // room for two entries with a source of 100 bytes, but not for a third
+        PercolatorQueryCache cache = new PercolatorQueryCache(2 * (100 + 128) + 50);
+        BytesRef source = new BytesRef(new byte[100]);
+        try (Directory directory = newDirectory()) {
+            indexDocs(directory, 5);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                for (int i = 0; i < 5; i++) {
+                    cache.getOrLoad(reader.leaves().get(0), i, docId -> source, s -> new TermQueryBuilder("field", "value"));
+                }
+                assertThat(cache.count(), equalTo(2));
+
+                // a single large query is weighed by its source
+                cache.getOrLoad(reader.leaves().get(0), 0, docId -> new BytesRef(new byte[300]),
+                    s -> new TermQueryBuilder("field", "value"));
+                assertThat(cache.count(), equalTo(1));
+            }
+            assertThat(cache.count(), equalTo(0));
+        }
+    }
+
+    public void testClosingASegmentOnlyInvalidatesItsEntries() throws Exception {
+        PercolatorQueryCache cache = new PercolatorQueryCache(ByteSizeUnit.KB.toBytes(100));
+        try (Directory first = newDirectory(); Directory second = newDirectory()) {
+            indexDocs(first, 3);
+            indexDocs(second, 3);
+            try (DirectoryReader secondReader = DirectoryReader.open(second)) {
+                try (DirectoryReader firstReader = DirectoryReader.open(first)) {
+                    for (int i = 0; i < 3; i++) {
+                        cache.getOrLoad(firstReader.leaves().get(0), i, docId -> new BytesRef("source"),
+                            s -> new TermQueryBuilder("field", "value"));
+                        cache.getOrLoad(secondReader.leaves().get(0), i, docId -> new BytesRef("source"),
+                            s -> new TermQueryBuilder("field", "value"));
+                    }
+                    assertThat(cache.count(), equalTo(6));
+                }
+                assertThat(cache.count(), equalTo(3));
+            }
+            assertThat(cache.count(), equalTo(0));
+        }
+    }
+
+    public void testSegmentClosedWhileLoadingIsNotCached() throws Exception {
+        PercolatorQueryCache cache = new PercolatorQueryCache(ByteSizeUnit.KB.toBytes(100));
+        try (Directory directory = newDirectory()) {
+            indexDocs(directory, 1);
+            DirectoryReader reader = DirectoryReader.open(directory);
+            LeafReaderContext ctx = reader.leaves().get(0);
+            QueryBuilder queryBuilder = cache.getOrLoad(ctx, 0, docId -> new BytesRef("source"), source -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+                return new TermQueryBuilder("field", "value");
+            });
+            assertThat(queryBuilder, equalTo(new TermQueryBuilder("field", "value")));
+            assertThat(cache.count(), equalTo(0));
+        }
+    }
+
+    public void testDisabledBySetting() {
+        Settings settings = Settings.builder().put(PercolatorQueryCache.QUERY_CACHE_SIZE_SETTING.getKey(), "0b").build();
+        assertThat(PercolatorQueryCache.build(settings), nullValue());
+    }
+
+    private static void indexDocs(Directory directory, int numDocs) throws IOException {
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            for (int i = 0; i < numDocs; i++) {
+                Document document = new Document();
+                document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                writer.addDocument(document);
+            }
+        }
+    }
+}
@@ -50,6 +50,7 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.TransportAction;
 import org.opensearch.client.ParentTaskAssigningClient;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -86,6 +87,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
@@ -106,6 +108,13 @@ import static org.opensearch.search.sort.SortBuilders.fieldSort;
 public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBulkByScrollRequest<Request>,
     Action extends TransportAction<Request, ?>> {
 
+    /**
+     * Whether to ask for the next batch of documents as soon as the bulk request of the current batch is sent, so that the search for
+     * the next batch runs while the current one is being indexed. Batches are still processed one at a time, in order.
+     */
+    public static final Setting<Boolean> PREFETCH_NEXT_BATCH_SETTING =
+        Setting.boolSetting("reindex.prefetch_next_batch", false, Setting.Property.NodeScope);
+
     protected final Logger logger;
     protected final BulkByScrollTask task;
     protected final WorkerBulkByScrollTaskState worker;
@@ -122,7 +131,7 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
     private final AtomicLong startTime = new AtomicLong(-1);
     private final Set<String> destinationIndices = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
-    private final ParentTaskAssigningClient client;
+    protected final ParentTaskAssigningClient client;
     private final ActionListener<BulkByScrollResponse> listener;
     private final Retry bulkRetry;
     private final ScrollableHitSource scrollSource;
@@ -135,6 +144,17 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
     private final BiFunction<RequestWrapper<?>, ScrollableHitSource.Hit, RequestWrapper<?>> scriptApplier;
     private int lastBatchSize;
 
+    private final boolean prefetchNextBatch;
+    private final AtomicBoolean finished = new AtomicBoolean();
+    /**
+     * Whether the bulk request of a batch is running while the next batch was already requested. Guarded by this.
+     */
+    private boolean bulkInFlight;
+    /**
+     * The next batch, if it was received while {@link #bulkInFlight}. Guarded by this.
+     */
+    private ScrollableHitSource.AsyncResponse prefetchedResponse;
+
     AbstractAsyncBulkByScrollAction(BulkByScrollTask task, boolean needsSourceDocumentVersions,
                                     boolean needsSourceDocumentSeqNoAndPrimaryTerm, Logger logger, ParentTaskAssigningClient client,
                                     ThreadPool threadPool, Request mainRequest, ActionListener<BulkByScrollResponse> listener,
@@ -152,6 +172,7 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
         this.threadPool = threadPool;
         this.mainRequest = mainRequest;
         this.listener = listener;
+        this.prefetchNextBatch = PREFETCH_NEXT_BATCH_SETTING.get(client.settings());
         BackoffPolicy backoffPolicy = buildBackoffPolicy();
         bulkRetry = new Retry(BackoffPolicy.wrap(backoffPolicy, worker::countBulkRetry), threadPool);
         scrollSource = buildScrollableResultSource(backoffPolicy);
@@ -265,9 +286,19 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
     }
 
     void onScrollResponse(ScrollableHitSource.AsyncResponse asyncResponse) {
+        final int lastBatchSize;
+        synchronized (this) {
+            if (bulkInFlight) {
+                // the next batch arrived before the bulk request of the current one completed, it is processed once it does
+                assert prefetchedResponse == null : "only a single batch can be prefetched";
+                prefetchedResponse = asyncResponse;
+                return;
+            }
+            lastBatchSize = this.lastBatchSize;
+        }
         // lastBatchStartTime is essentially unused (see WorkerBulkByScrollTaskState.throttleWaitTime. Leaving it for now, since it seems
         // like a bug?
-        onScrollResponse(System.nanoTime(), this.lastBatchSize, asyncResponse);
+        onScrollResponse(System.nanoTime(), lastBatchSize, asyncResponse);
     }
 
     /**
@@ -352,7 +383,17 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
         }
         request.timeout(mainRequest.getTimeout());
         request.waitForActiveShards(mainRequest.getWaitForActiveShards());
-        sendBulkRequest(request, () -> notifyDone(thisBatchStartTimeNS, asyncResponse, request.requests().size()));
+        if (prefetchNextBatch) {
+            final int batchSize = request.requests().size();
+            synchronized (this) {
+                assert bulkInFlight == false : "only a single bulk request can be in flight";
+                bulkInFlight = true;
+            }
+            asyncResponse.done(worker.throttleWaitTime(thisBatchStartTimeNS, System.nanoTime(), batchSize));
+            sendBulkRequest(request, () -> onPrefetchingBulkDone(batchSize));
+        } else {
+            sendBulkRequest(request, () -> notifyDone(thisBatchStartTimeNS, asyncResponse, request.requests().size()));
+        }
     }
 
     /**
@@ -448,6 +489,28 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
         asyncResponse.done(worker.throttleWaitTime(thisBatchStartTimeNS, System.nanoTime(), batchSize));
     }
 
+    /**
+     * Called when the bulk request of a batch completed after the next batch was already requested, processing the next batch if it was
+     * received in the meantime.
+     */
+    void onPrefetchingBulkDone(int batchSize) {
+        if (task.isCancelled()) {
+            logger.debug("[{}]: finishing early because the task was cancelled", task.getId());
+            finishHim(null);
+            return;
+        }
+        final ScrollableHitSource.AsyncResponse nextResponse;
+        synchronized (this) {
+            this.lastBatchSize = batchSize;
+            bulkInFlight = false;
+            nextResponse = prefetchedResponse;
+            prefetchedResponse = null;
+        }
+        if (nextResponse != null) {
+            onScrollResponse(nextResponse);
+        }
+    }
+
     private void recordFailure(Failure failure, List<Failure> failures) {
         if (failure.getStatus() == CONFLICT) {
             worker.countVersionConflict();
@@ -502,6 +565,11 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
      */
     protected void finishHim(Exception failure, List<Failure> indexingFailures,
             List<SearchFailure> searchFailures, boolean timedOut) {
+        if (finished.compareAndSet(false, true) == false) {
+            // when prefetching, both the search for the next batch and the bulk request of the current one can end the request
+            logger.debug("[{}]: already finished", task.getId());
+            return;
+        }
         logger.debug("[{}]: finishing without any catastrophic failures", task.getId());
         scrollSource.close(() -> {
             if (failure == null) {
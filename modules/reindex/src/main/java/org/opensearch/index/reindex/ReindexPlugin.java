@@ -109,6 +109,8 @@ public class ReindexPlugin extends Plugin implements ActionPlugin {
     public List<Setting<?>> getSettings() {
         final List<Setting<?>> settings = new ArrayList<>();
         settings.add(TransportReindexAction.REMOTE_CLUSTER_WHITELIST);
+        settings.add(AbstractAsyncBulkByScrollAction.PREFETCH_NEXT_BATCH_SETTING);
+        settings.add(Reindexer.PREFER_LOCAL_SHARDS_SETTING);
         settings.addAll(ReindexSslConfig.getSettings());
         return settings;
     }
@@ -47,14 +47,17 @@ import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BackoffPolicy;
 import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.client.Client;
 import org.opensearch.client.ParentTaskAssigningClient;
 import org.opensearch.client.RestClient;
 import org.opensearch.client.RestClientBuilder;
+import org.opensearch.cluster.routing.Preference;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Strings;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.xcontent.DeprecationHandler;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -86,6 +89,13 @@ public class Reindexer {
 
     private static final Logger logger = LogManager.getLogger(Reindexer.class);
 
+    /**
+     * Whether local reindexes that don't set a search preference should read from the shard copies allocated on the node running the
+     * reindex when there are any. Those reads skip the transport layer entirely.
+     */
+    public static final Setting<Boolean> PREFER_LOCAL_SHARDS_SETTING =
+        Setting.boolSetting("reindex.prefer_local_shards", false, Setting.Property.NodeScope);
+
     private final ClusterService clusterService;
     private final Client client;
     private final ThreadPool threadPool;
@@ -205,6 +215,13 @@ public class Reindexer {
                     this::onScrollResponse, this::finishHim,
                     restClient, remoteInfo.getQuery(), mainRequest.getSearchRequest());
             }
+            if (mainRequest.getSearchRequest().preference() == null && PREFER_LOCAL_SHARDS_SETTING.get(client.settings())) {
+                // Scroll with a copy so that the preference does not leak into the user's request, which is reported in the task status
+                // and reused when the reindex is retried
+                final SearchRequest searchRequest = new SearchRequest(mainRequest.getSearchRequest()).preference(Preference.LOCAL.type());
+                return new ClientScrollableHitSource(logger, backoffPolicy, threadPool, worker::countSearchRetry,
+                    this::onScrollResponse, this::finishHim, client, searchRequest);
+            }
             return super.buildScrollableResultSource(backoffPolicy);
         }
 
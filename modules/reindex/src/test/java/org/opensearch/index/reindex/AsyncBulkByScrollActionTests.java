@@ -706,6 +706,59 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
         }
     }
 
+    public void testPrefetchNextBatchWhileBulkIsInFlight() throws Exception {
+        // the new client shares the thread pool, and so the expected headers, of the one it replaces
+        client = new MyMockClient(new NoOpClient(threadPool),
+            Settings.builder().put(AbstractAsyncBulkByScrollAction.PREFETCH_NEXT_BATCH_SETTING.getKey(), true).build());
+        client.holdBulks = true;
+        DummyAsyncBulkByScrollAction action = new DummyAsyncBulkByScrollAction() {
+            @Override
+            protected AbstractAsyncBulkByScrollAction.RequestWrapper<?> buildRequest(Hit doc) {
+                return wrap(new IndexRequest("dest").id(doc.getId()).source(doc.getSource(), doc.getXContentType()));
+            }
+        };
+        action.setScroll(scrollId());
+
+        Hit hit = new ScrollableHitSource.BasicHit("index", "type", "id", 0).setSource(new BytesArray("{}"), XContentType.JSON);
+        ScrollableHitSource.Response firstBatch = new ScrollableHitSource.Response(false, emptyList(), 1, singletonList(hit), null);
+        AtomicBoolean nextBatchRequested = new AtomicBoolean();
+        action.prepareBulkRequest(System.nanoTime(), new ScrollableHitSource.AsyncResponse() {
+            @Override
+            public ScrollableHitSource.Response response() {
+                return firstBatch;
+            }
+
+            @Override
+            public void done(TimeValue extraKeepAlive) {
+                assertTrue(nextBatchRequested.compareAndSet(false, true));
+            }
+        });
+        // the next batch is requested while the bulk request is still in flight
+        assertTrue(nextBatchRequested.get());
+        assertNotNull(client.heldBulkResponse.get());
+
+        // the next batch isn't processed until the bulk request completed
+        ScrollableHitSource.Response lastBatch = new ScrollableHitSource.Response(false, emptyList(), 1, emptyList(), null);
+        action.onScrollResponse(new ScrollableHitSource.AsyncResponse() {
+            @Override
+            public ScrollableHitSource.Response response() {
+                return lastBatch;
+            }
+
+            @Override
+            public void done(TimeValue extraKeepAlive) {
+                fail("the last batch is empty");
+            }
+        });
+        assertFalse(listener.isDone());
+        assertEquals(1, testTask.getStatus().getBatches());
+
+        client.heldBulkResponse.get().run();
+        BulkByScrollResponse response = listener.get(10, TimeUnit.SECONDS);
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getBatches());
+    }
+
     private void cancelTaskCase(Consumer<DummyAsyncBulkByScrollAction> testMe) throws Exception {
         DummyAsyncBulkByScrollAction action = new DummyAsyncBulkByScrollAction();
         boolean previousScrollSet = usually();
@@ -818,14 +871,24 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
          */
         private final Set<SearchScrollRequest> usedScolls = synchronizedSet(newSetFromMap(new IdentityHashMap<>()));
 
+        /**
+         * Response to the last bulk request, if bulk requests are held instead of being responded to immediately.
+         */
+        private final AtomicReference<Runnable> heldBulkResponse = new AtomicReference<>();
+
         private int bulksToReject = 0;
         private int searchesToReject = 0;
         private int scrollsToReject = 0;
+        private boolean holdBulks = false;
 
         MyMockClient(Client in) {
             super(in);
         }
 
+        MyMockClient(Client in, Settings settings) {
+            super(settings, in.threadPool(), in);
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         protected <Request extends ActionRequest, Response extends ActionResponse>
@@ -921,7 +984,11 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
                         responses[i] = new BulkItemResponse(i, item.opType(), response);
                     }
                 }
-                listener.onResponse((Response) new BulkResponse(responses, 1));
+                if (holdBulks) {
+                    heldBulkResponse.set(() -> listener.onResponse((Response) new BulkResponse(responses, 1)));
+                } else {
+                    listener.onResponse((Response) new BulkResponse(responses, 1));
+                }
                 return;
             }
             super.doExecute(action, request, listener);
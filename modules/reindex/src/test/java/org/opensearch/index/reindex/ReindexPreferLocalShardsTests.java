@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.apache.lucene.util.SetOnce;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.FilterClient;
+import org.opensearch.client.ParentTaskAssigningClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.test.client.NoOpClient;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ReindexPreferLocalShardsTests extends AbstractAsyncBulkByScrollActionTestCase<ReindexRequest, BulkByScrollResponse> {
+
+    public void testLocalShardsArePreferredWhenEnabled() {
+        ReindexRequest request = request();
+        assertThat(startAndCaptureSearch(request, true).preference(), equalTo("_local"));
+        // the user's request, which is reported in the task status, is left untouched
+        assertThat(request.getSearchRequest().preference(), nullValue());
+    }
+
+    public void testDisabledByDefault() {
+        ReindexRequest request = request();
+        assertThat(startAndCaptureSearch(request, false).preference(), nullValue());
+        assertThat(request.getSearchRequest().preference(), nullValue());
+    }
+
+    public void testUserPreferenceIsKept() {
+        ReindexRequest request = request();
+        request.getSearchRequest().preference("_shards:0");
+        assertThat(startAndCaptureSearch(request, true).preference(), equalTo("_shards:0"));
+        assertThat(request.getSearchRequest().preference(), equalTo("_shards:0"));
+    }
+
+    private SearchRequest startAndCaptureSearch(ReindexRequest request, boolean preferLocalShards) {
+        Settings settings = Settings.builder().put(Reindexer.PREFER_LOCAL_SHARDS_SETTING.getKey(), preferLocalShards).build();
+        SetOnce<SearchRequest> searchRequest = new SetOnce<>();
+        ParentTaskAssigningClient client = new ParentTaskAssigningClient(
+            new FilterClient(settings, threadPool, new NoOpClient(threadPool)) {
+                @Override
+                protected <Request extends ActionRequest, Response extends ActionResponse> void doExecute(
+                    ActionType<Response> action, Request actionRequest, ActionListener<Response> actionListener) {
+                    if (actionRequest instanceof SearchRequest) {
+                        searchRequest.set((SearchRequest) actionRequest);
+                    }
+                }
+            }, new TaskId("node", 1));
+        new Reindexer.AsyncIndexBySearchAction(task, logger, client, threadPool, null, null, request, listener()).start();
+        assertNotNull(searchRequest.get());
+        return searchRequest.get();
+    }
+
+    @Override
+    protected ReindexRequest request() {
+        return new ReindexRequest().setSourceIndices("source").setDestIndex("dest");
+    }
+}
@@ -57,7 +57,7 @@ public class UpdateByQueryMetadataTests
 
     private class TestAction extends TransportUpdateByQueryAction.AsyncIndexBySearchAction {
         TestAction() {
-            super(UpdateByQueryMetadataTests.this.task, UpdateByQueryMetadataTests.this.logger, null,
+            super(UpdateByQueryMetadataTests.this.task, UpdateByQueryMetadataTests.this.logger, UpdateByQueryMetadataTests.this.client,
                 UpdateByQueryMetadataTests.this.threadPool, null, request(), ClusterState.EMPTY_STATE, listener());
         }
 
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.rest.ChunkedRestResponseBody;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Serializes a {@link ChunkedRestResponseBody} one chunk at a time as {@link ChunkedWriteHandler} pulls it, which only happens
+ * while the channel is writable so that a slow client doesn't make the whole response pile up on heap. Chunks are serialized on
+ * the given executor rather than on the event loop, at most one chunk ahead of the one being written: until that chunk is ready
+ * {@link #readChunk(ByteBufAllocator)} returns {@code null} and the transfer is resumed once it is.
+ */
+class Netty4ChunkedHttpBody implements ChunkedInput<ByteBuf> {
+
+    private final ChunkedRestResponseBody body;
+    private final int chunkSize;
+    private final Executor executor;
+    private final ChunkedWriteHandler writer;
+
+    private final Object mutex = new Object();
+    private ByteBuf nextChunk;
+    private Exception failure;
+    private boolean serializing;
+    private boolean lastChunkSerialized;
+    private boolean closed;
+    private long progress;
+
+    Netty4ChunkedHttpBody(ChunkedRestResponseBody body, int chunkSize, Executor executor, ChunkedWriteHandler writer) {
+        this.body = body;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+        this.writer = writer;
+    }
+
+    @Override
+    public boolean isEndOfInput() {
+        synchronized (mutex) {
+            return closed || (lastChunkSerialized && nextChunk == null && failure == null);
+        }
+    }
+
+    @Override
+    public void close() {
+        final ByteBuf chunk;
+        synchronized (mutex) {
+            closed = true;
+            chunk = nextChunk;
+            nextChunk = null;
+        }
+        if (chunk != null) {
+            chunk.release();
+        }
+        // the body defers releasing its buffers until a chunk that is being serialized is complete
+        body.close();
+    }
+
+    @Deprecated
+    @Override
+    public ByteBuf readChunk(ChannelHandlerContext ctx) throws Exception {
+        return readChunk(ctx.alloc());
+    }
+
+    @Override
+    public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
+        final ByteBuf chunk;
+        synchronized (mutex) {
+            if (failure != null) {
+                throw failure;
+            }
+            chunk = nextChunk;
+            nextChunk = null;
+            if (chunk != null) {
+                progress += chunk.readableBytes();
+            }
+            if (closed || serializing || lastChunkSerialized) {
+                return chunk;
+            }
+            serializing = true;
+        }
+        executor.execute(new AbstractRunnable() {
+            @Override
+            protected void doRun() throws Exception {
+                final ByteBuf next = allocator.buffer(chunkSize);
+                boolean success = false;
+                try {
+                    body.encodeChunk(new ByteBufOutputStream(next), chunkSize);
+                    success = true;
+                } finally {
+                    if (success == false) {
+                        next.release();
+                    }
+                }
+                onChunkSerialized(next, body.isDone(), null);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                onChunkSerialized(null, false, e);
+            }
+        });
+        return chunk;
+    }
+
+    private void onChunkSerialized(ByteBuf chunk, boolean last, Exception e) {
+        synchronized (mutex) {
+            serializing = false;
+            if (closed == false) {
+                nextChunk = chunk;
+                lastChunkSerialized = last;
+                failure = e;
+                chunk = null;
+            }
+        }
+        if (chunk != null) {
+            chunk.release();
+        }
+        writer.resumeTransfer();
+    }
+
+    @Override
+    public long length() {
+        return -1;
+    }
+
+    @Override
+    public long progress() {
+        synchronized (mutex) {
+            return progress;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.opensearch.http.HttpResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
+import org.opensearch.rest.RestStatus;
+
+/**
+ * A response whose body is serialized and written chunk by chunk by {@link Netty4HttpResponseCreator}.
+ */
+public class Netty4ChunkedHttpResponse extends DefaultHttpResponse implements HttpResponse {
+
+    private final HttpHeaders requestHeaders;
+    private final ChunkedRestResponseBody body;
+
+    Netty4ChunkedHttpResponse(HttpHeaders requestHeaders, HttpVersion version, RestStatus status, ChunkedRestResponseBody body) {
+        super(version, HttpResponseStatus.valueOf(status.getStatus()));
+        this.requestHeaders = requestHeaders;
+        this.body = body;
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        headers().add(name, value);
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return headers().contains(name);
+    }
+
+    public HttpHeaders requestHeaders() {
+        return requestHeaders;
+    }
+
+    public ChunkedRestResponseBody body() {
+        return body;
+    }
+}
@@ -33,6 +33,7 @@
 package org.opensearch.http.netty4;
 
 import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import org.apache.logging.log4j.Logger;
@@ -79,6 +80,10 @@ public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
         try {
             List<Tuple<HttpPipelinedResponse, ChannelPromise>> readyResponses = aggregator.write(response, promise);
             for (Tuple<HttpPipelinedResponse, ChannelPromise> readyResponse : readyResponses) {
+                if (readyResponse.v1().getDelegateRequest() instanceof Netty4ChunkedHttpResponse) {
+                    // the client can't tell a chunked response that failed half way through from a complete one unless we close
+                    readyResponse.v2().addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+                }
                 ctx.write(readyResponse.v1().getDelegateRequest(), readyResponse.v2());
             }
             success = true;
@@ -45,6 +45,7 @@ import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
 import io.netty.handler.codec.http.cookie.ServerCookieEncoder;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.http.HttpRequest;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestStatus;
 import org.opensearch.transport.netty4.Netty4Utils;
@@ -212,6 +213,16 @@ public class Netty4HttpRequest implements HttpRequest {
         return new Netty4HttpResponse(request.headers(), request.protocolVersion(), status, content);
     }
 
+    @Override
+    public boolean supportsChunkedResponse() {
+        return true;
+    }
+
+    @Override
+    public Netty4ChunkedHttpResponse createResponse(RestStatus status, ChunkedRestResponseBody body) {
+        return new Netty4ChunkedHttpResponse(request.headers(), request.protocolVersion(), status, body);
+    }
+
     @Override
     public Exception getInboundException() {
         return inboundException;
@@ -40,17 +40,23 @@ import io.netty.handler.codec.compression.JdkZlibEncoder;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import org.opensearch.common.Booleans;
 import org.opensearch.transport.NettyAllocator;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
- * Split up large responses to prevent batch compression {@link JdkZlibEncoder} down the pipeline.
+ * Split up large responses to prevent batch compression {@link JdkZlibEncoder} down the pipeline. Chunked responses are handed to
+ * the {@link ChunkedWriteHandler} down the pipeline, which pulls their body chunk by chunk as the channel becomes writable while
+ * the chunks are serialized on the given executor, off the event loop.
  */
 @ChannelHandler.Sharable
-class Netty4HttpResponseCreator extends MessageToMessageEncoder<Netty4HttpResponse> {
+class Netty4HttpResponseCreator extends MessageToMessageEncoder<HttpResponse> {
 
     private static final String DO_NOT_SPLIT = "opensearch.unsafe.do_not_split_http_responses";
 
@@ -63,8 +69,38 @@ class Netty4HttpResponseCreator extends MessageToMessageEncoder<Netty4HttpRespon
         SPLIT_THRESHOLD = (int) (NettyAllocator.suggestedMaxAllocationSize() * 0.99);
     }
 
+    private final Executor serializationExecutor;
+
+    Netty4HttpResponseCreator(Executor serializationExecutor) {
+        this.serializationExecutor = serializationExecutor;
+    }
+
     @Override
-    protected void encode(ChannelHandlerContext ctx, Netty4HttpResponse msg, List<Object> out) {
+    public boolean acceptOutboundMessage(Object msg) {
+        return msg instanceof Netty4HttpResponse || msg instanceof Netty4ChunkedHttpResponse;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, HttpResponse response, List<Object> out) {
+        if (response instanceof Netty4ChunkedHttpResponse) {
+            encodeChunked(ctx, (Netty4ChunkedHttpResponse) response, out);
+        } else {
+            encodeFull((Netty4HttpResponse) response, out);
+        }
+    }
+
+    private void encodeChunked(ChannelHandlerContext ctx, Netty4ChunkedHttpResponse msg, List<Object> out) {
+        final ChunkedWriteHandler writer = ctx.pipeline().get(ChunkedWriteHandler.class);
+        if (writer == null) {
+            throw new IllegalStateException("chunked responses require a chunked writer in the pipeline");
+        }
+        HttpUtil.setTransferEncodingChunked(msg, true);
+        // a chunk ends at the first fragment after the size hint, so leave room for that fragment within the split threshold
+        out.add(msg);
+        out.add(new HttpChunkedInput(new Netty4ChunkedHttpBody(msg.body(), SPLIT_THRESHOLD / 2, serializationExecutor, writer)));
+    }
+
+    private static void encodeFull(Netty4HttpResponse msg, List<Object> out) {
         if (DO_NOT_SPLIT_HTTP_RESPONSES || msg.content().readableBytes() <= SPLIT_THRESHOLD) {
             out.add(msg.retain());
         } else {
@@ -40,6 +40,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.FixedRecvByteBufAllocator;
 import io.netty.channel.RecvByteBufAllocator;
 import io.netty.channel.socket.nio.NioChannelOption;
@@ -49,6 +50,12 @@ import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.AttributeKey;
@@ -82,6 +89,8 @@ import java.net.InetSocketAddress;
 import java.net.SocketOption;
 import java.util.concurrent.TimeUnit;
 
+import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_HTTP2_ENABLED;
+import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_HTTP2_MAX_CONCURRENT_STREAMS;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_MAX_CHUNK_SIZE;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_MAX_CONTENT_LENGTH;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_MAX_HEADER_SIZE;
@@ -149,6 +158,9 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
     private final int pipeliningMaxEvents;
 
+    private final boolean http2Enabled;
+    private final int http2MaxConcurrentStreams;
+
     private final SharedGroupFactory sharedGroupFactory;
     private final RecvByteBufAllocator recvByteBufAllocator;
     private final int readTimeoutMillis;
@@ -170,6 +182,8 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         this.maxHeaderSize = SETTING_HTTP_MAX_HEADER_SIZE.get(settings);
         this.maxInitialLineLength = SETTING_HTTP_MAX_INITIAL_LINE_LENGTH.get(settings);
         this.pipeliningMaxEvents = SETTING_PIPELINING_MAX_EVENTS.get(settings);
+        this.http2Enabled = SETTING_HTTP_HTTP2_ENABLED.get(settings);
+        this.http2MaxConcurrentStreams = SETTING_HTTP_HTTP2_MAX_CONCURRENT_STREAMS.get(settings);
 
         this.maxCompositeBufferComponents = SETTING_HTTP_NETTY_MAX_COMPOSITE_BUFFER_COMPONENTS.get(settings);
 
@@ -179,9 +193,10 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         recvByteBufAllocator = new FixedRecvByteBufAllocator(receivePredictor.bytesAsInt());
 
         logger.debug("using max_chunk_size[{}], max_header_size[{}], max_initial_line_length[{}], max_content_length[{}], " +
-                "receive_predictor[{}], max_composite_buffer_components[{}], pipelining_max_events[{}]",
+                "receive_predictor[{}], max_composite_buffer_components[{}], pipelining_max_events[{}], http2_enabled[{}], " +
+                "http2_max_concurrent_streams[{}]",
             maxChunkSize, maxHeaderSize, maxInitialLineLength, maxContentLength, receivePredictor, maxCompositeBufferComponents,
-            pipeliningMaxEvents);
+            pipeliningMaxEvents, http2Enabled, http2MaxConcurrentStreams);
     }
 
     public Settings settings() {
@@ -309,7 +324,7 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
             this.byteBufSizer =  new NettyByteBufSizer();
             this.requestCreator =  new Netty4HttpRequestCreator();
             this.requestHandler = new Netty4HttpRequestHandler(transport);
-            this.responseCreator = new Netty4HttpResponseCreator();
+            this.responseCreator = new Netty4HttpResponseCreator(transport.threadPool.generic());
         }
 
         @Override
@@ -318,25 +333,62 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
             ch.attr(HTTP_CHANNEL_KEY).set(nettyHttpChannel);
             ch.pipeline().addLast("byte_buf_sizer", byteBufSizer);
             ch.pipeline().addLast("read_timeout", new ReadTimeoutHandler(transport.readTimeoutMillis, TimeUnit.MILLISECONDS));
+            if (transport.http2Enabled) {
+                ch.pipeline().addLast("protocol_detector", new Netty4HttpProtocolDetector(this::configureHttp1, this::configureHttp2));
+            } else {
+                configureHttp1(ch.pipeline());
+            }
+            transport.serverAcceptedChannel(nettyHttpChannel);
+        }
+
+        private void configureHttp1(ChannelPipeline pipeline) {
             final HttpRequestDecoder decoder = new HttpRequestDecoder(
                 handlingSettings.getMaxInitialLineLength(),
                 handlingSettings.getMaxHeaderSize(),
                 handlingSettings.getMaxChunkSize());
             decoder.setCumulator(ByteToMessageDecoder.COMPOSITE_CUMULATOR);
-            ch.pipeline().addLast("decoder", decoder);
-            ch.pipeline().addLast("decoder_compress", new HttpContentDecompressor());
-            ch.pipeline().addLast("encoder", new HttpResponseEncoder());
+            pipeline.addLast("decoder", decoder);
+            pipeline.addLast("encoder", new HttpResponseEncoder());
+            configureHttpObjectHandlers(pipeline, transport.pipeliningMaxEvents);
+        }
+
+        private void configureHttp2(ChannelPipeline pipeline) {
+            final Http2Settings http2Settings = Http2Settings.defaultSettings()
+                .maxConcurrentStreams(transport.http2MaxConcurrentStreams)
+                .maxHeaderListSize(handlingSettings.getMaxHeaderSize());
+            pipeline.addLast("http2_codec", Http2FrameCodecBuilder.forServer().initialSettings(http2Settings).build());
+            pipeline.addLast("http2_multiplex", new Http2MultiplexHandler(new ChannelInitializer<Http2StreamChannel>() {
+                @Override
+                protected void initChannel(Http2StreamChannel stream) {
+                    // every stream carries exactly one request, so it gets its own http channel to send the response on while
+                    // the connection it is multiplexed on stays the channel that is tracked by the transport
+                    stream.attr(HTTP_CHANNEL_KEY).set(new Netty4HttpChannel(stream));
+                    stream.pipeline().addLast("http2_stream_codec", new Http2StreamFrameToHttpObjectCodec(true));
+                    configureHttpObjectHandlers(stream.pipeline(), 1);
+                }
+            }));
+            // only sees connection level exceptions, requests are handled on the stream channels
+            pipeline.addLast("handler", requestHandler);
+        }
+
+        /**
+         * Adds the handlers that aggregate, compress and dispatch requests once they have been decoded into HTTP objects, which
+         * is common to HTTP/1.1 connections and to the individual streams of HTTP/2 connections. Stream writability reflects the
+         * HTTP/2 flow control window so the chunked writer does not outrun a slow client on either protocol.
+         */
+        private void configureHttpObjectHandlers(ChannelPipeline pipeline, int pipeliningMaxEvents) {
+            pipeline.addLast("decoder_compress", new HttpContentDecompressor());
             final HttpObjectAggregator aggregator = new HttpObjectAggregator(handlingSettings.getMaxContentLength());
             aggregator.setMaxCumulationBufferComponents(transport.maxCompositeBufferComponents);
-            ch.pipeline().addLast("aggregator", aggregator);
+            pipeline.addLast("aggregator", aggregator);
             if (handlingSettings.isCompression()) {
-                ch.pipeline().addLast("encoder_compress", new HttpContentCompressor(handlingSettings.getCompressionLevel()));
+                pipeline.addLast("encoder_compress", new HttpContentCompressor(handlingSettings.getCompressionLevel()));
             }
-            ch.pipeline().addLast("request_creator", requestCreator);
-            ch.pipeline().addLast("response_creator", responseCreator);
-            ch.pipeline().addLast("pipelining", new Netty4HttpPipeliningHandler(logger, transport.pipeliningMaxEvents));
-            ch.pipeline().addLast("handler", requestHandler);
-            transport.serverAcceptedChannel(nettyHttpChannel);
+            pipeline.addLast("chunked_writer", new ChunkedWriteHandler());
+            pipeline.addLast("request_creator", requestCreator);
+            pipeline.addLast("response_creator", responseCreator);
+            pipeline.addLast("pipelining", new Netty4HttpPipeliningHandler(logger, pipeliningMaxEvents));
+            pipeline.addLast("handler", requestHandler);
         }
 
         @Override
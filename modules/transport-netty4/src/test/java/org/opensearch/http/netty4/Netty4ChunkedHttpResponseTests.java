@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.util.ReferenceCountUtil;
+import org.opensearch.http.HttpPipelinedRequest;
+import org.opensearch.rest.ChunkedRestResponseBody;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+
+public class Netty4ChunkedHttpResponseTests extends OpenSearchTestCase {
+
+    private final List<Runnable> serializations = new ArrayList<>();
+
+    public void testChunksAreSerializedOffTheEventLoop() {
+        final EmbeddedChannel channel = newChannel();
+        final TestBody body = new TestBody(randomIntBetween(1, 10), -1);
+        final ChannelFuture future = sendResponse(channel, body);
+
+        final HttpResponse response = channel.readOutbound();
+        assertTrue(HttpUtil.isTransferEncodingChunked(response));
+        assertFalse(response.headers().contains(HttpHeaderNames.CONTENT_LENGTH));
+        // nothing was serialized on the event loop
+        assertThat(body.encodedChunks, equalTo(0));
+        assertThat(serializations.size(), equalTo(1));
+
+        runSerializations(channel);
+        assertThat(readContent(channel), equalTo(body.expectedContent()));
+        assertTrue(future.isSuccess());
+        assertTrue(channel.isOpen());
+        assertTrue(body.closed);
+    }
+
+    public void testChunksAreOnlySerializedWhileTheChannelIsWritable() {
+        final EmbeddedChannel channel = newChannel();
+        final TestBody body = new TestBody(randomIntBetween(4, 10), -1);
+        final ChannelFuture future = sendResponse(channel, body);
+        assertThat(channel.readOutbound(), instanceOf(HttpResponse.class));
+
+        runNextSerialization(channel);
+        final HttpContent first = channel.readOutbound();
+        assertThat(first.content().toString(StandardCharsets.UTF_8), equalTo("chunk-0;"));
+        first.release();
+
+        // the client stops reading: the next chunk is serialized ahead but not written and nothing is serialized after it
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+        channel.runPendingTasks();
+        runSerializations(channel);
+        assertNull(channel.readOutbound());
+        assertThat(body.encodedChunks, equalTo(2));
+        assertFalse(future.isDone());
+
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, true);
+        channel.runPendingTasks();
+        runSerializations(channel);
+        assertThat("chunk-0;" + readContent(channel), equalTo(body.expectedContent()));
+        assertTrue(future.isSuccess());
+    }
+
+    public void testConnectionIsClosedWhenSerializationFailsHalfWay() {
+        final EmbeddedChannel channel = newChannel();
+        final int failingChunk = randomIntBetween(1, 5);
+        final TestBody body = new TestBody(failingChunk + 2, failingChunk);
+        final ChannelFuture future = sendResponse(channel, body);
+        assertThat(channel.readOutbound(), instanceOf(HttpResponse.class));
+
+        runSerializations(channel);
+        Object message;
+        while ((message = channel.readOutbound()) != null) {
+            assertThat("a truncated response must not look complete", message, instanceOf(HttpContent.class));
+            assertFalse(message instanceof LastHttpContent);
+            ReferenceCountUtil.release(message);
+        }
+        assertTrue(future.isDone());
+        assertThat(future.cause(), instanceOf(IOException.class));
+        assertFalse(channel.isOpen());
+        assertTrue(body.closed);
+    }
+
+    public void testChunkSerializedAfterTheChannelIsClosedIsReleased() {
+        final EmbeddedChannel channel = newChannel();
+        final TestBody body = new TestBody(3, -1);
+        final ChannelFuture future = sendResponse(channel, body);
+        assertThat(channel.readOutbound(), instanceOf(HttpResponse.class));
+        assertThat(serializations.size(), equalTo(1));
+
+        channel.close();
+        assertTrue(future.isDone());
+        assertFalse(future.isSuccess());
+        runSerializations(channel);
+        assertNull(channel.readOutbound());
+        assertTrue(body.closed);
+    }
+
+    private EmbeddedChannel newChannel() {
+        return new EmbeddedChannel(new ChunkedWriteHandler(), new Netty4HttpResponseCreator(serializations::add),
+            new Netty4HttpPipeliningHandler(logger, 1));
+    }
+
+    private static ChannelFuture sendResponse(EmbeddedChannel channel, ChunkedRestResponseBody body) {
+        channel.writeInbound(new Netty4HttpRequest(new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, "/")));
+        final HttpPipelinedRequest request = channel.readInbound();
+        return channel.writeAndFlush(request.createResponse(RestStatus.OK, body));
+    }
+
+    private void runNextSerialization(EmbeddedChannel channel) {
+        serializations.remove(0).run();
+        channel.runPendingTasks();
+    }
+
+    private void runSerializations(EmbeddedChannel channel) {
+        while (serializations.isEmpty() == false) {
+            runNextSerialization(channel);
+        }
+    }
+
+    private static String readContent(EmbeddedChannel channel) {
+        final StringBuilder content = new StringBuilder();
+        HttpContent chunk;
+        while ((chunk = channel.readOutbound()) != null) {
+            content.append(new String(ByteBufUtil.getBytes(chunk.content()), StandardCharsets.UTF_8));
+            final boolean last = chunk instanceof LastHttpContent;
+            chunk.release();
+            if (last) {
+                return content.toString();
+            }
+        }
+        throw new AssertionError("the response was not complete: [" + content + "]");
+    }
+
+    private static class TestBody implements ChunkedRestResponseBody {
+
+        private final int chunks;
+        private final int failingChunk;
+        private volatile int encodedChunks;
+        private volatile boolean closed;
+
+        TestBody(int chunks, int failingChunk) {
+            this.chunks = chunks;
+            this.failingChunk = failingChunk;
+        }
+
+        @Override
+        public boolean isDone() {
+            return closed || encodedChunks == chunks;
+        }
+
+        @Override
+        public void encodeChunk(OutputStream out, int sizeHint) throws IOException {
+            assertThat(encodedChunks, lessThan(chunks));
+            if (encodedChunks == failingChunk) {
+                throw new IOException("failed to serialize chunk [" + failingChunk + "]");
+            }
+            out.write(("chunk-" + encodedChunks + ";").getBytes(StandardCharsets.UTF_8));
+            encodedChunks++;
+        }
+
+        @Override
+        public String getResponseContentTypeString() {
+            return "text/plain";
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        String expectedContent() {
+            final StringBuilder content = new StringBuilder();
+            for (int i = 0; i < chunks; i++) {
+                content.append("chunk-").append(i).append(';');
+            }
+            return content.toString();
+        }
+    }
+}
@@ -35,10 +35,12 @@ package org.opensearch.http.netty4;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
@@ -55,6 +57,11 @@ import io.netty.handler.codec.http.HttpRequestEncoder;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseDecoder;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
@@ -97,14 +104,27 @@ class Netty4HttpClient implements Closeable {
     }
 
     private final Bootstrap clientBootstrap;
+    private final boolean http2;
 
     Netty4HttpClient() {
+        this(false);
+    }
+
+    private Netty4HttpClient(boolean http2) {
+        this.http2 = http2;
         clientBootstrap = new Bootstrap()
             .channel(NettyAllocator.getChannelType())
             .option(ChannelOption.ALLOCATOR, NettyAllocator.getAllocator())
             .group(new NioEventLoopGroup(1));
     }
 
+    /**
+     * Creates a client that speaks HTTP/2 with prior knowledge and sends every request on its own stream of a single connection.
+     */
+    static Netty4HttpClient http2() {
+        return new Netty4HttpClient(true);
+    }
+
     public List<FullHttpResponse> get(SocketAddress remoteAddress, String... uris) throws InterruptedException {
         List<HttpRequest> requests = new ArrayList<>(uris.length);
         for (int i = 0; i < uris.length; i++) {
@@ -152,7 +172,7 @@ class Netty4HttpClient implements Closeable {
         final CountDownLatch latch = new CountDownLatch(requests.size());
         final List<FullHttpResponse> content = Collections.synchronizedList(new ArrayList<>(requests.size()));
 
-        clientBootstrap.handler(new CountDownLatchHandler(latch, content));
+        clientBootstrap.handler(http2 ? new Http2ConnectionHandler() : new CountDownLatchHandler(latch, content));
 
         ChannelFuture channelFuture = null;
         try {
@@ -160,7 +180,20 @@ class Netty4HttpClient implements Closeable {
             channelFuture.sync();
 
             for (HttpRequest request : requests) {
-                channelFuture.channel().writeAndFlush(request);
+                if (http2) {
+                    final Http2StreamChannel stream = new Http2StreamChannelBootstrap(channelFuture.channel())
+                        .handler(new ChannelInitializer<Http2StreamChannel>() {
+                            @Override
+                            protected void initChannel(Http2StreamChannel ch) {
+                                ch.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(false));
+                                addResponseHandlers(ch.pipeline(), latch, content);
+                            }
+                        })
+                        .open().sync().getNow();
+                    stream.writeAndFlush(request);
+                } else {
+                    channelFuture.channel().writeAndFlush(request);
+                }
             }
             if (latch.await(30L, TimeUnit.SECONDS) == false) {
                 fail("Failed to get all expected responses.");
@@ -195,30 +228,51 @@ class Netty4HttpClient implements Closeable {
 
         @Override
         protected void initChannel(SocketChannel ch) {
-            final int maxContentLength = new ByteSizeValue(100, ByteSizeUnit.MB).bytesAsInt();
             ch.pipeline().addLast(new HttpResponseDecoder());
             ch.pipeline().addLast(new HttpRequestEncoder());
-            ch.pipeline().addLast(new HttpContentDecompressor());
-            ch.pipeline().addLast(new HttpObjectAggregator(maxContentLength));
-            ch.pipeline().addLast(new SimpleChannelInboundHandler<HttpObject>() {
-                @Override
-                protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) {
-                    final FullHttpResponse response = (FullHttpResponse) msg;
-                    // We copy the buffer manually to avoid a huge allocation on a pooled allocator. We have
-                    // a test that tracks huge allocations, so we want to avoid them in this test code.
-                    ByteBuf newContent = Unpooled.copiedBuffer(((FullHttpResponse) msg).content());
-                    content.add(response.replace(newContent));
-                    latch.countDown();
-                }
+            addResponseHandlers(ch.pipeline(), latch, content);
+        }
 
+    }
+
+    /**
+     * sets up the HTTP/2 connection, the requests are sent and their responses received on the streams opened on it
+     */
+    private static class Http2ConnectionHandler extends ChannelInitializer<SocketChannel> {
+
+        @Override
+        protected void initChannel(SocketChannel ch) {
+            ch.pipeline().addLast(Http2FrameCodecBuilder.forClient().build());
+            ch.pipeline().addLast(new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
                 @Override
-                public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
-                    super.exceptionCaught(ctx, cause);
-                    latch.countDown();
+                protected void initChannel(Channel pushedStream) {
+                    assert false : "unexpected stream opened by the server, the client did not enable push promises";
                 }
-            });
+            }));
         }
+    }
 
+    private static void addResponseHandlers(ChannelPipeline pipeline, CountDownLatch latch, Collection<FullHttpResponse> content) {
+        final int maxContentLength = new ByteSizeValue(100, ByteSizeUnit.MB).bytesAsInt();
+        pipeline.addLast(new HttpContentDecompressor());
+        pipeline.addLast(new HttpObjectAggregator(maxContentLength));
+        pipeline.addLast(new SimpleChannelInboundHandler<HttpObject>() {
+            @Override
+            protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) {
+                final FullHttpResponse response = (FullHttpResponse) msg;
+                // We copy the buffer manually to avoid a huge allocation on a pooled allocator. We have
+                // a test that tracks huge allocations, so we want to avoid them in this test code.
+                ByteBuf newContent = Unpooled.copiedBuffer(((FullHttpResponse) msg).content());
+                content.add(response.replace(newContent));
+                latch.countDown();
+            }
+
+            @Override
+            public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+                super.exceptionCaught(ctx, cause);
+                latch.countDown();
+            }
+        });
     }
 
 }
@@ -56,6 +56,7 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCounted;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.bytes.BytesArray;
@@ -91,6 +92,7 @@ import org.junit.Before;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -100,10 +102,14 @@ import static org.opensearch.http.HttpTransportSettings.SETTING_CORS_ALLOW_ORIGI
 import static org.opensearch.http.HttpTransportSettings.SETTING_CORS_ENABLED;
 import static org.opensearch.rest.RestStatus.BAD_REQUEST;
 import static org.opensearch.rest.RestStatus.OK;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 /**
  * Tests for the {@link Netty4HttpServerTransport} class.
@@ -475,6 +481,78 @@ public class Netty4HttpServerTransportTests extends OpenSearchTestCase {
         }
     }
 
+    public void testHttp2StreamsAreAnsweredIndependently() throws Exception {
+        final int fastRequests = randomIntBetween(1, 8);
+        final CountDownLatch fastResponsesSent = new CountDownLatch(fastRequests);
+        final HttpServerTransport.Dispatcher dispatcher = new HttpServerTransport.Dispatcher() {
+
+            @Override
+            public void dispatchRequest(final RestRequest request, final RestChannel channel, final ThreadContext threadContext) {
+                if (request.uri().startsWith("/slow")) {
+                    // only answers once all the requests sent after it on the same connection have been answered
+                    threadPool.generic().execute(() -> {
+                        try {
+                            assertTrue(fastResponsesSent.await(30, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            throw new AssertionError(e);
+                        }
+                        channel.sendResponse(new BytesRestResponse(OK, request.uri()));
+                    });
+                } else {
+                    channel.sendResponse(new BytesRestResponse(OK, request.uri()));
+                    fastResponsesSent.countDown();
+                }
+            }
+
+            @Override
+            public void dispatchBadRequest(final RestChannel channel, final ThreadContext threadContext, final Throwable cause) {
+                logger.error(new ParameterizedMessage("--> Unexpected bad request [{}]",
+                    FakeRestRequest.requestToString(channel.request())), cause);
+                throw new AssertionError();
+            }
+
+        };
+
+        final Settings settings = createBuilderWithPort()
+            .put(HttpTransportSettings.SETTING_HTTP_HTTP2_ENABLED.getKey(), true)
+            .build();
+        try (Netty4HttpServerTransport transport = new Netty4HttpServerTransport(settings, networkService, bigArrays, threadPool,
+            xContentRegistry(), dispatcher, clusterSettings, new SharedGroupFactory(settings))) {
+            transport.start();
+            final TransportAddress remoteAddress = randomFrom(transport.boundAddress().boundAddresses());
+
+            final String[] uris = new String[fastRequests + 1];
+            uris[0] = "/slow";
+            for (int i = 1; i < uris.length; i++) {
+                uris[i] = "/fast/" + i;
+            }
+            try (Netty4HttpClient client = Netty4HttpClient.http2()) {
+                final Collection<FullHttpResponse> responses = client.get(remoteAddress.address(), uris);
+                try {
+                    assertThat(responses, hasSize(uris.length));
+                    for (FullHttpResponse response : responses) {
+                        assertThat(response.status(), equalTo(HttpResponseStatus.OK));
+                    }
+                    assertThat(Netty4HttpClient.returnHttpResponseBodies(responses), containsInAnyOrder(uris));
+                    // the slow request was sent first but its stream must not hold back the ones multiplexed after it
+                    assertThat(Netty4HttpClient.returnHttpResponseBodies(responses).iterator().next(), not(equalTo("/slow")));
+                } finally {
+                    responses.forEach(ReferenceCounted::release);
+                }
+            }
+
+            // connections that don't start with the HTTP/2 preface are still served as HTTP/1.1
+            try (Netty4HttpClient client = new Netty4HttpClient()) {
+                final Collection<FullHttpResponse> responses = client.get(remoteAddress.address(), "/fast/0");
+                try {
+                    assertThat(Netty4HttpClient.returnHttpResponseBodies(responses), contains("/fast/0"));
+                } finally {
+                    responses.forEach(ReferenceCounted::release);
+                }
+            }
+        }
+    }
+
     private Settings createSettings() {
         return createBuilderWithPort().build();
     }
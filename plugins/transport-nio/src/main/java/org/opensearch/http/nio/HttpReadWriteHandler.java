@@ -33,12 +33,19 @@
 package org.opensearch.http.nio;
 
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.http.HttpHandlingSettings;
 import org.opensearch.http.HttpPipelinedRequest;
@@ -72,29 +79,71 @@ public class HttpReadWriteHandler implements NioChannelHandler {
 
     public HttpReadWriteHandler(NioHttpChannel nioHttpChannel, NioHttpServerTransport transport, HttpHandlingSettings settings,
                                 TaskScheduler taskScheduler, LongSupplier nanoClock) {
+        this(nioHttpChannel, transport, settings, false, 0, taskScheduler, nanoClock);
+    }
+
+    public HttpReadWriteHandler(NioHttpChannel nioHttpChannel, NioHttpServerTransport transport, HttpHandlingSettings settings,
+                                boolean http2Enabled, int http2MaxConcurrentStreams, TaskScheduler taskScheduler,
+                                LongSupplier nanoClock) {
         this.nioHttpChannel = nioHttpChannel;
         this.transport = transport;
         this.taskScheduler = taskScheduler;
         this.nanoClock = nanoClock;
         this.readTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(settings.getReadTimeoutMillis());
 
+        if (http2Enabled) {
+            adaptor = new NettyAdaptor(new NioHttpProtocolDetector(
+                pipeline -> pipeline.addLast(http1Handlers(transport, settings)),
+                pipeline -> configureHttp2(pipeline, settings, http2MaxConcurrentStreams)));
+        } else {
+            adaptor = new NettyAdaptor(http1Handlers(transport, settings));
+        }
+        adaptor.addCloseListener((v, e) -> nioHttpChannel.close());
+    }
+
+    private static ChannelHandler[] http1Handlers(NioHttpServerTransport transport, HttpHandlingSettings settings) {
         List<ChannelHandler> handlers = new ArrayList<>(8);
         HttpRequestDecoder decoder = new HttpRequestDecoder(settings.getMaxInitialLineLength(), settings.getMaxHeaderSize(),
             settings.getMaxChunkSize());
         decoder.setCumulator(ByteToMessageDecoder.COMPOSITE_CUMULATOR);
         handlers.add(decoder);
-        handlers.add(new HttpContentDecompressor());
         handlers.add(new HttpResponseEncoder());
+        addHttpObjectHandlers(handlers, settings);
+        handlers.add(new NioHttpPipeliningHandler(transport.getLogger(), settings.getPipeliningMaxEvents()));
+        return handlers.toArray(new ChannelHandler[0]);
+    }
+
+    private static void configureHttp2(ChannelPipeline pipeline, HttpHandlingSettings settings, int maxConcurrentStreams) {
+        final Http2Settings http2Settings = Http2Settings.defaultSettings()
+            .maxConcurrentStreams(maxConcurrentStreams)
+            .maxHeaderListSize(settings.getMaxHeaderSize());
+        final NioHttp2StreamDispatcher dispatcher = new NioHttp2StreamDispatcher();
+        pipeline.addLast(Http2FrameCodecBuilder.forServer().initialSettings(http2Settings).build());
+        pipeline.addLast(new Http2MultiplexHandler(new ChannelInitializer<Http2StreamChannel>() {
+            @Override
+            protected void initChannel(Http2StreamChannel stream) {
+                List<ChannelHandler> handlers = new ArrayList<>(7);
+                handlers.add(new Http2StreamFrameToHttpObjectCodec(true));
+                addHttpObjectHandlers(handlers, settings);
+                handlers.add(dispatcher.streamHandler());
+                stream.pipeline().addLast(handlers.toArray(new ChannelHandler[0]));
+            }
+        }));
+        pipeline.addLast(dispatcher);
+    }
+
+    /**
+     * Adds the handlers that are shared by HTTP/1.1 connections and the streams of HTTP/2 connections, once the requests have been
+     * decoded into HTTP objects.
+     */
+    private static void addHttpObjectHandlers(List<ChannelHandler> handlers, HttpHandlingSettings settings) {
+        handlers.add(new HttpContentDecompressor());
         handlers.add(new HttpObjectAggregator(settings.getMaxContentLength()));
         if (settings.isCompression()) {
             handlers.add(new HttpContentCompressor(settings.getCompressionLevel()));
         }
         handlers.add(new NioHttpRequestCreator());
         handlers.add(new NioHttpResponseCreator());
-        handlers.add(new NioHttpPipeliningHandler(transport.getLogger(), settings.getPipeliningMaxEvents()));
-
-        adaptor = new NettyAdaptor(handlers.toArray(new ChannelHandler[0]));
-        adaptor.addCloseListener((v, e) -> nioHttpChannel.close());
     }
 
     @Override
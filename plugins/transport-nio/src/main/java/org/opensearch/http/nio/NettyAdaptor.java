@@ -46,6 +46,7 @@ import org.opensearch.nio.Page;
 import org.opensearch.nio.WriteOperation;
 
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.util.LinkedList;
 import java.util.function.BiConsumer;
 
@@ -83,6 +84,11 @@ class NettyAdaptor {
         ChannelFuture closeFuture = nettyChannel.close();
         // This should be safe as we are not a real network channel
         closeFuture.await();
+        // handlers may still write while the pipeline is closing (e.g. the HTTP/2 GOAWAY frame) but nothing is flushed anymore
+        FlushOperation flushOperation;
+        while ((flushOperation = flushOperations.pollFirst()) != null) {
+            flushOperation.getListener().accept(null, new ClosedChannelException());
+        }
         if (closeFuture.isSuccess() == false) {
             Throwable cause = closeFuture.cause();
             ExceptionsHelper.maybeDieOnAnotherThread(cause);
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.nio;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.PromiseNotifier;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.http.HttpPipelinedRequest;
+import org.opensearch.http.HttpPipelinedResponse;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bridges the streams of an HTTP/2 connection to the single {@link NioHttpChannel} the connection is served on. Requests decoded on
+ * the individual streams are numbered like pipelined HTTP/1.1 requests, but each response is written back to the stream its request
+ * arrived on as soon as it is ready instead of in request order, so that a slow request does not hold back the streams multiplexed
+ * next to it. This handler must be the last one of the connection pipeline.
+ */
+class NioHttp2StreamDispatcher extends ChannelDuplexHandler {
+
+    private final Map<Integer, Http2StreamChannel> streams = new HashMap<>();
+    private final ChannelHandler streamHandler = new StreamRequestHandler();
+    private ChannelHandlerContext connectionContext;
+    private int sequence;
+
+    /**
+     * The handler that terminates the pipeline of every stream and passes the aggregated requests on to the connection.
+     */
+    ChannelHandler streamHandler() {
+        return streamHandler;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        connectionContext = ctx;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        // connection level frames (settings, pings, go away) are handled by the codec, there is nothing left to do with them
+        ReferenceCountUtil.release(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        assert msg instanceof HttpPipelinedResponse : "Invalid message type: " + msg.getClass();
+        final HttpPipelinedResponse response = (HttpPipelinedResponse) msg;
+        final Http2StreamChannel stream = streams.remove(response.getSequence());
+        if (stream == null) {
+            promise.setFailure(new ClosedChannelException());
+        } else {
+            stream.writeAndFlush(response.getDelegateRequest()).addListener(new PromiseNotifier<>(promise));
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private class StreamRequestHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            assert msg instanceof NioHttpRequest : "Invalid message type: " + msg.getClass();
+            final int requestSequence = sequence++;
+            streams.put(requestSequence, (Http2StreamChannel) ctx.channel());
+            connectionContext.fireChannelRead(new HttpPipelinedRequest(requestSequence, (NioHttpRequest) msg));
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            ExceptionsHelper.maybeDieOnAnotherThread(cause);
+            // resetting the failed stream is enough, the other streams of the connection are not affected
+            ctx.close();
+        }
+    }
+}
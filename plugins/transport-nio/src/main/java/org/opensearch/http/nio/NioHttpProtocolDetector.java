@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.nio;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Inspects the first bytes of a connection and installs either the HTTP/1.1 or the HTTP/2 handlers behind itself, depending on
+ * whether the client opened the connection with the HTTP/2 connection preface. Once the protocol is known the detector removes
+ * itself from the pipeline and hands the bytes it has buffered so far to the installed handlers.
+ */
+class NioHttpProtocolDetector extends ByteToMessageDecoder {
+
+    private static final ByteBuf CONNECTION_PREFACE = Http2CodecUtil.connectionPrefaceBuf();
+
+    private final Consumer<ChannelPipeline> http1Configurer;
+    private final Consumer<ChannelPipeline> http2Configurer;
+
+    NioHttpProtocolDetector(Consumer<ChannelPipeline> http1Configurer, Consumer<ChannelPipeline> http2Configurer) {
+        this.http1Configurer = http1Configurer;
+        this.http2Configurer = http2Configurer;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        final int prefaceLength = CONNECTION_PREFACE.readableBytes();
+        final int length = Math.min(in.readableBytes(), prefaceLength);
+        if (ByteBufUtil.equals(in, in.readerIndex(), CONNECTION_PREFACE, 0, length) == false) {
+            http1Configurer.accept(ctx.pipeline());
+            ctx.pipeline().remove(this);
+        } else if (length == prefaceLength) {
+            http2Configurer.accept(ctx.pipeline());
+            ctx.pipeline().remove(this);
+        }
+        // otherwise wait for more bytes, everything read so far is a prefix of the connection preface
+    }
+}
@@ -67,6 +67,8 @@ import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.util.function.Consumer;
 
+import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_HTTP2_ENABLED;
+import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_HTTP2_MAX_CONCURRENT_STREAMS;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_MAX_CHUNK_SIZE;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_MAX_HEADER_SIZE;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_MAX_INITIAL_LINE_LENGTH;
@@ -95,6 +97,9 @@ public class NioHttpServerTransport extends AbstractHttpServerTransport {
     protected final int tcpSendBufferSize;
     protected final int tcpReceiveBufferSize;
 
+    private final boolean http2Enabled;
+    private final int http2MaxConcurrentStreams;
+
     private volatile NioGroup nioGroup;
     private ChannelFactory<NioHttpServerChannel, NioHttpChannel> channelFactory;
 
@@ -109,6 +114,8 @@ public class NioHttpServerTransport extends AbstractHttpServerTransport {
         ByteSizeValue maxHeaderSize = SETTING_HTTP_MAX_HEADER_SIZE.get(settings);
         ByteSizeValue maxInitialLineLength = SETTING_HTTP_MAX_INITIAL_LINE_LENGTH.get(settings);
         int pipeliningMaxEvents = SETTING_PIPELINING_MAX_EVENTS.get(settings);
+        this.http2Enabled = SETTING_HTTP_HTTP2_ENABLED.get(settings);
+        this.http2MaxConcurrentStreams = SETTING_HTTP_HTTP2_MAX_CONCURRENT_STREAMS.get(settings);
 
         this.tcpNoDelay = SETTING_HTTP_TCP_NO_DELAY.get(settings);
         this.tcpKeepAlive = SETTING_HTTP_TCP_KEEP_ALIVE.get(settings);
@@ -121,8 +128,9 @@ public class NioHttpServerTransport extends AbstractHttpServerTransport {
 
 
         logger.debug("using max_chunk_size[{}], max_header_size[{}], max_initial_line_length[{}], max_content_length[{}]," +
-                " pipelining_max_events[{}]",
-            maxChunkSize, maxHeaderSize, maxInitialLineLength, maxContentLength, pipeliningMaxEvents);
+                " pipelining_max_events[{}], http2_enabled[{}], http2_max_concurrent_streams[{}]",
+            maxChunkSize, maxHeaderSize, maxInitialLineLength, maxContentLength, pipeliningMaxEvents, http2Enabled,
+            http2MaxConcurrentStreams);
     }
 
     public Logger getLogger() {
@@ -183,7 +191,7 @@ public class NioHttpServerTransport extends AbstractHttpServerTransport {
         public NioHttpChannel createChannel(NioSelector selector, SocketChannel channel, Config.Socket socketConfig) {
             NioHttpChannel httpChannel = new NioHttpChannel(channel);
             HttpReadWriteHandler handler = new HttpReadWriteHandler(httpChannel,NioHttpServerTransport.this,
-                handlingSettings, selector.getTaskScheduler(), threadPool::relativeTimeInMillis);
+                handlingSettings, http2Enabled, http2MaxConcurrentStreams, selector.getTaskScheduler(), threadPool::relativeTimeInMillis);
             Consumer<Exception> exceptionHandler = (e) -> onException(httpChannel, e);
             SocketChannelContext context = new BytesChannelContext(httpChannel, selector, socketConfig, exceptionHandler, handler,
                 new InboundChannelBuffer(pageAllocator));
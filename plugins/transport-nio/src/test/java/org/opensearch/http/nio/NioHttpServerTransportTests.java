@@ -32,8 +32,14 @@
 
 package org.opensearch.http.nio;
 
+import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
@@ -41,9 +47,15 @@ import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 
 import org.opensearch.OpenSearchException;
@@ -79,9 +91,12 @@ import org.junit.After;
 import org.junit.Before;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -90,10 +105,12 @@ import static org.opensearch.http.HttpTransportSettings.SETTING_CORS_ALLOW_ORIGI
 import static org.opensearch.http.HttpTransportSettings.SETTING_CORS_ENABLED;
 import static org.opensearch.rest.RestStatus.BAD_REQUEST;
 import static org.opensearch.rest.RestStatus.OK;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 /**
  * Tests for the {@link NioHttpServerTransport} class.
@@ -446,6 +463,122 @@ public class NioHttpServerTransportTests extends OpenSearchTestCase {
         }
     }
 
+    public void testHttp2StreamsAreAnsweredIndependently() throws Exception {
+        final int fastRequests = randomIntBetween(1, 8);
+        final CountDownLatch fastResponsesSent = new CountDownLatch(fastRequests);
+        final HttpServerTransport.Dispatcher dispatcher = new HttpServerTransport.Dispatcher() {
+
+            @Override
+            public void dispatchRequest(final RestRequest request, final RestChannel channel, final ThreadContext threadContext) {
+                if (request.uri().startsWith("/slow")) {
+                    // only answers once all the requests sent after it on the same connection have been answered
+                    threadPool.generic().execute(() -> {
+                        try {
+                            assertTrue(fastResponsesSent.await(30, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            throw new AssertionError(e);
+                        }
+                        channel.sendResponse(new BytesRestResponse(OK, request.uri()));
+                    });
+                } else {
+                    channel.sendResponse(new BytesRestResponse(OK, request.uri()));
+                    fastResponsesSent.countDown();
+                }
+            }
+
+            @Override
+            public void dispatchBadRequest(final RestChannel channel, final ThreadContext threadContext, final Throwable cause) {
+                logger.error(new ParameterizedMessage("--> Unexpected bad request [{}]",
+                    FakeRestRequest.requestToString(channel.request())), cause);
+                throw new AssertionError();
+            }
+
+        };
+
+        final Settings settings = createBuilderWithPort()
+            .put(HttpTransportSettings.SETTING_HTTP_HTTP2_ENABLED.getKey(), true)
+            .build();
+        try (NioHttpServerTransport transport = new NioHttpServerTransport(settings, networkService, bigArrays, pageRecycler,
+            threadPool, xContentRegistry(), dispatcher, new NioGroupFactory(settings, logger),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS))) {
+            transport.start();
+            final TransportAddress remoteAddress = randomFrom(transport.boundAddress().boundAddresses());
+
+            final String[] uris = new String[fastRequests + 1];
+            uris[0] = "/slow";
+            for (int i = 1; i < uris.length; i++) {
+                uris[i] = "/fast/" + i;
+            }
+            final List<String> bodies = sendHttp2Requests(remoteAddress.address(), uris);
+            assertThat(bodies, containsInAnyOrder(uris));
+            // the slow request was sent first but its stream must not hold back the ones multiplexed after it
+            assertThat(bodies.get(0), not(equalTo("/slow")));
+
+            // connections that don't start with the HTTP/2 preface are still served as HTTP/1.1
+            try (NioHttpClient client = new NioHttpClient()) {
+                final FullHttpResponse response = client.send(remoteAddress.address(),
+                    new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/fast/0"));
+                try {
+                    assertThat(response.status(), equalTo(HttpResponseStatus.OK));
+                    assertThat(response.content().toString(StandardCharsets.UTF_8), equalTo("/fast/0"));
+                } finally {
+                    response.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends every request on its own stream of a single HTTP/2 connection and returns the response bodies in the order they arrived.
+     */
+    private static List<String> sendHttp2Requests(InetSocketAddress address, String... uris) throws InterruptedException {
+        final NioEventLoopGroup group = new NioEventLoopGroup(1);
+        final CountDownLatch latch = new CountDownLatch(uris.length);
+        final List<String> bodies = Collections.synchronizedList(new ArrayList<>(uris.length));
+        try {
+            final Channel channel = new Bootstrap().group(group).channel(io.netty.channel.socket.nio.NioSocketChannel.class)
+                .handler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(Channel ch) {
+                        ch.pipeline().addLast(Http2FrameCodecBuilder.forClient().build());
+                        ch.pipeline().addLast(new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                            @Override
+                            protected void initChannel(Channel pushedStream) {
+                                throw new AssertionError("unexpected stream opened by the server");
+                            }
+                        }));
+                    }
+                })
+                .connect(address).sync().channel();
+            for (String uri : uris) {
+                final Http2StreamChannel stream = new Http2StreamChannelBootstrap(channel)
+                    .handler(new ChannelInitializer<Http2StreamChannel>() {
+                        @Override
+                        protected void initChannel(Http2StreamChannel ch) {
+                            ch.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(false));
+                            ch.pipeline().addLast(new HttpObjectAggregator(Integer.MAX_VALUE));
+                            ch.pipeline().addLast(new SimpleChannelInboundHandler<FullHttpResponse>() {
+                                @Override
+                                protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+                                    bodies.add(response.content().toString(StandardCharsets.UTF_8));
+                                    latch.countDown();
+                                }
+                            });
+                        }
+                    })
+                    .open().sync().getNow();
+                final FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+                request.headers().add(HttpHeaderNames.HOST, "localhost");
+                stream.writeAndFlush(request);
+            }
+            assertTrue("Failed to get all expected responses.", latch.await(30, TimeUnit.SECONDS));
+            channel.close().sync();
+        } finally {
+            group.shutdownGracefully().await();
+        }
+        return bodies;
+    }
+
     private Settings createSettings() {
         return createBuilderWithPort().build();
     }
@@ -32,7 +32,9 @@
 
 package org.opensearch.action.admin.cluster.node.hotthreads;
 
+import org.opensearch.Version;
 import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.unit.TimeValue;
@@ -47,6 +49,9 @@ public class NodesHotThreadsRequest extends BaseNodesRequest<NodesHotThreadsRequ
     TimeValue interval = new TimeValue(500, TimeUnit.MILLISECONDS);
     int snapshots = 10;
     boolean ignoreIdleThreads = true;
+    @Nullable
+    TimeValue window;
+    TimeValue windowOffset = TimeValue.ZERO;
 
     // for serialization
     public NodesHotThreadsRequest(StreamInput in) throws IOException {
@@ -56,6 +61,10 @@ public class NodesHotThreadsRequest extends BaseNodesRequest<NodesHotThreadsRequ
         type = in.readString();
         interval = in.readTimeValue();
         snapshots = in.readInt();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            window = in.readOptionalTimeValue();
+            windowOffset = in.readTimeValue();
+        }
     }
 
     /**
@@ -111,6 +120,31 @@ public class NodesHotThreadsRequest extends BaseNodesRequest<NodesHotThreadsRequ
         return this;
     }
 
+    /**
+     * Reports the threads sampled continuously by the nodes over a window of this length instead of sampling them now.
+     */
+    public NodesHotThreadsRequest window(@Nullable TimeValue window) {
+        this.window = window;
+        return this;
+    }
+
+    @Nullable
+    public TimeValue window() {
+        return this.window;
+    }
+
+    /**
+     * How long ago the {@link #window(TimeValue)} ends.
+     */
+    public NodesHotThreadsRequest windowOffset(TimeValue windowOffset) {
+        this.windowOffset = windowOffset;
+        return this;
+    }
+
+    public TimeValue windowOffset() {
+        return this.windowOffset;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -119,5 +153,9 @@ public class NodesHotThreadsRequest extends BaseNodesRequest<NodesHotThreadsRequ
         out.writeString(type);
         out.writeTimeValue(interval);
         out.writeInt(snapshots);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalTimeValue(window);
+            out.writeTimeValue(windowOffset);
+        }
     }
 }
@@ -58,6 +58,16 @@ public class NodesHotThreadsRequestBuilder
         return this;
     }
 
+    public NodesHotThreadsRequestBuilder setWindow(TimeValue window) {
+        request.window(window);
+        return this;
+    }
+
+    public NodesHotThreadsRequestBuilder setWindowOffset(TimeValue windowOffset) {
+        request.windowOffset(windowOffset);
+        return this;
+    }
+
     public NodesHotThreadsRequestBuilder setInterval(TimeValue interval) {
         request.interval(interval);
         return this;
@@ -42,6 +42,8 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.monitor.jvm.HotThreads;
+import org.opensearch.monitor.jvm.HotThreadsSampler;
+import org.opensearch.node.NodeService;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -53,11 +55,14 @@ public class TransportNodesHotThreadsAction extends TransportNodesAction<NodesHo
                                                                          TransportNodesHotThreadsAction.NodeRequest,
                                                                          NodeHotThreads> {
 
+    private final NodeService nodeService;
+
     @Inject
     public TransportNodesHotThreadsAction(ThreadPool threadPool, ClusterService clusterService,
-                                          TransportService transportService, ActionFilters actionFilters) {
+                                          TransportService transportService, NodeService nodeService, ActionFilters actionFilters) {
         super(NodesHotThreadsAction.NAME, threadPool, clusterService, transportService, actionFilters,
             NodesHotThreadsRequest::new, NodeRequest::new, ThreadPool.Names.GENERIC, NodeHotThreads.class);
+        this.nodeService = nodeService;
     }
 
     @Override
@@ -78,6 +83,11 @@ public class TransportNodesHotThreadsAction extends TransportNodesAction<NodesHo
 
     @Override
     protected NodeHotThreads nodeOperation(NodeRequest request) {
+        if (request.request.window != null) {
+            final HotThreadsSampler sampler = nodeService.getMonitorService().hotThreadsSampler();
+            return new NodeHotThreads(clusterService.localNode(),
+                sampler.collapsedStacks(request.request.window, request.request.windowOffset, request.request.ignoreIdleThreads));
+        }
         HotThreads hotThreads = new HotThreads()
                 .busiestThreads(request.request.threads)
                 .type(request.request.type)
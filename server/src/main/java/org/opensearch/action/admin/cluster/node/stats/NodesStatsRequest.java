@@ -238,7 +238,9 @@ public class NodesStatsRequest extends BaseNodesRequest<NodesStatsRequest> {
         INGEST("ingest"),
         ADAPTIVE_SELECTION("adaptive_selection"),
         SCRIPT_CACHE("script_cache"),
-        INDEXING_PRESSURE("indexing_pressure"),;
+        INDEXING_PRESSURE("indexing_pressure"),
+        MASTER_SERVICE("master_service"),
+        SEARCH_BACKPRESSURE("search_backpressure");
 
         private String metricName;
 
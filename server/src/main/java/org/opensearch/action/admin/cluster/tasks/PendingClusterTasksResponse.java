@@ -92,6 +92,9 @@ public class PendingClusterTasksResponse extends ActionResponse implements Itera
             builder.field(Fields.INSERT_ORDER, pendingClusterTask.getInsertOrder());
             builder.field(Fields.PRIORITY, pendingClusterTask.getPriority());
             builder.field(Fields.SOURCE, pendingClusterTask.getSource());
+            if (pendingClusterTask.getExecutor() != null) {
+                builder.field(Fields.EXECUTOR, pendingClusterTask.getExecutor());
+            }
             builder.field(Fields.EXECUTING, pendingClusterTask.isExecuting());
             builder.field(Fields.TIME_IN_QUEUE_MILLIS, pendingClusterTask.getTimeInQueueInMillis());
             builder.field(Fields.TIME_IN_QUEUE, pendingClusterTask.getTimeInQueue());
@@ -109,6 +112,7 @@ public class PendingClusterTasksResponse extends ActionResponse implements Itera
         static final String INSERT_ORDER = "insert_order";
         static final String PRIORITY = "priority";
         static final String SOURCE = "source";
+        static final String EXECUTOR = "executor";
         static final String TIME_IN_QUEUE_MILLIS = "time_in_queue_millis";
         static final String TIME_IN_QUEUE = "time_in_queue";
 
@@ -40,10 +40,14 @@ import org.opensearch.action.support.replication.ReplicatedWriteRequest;
 import org.opensearch.action.support.replication.ReplicationRequest;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.util.concurrent.RefCounted;
 import org.opensearch.index.shard.ShardId;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -54,15 +58,35 @@ public class BulkShardRequest extends ReplicatedWriteRequest<BulkShardRequest> i
 
     private final BulkItemRequest[] items;
 
+    /**
+     * The item requests as read from the wire, which may hold on to the network buffer they were read from. Items are replaced
+     * while the request executes on the primary so the originals are kept here to release them once the shard has responded.
+     */
+    private final List<RefCounted> retainedRequests;
+
     public BulkShardRequest(StreamInput in) throws IOException {
         super(in);
         final ShardId itemShardId = in.getVersion().onOrAfter(COMPACT_SHARD_ID_VERSION) ? shardId : null;
-        items = in.readArray(i -> i.readOptionalWriteable(inpt -> new BulkItemRequest(itemShardId, inpt)), BulkItemRequest[]::new);
+        final List<RefCounted> retained = new ArrayList<>();
+        try {
+            items = in.readArray(i -> i.readOptionalWriteable(inpt -> {
+                final BulkItemRequest item = new BulkItemRequest(itemShardId, inpt);
+                if (item.request() instanceof RefCounted) {
+                    retained.add((RefCounted) item.request());
+                }
+                return item;
+            }), BulkItemRequest[]::new);
+        } catch (Exception e) {
+            retained.forEach(RefCounted::decRef);
+            throw e;
+        }
+        retainedRequests = retained;
     }
 
     public BulkShardRequest(ShardId shardId, RefreshPolicy refreshPolicy, BulkItemRequest[] items) {
         super(shardId);
         this.items = items;
+        this.retainedRequests = Collections.emptyList();
         setRefreshPolicy(refreshPolicy);
     }
 
@@ -100,6 +124,31 @@ public class BulkShardRequest extends ReplicatedWriteRequest<BulkShardRequest> i
         } : StreamOutput::writeOptionalWriteable, items);
     }
 
+    @Override
+    public void incRef() {
+        retainedRequests.forEach(RefCounted::incRef);
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        for (int i = 0; i < retainedRequests.size(); i++) {
+            if (retainedRequests.get(i).tryIncRef() == false) {
+                retainedRequests.subList(0, i).forEach(RefCounted::decRef);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean decRef() {
+        boolean released = false;
+        for (RefCounted request : retainedRequests) {
+            released |= request.decRef();
+        }
+        return released;
+    }
+
     @Override
     public String toString() {
         // This is included in error messages so we'll try to make it somewhat user friendly.
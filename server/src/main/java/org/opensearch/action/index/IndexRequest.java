@@ -51,6 +51,7 @@ import org.opensearch.common.Strings;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lucene.uid.Versions;
@@ -111,6 +112,13 @@ public class IndexRequest extends ReplicatedWriteRequest<IndexRequest> implement
 
     private BytesReference source;
 
+    /**
+     * The network buffer slice backing {@link #source} when this request was read as part of a shard level request, or {@code null}
+     * if the source was copied or set locally. Kept separately from {@link #source} so it is released even if the source is replaced.
+     */
+    @Nullable
+    private ReleasableBytesReference retainedSource;
+
     private OpType opType = OpType.INDEX;
 
     private long version = Versions.MATCH_ANY;
@@ -153,35 +161,49 @@ public class IndexRequest extends ReplicatedWriteRequest<IndexRequest> implement
             in.readOptionalString(); // timestamp
             in.readOptionalTimeValue(); // ttl
         }
-        source = in.readBytesReference();
-        opType = OpType.fromId(in.readByte());
-        version = in.readLong();
-        versionType = VersionType.fromValue(in.readByte());
-        pipeline = in.readOptionalString();
-        if (in.getVersion().onOrAfter(LegacyESVersion.V_7_5_0)) {
-            finalPipeline = in.readOptionalString();
-        }
-        if (in.getVersion().onOrAfter(LegacyESVersion.V_7_5_0)) {
-            isPipelineResolved = in.readBoolean();
-        }
-        isRetry = in.readBoolean();
-        autoGeneratedTimestamp = in.readLong();
-        if (in.readBoolean()) {
-            contentType = in.readEnum(XContentType.class);
+        if (shardId != null) {
+            // shard level requests are released once the shard has responded, so they can point into the network buffer
+            retainedSource = in.readReleasableBytesReference();
+            source = retainedSource;
         } else {
-            contentType = null;
+            source = in.readBytesReference();
         }
-        if (in.getVersion().onOrAfter(LegacyESVersion.V_6_6_0)) {
-            ifSeqNo = in.readZLong();
-            ifPrimaryTerm = in.readVLong();
-        } else {
-            ifSeqNo = UNASSIGNED_SEQ_NO;
-            ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
-        }
-        if (in.getVersion().onOrAfter(LegacyESVersion.V_7_10_0)) {
-            requireAlias = in.readBoolean();
-        } else {
-            requireAlias = false;
+        try {
+            opType = OpType.fromId(in.readByte());
+            version = in.readLong();
+            versionType = VersionType.fromValue(in.readByte());
+            pipeline = in.readOptionalString();
+            if (in.getVersion().onOrAfter(LegacyESVersion.V_7_5_0)) {
+                finalPipeline = in.readOptionalString();
+            }
+            if (in.getVersion().onOrAfter(LegacyESVersion.V_7_5_0)) {
+                isPipelineResolved = in.readBoolean();
+            }
+            isRetry = in.readBoolean();
+            autoGeneratedTimestamp = in.readLong();
+            if (in.readBoolean()) {
+                contentType = in.readEnum(XContentType.class);
+            } else {
+                contentType = null;
+            }
+            if (in.getVersion().onOrAfter(LegacyESVersion.V_6_6_0)) {
+                ifSeqNo = in.readZLong();
+                ifPrimaryTerm = in.readVLong();
+            } else {
+                ifSeqNo = UNASSIGNED_SEQ_NO;
+                ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
+            }
+            if (in.getVersion().onOrAfter(LegacyESVersion.V_7_10_0)) {
+                requireAlias = in.readBoolean();
+            } else {
+                requireAlias = false;
+            }
+        } catch (Exception e) {
+            // the request is not handed to anyone who would release the source it retained
+            if (retainedSource != null) {
+                retainedSource.decRef();
+            }
+            throw e;
         }
     }
 
@@ -786,6 +808,23 @@ public class IndexRequest extends ReplicatedWriteRequest<IndexRequest> implement
         }
     }
 
+    @Override
+    public void incRef() {
+        if (retainedSource != null) {
+            retainedSource.incRef();
+        }
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        return retainedSource == null || retainedSource.tryIncRef();
+    }
+
+    @Override
+    public boolean decRef() {
+        return retainedSource != null && retainedSource.decRef();
+    }
+
     @Override
     public String toString() {
         String sSource = "_na_";
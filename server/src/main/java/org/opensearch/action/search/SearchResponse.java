@@ -42,7 +42,9 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ChunkedToXContent;
 import org.opensearch.common.xcontent.StatusToXContentObject;
+import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
@@ -60,6 +62,7 @@ import org.opensearch.search.suggest.Suggest;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -71,7 +74,7 @@ import static org.opensearch.common.xcontent.XContentParserUtils.ensureExpectedT
 /**
  * A response of a search request.
  */
-public class SearchResponse extends ActionResponse implements StatusToXContentObject {
+public class SearchResponse extends ActionResponse implements StatusToXContentObject, ChunkedToXContent {
 
     private static final ParseField SCROLL_ID = new ParseField("_scroll_id");
     private static final ParseField POINT_IN_TIME_ID = new ParseField("pit_id");
@@ -275,7 +278,24 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         return builder;
     }
 
+    /**
+     * Renders the same document as {@link #toXContent}, with a fragment per hit so that large responses can be streamed.
+     */
+    @Override
+    public Iterator<ToXContent> toXContentChunked() {
+        return internalResponse.toXContentChunked((builder, params) -> {
+            builder.startObject();
+            return innerToXContentBeforeSections(builder, params);
+        }, (builder, params) -> builder.endObject());
+    }
+
     public XContentBuilder innerToXContent(XContentBuilder builder, Params params) throws IOException {
+        innerToXContentBeforeSections(builder, params);
+        internalResponse.toXContent(builder, params);
+        return builder;
+    }
+
+    private XContentBuilder innerToXContentBeforeSections(XContentBuilder builder, Params params) throws IOException {
         if (scrollId != null) {
             builder.field(SCROLL_ID.getPreferredName(), scrollId);
         }
@@ -293,7 +313,6 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         RestActions.buildBroadcastShardsHeader(builder, params, getTotalShards(), getSuccessfulShards(), getSkippedShards(),
             getFailedShards(), getShardFailures());
         clusters.toXContent(builder, params);
-        internalResponse.toXContent(builder, params);
         return builder;
     }
 
@@ -33,6 +33,7 @@
 package org.opensearch.action.search;
 
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.search.SearchHits;
@@ -42,7 +43,10 @@ import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.search.suggest.Suggest;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -117,6 +121,31 @@ public class SearchResponseSections implements ToXContentFragment {
     @Override
     public final XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         hits.toXContent(builder, params);
+        return toXContentAfterHits(builder, params);
+    }
+
+    /**
+     * Like {@link #toXContent}, but split into fragments so that the hits can be serialized one at a time. The first fragment ends
+     * with the start of the hits array, so that a fragment rendering the response up to the hits can precede it.
+     */
+    public final Iterator<ToXContent> toXContentChunked(ToXContent before, ToXContent after) {
+        final ToXContent header = (builder, params) -> {
+            before.toXContent(builder, params);
+            return hits.toXContentHeader(builder, params);
+        };
+        final ToXContent footer = (builder, params) -> {
+            hits.toXContentFooter(builder);
+            toXContentAfterHits(builder, params);
+            return after.toXContent(builder, params);
+        };
+        final List<ToXContent> fragments = new ArrayList<>(hits.getHits().length + 2);
+        fragments.add(header);
+        Collections.addAll(fragments, hits.getHits());
+        fragments.add(footer);
+        return fragments.iterator();
+    }
+
+    private XContentBuilder toXContentAfterHits(XContentBuilder builder, Params params) throws IOException {
         if (aggregations != null) {
             aggregations.toXContent(builder, params);
         }
@@ -165,7 +165,13 @@ public abstract class TransportAction<Request extends ActionRequest, Response ex
         }
 
         RequestFilterChain<Request, Response> requestFilterChain = new RequestFilterChain<>(this, logger);
-        requestFilterChain.proceed(task, actionName, request, listener);
+        if (task == null) {
+            requestFilterChain.proceed(null, actionName, request, listener);
+        } else {
+            try (Releasable ignored = task.trackResourceUsage()) {
+                requestFilterChain.proceed(task, actionName, request, listener);
+            }
+        }
     }
 
     protected abstract void doExecute(Task task, Request request, ActionListener<Response> listener);
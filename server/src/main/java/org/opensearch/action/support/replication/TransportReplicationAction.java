@@ -246,6 +246,28 @@ public abstract class TransportReplicationAction<
     protected abstract void shardOperationOnReplica(ReplicaRequest shardRequest, IndexShard replica,
         ActionListener<ReplicaResult> listener);
 
+    /**
+     * Primary operation on node with primary copy, on behalf of the given task. Actions that fork the operation to another
+     * thread override this to attribute the resources used by the forked work to the task.
+     *
+     * @param task the task of the primary operation, may be null
+     */
+    protected void shardOperationOnPrimary(Request shardRequest, IndexShard primary, @Nullable Task task,
+                                           ActionListener<PrimaryResult<ReplicaRequest, Response>> listener) {
+        shardOperationOnPrimary(shardRequest, primary, listener);
+    }
+
+    /**
+     * Execute the specified replica operation on behalf of the given task. Actions that fork the operation to another
+     * thread override this to attribute the resources used by the forked work to the task.
+     *
+     * @param task the task of the replica operation
+     */
+    protected void shardOperationOnReplica(ReplicaRequest shardRequest, IndexShard replica, Task task,
+                                           ActionListener<ReplicaResult> listener) {
+        shardOperationOnReplica(shardRequest, replica, listener);
+    }
+
     /**
      * Cluster level block to check before request execution. Returning null means that no blocks need to be checked.
      */
@@ -363,7 +385,7 @@ public abstract class TransportReplicationAction<
                     indexShard,
                     primaryRequest.getRequest(),
                     ActionListener.wrap(
-                            releasable -> runWithPrimaryShardReference(new PrimaryShardReference(indexShard, releasable)),
+                            releasable -> runWithPrimaryShardReference(new PrimaryShardReference(indexShard, releasable, replicationTask)),
                             e -> {
                                 if (e instanceof ShardNotInPrimaryModeException) {
                                     onFailure(new ReplicationOperation.RetryOnPrimaryException(shardId, "shard is not in primary mode", e));
@@ -587,7 +609,7 @@ public abstract class TransportReplicationAction<
         public void onResponse(Releasable releasable) {
             assert replica.getActiveOperationsCount() != 0 : "must perform shard operation under a permit";
             try {
-                shardOperationOnReplica(replicaRequest.getRequest(), replica, ActionListener.wrap((replicaResult) ->
+                shardOperationOnReplica(replicaRequest.getRequest(), replica, task, ActionListener.wrap((replicaResult) ->
                     replicaResult.runPostReplicaActions(
                         ActionListener.wrap(r -> {
                             final ReplicaResponse response =
@@ -942,10 +964,16 @@ public abstract class TransportReplicationAction<
 
         protected final IndexShard indexShard;
         private final Releasable operationLock;
+        private final Task task;
 
         PrimaryShardReference(IndexShard indexShard, Releasable operationLock) {
+            this(indexShard, operationLock, null);
+        }
+
+        PrimaryShardReference(IndexShard indexShard, Releasable operationLock, @Nullable Task task) {
             this.indexShard = indexShard;
             this.operationLock = operationLock;
+            this.task = task;
         }
 
         @Override
@@ -980,7 +1008,7 @@ public abstract class TransportReplicationAction<
                 });
             }
             assert indexShard.getActiveOperationsCount() != 0 : "must perform shard operation under a permit";
-            shardOperationOnPrimary(request, indexShard, listener);
+            shardOperationOnPrimary(request, indexShard, task, listener);
         }
 
         @Override
@@ -1218,6 +1246,21 @@ public abstract class TransportReplicationAction<
             return primaryTerm;
         }
 
+        @Override
+        public void incRef() {
+            request.incRef();
+        }
+
+        @Override
+        public boolean tryIncRef() {
+            return request.tryIncRef();
+        }
+
+        @Override
+        public boolean decRef() {
+            return request.decRef();
+        }
+
         @Override
         public String toString() {
             return "request: " + request + ", target allocation id: " + targetAllocationID + ", primary term: " + primaryTerm;
@@ -58,6 +58,7 @@ import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.Translog.Location;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.SystemIndices;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -101,7 +102,7 @@ public abstract class TransportWriteAction<
 
     @Override
     protected Releasable checkOperationLimits(Request request) {
-        return indexingPressure.markPrimaryOperationStarted(primaryOperationSize(request), force(request));
+        return indexingPressure.markPrimaryOperationStarted(request.shardId(), primaryOperationSize(request), force(request));
     }
 
     protected boolean force(ReplicatedWriteRequest<?> request) {
@@ -119,7 +120,8 @@ public abstract class TransportWriteAction<
             // If this primary request was received from a local reroute initiated by the node client, we
             // must mark a new primary operation local to the coordinating node.
             if (localRerouteInitiatedByNodeClient) {
-                return indexingPressure.markPrimaryOperationLocalToCoordinatingNodeStarted(primaryOperationSize(request));
+                return indexingPressure.markPrimaryOperationLocalToCoordinatingNodeStarted(request.shardId(),
+                    primaryOperationSize(request));
             } else {
                 return () -> {};
             }
@@ -127,7 +129,7 @@ public abstract class TransportWriteAction<
             // If this primary request was received directly from the network, we must mark a new primary
             // operation. This happens if the write action skips the reroute step (ex: rsync) or during
             // primary delegation, after the primary relocation hand-off.
-            return indexingPressure.markPrimaryOperationStarted(primaryOperationSize(request), force(request));
+            return indexingPressure.markPrimaryOperationStarted(request.shardId(), primaryOperationSize(request), force(request));
         }
     }
 
@@ -137,7 +139,7 @@ public abstract class TransportWriteAction<
 
     @Override
     protected Releasable checkReplicaLimits(ReplicaRequest request) {
-        return indexingPressure.markReplicaOperationStarted(replicaOperationSize(request), force(request));
+        return indexingPressure.markReplicaOperationStarted(request.shardId(), replicaOperationSize(request), force(request));
     }
 
     protected long replicaOperationSize(ReplicaRequest request) {
@@ -185,11 +187,19 @@ public abstract class TransportWriteAction<
     @Override
     protected void shardOperationOnPrimary(
             Request request, IndexShard primary, ActionListener<PrimaryResult<ReplicaRequest, Response>> listener) {
+        shardOperationOnPrimary(request, primary, null, listener);
+    }
+
+    @Override
+    protected void shardOperationOnPrimary(
+            Request request, IndexShard primary, Task task, ActionListener<PrimaryResult<ReplicaRequest, Response>> listener) {
         final String executor = executorFunction.apply(primary);
         threadPool.executor(executor).execute(new ActionRunnable<PrimaryResult<ReplicaRequest, Response>>(listener) {
             @Override
             protected void doRun() {
-                dispatchedShardOperationOnPrimary(request, primary, listener);
+                try (Releasable ignored = task == null ? () -> {} : task.trackResourceUsage()) {
+                    dispatchedShardOperationOnPrimary(request, primary, listener);
+                }
             }
 
             @Override
@@ -211,10 +221,18 @@ public abstract class TransportWriteAction<
      */
     @Override
     protected void shardOperationOnReplica(ReplicaRequest request, IndexShard replica, ActionListener<ReplicaResult> listener) {
+        shardOperationOnReplica(request, replica, null, listener);
+    }
+
+    @Override
+    protected void shardOperationOnReplica(ReplicaRequest request, IndexShard replica, Task task,
+                                           ActionListener<ReplicaResult> listener) {
         threadPool.executor(executorFunction.apply(replica)).execute(new ActionRunnable<ReplicaResult>(listener) {
             @Override
             protected void doRun() {
-                dispatchedShardOperationOnReplica(request, replica, listener);
+                try (Releasable ignored = task == null ? () -> {} : task.trackResourceUsage()) {
+                    dispatchedShardOperationOnReplica(request, replica, listener);
+                }
             }
 
             @Override
@@ -164,36 +164,42 @@ public class UpdateRequest extends InstanceShardOperationRequest<UpdateRequest>
         }
         retryOnConflict = in.readVInt();
         refreshPolicy = RefreshPolicy.readFrom(in);
-        if (in.readBoolean()) {
-            doc = new IndexRequest(shardId, in);
-        }
-        if (in.getVersion().before(LegacyESVersion.V_7_0_0)) {
-            String[] fields = in.readOptionalStringArray();
-            if (fields != null) {
-                throw new IllegalArgumentException("[fields] is no longer supported");
+        try {
+            if (in.readBoolean()) {
+                doc = new IndexRequest(shardId, in);
             }
-        }
-        fetchSourceContext = in.readOptionalWriteable(FetchSourceContext::new);
-        if (in.readBoolean()) {
-            upsertRequest = new IndexRequest(shardId, in);
-        }
-        docAsUpsert = in.readBoolean();
-        if (in.getVersion().before(LegacyESVersion.V_7_0_0)) {
-            long version = in.readLong();
-            VersionType versionType = VersionType.readFromStream(in);
-            if (version != Versions.MATCH_ANY || versionType != VersionType.INTERNAL) {
-                throw new UnsupportedOperationException(
-                    "versioned update requests have been removed in 7.0. Use if_seq_no and if_primary_term");
+            if (in.getVersion().before(LegacyESVersion.V_7_0_0)) {
+                String[] fields = in.readOptionalStringArray();
+                if (fields != null) {
+                    throw new IllegalArgumentException("[fields] is no longer supported");
+                }
             }
-        }
-        ifSeqNo = in.readZLong();
-        ifPrimaryTerm = in.readVLong();
-        detectNoop = in.readBoolean();
-        scriptedUpsert = in.readBoolean();
-        if (in.getVersion().onOrAfter(LegacyESVersion.V_7_10_0)) {
-            requireAlias = in.readBoolean();
-        } else {
-            requireAlias = false;
+            fetchSourceContext = in.readOptionalWriteable(FetchSourceContext::new);
+            if (in.readBoolean()) {
+                upsertRequest = new IndexRequest(shardId, in);
+            }
+            docAsUpsert = in.readBoolean();
+            if (in.getVersion().before(LegacyESVersion.V_7_0_0)) {
+                long version = in.readLong();
+                VersionType versionType = VersionType.readFromStream(in);
+                if (version != Versions.MATCH_ANY || versionType != VersionType.INTERNAL) {
+                    throw new UnsupportedOperationException(
+                        "versioned update requests have been removed in 7.0. Use if_seq_no and if_primary_term");
+                }
+            }
+            ifSeqNo = in.readZLong();
+            ifPrimaryTerm = in.readVLong();
+            detectNoop = in.readBoolean();
+            scriptedUpsert = in.readBoolean();
+            if (in.getVersion().onOrAfter(LegacyESVersion.V_7_10_0)) {
+                requireAlias = in.readBoolean();
+            } else {
+                requireAlias = false;
+            }
+        } catch (Exception e) {
+            // the request is not handed to anyone who would release the sources that its index requests retained
+            decRef();
+            throw e;
         }
     }
 
@@ -1026,6 +1032,42 @@ public class UpdateRequest extends InstanceShardOperationRequest<UpdateRequest>
         return builder;
     }
 
+    @Override
+    public void incRef() {
+        if (doc != null) {
+            doc.incRef();
+        }
+        if (upsertRequest != null) {
+            upsertRequest.incRef();
+        }
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        if (doc != null && doc.tryIncRef() == false) {
+            return false;
+        }
+        if (upsertRequest != null && upsertRequest.tryIncRef() == false) {
+            if (doc != null) {
+                doc.decRef();
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean decRef() {
+        boolean released = false;
+        if (doc != null) {
+            released = doc.decRef();
+        }
+        if (upsertRequest != null) {
+            released |= upsertRequest.decRef();
+        }
+        return released;
+    }
+
     @Override
     public String toString() {
         StringBuilder res = new StringBuilder()
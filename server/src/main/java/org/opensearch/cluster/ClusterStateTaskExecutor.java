@@ -74,6 +74,17 @@ public interface ClusterStateTaskExecutor<T> {
         return String.join(", ", tasks.stream().map(t -> (CharSequence)t.toString()).filter(t -> t.length() > 0)::iterator);
     }
 
+    /**
+     * A short name identifying this executor, used to group the statistics of the tasks it executed. Defaults to the name of the class
+     * of this executor, without its package.
+     */
+    default String getExecutorName() {
+        final String className = getClass().getName();
+        final int lambdaIndex = className.indexOf("$$Lambda");
+        final String name = lambdaIndex >= 0 ? className.substring(0, lambdaIndex) : className;
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
     /**
      * Represents the result of a batched execution of cluster state update tasks
      * @param <T> the type of the cluster state update task
@@ -55,11 +55,13 @@ import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Priority;
 import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.text.Text;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
@@ -73,11 +75,13 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -105,6 +109,8 @@ public class MasterService extends AbstractLifecycleComponent {
     private volatile PrioritizedOpenSearchThreadPoolExecutor threadPoolExecutor;
     private volatile Batcher taskBatcher;
 
+    private final Map<String, ExecutorMetrics> executorMetrics = ConcurrentCollections.newConcurrentMap();
+
     public MasterService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
         this.nodeName = Objects.requireNonNull(Node.NODE_NAME_SETTING.get(settings));
 
@@ -228,10 +234,14 @@ public class MasterService extends AbstractLifecycleComponent {
             return;
         }
 
+        final ExecutorMetrics metrics = metricsFor(taskInputs.executor);
+        metrics.onBatchStarted(taskInputs.updateTasks);
+
         final long computationStartTime = threadPool.relativeTimeInMillis();
         final TaskOutputs taskOutputs = calculateTaskOutputs(taskInputs, previousClusterState);
         taskOutputs.notifyFailedTasks();
         final TimeValue computationTime = getTimeSince(computationStartTime);
+        metrics.computeTimeMillis.inc(computationTime.millis());
         logExecutionTime(computationTime, "compute cluster state update", summary);
 
         if (taskOutputs.clusterStateUnchanged()) {
@@ -262,7 +272,10 @@ public class MasterService extends AbstractLifecycleComponent {
                 logger.debug("publishing cluster state version [{}]", newClusterState.version());
                 publish(clusterChangedEvent, taskOutputs, publicationStartTime);
             } catch (Exception e) {
+                // failed publications are counted in onPublicationFailed, failures here happen before publishing or while notifying tasks
                 handleException(summary, publicationStartTime, newClusterState, e);
+            } finally {
+                metrics.publishTimeMillis.inc(getTimeSince(publicationStartTime).millis());
             }
         }
     }
@@ -278,7 +291,13 @@ public class MasterService extends AbstractLifecycleComponent {
                 return isMasterUpdateThread() || super.blockingAllowed();
             }
         };
-        clusterStatePublisher.publish(clusterChangedEvent, fut, taskOutputs.createAckListener(threadPool, clusterChangedEvent.state()));
+        try {
+            clusterStatePublisher.publish(clusterChangedEvent, fut, taskOutputs.createAckListener(threadPool, clusterChangedEvent.state()));
+        } catch (Exception e) {
+            // synchronous failures are handled by the caller, like any other failure of the update
+            metricsFor(taskOutputs.taskInputs.executor).failedPublications.inc();
+            throw e;
+        }
 
         // indefinitely wait for publication to complete
         try {
@@ -307,6 +326,7 @@ public class MasterService extends AbstractLifecycleComponent {
     }
 
     void onPublicationFailed(ClusterChangedEvent clusterChangedEvent, TaskOutputs taskOutputs, long startTimeMillis, Exception exception) {
+        metricsFor(taskOutputs.taskInputs.executor).failedPublications.inc();
         if (exception instanceof FailedToCommitClusterStateException) {
             final long version = clusterChangedEvent.state().version();
             logger.warn(() -> new ParameterizedMessage(
@@ -480,11 +500,27 @@ public class MasterService extends AbstractLifecycleComponent {
             assert pending.task instanceof SourcePrioritizedRunnable :
                 "thread pool executor should only use SourcePrioritizedRunnable instances but found: " + pending.task.getClass().getName();
             SourcePrioritizedRunnable task = (SourcePrioritizedRunnable) pending.task;
+            final String executorName = task instanceof Batcher.UpdateTask
+                ? ((ClusterStateTaskExecutor<?>) ((Batcher.UpdateTask) task).batchingKey).getExecutorName()
+                : null;
             return new PendingClusterTask(pending.insertionOrder, pending.priority, new Text(task.source()),
-                task.getAgeInMillis(), pending.executing);
+                task.getAgeInMillis(), pending.executing, executorName);
         }).collect(Collectors.toList());
     }
 
+    /**
+     * Returns statistics about the batches of tasks executed so far, grouped by the name of their executor.
+     */
+    public MasterServiceStats stats() {
+        final Map<String, MasterServiceStats.ExecutorStats> stats = new HashMap<>();
+        executorMetrics.forEach((name, metrics) -> stats.put(name, metrics.stats()));
+        return new MasterServiceStats(stats);
+    }
+
+    private ExecutorMetrics metricsFor(ClusterStateTaskExecutor<?> executor) {
+        return executorMetrics.computeIfAbsent(executor.getExecutorName(), name -> new ExecutorMetrics());
+    }
+
     /**
      * Returns the number of currently pending tasks.
      */
@@ -602,6 +638,36 @@ public class MasterService extends AbstractLifecycleComponent {
         }
     }
 
+    /**
+     * Tracks the batches of tasks executed by a single executor, only updated from the master service thread.
+     */
+    private static class ExecutorMetrics {
+        private final CounterMetric batches = new CounterMetric();
+        private final CounterMetric tasks = new CounterMetric();
+        private final AtomicLong maxBatchSize = new AtomicLong();
+        private final CounterMetric queueTimeMillis = new CounterMetric();
+        private final AtomicLong maxQueueTimeMillis = new AtomicLong();
+        private final CounterMetric computeTimeMillis = new CounterMetric();
+        private final CounterMetric publishTimeMillis = new CounterMetric();
+        private final CounterMetric failedPublications = new CounterMetric();
+
+        void onBatchStarted(List<Batcher.UpdateTask> updateTasks) {
+            batches.inc();
+            tasks.inc(updateTasks.size());
+            maxBatchSize.accumulateAndGet(updateTasks.size(), Math::max);
+            for (Batcher.UpdateTask updateTask : updateTasks) {
+                final long queueTime = updateTask.getAgeInMillis();
+                queueTimeMillis.inc(queueTime);
+                maxQueueTimeMillis.accumulateAndGet(queueTime, Math::max);
+            }
+        }
+
+        MasterServiceStats.ExecutorStats stats() {
+            return new MasterServiceStats.ExecutorStats(batches.count(), tasks.count(), maxBatchSize.get(), queueTimeMillis.count(),
+                maxQueueTimeMillis.get(), computeTimeMillis.count(), publishTimeMillis.count(), failedPublications.count());
+        }
+    }
+
     private static class DelegatingAckListener implements Discovery.AckListener {
 
         private final List<Discovery.AckListener> listeners;
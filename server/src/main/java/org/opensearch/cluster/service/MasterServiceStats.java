@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.service;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Statistics about the cluster state update tasks executed by the {@link MasterService} of a node, grouped by the name of the
+ * {@link org.opensearch.cluster.ClusterStateTaskExecutor} that executed them.
+ */
+public class MasterServiceStats implements Writeable, ToXContentFragment {
+
+    private final Map<String, ExecutorStats> executorStats;
+
+    public MasterServiceStats(Map<String, ExecutorStats> executorStats) {
+        this.executorStats = Collections.unmodifiableMap(new TreeMap<>(executorStats));
+    }
+
+    public MasterServiceStats(StreamInput in) throws IOException {
+        this.executorStats = Collections.unmodifiableMap(in.readMap(StreamInput::readString, ExecutorStats::new));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeMap(executorStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+    }
+
+    public Map<String, ExecutorStats> getExecutorStats() {
+        return executorStats;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("master_service");
+        builder.startObject("executors");
+        for (Map.Entry<String, ExecutorStats> entry : executorStats.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return executorStats.equals(((MasterServiceStats) o).executorStats);
+    }
+
+    @Override
+    public int hashCode() {
+        return executorStats.hashCode();
+    }
+
+    /**
+     * Statistics about the batches of tasks executed by a single executor.
+     */
+    public static class ExecutorStats implements Writeable, ToXContentObject {
+
+        private final long batches;
+        private final long tasks;
+        private final long maxBatchSize;
+        private final long queueTimeMillis;
+        private final long maxQueueTimeMillis;
+        private final long computeTimeMillis;
+        private final long publishTimeMillis;
+        private final long failedPublications;
+
+        public ExecutorStats(long batches, long tasks, long maxBatchSize, long queueTimeMillis, long maxQueueTimeMillis,
+                             long computeTimeMillis, long publishTimeMillis, long failedPublications) {
+            this.batches = batches;
+            this.tasks = tasks;
+            this.maxBatchSize = maxBatchSize;
+            this.queueTimeMillis = queueTimeMillis;
+            this.maxQueueTimeMillis = maxQueueTimeMillis;
+            this.computeTimeMillis = computeTimeMillis;
+            this.publishTimeMillis = publishTimeMillis;
+            this.failedPublications = failedPublications;
+        }
+
+        public ExecutorStats(StreamInput in) throws IOException {
+            batches = in.readVLong();
+            tasks = in.readVLong();
+            maxBatchSize = in.readVLong();
+            queueTimeMillis = in.readVLong();
+            maxQueueTimeMillis = in.readVLong();
+            computeTimeMillis = in.readVLong();
+            publishTimeMillis = in.readVLong();
+            failedPublications = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(batches);
+            out.writeVLong(tasks);
+            out.writeVLong(maxBatchSize);
+            out.writeVLong(queueTimeMillis);
+            out.writeVLong(maxQueueTimeMillis);
+            out.writeVLong(computeTimeMillis);
+            out.writeVLong(publishTimeMillis);
+            out.writeVLong(failedPublications);
+        }
+
+        /**
+         * The number of batches executed.
+         */
+        public long getBatches() {
+            return batches;
+        }
+
+        /**
+         * The number of tasks executed across all batches.
+         */
+        public long getTasks() {
+            return tasks;
+        }
+
+        /**
+         * The largest number of tasks executed in a single batch.
+         */
+        public long getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        /**
+         * The total time tasks spent queued before being executed.
+         */
+        public long getQueueTimeMillis() {
+            return queueTimeMillis;
+        }
+
+        /**
+         * The longest time a single task spent queued before being executed.
+         */
+        public long getMaxQueueTimeMillis() {
+            return maxQueueTimeMillis;
+        }
+
+        /**
+         * The total time spent computing the new cluster states.
+         */
+        public long getComputeTimeMillis() {
+            return computeTimeMillis;
+        }
+
+        /**
+         * The total time spent publishing the new cluster states, including notifying the task listeners.
+         */
+        public long getPublishTimeMillis() {
+            return publishTimeMillis;
+        }
+
+        /**
+         * The number of batches whose resulting cluster state failed to be published.
+         */
+        public long getFailedPublications() {
+            return failedPublications;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("batches", batches);
+            builder.field("tasks", tasks);
+            builder.field("max_batch_size", maxBatchSize);
+            builder.humanReadableField("queue_time_in_millis", "queue_time", new TimeValue(queueTimeMillis));
+            builder.humanReadableField("max_queue_time_in_millis", "max_queue_time", new TimeValue(maxQueueTimeMillis));
+            builder.humanReadableField("compute_time_in_millis", "compute_time", new TimeValue(computeTimeMillis));
+            builder.humanReadableField("publish_time_in_millis", "publish_time", new TimeValue(publishTimeMillis));
+            builder.field("failed_publications", failedPublications);
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ExecutorStats that = (ExecutorStats) o;
+            return batches == that.batches && tasks == that.tasks && maxBatchSize == that.maxBatchSize
+                && queueTimeMillis == that.queueTimeMillis && maxQueueTimeMillis == that.maxQueueTimeMillis
+                && computeTimeMillis == that.computeTimeMillis && publishTimeMillis == that.publishTimeMillis
+                && failedPublications == that.failedPublications;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(batches, tasks, maxBatchSize, queueTimeMillis, maxQueueTimeMillis, computeTimeMillis,
+                publishTimeMillis, failedPublications);
+        }
+    }
+}
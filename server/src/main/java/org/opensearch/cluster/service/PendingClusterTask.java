@@ -32,6 +32,8 @@
 
 package org.opensearch.cluster.service;
 
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.Priority;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -48,6 +50,8 @@ public class PendingClusterTask implements Writeable {
     private Text source;
     private long timeInQueue;
     private boolean executing;
+    @Nullable
+    private String executor;
 
     public PendingClusterTask(StreamInput in) throws IOException {
         insertOrder = in.readVLong();
@@ -55,9 +59,17 @@ public class PendingClusterTask implements Writeable {
         source = in.readText();
         timeInQueue = in.readLong();
         executing = in.readBoolean();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            executor = in.readOptionalString();
+        }
     }
 
     public PendingClusterTask(long insertOrder, Priority priority, Text source, long timeInQueue, boolean executing) {
+        this(insertOrder, priority, source, timeInQueue, executing, null);
+    }
+
+    public PendingClusterTask(long insertOrder, Priority priority, Text source, long timeInQueue, boolean executing,
+                              @Nullable String executor) {
         assert timeInQueue >= 0 : "got a negative timeInQueue [" + timeInQueue + "]";
         assert insertOrder >= 0 : "got a negative insertOrder [" + insertOrder + "]";
         this.insertOrder = insertOrder;
@@ -65,6 +77,7 @@ public class PendingClusterTask implements Writeable {
         this.source = source;
         this.timeInQueue = timeInQueue;
         this.executing = executing;
+        this.executor = executor;
     }
 
     public long getInsertOrder() {
@@ -91,6 +104,14 @@ public class PendingClusterTask implements Writeable {
         return executing;
     }
 
+    /**
+     * The name of the executor that will execute this task, see {@link org.opensearch.cluster.ClusterStateTaskExecutor#getExecutorName()}.
+     */
+    @Nullable
+    public String getExecutor() {
+        return executor;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(insertOrder);
@@ -98,5 +119,8 @@ public class PendingClusterTask implements Writeable {
         out.writeText(source);
         out.writeLong(timeInQueue);
         out.writeBoolean(executing);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalString(executor);
+        }
     }
 }
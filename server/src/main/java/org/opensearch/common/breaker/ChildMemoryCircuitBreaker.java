@@ -79,14 +79,22 @@ public class ChildMemoryCircuitBreaker implements CircuitBreaker {
      */
     @Override
     public void circuitBreak(String fieldName, long bytesNeeded) {
-        final long memoryBytesLimit = this.limitAndOverhead.limit;
+        circuitBreak(fieldName, bytesNeeded, this.limitAndOverhead.limit);
+    }
+
+    private void circuitBreak(String fieldName, long bytesNeeded, long memoryBytesLimit) {
+        final long configuredLimit = this.limitAndOverhead.limit;
         this.trippedCount.incrementAndGet();
-        final String message = "[" + this.name + "] Data too large, data for [" + fieldName + "]" +
+        String message = "[" + this.name + "] Data too large, data for [" + fieldName + "]" +
                 " would be [" + bytesNeeded + "/" + new ByteSizeValue(bytesNeeded) + "]" +
                 ", which is larger than the limit of [" +
                 memoryBytesLimit + "/" + new ByteSizeValue(memoryBytesLimit) + "]";
-        logger.debug(() -> new ParameterizedMessage("{}", message));
-        throw new CircuitBreakingException(message, bytesNeeded, memoryBytesLimit, durability);
+        if (memoryBytesLimit < configuredLimit) {
+            message += ", adaptively reduced from [" + configuredLimit + "/" + new ByteSizeValue(configuredLimit) + "]";
+        }
+        final String finalMessage = message;
+        logger.debug(() -> new ParameterizedMessage("{}", finalMessage));
+        throw new CircuitBreakingException(finalMessage, bytesNeeded, memoryBytesLimit, durability);
     }
 
     /**
@@ -100,11 +108,12 @@ public class ChildMemoryCircuitBreaker implements CircuitBreaker {
     @Override
     public double addEstimateBytesAndMaybeBreak(long bytes, String label) throws CircuitBreakingException {
         final LimitAndOverhead limitAndOverhead = this.limitAndOverhead;
-        final long memoryBytesLimit = limitAndOverhead.limit;
+        // the parent may currently enforce a lower limit than the configured one if heap usage is predicted to reach its limit soon
+        final long memoryBytesLimit = parent.effectiveChildLimit(name, limitAndOverhead.limit);
         final double overheadConstant = limitAndOverhead.overhead;
         // short-circuit on no data allowed, immediately throwing an exception
         if (memoryBytesLimit == 0) {
-            circuitBreak(label, bytes);
+            circuitBreak(label, bytes, memoryBytesLimit);
         }
 
         long newUsed;
@@ -160,7 +169,7 @@ public class ChildMemoryCircuitBreaker implements CircuitBreaker {
                         this.name,
                         newUsedWithOverhead, new ByteSizeValue(newUsedWithOverhead), label,
                         memoryBytesLimit, new ByteSizeValue(memoryBytesLimit));
-                circuitBreak(label, newUsedWithOverhead);
+                circuitBreak(label, newUsedWithOverhead, memoryBytesLimit);
             }
             // Attempt to set the new used value, but make sure it hasn't changed
             // underneath us, if it has, keep trying until we are able to set it
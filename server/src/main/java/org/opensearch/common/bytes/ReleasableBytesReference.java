@@ -34,9 +34,11 @@ package org.opensearch.common.bytes;
 
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.io.stream.FilterStreamInput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.common.util.concurrent.RefCounted;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
@@ -45,8 +47,10 @@ import java.io.OutputStream;
 /**
  * An extension to {@link BytesReference} that requires releasing its content. This
  * class exists to make it explicit when a bytes reference needs to be released, and when not.
+ * Its {@link #streamInput()} reads nested bytes references as retained slices of this reference
+ * (see {@link StreamInput#readReleasableBytesReference()}) rather than copying them.
  */
-public final class ReleasableBytesReference implements Releasable, BytesReference {
+public final class ReleasableBytesReference implements RefCounted, Releasable, BytesReference {
 
     public static final Releasable NO_OP = () -> {};
     private final BytesReference delegate;
@@ -85,6 +89,21 @@ public final class ReleasableBytesReference implements Releasable, BytesReferenc
         refCounted.decRef();
     }
 
+    @Override
+    public void incRef() {
+        refCounted.incRef();
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        return refCounted.tryIncRef();
+    }
+
+    @Override
+    public boolean decRef() {
+        return refCounted.decRef();
+    }
+
     @Override
     public byte get(int index) {
         return delegate.get(index);
@@ -117,7 +136,7 @@ public final class ReleasableBytesReference implements Releasable, BytesReferenc
 
     @Override
     public StreamInput streamInput() throws IOException {
-        return delegate.streamInput();
+        return new RetainingStreamInput(delegate.streamInput());
     }
 
     @Override
@@ -165,6 +184,50 @@ public final class ReleasableBytesReference implements Releasable, BytesReferenc
         return delegate.hashCode();
     }
 
+    /**
+     * Reads nested bytes references as retained slices of the enclosing reference instead of copying them.
+     */
+    private final class RetainingStreamInput extends FilterStreamInput {
+
+        RetainingStreamInput(StreamInput delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public ReleasableBytesReference readReleasableBytesReference() throws IOException {
+            final int length = readArraySize();
+            if (length == 0) {
+                return ReleasableBytesReference.wrap(BytesArray.EMPTY);
+            }
+            // the bytes that are still available are always the tail of the enclosing reference
+            final int offset = ReleasableBytesReference.this.length() - available();
+            final ReleasableBytesReference slice = retainedSlice(offset, length);
+            final long skipped = delegate.skip(length);
+            assert skipped == length : skipped + " vs " + length;
+            return slice;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return delegate.read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return delegate.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return delegate.markSupported();
+        }
+
+        @Override
+        public void mark(int readLimit) {
+            delegate.mark(readLimit);
+        }
+    }
+
     private static final class RefCountedReleasable extends AbstractRefCounted {
 
         private final Releasable releasable;
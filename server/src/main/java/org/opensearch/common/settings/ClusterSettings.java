@@ -95,8 +95,10 @@ import org.opensearch.discovery.zen.ZenDiscovery;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.gateway.DanglingIndicesState;
+import org.opensearch.gateway.GatewayAllocator;
 import org.opensearch.gateway.GatewayService;
 import org.opensearch.gateway.PersistedClusterStateService;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards;
 import org.opensearch.http.HttpTransportSettings;
 import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
@@ -112,8 +114,10 @@ import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.store.IndicesStore;
+import org.opensearch.ingest.IngestService;
 import org.opensearch.monitor.fs.FsHealthService;
 import org.opensearch.monitor.fs.FsService;
+import org.opensearch.monitor.jvm.HotThreadsSampler;
 import org.opensearch.monitor.jvm.JvmGcMonitorService;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.os.OsService;
@@ -129,9 +133,11 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.backpressure.SearchBackpressureService;
 import org.opensearch.search.fetch.subphase.highlight.FastVectorHighlighter;
 import org.opensearch.snapshots.InternalSnapshotsInfoService;
 import org.opensearch.snapshots.SnapshotsService;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.ProxyConnectionStrategy;
 import org.opensearch.transport.RemoteClusterService;
@@ -283,6 +289,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
             GatewayService.RECOVER_AFTER_NODES_SETTING,
             GatewayService.RECOVER_AFTER_TIME_SETTING,
             PersistedClusterStateService.SLOW_WRITE_LOGGING_THRESHOLD,
+            GatewayAllocator.STARTED_SHARDS_FETCH_BATCH_SIZE_SETTING,
+            TransportNodesListGatewayStartedShards.STARTED_SHARDS_CACHE_EXPIRE_SETTING,
             NetworkModule.HTTP_DEFAULT_TYPE_SETTING,
             NetworkModule.TRANSPORT_DEFAULT_TYPE_SETTING,
             NetworkModule.HTTP_TYPE_SETTING,
@@ -298,6 +306,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
             HttpTransportSettings.SETTING_HTTP_PORT,
             HttpTransportSettings.SETTING_HTTP_PUBLISH_PORT,
             HttpTransportSettings.SETTING_PIPELINING_MAX_EVENTS,
+            HttpTransportSettings.SETTING_HTTP_HTTP2_ENABLED,
+            HttpTransportSettings.SETTING_HTTP_HTTP2_MAX_CONCURRENT_STREAMS,
             HttpTransportSettings.SETTING_HTTP_COMPRESSION,
             HttpTransportSettings.SETTING_HTTP_COMPRESSION_LEVEL,
             HttpTransportSettings.SETTING_CORS_ALLOW_METHODS,
@@ -333,6 +343,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
             HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_OVERHEAD_SETTING,
             HierarchyCircuitBreakerService.ACCOUNTING_CIRCUIT_BREAKER_LIMIT_SETTING,
             HierarchyCircuitBreakerService.ACCOUNTING_CIRCUIT_BREAKER_OVERHEAD_SETTING,
+            HierarchyCircuitBreakerService.ADAPTIVE_LIMITS_ENABLED_SETTING,
+            HierarchyCircuitBreakerService.ADAPTIVE_LIMITS_HORIZON_SETTING,
+            HierarchyCircuitBreakerService.ADAPTIVE_LIMITS_MIN_RATIO_SETTING,
             IndexModule.NODE_STORE_ALLOW_MMAP,
             ClusterApplierService.CLUSTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
             ClusterService.USER_DEFINED_METADATA,
@@ -489,6 +502,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             MultiBucketConsumerService.MAX_BUCKET_SETTING,
             SearchService.LOW_LEVEL_CANCELLATION_SETTING,
             SearchService.MAX_OPEN_SCROLL_CONTEXT,
+            SearchService.EXPENSIVE_SEARCH_LANE_THRESHOLD_SETTING,
             Node.WRITE_PORTS_FILE_SETTING,
             Node.NODE_NAME_SETTING,
             Node.NODE_ATTRIBUTES,
@@ -516,6 +530,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
             JvmGcMonitorService.GC_OVERHEAD_WARN_SETTING,
             JvmGcMonitorService.GC_OVERHEAD_INFO_SETTING,
             JvmGcMonitorService.GC_OVERHEAD_DEBUG_SETTING,
+            HotThreadsSampler.ENABLED_SETTING,
+            HotThreadsSampler.INTERVAL_SETTING,
+            HotThreadsSampler.RETENTION_SETTING,
+            HotThreadsSampler.MAX_STACK_DEPTH_SETTING,
             PageCacheRecycler.LIMIT_HEAP_SETTING,
             PageCacheRecycler.WEIGHT_BYTES_SETTING,
             PageCacheRecycler.WEIGHT_INT_SETTING,
@@ -574,7 +592,24 @@ public final class ClusterSettings extends AbstractScopedSettings {
             FsHealthService.ENABLED_SETTING,
             FsHealthService.REFRESH_INTERVAL_SETTING,
             FsHealthService.SLOW_PATH_LOGGING_THRESHOLD_SETTING,
-            IndexingPressure.MAX_INDEXING_BYTES)));
+            TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING,
+            SearchBackpressureService.MODE_SETTING,
+            SearchBackpressureService.INTERVAL_SETTING,
+            SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING,
+            SearchBackpressureService.HEAP_THRESHOLD_SETTING,
+            SearchBackpressureService.CPU_THRESHOLD_SETTING,
+            SearchBackpressureService.TASK_HEAP_THRESHOLD_SETTING,
+            SearchBackpressureService.TASK_CPU_TIME_THRESHOLD_SETTING,
+            SearchBackpressureService.TASK_ELAPSED_TIME_THRESHOLD_SETTING,
+            SearchBackpressureService.CANCELLATION_RATIO_SETTING,
+            IndexingPressure.MAX_INDEXING_BYTES,
+            IndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED,
+            IndexingPressure.SHARD_INDEXING_PRESSURE_SOFT_LIMIT,
+            IndexingPressure.SHARD_INDEXING_PRESSURE_SHARD_MIN_LIMIT,
+            IndexingPressure.SHARD_INDEXING_PRESSURE_THROUGHPUT_DEGRADATION_FACTOR,
+            IndexingPressure.SHARD_INDEXING_PRESSURE_MAX_OUTSTANDING_REQUESTS,
+            IndexingPressure.SHARD_INDEXING_PRESSURE_SUCCESSFUL_REQUEST_TIMEOUT,
+            IngestService.BULK_PARALLELISM_SETTING)));
 
     public static List<SettingUpgrader<?>> BUILT_IN_SETTING_UPGRADERS = Collections.unmodifiableList(Arrays.asList(
             SniffConnectionStrategy.SEARCH_REMOTE_CLUSTER_SEEDS_UPGRADER,
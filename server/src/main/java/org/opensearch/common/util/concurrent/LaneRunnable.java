@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.ExceptionsHelper;
+
+/**
+ * Wraps a {@code Runnable} with the lane it should be queued in when it is executed by an executor backed by a
+ * {@link MultiLaneBlockingQueue}. Executors with a single queue just run it.
+ */
+public final class LaneRunnable extends AbstractRunnable implements WrappedRunnable {
+
+    private final Runnable original;
+    private final int lane;
+
+    public LaneRunnable(Runnable original, int lane) {
+        this.original = original;
+        this.lane = lane;
+    }
+
+    public int lane() {
+        return lane;
+    }
+
+    /**
+     * Returns the lane of a runnable that may have been wrapped by an executor, or 0 if it wasn't given one.
+     */
+    public static int laneOf(Runnable runnable) {
+        Runnable current = runnable;
+        while (current instanceof WrappedRunnable) {
+            if (current instanceof LaneRunnable) {
+                return ((LaneRunnable) current).lane;
+            }
+            current = ((WrappedRunnable) current).unwrap();
+        }
+        return 0;
+    }
+
+    @Override
+    protected void doRun() {
+        original.run();
+    }
+
+    @Override
+    public void onRejection(Exception e) {
+        if (original instanceof AbstractRunnable) {
+            ((AbstractRunnable) original).onRejection(e);
+        } else {
+            ExceptionsHelper.reThrowIfNotNull(e);
+        }
+    }
+
+    @Override
+    public void onFailure(Exception e) {
+        ExceptionsHelper.reThrowIfNotNull(e);
+    }
+
+    @Override
+    public boolean isForceExecution() {
+        return original instanceof AbstractRunnable && ((AbstractRunnable) original).isForceExecution();
+    }
+
+    @Override
+    public Runnable unwrap() {
+        return original;
+    }
+
+    @Override
+    public String toString() {
+        return original.toString();
+    }
+}
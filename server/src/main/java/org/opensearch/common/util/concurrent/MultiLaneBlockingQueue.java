@@ -0,0 +1,346 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * An unbounded blocking queue made of several FIFO lanes. Each element is queued in the lane given by a classifier, and the
+ * lanes are served with a smooth weighted round robin, so that a lane gets its weight's share of the polls while it has
+ * elements and cheap work doesn't wait behind expensive work queued in another lane. Wrap it in a {@link SizeBlockingQueue}
+ * to bound it.
+ */
+public final class MultiLaneBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final double QUEUE_LATENCY_EWMA_ALPHA = 0.3;
+
+    private final String[] names;
+    private final int[] weights;
+    private final ToIntFunction<E> classifier;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final ArrayDeque<Entry<E>>[] lanes;
+    private final int[] currentWeights;
+    private final long[] polled;
+    private final ExponentiallyWeightedMovingAverage[] queueLatencies;
+    private int count;
+
+    /**
+     * @param names      the names of the lanes
+     * @param weights    the relative share of the polls of each lane, at least 1
+     * @param classifier returns the index of the lane of an element, out of range indices are queued in the first lane
+     */
+    @SuppressWarnings("unchecked")
+    public MultiLaneBlockingQueue(String[] names, int[] weights, ToIntFunction<E> classifier) {
+        if (names.length == 0 || names.length != weights.length) {
+            throw new IllegalArgumentException("expected a weight for each of the lanes " + Arrays.toString(names) +
+                " but got " + Arrays.toString(weights));
+        }
+        for (int weight : weights) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("lane weights must be at least 1 but got " + Arrays.toString(weights));
+            }
+        }
+        this.names = names.clone();
+        this.weights = weights.clone();
+        this.classifier = Objects.requireNonNull(classifier);
+        this.lanes = new ArrayDeque[names.length];
+        this.currentWeights = new int[names.length];
+        this.polled = new long[names.length];
+        this.queueLatencies = new ExponentiallyWeightedMovingAverage[names.length];
+        for (int i = 0; i < names.length; i++) {
+            lanes[i] = new ArrayDeque<>();
+            queueLatencies[i] = new ExponentiallyWeightedMovingAverage(QUEUE_LATENCY_EWMA_ALPHA, 0);
+        }
+    }
+
+    private static final class Entry<E> {
+        final E element;
+        final long enqueuedNanos;
+
+        Entry(E element, long enqueuedNanos) {
+            this.element = element;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    public int getLaneCount() {
+        return names.length;
+    }
+
+    public String getLaneName(int lane) {
+        return names[lane];
+    }
+
+    public int getLaneWeight(int lane) {
+        return weights[lane];
+    }
+
+    /**
+     * The number of elements queued in the given lane.
+     */
+    public int getLaneSize(int lane) {
+        lock.lock();
+        try {
+            return lanes[lane].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of elements polled from the given lane.
+     */
+    public long getLanePolled(int lane) {
+        lock.lock();
+        try {
+            return polled[lane];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The exponentially weighted moving average of the time that the elements polled from the given lane were queued, in
+     * nanoseconds.
+     */
+    public double getLaneQueueLatencyEWMA(int lane) {
+        return queueLatencies[lane].getAverage();
+    }
+
+    private int laneOf(E e) {
+        final int lane = classifier.applyAsInt(e);
+        return lane >= 0 && lane < lanes.length ? lane : 0;
+    }
+
+    /**
+     * Removes the head of the next lane to serve, the lock must be held and the queue must not be empty.
+     */
+    private E dequeue() {
+        assert lock.isHeldByCurrentThread();
+        assert count > 0;
+        int selected = -1;
+        int totalWeight = 0;
+        for (int i = 0; i < lanes.length; i++) {
+            if (lanes[i].isEmpty() == false) {
+                currentWeights[i] += weights[i];
+                totalWeight += weights[i];
+                if (selected == -1 || currentWeights[i] > currentWeights[selected]) {
+                    selected = i;
+                }
+            }
+        }
+        currentWeights[selected] -= totalWeight;
+        final Entry<E> entry = lanes[selected].poll();
+        count--;
+        polled[selected]++;
+        queueLatencies[selected].addValue(Math.max(0L, System.nanoTime() - entry.enqueuedNanos));
+        return entry.element;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        final Entry<E> entry = new Entry<>(e, System.nanoTime());
+        final int lane = laneOf(e);
+        lock.lock();
+        try {
+            lanes[lane].add(entry);
+            count++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public void put(E e) {
+        offer(e);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) {
+        return offer(e);
+    }
+
+    @Override
+    public E poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E peek() {
+        lock.lock();
+        try {
+            for (ArrayDeque<Entry<E>> lane : lanes) {
+                final Entry<E> entry = lane.peek();
+                if (entry != null) {
+                    return entry.element;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (ArrayDeque<Entry<E>> lane : lanes) {
+                for (Iterator<Entry<E>> it = lane.iterator(); it.hasNext(); ) {
+                    if (o.equals(it.next().element)) {
+                        it.remove();
+                        count--;
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException("cannot drain a queue into itself");
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (drained < maxElements && count > 0) {
+                c.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator over a snapshot of the queued elements, lane by lane.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        final List<E> snapshot = new ArrayList<>();
+        lock.lock();
+        try {
+            for (ArrayDeque<Entry<E>> lane : lanes) {
+                for (Entry<E> entry : lane) {
+                    snapshot.add(entry.element);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        final Iterator<E> it = snapshot.iterator();
+        return new Iterator<E>() {
+            E current;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                current = it.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+                MultiLaneBlockingQueue.this.remove(current);
+                current = null;
+            }
+        };
+    }
+}
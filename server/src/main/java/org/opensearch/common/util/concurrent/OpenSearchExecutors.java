@@ -160,6 +160,25 @@ public class OpenSearchExecutors {
                 new OpenSearchAbortPolicy(), contextHolder);
     }
 
+    /**
+     * Like {@link #newAutoQueueFixed(String, int, int, int, int, int, TimeValue, ThreadFactory, ThreadContext)}, but the queue is
+     * split into weighted lanes that tasks are assigned to with {@link LaneRunnable}, see {@link MultiLaneBlockingQueue}.
+     */
+    public static OpenSearchThreadPoolExecutor newAutoQueueFixed(String name, int size, int initialQueueCapacity, int minQueueSize,
+                                                                 int maxQueueSize, int frameSize, TimeValue targetedResponseTime,
+                                                                 String[] laneNames, int[] laneWeights,
+                                                                 ThreadFactory threadFactory, ThreadContext contextHolder) {
+        if (initialQueueCapacity <= 0) {
+            throw new IllegalArgumentException("initial queue capacity for [" + name + "] executor must be positive, got: " +
+                            initialQueueCapacity);
+        }
+        MultiLaneBlockingQueue<Runnable> lanes = new MultiLaneBlockingQueue<>(laneNames, laneWeights, LaneRunnable::laneOf);
+        ResizableBlockingQueue<Runnable> queue = new ResizableBlockingQueue<>(lanes, initialQueueCapacity);
+        return new QueueResizingOpenSearchThreadPoolExecutor(name, size, size, 0, TimeUnit.MILLISECONDS,
+                queue, lanes, minQueueSize, maxQueueSize, TimedRunnable::new, frameSize, targetedResponseTime, threadFactory,
+                new OpenSearchAbortPolicy(), contextHolder);
+    }
+
     /**
      * Checks if the runnable arose from asynchronous submission of a task to an executor. If an uncaught exception was thrown
      * during the execution of this task, we need to inspect this runnable and see if it is an error that should be propagated
@@ -36,6 +36,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.unit.TimeValue;
 
 import java.util.Locale;
@@ -65,6 +66,8 @@ public final class QueueResizingOpenSearchThreadPoolExecutor extends OpenSearchT
     private final int maxQueueSize;
     private final long targetedResponseTimeNanos;
     private final ExponentiallyWeightedMovingAverage executionEWMA;
+    @Nullable
+    private final MultiLaneBlockingQueue<Runnable> lanes;
 
     private final AtomicLong totalTaskNanos = new AtomicLong(0);
     private final AtomicInteger taskCount = new AtomicInteger(0);
@@ -76,8 +79,19 @@ public final class QueueResizingOpenSearchThreadPoolExecutor extends OpenSearchT
                                               Function<Runnable, WrappedRunnable> runnableWrapper, final int tasksPerFrame,
                                               TimeValue targetedResponseTime, ThreadFactory threadFactory,
                                               XRejectedExecutionHandler handler, ThreadContext contextHolder) {
+        this(name, corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, null, minQueueSize, maxQueueSize, runnableWrapper,
+            tasksPerFrame, targetedResponseTime, threadFactory, handler, contextHolder);
+    }
+
+    QueueResizingOpenSearchThreadPoolExecutor(String name, int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                              ResizableBlockingQueue<Runnable> workQueue,
+                                              @Nullable MultiLaneBlockingQueue<Runnable> lanes, int minQueueSize, int maxQueueSize,
+                                              Function<Runnable, WrappedRunnable> runnableWrapper, final int tasksPerFrame,
+                                              TimeValue targetedResponseTime, ThreadFactory threadFactory,
+                                              XRejectedExecutionHandler handler, ThreadContext contextHolder) {
         super(name, corePoolSize, maximumPoolSize, keepAliveTime, unit,
                 workQueue, threadFactory, handler, contextHolder);
+        this.lanes = lanes;
         this.runnableWrapper = runnableWrapper;
         this.workQueue = workQueue;
         this.tasksPerFrame = tasksPerFrame;
@@ -144,6 +158,14 @@ public final class QueueResizingOpenSearchThreadPoolExecutor extends OpenSearchT
         return executionEWMA.getAverage();
     }
 
+    /**
+     * Returns the lanes that the queue of this executor is split into, or null if it has a single FIFO queue.
+     */
+    @Nullable
+    public MultiLaneBlockingQueue<Runnable> getLanes() {
+        return lanes;
+    }
+
     /**
      * Returns the current queue size (operations that are queued)
      */
@@ -257,6 +279,13 @@ public final class QueueResizingOpenSearchThreadPoolExecutor extends OpenSearchT
         sb.append("targeted response rate = ").append(TimeValue.timeValueNanos(targetedResponseTimeNanos)).append(", ");
         sb.append("task execution EWMA = ").append(TimeValue.timeValueNanos((long) executionEWMA.getAverage())).append(", ");
         sb.append("adjustment amount = ").append(QUEUE_ADJUSTMENT_AMOUNT).append(", ");
+        if (lanes != null) {
+            sb.append("lanes = [");
+            for (int i = 0; i < lanes.getLaneCount(); i++) {
+                sb.append(i == 0 ? "" : ", ").append(lanes.getLaneName(i)).append(" (weight ").append(lanes.getLaneWeight(i)).append(")");
+            }
+            sb.append("], ");
+        }
     }
 
 }
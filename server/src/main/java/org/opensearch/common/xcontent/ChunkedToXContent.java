@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent;
+
+import java.util.Iterator;
+
+/**
+ * Objects that can render themselves as a sequence of fragments, so that large responses can be serialized and sent piece by piece
+ * rather than all at once, see {@link org.opensearch.rest.ChunkedRestResponse}.
+ */
+public interface ChunkedToXContent {
+
+    /**
+     * Returns the fragments that render the same document as {@link ToXContent#toXContent} when serialized in order with the same
+     * builder.
+     */
+    Iterator<? extends ToXContent> toXContentChunked();
+}
@@ -51,6 +51,8 @@ import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.common.Priority;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.index.shard.ShardId;
@@ -67,12 +69,19 @@ public class GatewayAllocator implements ExistingShardsAllocator {
 
     public static final String ALLOCATOR_NAME = "gateway_allocator";
 
+    /**
+     * The maximum number of shards whose started shard information is listed by a single request to each node.
+     */
+    public static final Setting<Integer> STARTED_SHARDS_FETCH_BATCH_SIZE_SETTING =
+        Setting.intSetting("gateway.started_shards_fetch.batch_size", 2000, 1, Setting.Property.NodeScope);
+
     private static final Logger logger = LogManager.getLogger(GatewayAllocator.class);
 
     private final RerouteService rerouteService;
 
     private final PrimaryShardAllocator primaryShardAllocator;
     private final ReplicaShardAllocator replicaShardAllocator;
+    private final StartedShardsFetchBatcher startedShardsFetchBatcher;
 
     private final ConcurrentMap<ShardId, AsyncShardFetch<TransportNodesListGatewayStartedShards.NodeGatewayStartedShards>>
         asyncFetchStarted = ConcurrentCollections.newConcurrentMap();
@@ -81,16 +90,22 @@ public class GatewayAllocator implements ExistingShardsAllocator {
     private Set<String> lastSeenEphemeralIds = Collections.emptySet();
 
     @Inject
-    public GatewayAllocator(RerouteService rerouteService,
+    public GatewayAllocator(Settings settings, RerouteService rerouteService,
                             TransportNodesListGatewayStartedShards startedAction,
+                            TransportNodesListGatewayStartedShardsBatch startedBatchAction,
                             TransportNodesListShardStoreMetadata storeAction) {
         this.rerouteService = rerouteService;
-        this.primaryShardAllocator = new InternalPrimaryShardAllocator(startedAction);
+        this.startedShardsFetchBatcher = new StartedShardsFetchBatcher(startedAction, startedBatchAction::list,
+            STARTED_SHARDS_FETCH_BATCH_SIZE_SETTING.get(settings));
+        this.primaryShardAllocator = new InternalPrimaryShardAllocator(startedShardsFetchBatcher);
         this.replicaShardAllocator = new InternalReplicaShardAllocator(storeAction);
     }
 
     @Override
     public void cleanCaches() {
+        if (startedShardsFetchBatcher != null) {
+            startedShardsFetchBatcher.clear();
+        }
         Releasables.close(asyncFetchStarted.values());
         asyncFetchStarted.clear();
         Releasables.close(asyncFetchStore.values());
@@ -102,6 +117,7 @@ public class GatewayAllocator implements ExistingShardsAllocator {
         this.rerouteService = null;
         this.primaryShardAllocator = null;
         this.replicaShardAllocator = null;
+        this.startedShardsFetchBatcher = null;
     }
 
     @Override
@@ -142,6 +158,10 @@ public class GatewayAllocator implements ExistingShardsAllocator {
     @Override
     public void afterPrimariesBeforeReplicas(RoutingAllocation allocation) {
         assert replicaShardAllocator != null;
+        if (startedShardsFetchBatcher != null) {
+            // all the primaries have been visited, send the started shard fetches they queued up in as few requests as possible
+            startedShardsFetchBatcher.flush();
+        }
         if (allocation.routingNodes().hasInactiveShards()) {
             // cancel existing recoveries if we have a better match
             replicaShardAllocator.processExistingRecoveries(allocation);
@@ -176,7 +196,10 @@ public class GatewayAllocator implements ExistingShardsAllocator {
         assert routingAllocation.debugDecision();
         if (unassignedShard.primary()) {
             assert primaryShardAllocator != null;
-            return primaryShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
+            final AllocateUnassignedDecision decision =
+                primaryShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
+            startedShardsFetchBatcher.flush();
+            return decision;
         } else {
             assert replicaShardAllocator != null;
             return replicaShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
@@ -239,9 +262,11 @@ public class GatewayAllocator implements ExistingShardsAllocator {
 
     class InternalPrimaryShardAllocator extends PrimaryShardAllocator {
 
-        private final TransportNodesListGatewayStartedShards startedAction;
+        private final AsyncShardFetch.Lister<TransportNodesListGatewayStartedShards.NodesGatewayStartedShards,
+            TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> startedAction;
 
-        InternalPrimaryShardAllocator(TransportNodesListGatewayStartedShards startedAction) {
+        InternalPrimaryShardAllocator(AsyncShardFetch.Lister<TransportNodesListGatewayStartedShards.NodesGatewayStartedShards,
+                                          TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> startedAction) {
             this.startedAction = startedAction;
         }
 
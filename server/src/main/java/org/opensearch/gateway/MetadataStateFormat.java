@@ -377,6 +377,17 @@ public abstract class MetadataStateFormat<T> {
         return maxId;
     }
 
+    /**
+     * Finds the generation of the latest state file in the given data-locations without reading it. This can be used to check whether
+     * a previously loaded state is still current.
+     *
+     * @param dataLocations the data-locations to try.
+     * @return the maximum generation of the state files or -1 if no state file is found.
+     */
+    public long findLatestGeneration(Path... dataLocations) throws IOException {
+        return findMaxGenerationId(prefix, dataLocations);
+    }
+
     private List<Path> findStateFilesByGeneration(final long generation, Path... locations) {
         List<Path> files = new ArrayList<>();
         if (generation == -1) {
@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodeGatewayStartedShards;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodesGatewayStartedShards;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShardsBatch.NodeGatewayStartedShardsBatch;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShardsBatch.NodesGatewayStartedShardsBatch;
+import org.opensearch.index.shard.ShardId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link AsyncShardFetch.Lister} that queues the started shard fetches of many shards and sends them together on {@link #flush()}.
+ * Queued fetches that target the same set of nodes are sent as a single {@link TransportNodesListGatewayStartedShardsBatch} request of
+ * up to {@link GatewayAllocator#STARTED_SHARDS_FETCH_BATCH_SIZE_SETTING} shards, so that each node receives one request per batch
+ * instead of one request per shard. Fetches
+ * targeting nodes that do not support batching are sent through the per-shard lister.
+ */
+class StartedShardsFetchBatcher implements AsyncShardFetch.Lister<NodesGatewayStartedShards, NodeGatewayStartedShards> {
+
+    private static final Logger logger = LogManager.getLogger(StartedShardsFetchBatcher.class);
+
+    /**
+     * Lists the given shards, mapped to the custom data path of their index, on the given nodes.
+     */
+    interface BatchLister {
+        void list(Map<ShardId, String> shards, DiscoveryNode[] nodes, ActionListener<NodesGatewayStartedShardsBatch> listener);
+    }
+
+    private final AsyncShardFetch.Lister<NodesGatewayStartedShards, NodeGatewayStartedShards> shardLister;
+    private final BatchLister batchLister;
+    private final int batchSize;
+    private final List<PendingFetch> pendingFetches = new ArrayList<>();
+
+    StartedShardsFetchBatcher(AsyncShardFetch.Lister<NodesGatewayStartedShards, NodeGatewayStartedShards> shardLister,
+                              BatchLister batchLister, int batchSize) {
+        this.shardLister = shardLister;
+        this.batchLister = batchLister;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public synchronized void list(ShardId shardId, String customDataPath, DiscoveryNode[] nodes,
+                                  ActionListener<NodesGatewayStartedShards> listener) {
+        pendingFetches.add(new PendingFetch(shardId, customDataPath, nodes, listener));
+    }
+
+    /**
+     * Returns the number of fetches that are queued and have not been sent yet.
+     */
+    synchronized int getNumberOfPendingFetches() {
+        return pendingFetches.size();
+    }
+
+    /**
+     * Drops all queued fetches without sending them, used when the fetches they belong to have been closed.
+     */
+    synchronized void clear() {
+        pendingFetches.clear();
+    }
+
+    /**
+     * Sends all queued fetches.
+     */
+    void flush() {
+        final List<PendingFetch> fetches;
+        synchronized (this) {
+            if (pendingFetches.isEmpty()) {
+                return;
+            }
+            fetches = new ArrayList<>(pendingFetches);
+            pendingFetches.clear();
+        }
+
+        final Map<Set<String>, List<PendingFetch>> fetchesByNodes = new LinkedHashMap<>();
+        for (PendingFetch fetch : fetches) {
+            if (supportsBatching(fetch.nodes)) {
+                final Set<String> nodeIds = Arrays.stream(fetch.nodes).map(DiscoveryNode::getId).collect(Collectors.toSet());
+                fetchesByNodes.computeIfAbsent(nodeIds, k -> new ArrayList<>()).add(fetch);
+            } else {
+                shardLister.list(fetch.shardId, fetch.customDataPath, fetch.nodes, fetch.listener);
+            }
+        }
+
+        for (List<PendingFetch> sameNodesFetches : fetchesByNodes.values()) {
+            for (int from = 0; from < sameNodesFetches.size(); from += batchSize) {
+                sendBatch(sameNodesFetches.subList(from, Math.min(from + batchSize, sameNodesFetches.size())));
+            }
+        }
+    }
+
+    private void sendBatch(List<PendingFetch> batch) {
+        final DiscoveryNode[] nodes = batch.get(0).nodes;
+        final Map<ShardId, String> shards = new HashMap<>();
+        for (PendingFetch fetch : batch) {
+            shards.put(fetch.shardId, fetch.customDataPath);
+        }
+        logger.trace("fetching [shard_started] of [{}] shards from {}", shards.size(), nodes);
+        batchLister.list(shards, nodes, new ActionListener<NodesGatewayStartedShardsBatch>() {
+            @Override
+            public void onResponse(NodesGatewayStartedShardsBatch response) {
+                for (PendingFetch fetch : batch) {
+                    fetch.listener.onResponse(toShardResponse(fetch.shardId, response));
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                for (PendingFetch fetch : batch) {
+                    fetch.listener.onFailure(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Extracts the response for a single shard from a batched response, reporting the shards that failed to be listed on a node as
+     * failures of that node.
+     */
+    static NodesGatewayStartedShards toShardResponse(ShardId shardId, NodesGatewayStartedShardsBatch response) {
+        final List<NodeGatewayStartedShards> shardResponses = new ArrayList<>(response.getNodes().size());
+        final List<FailedNodeException> failures = new ArrayList<>(response.failures());
+        for (NodeGatewayStartedShardsBatch nodeResponse : response.getNodes()) {
+            final NodeGatewayStartedShards shardResponse = nodeResponse.getShards().get(shardId);
+            if (shardResponse != null) {
+                shardResponses.add(shardResponse);
+            } else {
+                final String nodeId = nodeResponse.getNode().getId();
+                failures.add(new FailedNodeException(nodeId, "Failed node [" + nodeId + "]", nodeResponse.getFailures().get(shardId)));
+            }
+        }
+        return new NodesGatewayStartedShards(response.getClusterName(), shardResponses, failures);
+    }
+
+    private static boolean supportsBatching(DiscoveryNode[] nodes) {
+        for (DiscoveryNode node : nodes) {
+            if (node.getVersion().before(Version.V_1_0_0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class PendingFetch {
+        private final ShardId shardId;
+        private final String customDataPath;
+        private final DiscoveryNode[] nodes;
+        private final ActionListener<NodesGatewayStartedShards> listener;
+
+        private PendingFetch(ShardId shardId, String customDataPath, DiscoveryNode[] nodes,
+                             ActionListener<NodesGatewayStartedShards> listener) {
+            this.shardId = shardId;
+            this.customDataPath = customDataPath;
+            this.nodes = nodes;
+            this.listener = listener;
+        }
+    }
+}
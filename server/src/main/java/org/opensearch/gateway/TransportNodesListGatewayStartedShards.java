@@ -49,10 +49,14 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.IndexSettings;
@@ -65,6 +69,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 
@@ -85,10 +90,18 @@ public class TransportNodesListGatewayStartedShards extends
     public static final String ACTION_NAME = "internal:gateway/local/started_shards";
     public static final ActionType<NodesGatewayStartedShards> TYPE = new ActionType<>(ACTION_NAME, NodesGatewayStartedShards::new);
 
+    /**
+     * How long the shard state of shards that are not open on this node is kept around after it was last requested.
+     */
+    public static final Setting<TimeValue> STARTED_SHARDS_CACHE_EXPIRE_SETTING =
+        Setting.positiveTimeSetting("gateway.started_shards_cache.expire_after_access", TimeValue.timeValueMinutes(10),
+            Setting.Property.NodeScope);
+
     private final Settings settings;
     private final NodeEnvironment nodeEnv;
     private final IndicesService indicesService;
     private final NamedXContentRegistry namedXContentRegistry;
+    private final Cache<ShardId, CachedShardState> startedShardsCache;
 
     @Inject
     public TransportNodesListGatewayStartedShards(Settings settings, ThreadPool threadPool, ClusterService clusterService,
@@ -101,6 +114,9 @@ public class TransportNodesListGatewayStartedShards extends
         this.nodeEnv = env;
         this.indicesService = indicesService;
         this.namedXContentRegistry = namedXContentRegistry;
+        this.startedShardsCache = CacheBuilder.<ShardId, CachedShardState>builder()
+            .setExpireAfterAccess(STARTED_SHARDS_CACHE_EXPIRE_SETTING.get(settings))
+            .build();
     }
 
     @Override
@@ -128,58 +144,109 @@ public class TransportNodesListGatewayStartedShards extends
     @Override
     protected NodeGatewayStartedShards nodeOperation(NodeRequest request) {
         try {
-            final ShardId shardId = request.getShardId();
-            logger.trace("{} loading local shard state info", shardId);
-            ShardStateMetadata shardStateMetadata = ShardStateMetadata.FORMAT.loadLatestState(logger, namedXContentRegistry,
-                nodeEnv.availableShardPaths(request.shardId));
-            if (shardStateMetadata != null) {
-                if (indicesService.getShardOrNull(shardId) == null) {
-                    final String customDataPath;
-                    if (request.getCustomDataPath() != null) {
-                        customDataPath = request.getCustomDataPath();
+            return listStartedShard(request.getShardId(), request.getCustomDataPath());
+        } catch (Exception e) {
+            throw new OpenSearchException("failed to load started shards", e);
+        }
+    }
+
+    /**
+     * Loads the started shard information of the given shard from this node. This is shared with
+     * {@link TransportNodesListGatewayStartedShardsBatch} which lists many shards per node request.
+     * <p>
+     * The shard state of a shard that is not open on this node can only change if a new generation of it is written, so it is cached
+     * and reused as long as the latest shard state generation on disk remains the same. This avoids re-reading the shard state of every
+     * shard on each fetch round after a full cluster restart. The index is still opened on every fetch since its files may be corrupted
+     * or lost without a new shard state generation being written.
+     */
+    NodeGatewayStartedShards listStartedShard(final ShardId shardId, @Nullable final String requestCustomDataPath) throws IOException {
+        logger.trace("{} loading local shard state info", shardId);
+        final Path[] shardPaths = nodeEnv.availableShardPaths(shardId);
+        final boolean shardIsOpen = indicesService.getShardOrNull(shardId) != null;
+        final long generation = ShardStateMetadata.FORMAT.findLatestGeneration(shardPaths);
+        final ShardStateMetadata shardStateMetadata = loadShardState(shardId, shardPaths, generation, shardIsOpen);
+        if (shardStateMetadata != null) {
+            if (shardIsOpen == false) {
+                final String customDataPath;
+                if (requestCustomDataPath != null) {
+                    customDataPath = requestCustomDataPath;
+                } else {
+                    // TODO: Fallback for BWC with older OpenSearch versions.
+                    // Remove once request.getCustomDataPath() always returns non-null
+                    final IndexMetadata metadata = clusterService.state().metadata().index(shardId.getIndex());
+                    if (metadata != null) {
+                        customDataPath = new IndexSettings(metadata, settings).customDataPath();
                     } else {
-                        // TODO: Fallback for BWC with older OpenSearch versions.
-                        // Remove once request.getCustomDataPath() always returns non-null
-                        final IndexMetadata metadata = clusterService.state().metadata().index(shardId.getIndex());
-                        if (metadata != null) {
-                            customDataPath = new IndexSettings(metadata, settings).customDataPath();
-                        } else {
-                            logger.trace("{} node doesn't have meta data for the requests index", shardId);
-                            throw new OpenSearchException("node doesn't have meta data for index " + shardId.getIndex());
-                        }
+                        logger.trace("{} node doesn't have meta data for the requests index", shardId);
+                        throw new OpenSearchException("node doesn't have meta data for index " + shardId.getIndex());
                     }
-                    // we don't have an open shard on the store, validate the files on disk are openable
-                    ShardPath shardPath = null;
-                    try {
-                        shardPath = ShardPath.loadShardPath(logger, nodeEnv, shardId, customDataPath);
-                        if (shardPath == null) {
-                            throw new IllegalStateException(shardId + " no shard path found");
-                        }
-                        Store.tryOpenIndex(shardPath.resolveIndex(), shardId, nodeEnv::shardLock, logger);
-                    } catch (Exception exception) {
-                        final ShardPath finalShardPath = shardPath;
-                        logger.trace(() -> new ParameterizedMessage(
-                                "{} can't open index for shard [{}] in path [{}]",
-                                shardId,
-                                shardStateMetadata,
-                                (finalShardPath != null) ? finalShardPath.resolveIndex() : ""),
-                            exception);
-                        String allocationId = shardStateMetadata.allocationId != null ?
-                            shardStateMetadata.allocationId.getId() : null;
-                        return new NodeGatewayStartedShards(clusterService.localNode(), allocationId, shardStateMetadata.primary,
-                            exception);
+                }
+                // we don't have an open shard on the store, validate the files on disk are openable
+                ShardPath shardPath = null;
+                try {
+                    shardPath = ShardPath.loadShardPath(logger, nodeEnv, shardId, customDataPath);
+                    if (shardPath == null) {
+                        throw new IllegalStateException(shardId + " no shard path found");
                     }
+                    Store.tryOpenIndex(shardPath.resolveIndex(), shardId, nodeEnv::shardLock, logger);
+                } catch (Exception exception) {
+                    final ShardPath finalShardPath = shardPath;
+                    logger.trace(() -> new ParameterizedMessage(
+                            "{} can't open index for shard [{}] in path [{}]",
+                            shardId,
+                            shardStateMetadata,
+                            (finalShardPath != null) ? finalShardPath.resolveIndex() : ""),
+                        exception);
+                    String allocationId = shardStateMetadata.allocationId != null ?
+                        shardStateMetadata.allocationId.getId() : null;
+                    return new NodeGatewayStartedShards(clusterService.localNode(), allocationId, shardStateMetadata.primary,
+                        exception);
                 }
+            }
 
-                logger.debug("{} shard state info found: [{}]", shardId, shardStateMetadata);
-                String allocationId = shardStateMetadata.allocationId != null ?
-                    shardStateMetadata.allocationId.getId() : null;
-                return new NodeGatewayStartedShards(clusterService.localNode(), allocationId, shardStateMetadata.primary);
+            logger.debug("{} shard state info found: [{}]", shardId, shardStateMetadata);
+            String allocationId = shardStateMetadata.allocationId != null ?
+                shardStateMetadata.allocationId.getId() : null;
+            return new NodeGatewayStartedShards(clusterService.localNode(), allocationId, shardStateMetadata.primary);
+        }
+        logger.trace("{} no local shard info found", shardId);
+        return new NodeGatewayStartedShards(clusterService.localNode(), null, false);
+    }
+
+    @Nullable
+    private ShardStateMetadata loadShardState(ShardId shardId, Path[] shardPaths, long generation, boolean shardIsOpen) throws IOException {
+        if (shardIsOpen) {
+            // the shard state may change while the shard is open, don't trust anything that was cached before
+            startedShardsCache.invalidate(shardId);
+        } else {
+            final CachedShardState cached = startedShardsCache.get(shardId);
+            if (cached != null && cached.generation == generation) {
+                logger.trace("{} using cached shard state [{}] with generation [{}]", shardId, cached.shardStateMetadata, generation);
+                return cached.shardStateMetadata;
             }
-            logger.trace("{} no local shard info found", shardId);
-            return new NodeGatewayStartedShards(clusterService.localNode(), null, false);
-        } catch (Exception e) {
-            throw new OpenSearchException("failed to load started shards", e);
+        }
+        final ShardStateMetadata shardStateMetadata = ShardStateMetadata.FORMAT.loadGeneration(logger, namedXContentRegistry, generation,
+            shardPaths);
+        if (generation > -1 && shardStateMetadata == null) {
+            throw new IllegalStateException(shardId + " unable to find shard state with generation id " + generation
+                + ", concurrent writes?");
+        }
+        if (shardStateMetadata != null && shardIsOpen == false) {
+            startedShardsCache.put(shardId, new CachedShardState(generation, shardStateMetadata));
+        }
+        return shardStateMetadata;
+    }
+
+    /**
+     * The shard state of a shard that was not open on this node, along with the generation it was read from.
+     */
+    private static final class CachedShardState {
+        private final long generation;
+        private final ShardStateMetadata shardStateMetadata;
+
+        private CachedShardState(long generation, ShardStateMetadata shardStateMetadata) {
+            this.generation = generation;
+            this.shardStateMetadata = shardStateMetadata;
         }
     }
 
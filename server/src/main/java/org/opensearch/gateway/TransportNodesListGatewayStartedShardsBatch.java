@@ -0,0 +1,239 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.BaseNodeRequest;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodeGatewayStartedShards;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lists the started shard information of many shards in a single request per node. This is used by the {@link GatewayAllocator} to
+ * batch the per-shard {@link TransportNodesListGatewayStartedShards} requests that it would otherwise send to every data node for every
+ * unassigned primary, which after a full cluster restart adds up to one request per shard and node.
+ */
+public class TransportNodesListGatewayStartedShardsBatch extends
+    TransportNodesAction<TransportNodesListGatewayStartedShardsBatch.Request,
+        TransportNodesListGatewayStartedShardsBatch.NodesGatewayStartedShardsBatch,
+        TransportNodesListGatewayStartedShardsBatch.NodeRequest,
+        TransportNodesListGatewayStartedShardsBatch.NodeGatewayStartedShardsBatch> {
+
+    public static final String ACTION_NAME = "internal:gateway/local/started_shards_batch";
+    public static final ActionType<NodesGatewayStartedShardsBatch> TYPE =
+        new ActionType<>(ACTION_NAME, NodesGatewayStartedShardsBatch::new);
+
+    private final TransportNodesListGatewayStartedShards startedShardsAction;
+
+    @Inject
+    public TransportNodesListGatewayStartedShardsBatch(ThreadPool threadPool, ClusterService clusterService,
+                                                       TransportService transportService, ActionFilters actionFilters,
+                                                       TransportNodesListGatewayStartedShards startedShardsAction) {
+        super(ACTION_NAME, threadPool, clusterService, transportService, actionFilters,
+            Request::new, NodeRequest::new, ThreadPool.Names.FETCH_SHARD_STARTED, NodeGatewayStartedShardsBatch.class);
+        this.startedShardsAction = startedShardsAction;
+    }
+
+    /**
+     * Lists the given shards, mapped to the custom data path of their index, on the given nodes.
+     */
+    public void list(Map<ShardId, String> shards, DiscoveryNode[] nodes, ActionListener<NodesGatewayStartedShardsBatch> listener) {
+        execute(new Request(shards, nodes), listener);
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(Request request) {
+        return new NodeRequest(request);
+    }
+
+    @Override
+    protected NodeGatewayStartedShardsBatch newNodeResponse(StreamInput in) throws IOException {
+        return new NodeGatewayStartedShardsBatch(in);
+    }
+
+    @Override
+    protected NodesGatewayStartedShardsBatch newResponse(Request request, List<NodeGatewayStartedShardsBatch> responses,
+                                                         List<FailedNodeException> failures) {
+        return new NodesGatewayStartedShardsBatch(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected NodeGatewayStartedShardsBatch nodeOperation(NodeRequest request) {
+        final Map<ShardId, NodeGatewayStartedShards> shards = new HashMap<>();
+        final Map<ShardId, Exception> failures = new HashMap<>();
+        for (Map.Entry<ShardId, String> shard : request.getShards().entrySet()) {
+            final ShardId shardId = shard.getKey();
+            try {
+                shards.put(shardId, startedShardsAction.listStartedShard(shardId, shard.getValue()));
+            } catch (Exception e) {
+                // a single shard failing to load must not fail the listing of all the other shards of the batch
+                logger.trace(() -> new ParameterizedMessage("{} failed to load started shard", shardId), e);
+                failures.put(shardId, new OpenSearchException("failed to load started shards", e));
+            }
+        }
+        return new NodeGatewayStartedShardsBatch(clusterService.localNode(), shards, failures);
+    }
+
+    public static class Request extends BaseNodesRequest<Request> {
+
+        private final Map<ShardId, String> shards;
+
+        public Request(StreamInput in) throws IOException {
+            super(in);
+            shards = in.readMap(ShardId::new, StreamInput::readString);
+        }
+
+        /**
+         * @param shards the shards to list, mapped to the custom data path of their index (an empty string if there is none)
+         * @param nodes  the nodes to list the shards on
+         */
+        public Request(Map<ShardId, String> shards, DiscoveryNode[] nodes) {
+            super(nodes);
+            this.shards = Objects.requireNonNull(shards);
+        }
+
+        public Map<ShardId, String> getShards() {
+            return shards;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeMap(shards, (o, shardId) -> shardId.writeTo(o), StreamOutput::writeString);
+        }
+    }
+
+    public static class NodesGatewayStartedShardsBatch extends BaseNodesResponse<NodeGatewayStartedShardsBatch> {
+
+        public NodesGatewayStartedShardsBatch(StreamInput in) throws IOException {
+            super(in);
+        }
+
+        public NodesGatewayStartedShardsBatch(ClusterName clusterName, List<NodeGatewayStartedShardsBatch> nodes,
+                                              List<FailedNodeException> failures) {
+            super(clusterName, nodes, failures);
+        }
+
+        @Override
+        protected List<NodeGatewayStartedShardsBatch> readNodesFrom(StreamInput in) throws IOException {
+            return in.readList(NodeGatewayStartedShardsBatch::new);
+        }
+
+        @Override
+        protected void writeNodesTo(StreamOutput out, List<NodeGatewayStartedShardsBatch> nodes) throws IOException {
+            out.writeList(nodes);
+        }
+    }
+
+    public static class NodeRequest extends BaseNodeRequest {
+
+        private final Map<ShardId, String> shards;
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+            shards = in.readMap(ShardId::new, StreamInput::readString);
+        }
+
+        public NodeRequest(Request request) {
+            this.shards = Objects.requireNonNull(request.getShards());
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeMap(shards, (o, shardId) -> shardId.writeTo(o), StreamOutput::writeString);
+        }
+
+        public Map<ShardId, String> getShards() {
+            return shards;
+        }
+    }
+
+    /**
+     * The started shard information of all the shards of a batch on a single node. The per-shard responses are serialized without their
+     * node, which is only sent once per batch.
+     */
+    public static class NodeGatewayStartedShardsBatch extends BaseNodeResponse {
+
+        private final Map<ShardId, NodeGatewayStartedShards> shards;
+        private final Map<ShardId, Exception> failures;
+
+        public NodeGatewayStartedShardsBatch(StreamInput in) throws IOException {
+            super(in);
+            final DiscoveryNode node = getNode();
+            shards = in.readMap(ShardId::new, i -> {
+                final String allocationId = i.readOptionalString();
+                final boolean primary = i.readBoolean();
+                final Exception storeException = i.readBoolean() ? i.readException() : null;
+                return new NodeGatewayStartedShards(node, allocationId, primary, storeException);
+            });
+            failures = in.readMap(ShardId::new, StreamInput::readException);
+        }
+
+        public NodeGatewayStartedShardsBatch(DiscoveryNode node, Map<ShardId, NodeGatewayStartedShards> shards,
+                                             Map<ShardId, Exception> failures) {
+            super(node);
+            this.shards = Collections.unmodifiableMap(shards);
+            this.failures = Collections.unmodifiableMap(failures);
+        }
+
+        /**
+         * The started shard information of the shards that could be listed on this node.
+         */
+        public Map<ShardId, NodeGatewayStartedShards> getShards() {
+            return shards;
+        }
+
+        /**
+         * The shards that failed to be listed on this node.
+         */
+        public Map<ShardId, Exception> getFailures() {
+            return failures;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeMap(shards, (o, shardId) -> shardId.writeTo(o), (o, shard) -> {
+                o.writeOptionalString(shard.allocationId());
+                o.writeBoolean(shard.primary());
+                if (shard.storeException() != null) {
+                    o.writeBoolean(true);
+                    o.writeException(shard.storeException());
+                } else {
+                    o.writeBoolean(false);
+                }
+            });
+            out.writeMap(failures, (o, shardId) -> shardId.writeTo(o), StreamOutput::writeException);
+        }
+    }
+}
@@ -44,6 +44,8 @@ import org.opensearch.common.network.CloseableChannel;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.rest.AbstractRestChannel;
+import org.opensearch.rest.ChunkedRestResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestResponse;
@@ -110,22 +112,33 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
         String opaque = null;
         String contentLength = null;
         try {
-            final BytesReference content = restResponse.content();
-            if (content instanceof Releasable) {
-                toClose.add((Releasable) content);
-            }
-
-            BytesReference finalContent = content;
+            boolean isHeadRequest = false;
             try {
-                if (request.method() == RestRequest.Method.HEAD) {
-                    finalContent = BytesArray.EMPTY;
-                }
+                isHeadRequest = request.method() == RestRequest.Method.HEAD;
             } catch (IllegalArgumentException ignored) {
                 assert restResponse.status() == RestStatus.METHOD_NOT_ALLOWED :
                     "request HTTP method is unsupported but HTTP status is not METHOD_NOT_ALLOWED(405)";
             }
 
-            final HttpResponse httpResponse = httpRequest.createResponse(restResponse.status(), finalContent);
+            final HttpResponse httpResponse;
+            final boolean chunked;
+            if (restResponse instanceof ChunkedRestResponse) {
+                final ChunkedRestResponseBody body = ((ChunkedRestResponse) restResponse).body();
+                toClose.add(body);
+                chunked = isHeadRequest == false && httpRequest.supportsChunkedResponse();
+            } else {
+                chunked = false;
+            }
+            if (chunked) {
+                // the body is serialized as it is sent, so there is no content length
+                httpResponse = httpRequest.createResponse(restResponse.status(), ((ChunkedRestResponse) restResponse).body());
+            } else {
+                final BytesReference content = restResponse.content();
+                if (content instanceof Releasable) {
+                    toClose.add((Releasable) content);
+                }
+                httpResponse = httpRequest.createResponse(restResponse.status(), isHeadRequest ? BytesArray.EMPTY : content);
+            }
 
             corsHandler.setCorsResponseHeaders(httpRequest, httpResponse);
 
@@ -140,14 +153,17 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
 
             // If our response doesn't specify a content-type header, set one
             setHeaderField(httpResponse, CONTENT_TYPE, restResponse.contentType(), false);
-            // If our response has no content-length, calculate and set one
-            contentLength = String.valueOf(restResponse.content().length());
-            setHeaderField(httpResponse, CONTENT_LENGTH, contentLength, false);
+            if (chunked == false) {
+                // If our response has no content-length, calculate and set one
+                contentLength = String.valueOf(restResponse.content().length());
+                setHeaderField(httpResponse, CONTENT_LENGTH, contentLength, false);
+            }
 
             addCookies(httpResponse);
 
             BytesStreamOutput bytesStreamOutput = bytesOutputOrNull();
-            if (bytesStreamOutput instanceof ReleasableBytesStreamOutput) {
+            // the body of a chunked response releases the bytes output itself since it may still be serializing to it on another thread
+            if (bytesStreamOutput instanceof ReleasableBytesStreamOutput && restResponse instanceof ChunkedRestResponse == false) {
                 toClose.add((Releasable) bytesStreamOutput);
             }
 
@@ -33,6 +33,7 @@
 package org.opensearch.http;
 
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestStatus;
 
@@ -89,6 +90,16 @@ public class HttpPipelinedRequest implements HttpRequest, HttpPipelinedMessage {
         return new HttpPipelinedResponse(sequence, delegate.createResponse(status, content));
     }
 
+    @Override
+    public boolean supportsChunkedResponse() {
+        return delegate.supportsChunkedResponse();
+    }
+
+    @Override
+    public HttpPipelinedResponse createResponse(RestStatus status, ChunkedRestResponseBody content) {
+        return new HttpPipelinedResponse(sequence, delegate.createResponse(status, content));
+    }
+
     @Override
     public void release() {
         delegate.release();
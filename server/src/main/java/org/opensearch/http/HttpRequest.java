@@ -34,6 +34,7 @@ package org.opensearch.http;
 
 import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestStatus;
 
@@ -99,6 +100,21 @@ public interface HttpRequest {
      */
     HttpResponse createResponse(RestStatus status, BytesReference content);
 
+    /**
+     * Whether responses to this request can be streamed with {@link #createResponse(RestStatus, ChunkedRestResponseBody)}.
+     */
+    default boolean supportsChunkedResponse() {
+        return false;
+    }
+
+    /**
+     * Create an http response from this request and the supplied status and a body that is serialized chunk by chunk as it is
+     * sent, see {@link #supportsChunkedResponse()}.
+     */
+    default HttpResponse createResponse(RestStatus status, ChunkedRestResponseBody content) {
+        throw new UnsupportedOperationException("chunked responses are not supported by [" + getClass().getSimpleName() + "]");
+    }
+
     @Nullable
     Exception getInboundException();
 
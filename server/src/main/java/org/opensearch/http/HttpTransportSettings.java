@@ -66,6 +66,11 @@ public final class HttpTransportSettings {
         Setting.boolSetting("http.cors.allow-credentials", false, Property.NodeScope);
     public static final Setting<Integer> SETTING_PIPELINING_MAX_EVENTS =
         intSetting("http.pipelining.max_events", 10000, Property.NodeScope);
+    // HTTP/2 is only spoken over cleartext connections whose first bytes are the HTTP/2 connection preface ("prior knowledge")
+    public static final Setting<Boolean> SETTING_HTTP_HTTP2_ENABLED =
+        Setting.boolSetting("http.http2.enabled", false, Property.NodeScope);
+    public static final Setting<Integer> SETTING_HTTP_HTTP2_MAX_CONCURRENT_STREAMS =
+        intSetting("http.http2.max_concurrent_streams", 128, 1, Property.NodeScope);
     public static final Setting<Boolean> SETTING_HTTP_COMPRESSION =
         Setting.boolSetting("http.compression", true, Property.NodeScope);
     // we intentionally use a different compression level as Netty here as our benchmarks have shown that a compression level of 3 is the
@@ -35,20 +35,61 @@ package org.opensearch.index;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.stats.IndexingPressureStats;
+import org.opensearch.index.stats.ShardIndexingPressureStats;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 public class IndexingPressure {
 
     public static final Setting<ByteSizeValue> MAX_INDEXING_BYTES =
         Setting.memorySizeSetting("indexing_pressure.memory.limit", "10%", Setting.Property.NodeScope);
 
+    /**
+     * Whether primary and replica operations are also accounted per shard, so that a degraded shard gets its operations
+     * rejected before it exhausts the memory of the whole node.
+     */
+    public static final Setting<Boolean> SHARD_INDEXING_PRESSURE_ENABLED =
+        Setting.boolSetting("shard_indexing_pressure.enabled", false, Setting.Property.NodeScope);
+    /**
+     * The fraction of the node limit above which operations on degraded shards are rejected.
+     */
+    public static final Setting<Double> SHARD_INDEXING_PRESSURE_SOFT_LIMIT =
+        Setting.doubleSetting("shard_indexing_pressure.soft_limit", 0.7, 0.0, 1.0, Setting.Property.NodeScope);
+    /**
+     * The fraction of the node limit that every shard may hold regardless of its health.
+     */
+    public static final Setting<Double> SHARD_INDEXING_PRESSURE_SHARD_MIN_LIMIT =
+        Setting.doubleSetting("shard_indexing_pressure.shard_min_limit", 0.001, 0.0, 1.0, Setting.Property.NodeScope);
+    /**
+     * How many times lower than its historical throughput the recent throughput of a shard must be for it to be degraded.
+     */
+    public static final Setting<Double> SHARD_INDEXING_PRESSURE_THROUGHPUT_DEGRADATION_FACTOR =
+        Setting.doubleSetting("shard_indexing_pressure.throughput_degradation_factor", 5.0, 1.0, Setting.Property.NodeScope);
+    /**
+     * The number of outstanding operations above which a shard that didn't complete any operation for
+     * {@link #SHARD_INDEXING_PRESSURE_SUCCESSFUL_REQUEST_TIMEOUT} is degraded.
+     */
+    public static final Setting<Integer> SHARD_INDEXING_PRESSURE_MAX_OUTSTANDING_REQUESTS =
+        Setting.intSetting("shard_indexing_pressure.max_outstanding_requests", 100, 1, Setting.Property.NodeScope);
+    public static final Setting<TimeValue> SHARD_INDEXING_PRESSURE_SUCCESSFUL_REQUEST_TIMEOUT =
+        Setting.timeSetting("shard_indexing_pressure.successful_request_timeout", TimeValue.timeValueSeconds(300),
+            TimeValue.timeValueMillis(1), Setting.Property.NodeScope);
+
     private static final Logger logger = LogManager.getLogger(IndexingPressure.class);
 
     private final AtomicLong currentCombinedCoordinatingAndPrimaryBytes = new AtomicLong(0);
@@ -68,9 +109,29 @@ public class IndexingPressure {
     private final long primaryAndCoordinatingLimits;
     private final long replicaLimits;
 
+    private final boolean shardIndexingPressureEnabled;
+    private final long shardSoftLimitBytes;
+    private final long shardMinLimitBytes;
+    private final double throughputDegradationFactor;
+    private final int maxOutstandingRequests;
+    private final long successfulRequestTimeoutNanos;
+    private final LongSupplier relativeNanos;
+    private final ConcurrentMap<ShardId, ShardIndexingPressureTracker> shardTrackers = ConcurrentCollections.newConcurrentMap();
+
     public IndexingPressure(Settings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    IndexingPressure(Settings settings, LongSupplier relativeNanos) {
         this.primaryAndCoordinatingLimits = MAX_INDEXING_BYTES.get(settings).getBytes();
         this.replicaLimits = (long) (this.primaryAndCoordinatingLimits * 1.5);
+        this.shardIndexingPressureEnabled = SHARD_INDEXING_PRESSURE_ENABLED.get(settings);
+        this.shardSoftLimitBytes = (long) (primaryAndCoordinatingLimits * SHARD_INDEXING_PRESSURE_SOFT_LIMIT.get(settings));
+        this.shardMinLimitBytes = (long) (primaryAndCoordinatingLimits * SHARD_INDEXING_PRESSURE_SHARD_MIN_LIMIT.get(settings));
+        this.throughputDegradationFactor = SHARD_INDEXING_PRESSURE_THROUGHPUT_DEGRADATION_FACTOR.get(settings);
+        this.maxOutstandingRequests = SHARD_INDEXING_PRESSURE_MAX_OUTSTANDING_REQUESTS.get(settings);
+        this.successfulRequestTimeoutNanos = SHARD_INDEXING_PRESSURE_SUCCESSFUL_REQUEST_TIMEOUT.get(settings).nanos();
+        this.relativeNanos = relativeNanos;
     }
 
 
@@ -111,12 +172,37 @@ public class IndexingPressure {
         });
     }
 
+    /**
+     * Marks a primary operation local to the coordinating node on the given shard, which is never rejected.
+     */
+    public Releasable markPrimaryOperationLocalToCoordinatingNodeStarted(ShardId shardId, long bytes) {
+        final Releasable shardReleasable = markShardOperationStarted(shardId, bytes, true, false);
+        final Releasable releasable = markPrimaryOperationLocalToCoordinatingNodeStarted(bytes);
+        return () -> Releasables.close(releasable, shardReleasable);
+    }
+
     public Releasable markPrimaryOperationLocalToCoordinatingNodeStarted(long bytes) {
         currentPrimaryBytes.getAndAdd(bytes);
         totalPrimaryBytes.getAndAdd(bytes);
         return wrapReleasable(() -> this.currentPrimaryBytes.getAndAdd(-bytes));
     }
 
+    /**
+     * Marks a primary operation on the given shard, rejecting it if the node is out of indexing memory or if the shard
+     * is degraded while the node is above its soft limit.
+     */
+    public Releasable markPrimaryOperationStarted(ShardId shardId, long bytes, boolean forceExecution) {
+        final Releasable shardReleasable = markShardOperationStarted(shardId, bytes, forceExecution, false);
+        final Releasable releasable;
+        try {
+            releasable = markPrimaryOperationStarted(bytes, forceExecution);
+        } catch (OpenSearchRejectedExecutionException e) {
+            shardReleasable.close();
+            throw e;
+        }
+        return () -> Releasables.close(releasable, shardReleasable);
+    }
+
     public Releasable markPrimaryOperationStarted(long bytes, boolean forceExecution) {
         long combinedBytes = this.currentCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
         long replicaWriteBytes = this.currentReplicaBytes.get();
@@ -142,6 +228,22 @@ public class IndexingPressure {
         });
     }
 
+    /**
+     * Marks a replica operation on the given shard, rejecting it if the node is out of replica indexing memory or if the
+     * shard is degraded while the node is above its soft limit.
+     */
+    public Releasable markReplicaOperationStarted(ShardId shardId, long bytes, boolean forceExecution) {
+        final Releasable shardReleasable = markShardOperationStarted(shardId, bytes, forceExecution, true);
+        final Releasable releasable;
+        try {
+            releasable = markReplicaOperationStarted(bytes, forceExecution);
+        } catch (OpenSearchRejectedExecutionException e) {
+            shardReleasable.close();
+            throw e;
+        }
+        return () -> Releasables.close(releasable, shardReleasable);
+    }
+
     public Releasable markReplicaOperationStarted(long bytes, boolean forceExecution) {
         long replicaWriteBytes = this.currentReplicaBytes.addAndGet(bytes);
         if (forceExecution == false && replicaWriteBytes > replicaLimits) {
@@ -157,6 +259,56 @@ public class IndexingPressure {
         return wrapReleasable(() -> this.currentReplicaBytes.getAndAdd(-bytes));
     }
 
+    private Releasable markShardOperationStarted(ShardId shardId, long bytes, boolean forceExecution, boolean replica) {
+        if (shardIndexingPressureEnabled == false) {
+            return () -> {};
+        }
+        final long startNanos = relativeNanos.getAsLong();
+        final ShardIndexingPressureTracker tracker = startShardOperation(shardId, startNanos);
+        final long shardBytes = tracker.addBytes(bytes, replica);
+        final long nodeBytes = currentCombinedCoordinatingAndPrimaryBytes.get() + currentReplicaBytes.get();
+        if (forceExecution == false && nodeBytes + bytes > shardSoftLimitBytes && shardBytes > shardMinLimitBytes) {
+            final String reason = tracker.degradation(startNanos, throughputDegradationFactor, maxOutstandingRequests,
+                successfulRequestTimeoutNanos);
+            if (reason != null) {
+                tracker.removeBytes(bytes, replica);
+                tracker.onRejected(replica, reason);
+                throw new OpenSearchRejectedExecutionException("rejected execution of " + (replica ? "replica" : "primary") +
+                    " operation on degraded shard " + shardId + " [" +
+                    "reason=" + reason + ", " +
+                    "shard_bytes=" + (shardBytes - bytes) + ", " +
+                    "shard_operation_bytes=" + bytes + ", " +
+                    "node_bytes=" + nodeBytes + ", " +
+                    "node_soft_limit_bytes=" + shardSoftLimitBytes + "]", false);
+            }
+        }
+        tracker.onStarted(bytes, replica);
+        return wrapReleasable(() -> tracker.onCompleted(bytes, replica, startNanos, relativeNanos.getAsLong()));
+    }
+
+    /**
+     * Registers a new operation on the tracker of the given shard and returns it.
+     */
+    private ShardIndexingPressureTracker startShardOperation(ShardId shardId, long nowNanos) {
+        while (true) {
+            ShardIndexingPressureTracker tracker = shardTrackers.get(shardId);
+            if (tracker == null) {
+                // a new shard, also stop tracking the ones that are gone or haven't been written to for a while
+                for (ShardIndexingPressureTracker other : shardTrackers.values()) {
+                    if (other.tryEvict(nowNanos, successfulRequestTimeoutNanos)) {
+                        shardTrackers.remove(other.shardId(), other);
+                    }
+                }
+                tracker = shardTrackers.computeIfAbsent(shardId, id -> new ShardIndexingPressureTracker(id, nowNanos));
+            }
+            if (tracker.tryStart(nowNanos)) {
+                return tracker;
+            }
+            // the tracker was evicted after we got it, make sure it is gone before retrying with a new one
+            shardTrackers.remove(shardId, tracker);
+        }
+    }
+
     public long getCurrentCombinedCoordinatingAndPrimaryBytes() {
         return currentCombinedCoordinatingAndPrimaryBytes.get();
     }
@@ -177,6 +329,17 @@ public class IndexingPressure {
         return new IndexingPressureStats(totalCombinedCoordinatingAndPrimaryBytes.get(), totalCoordinatingBytes.get(),
             totalPrimaryBytes.get(), totalReplicaBytes.get(), currentCombinedCoordinatingAndPrimaryBytes.get(),
             currentCoordinatingBytes.get(), currentPrimaryBytes.get(), currentReplicaBytes.get(), coordinatingRejections.get(),
-            primaryRejections.get(), replicaRejections.get(), primaryAndCoordinatingLimits);
+            primaryRejections.get(), replicaRejections.get(), primaryAndCoordinatingLimits, shardStats());
+    }
+
+    private Map<ShardId, ShardIndexingPressureStats> shardStats() {
+        if (shardTrackers.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<ShardId, ShardIndexingPressureStats> shardStats = new HashMap<>();
+        for (ShardIndexingPressureTracker tracker : shardTrackers.values()) {
+            shardStats.put(tracker.shardId(), tracker.stats());
+        }
+        return shardStats;
     }
 }
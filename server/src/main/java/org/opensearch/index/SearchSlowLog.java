@@ -45,6 +45,7 @@ import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskResourceUsage;
 
 import java.nio.charset.Charset;
 import java.util.Arrays;
@@ -200,6 +201,11 @@ public final class SearchSlowLog implements SearchOperationListener {
             }
 
             messageFields.put("id", context.getTask().getHeader(Task.X_OPAQUE_ID));
+            TaskResourceUsage resourceUsage = context.getTask().getResourceUsage();
+            if (resourceUsage != null) {
+                messageFields.put("cpu_time_in_nanos", resourceUsage.getCpuTimeNanos());
+                messageFields.put("allocated_in_bytes", resourceUsage.getAllocatedBytes());
+            }
             return messageFields;
         }
 
@@ -243,6 +249,10 @@ public final class SearchSlowLog implements SearchOperationListener {
             } else {
                 sb.append("id[], ");
             }
+            TaskResourceUsage resourceUsage = context.getTask().getResourceUsage();
+            if (resourceUsage != null) {
+                sb.append("resource_stats[").append(resourceUsage).append("], ");
+            }
             return sb.toString();
         }
 
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.stats.ShardIndexingPressureStats;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The indexing memory held by the write operations of a single shard, along with the throughput and the latency of the
+ * operations that it completed, see {@link IndexingPressure}.
+ */
+final class ShardIndexingPressureTracker {
+
+    /**
+     * The number of completed operations needed before the throughput of a shard is trusted to detect its degradation.
+     */
+    static final int MIN_OPERATIONS_FOR_THROUGHPUT = 100;
+
+    static final String THROUGHPUT_DEGRADATION = "throughput_degradation";
+    static final String SUCCESSFUL_REQUEST_TIMEOUT = "successful_request_timeout";
+
+    private final ShardId shardId;
+
+    private final AtomicLong currentPrimaryBytes = new AtomicLong();
+    private final AtomicLong currentReplicaBytes = new AtomicLong();
+    private final AtomicLong totalPrimaryBytes = new AtomicLong();
+    private final AtomicLong totalReplicaBytes = new AtomicLong();
+    private final AtomicLong primaryRejections = new AtomicLong();
+    private final AtomicLong replicaRejections = new AtomicLong();
+    private final AtomicLong throughputDegradationRejections = new AtomicLong();
+    private final AtomicLong successfulRequestTimeoutRejections = new AtomicLong();
+
+    // -1 once the tracker is evicted, so that no operation can start on it anymore
+    private final AtomicLong outstandingOperations = new AtomicLong();
+    private final AtomicLong completedOperations = new AtomicLong();
+    private volatile long lastSuccessfulOperationNanos;
+    private volatile long lastActivityNanos;
+
+    // bytes per millisecond of the completed operations, the recent one reacts quickly and the historical one slowly
+    private final ExponentiallyWeightedMovingAverage recentThroughput = new ExponentiallyWeightedMovingAverage(0.3, 0);
+    private final ExponentiallyWeightedMovingAverage historicalThroughput = new ExponentiallyWeightedMovingAverage(0.01, 0);
+
+    ShardIndexingPressureTracker(ShardId shardId, long nowNanos) {
+        this.shardId = shardId;
+        this.lastSuccessfulOperationNanos = nowNanos;
+        this.lastActivityNanos = nowNanos;
+    }
+
+    ShardId shardId() {
+        return shardId;
+    }
+
+    /**
+     * Adds the bytes of a new operation and returns the bytes held by the shard including them.
+     */
+    long addBytes(long bytes, boolean replica) {
+        long otherBytes = replica ? currentPrimaryBytes.get() : currentReplicaBytes.get();
+        return (replica ? currentReplicaBytes : currentPrimaryBytes).addAndGet(bytes) + otherBytes;
+    }
+
+    void removeBytes(long bytes, boolean replica) {
+        (replica ? currentReplicaBytes : currentPrimaryBytes).addAndGet(-bytes);
+    }
+
+    /**
+     * Registers a new operation on the shard, which must be followed by {@link #onRejected} or {@link #onCompleted}. Returns
+     * false if the tracker was evicted, in which case the operation must be registered on a new tracker.
+     */
+    boolean tryStart(long nowNanos) {
+        long outstanding;
+        do {
+            outstanding = outstandingOperations.get();
+            if (outstanding < 0) {
+                return false;
+            }
+        } while (outstandingOperations.compareAndSet(outstanding, outstanding + 1) == false);
+        lastActivityNanos = nowNanos;
+        return true;
+    }
+
+    /**
+     * Returns why the operation that was just started should be rejected on this shard, or null if it is healthy. The shard is
+     * degraded if the throughput of its recent operations dropped far below its historical throughput, or if it has many other
+     * outstanding operations but none completed for a while.
+     */
+    String degradation(long nowNanos, double throughputDegradationFactor, long maxOutstandingOperations,
+                       long successfulRequestTimeoutNanos) {
+        if (completedOperations.get() >= MIN_OPERATIONS_FOR_THROUGHPUT
+            && recentThroughput.getAverage() * throughputDegradationFactor < historicalThroughput.getAverage()) {
+            return THROUGHPUT_DEGRADATION;
+        }
+        if (outstandingOperations.get() - 1 > maxOutstandingOperations
+            && nowNanos - lastSuccessfulOperationNanos > successfulRequestTimeoutNanos) {
+            return SUCCESSFUL_REQUEST_TIMEOUT;
+        }
+        return null;
+    }
+
+    void onRejected(boolean replica, String reason) {
+        outstandingOperations.decrementAndGet();
+        (replica ? replicaRejections : primaryRejections).incrementAndGet();
+        if (THROUGHPUT_DEGRADATION.equals(reason)) {
+            throughputDegradationRejections.incrementAndGet();
+        } else {
+            successfulRequestTimeoutRejections.incrementAndGet();
+        }
+    }
+
+    void onStarted(long bytes, boolean replica) {
+        (replica ? totalReplicaBytes : totalPrimaryBytes).addAndGet(bytes);
+    }
+
+    void onCompleted(long bytes, boolean replica, long startNanos, long nowNanos) {
+        removeBytes(bytes, replica);
+        outstandingOperations.decrementAndGet();
+        lastSuccessfulOperationNanos = nowNanos;
+        lastActivityNanos = nowNanos;
+        if (bytes > 0) {
+            // the historical average starts from zero and so underestimates the throughput during the first operations,
+            // which only makes the degradation check more lenient
+            double throughput = (double) bytes / Math.max(1L, (nowNanos - startNanos) / 1_000_000L);
+            recentThroughput.addValue(throughput);
+            historicalThroughput.addValue(throughput);
+            completedOperations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Evicts the tracker if the shard holds no operation and saw none for the given time, so that it can stop being tracked. Once
+     * evicted, no operation can start on the tracker anymore.
+     */
+    boolean tryEvict(long nowNanos, long idleNanos) {
+        return nowNanos - lastActivityNanos > idleNanos && outstandingOperations.compareAndSet(0, -1);
+    }
+
+    ShardIndexingPressureStats stats() {
+        return new ShardIndexingPressureStats(currentPrimaryBytes.get(), currentReplicaBytes.get(), totalPrimaryBytes.get(),
+            totalReplicaBytes.get(), primaryRejections.get(), replicaRejections.get(), throughputDegradationRejections.get(),
+            successfulRequestTimeoutRejections.get(), recentThroughput.getAverage(), historicalThroughput.getAverage());
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.search.stats;
 
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
@@ -50,7 +51,12 @@ import static java.util.Collections.emptyMap;
 
 public final class ShardSearchStats implements SearchOperationListener {
 
+    // the weight of the latest query in the recent query time, high enough for the average to follow a change of the load in a few queries
+    private static final double RECENT_QUERY_TIME_ALPHA = 0.3;
+
     private final StatsHolder totalStats = new StatsHolder();
+    private final ExponentiallyWeightedMovingAverage recentQueryTimeInNanos =
+        new ExponentiallyWeightedMovingAverage(RECENT_QUERY_TIME_ALPHA, 0);
     private final CounterMetric openContexts = new CounterMetric();
     private volatile Map<String, StatsHolder> groupsStats = emptyMap();
 
@@ -79,6 +85,21 @@ public final class ShardSearchStats implements SearchOperationListener {
         return new SearchStats(total, openContexts.count(), groupsSt);
     }
 
+    /**
+     * Returns the number of query phases that completed on the shard.
+     */
+    public long queryCount() {
+        return totalStats.queryMetric.count();
+    }
+
+    /**
+     * Returns the exponentially weighted moving average of the time the recent query phases of the shard took, so that unlike
+     * the average of the total query time it follows changes of the data and of the load of the shard.
+     */
+    public double recentQueryTimeInMillis() {
+        return recentQueryTimeInNanos.getAverage() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
     @Override
     public void onPreQueryPhase(SearchContext searchContext) {
         computeStats(searchContext, statsHolder -> {
@@ -105,6 +126,9 @@ public final class ShardSearchStats implements SearchOperationListener {
 
     @Override
     public void onQueryPhase(SearchContext searchContext, long tookInNanos) {
+        if (searchContext.hasOnlySuggest() == false) {
+            recentQueryTimeInNanos.addValue(tookInNanos);
+        }
         computeStats(searchContext, statsHolder -> {
             if (searchContext.hasOnlySuggest()) {
                 statsHolder.suggestMetric.inc(tookInNanos);
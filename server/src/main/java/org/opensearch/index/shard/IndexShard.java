@@ -1044,6 +1044,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return searchStats.stats(groups);
     }
 
+    /**
+     * Returns the shard's search stats listener, which also tracks the recent query times of the shard.
+     */
+    public ShardSearchStats shardSearchStats() {
+        return searchStats;
+    }
+
     public GetStats getStats() {
         return getService.stats();
     }
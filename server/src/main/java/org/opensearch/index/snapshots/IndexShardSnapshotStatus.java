@@ -165,6 +165,23 @@ public class IndexShardSnapshotStatus {
         processedSize += size;
     }
 
+    /**
+     * Adds the given number of bytes to the processed size, without incrementing the number of processed files. Used to report the
+     * progress of files that are still being uploaded.
+     */
+    public synchronized void addProcessedBytes(long bytes) {
+        processedSize += bytes;
+    }
+
+    /**
+     * Increments number of processed files for a file that failed to upload, removing the bytes already reported for it through
+     * {@link #addProcessedBytes(long)} from the processed size.
+     */
+    public synchronized void addFailedFile(long reportedBytes) {
+        processedFileCount++;
+        processedSize -= reportedBytes;
+    }
+
     /**
      * Returns a copy of the current {@link IndexShardSnapshotStatus}. This method is
      * intended to be used when a coherent state of {@link IndexShardSnapshotStatus} is needed.
@@ -33,14 +33,18 @@
 package org.opensearch.index.stats;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.shard.ShardId;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
 
 public class IndexingPressureStats implements Writeable, ToXContentFragment {
 
@@ -58,6 +62,7 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
     private final long primaryRejections;
     private final long replicaRejections;
     private final long memoryLimit;
+    private final Map<ShardId, ShardIndexingPressureStats> shardStats;
 
     public IndexingPressureStats(StreamInput in) throws IOException {
         totalCombinedCoordinatingAndPrimaryBytes = in.readVLong();
@@ -79,12 +84,26 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         } else {
             memoryLimit = -1L;
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            shardStats = in.readMap(ShardId::new, ShardIndexingPressureStats::new);
+        } else {
+            shardStats = Collections.emptyMap();
+        }
     }
 
     public IndexingPressureStats(long totalCombinedCoordinatingAndPrimaryBytes, long totalCoordinatingBytes, long totalPrimaryBytes,
                                  long totalReplicaBytes, long currentCombinedCoordinatingAndPrimaryBytes, long currentCoordinatingBytes,
                                  long currentPrimaryBytes, long currentReplicaBytes, long coordinatingRejections, long primaryRejections,
                                  long replicaRejections, long memoryLimit) {
+        this(totalCombinedCoordinatingAndPrimaryBytes, totalCoordinatingBytes, totalPrimaryBytes, totalReplicaBytes,
+            currentCombinedCoordinatingAndPrimaryBytes, currentCoordinatingBytes, currentPrimaryBytes, currentReplicaBytes,
+            coordinatingRejections, primaryRejections, replicaRejections, memoryLimit, Collections.emptyMap());
+    }
+
+    public IndexingPressureStats(long totalCombinedCoordinatingAndPrimaryBytes, long totalCoordinatingBytes, long totalPrimaryBytes,
+                                 long totalReplicaBytes, long currentCombinedCoordinatingAndPrimaryBytes, long currentCoordinatingBytes,
+                                 long currentPrimaryBytes, long currentReplicaBytes, long coordinatingRejections, long primaryRejections,
+                                 long replicaRejections, long memoryLimit, Map<ShardId, ShardIndexingPressureStats> shardStats) {
         this.totalCombinedCoordinatingAndPrimaryBytes = totalCombinedCoordinatingAndPrimaryBytes;
         this.totalCoordinatingBytes = totalCoordinatingBytes;
         this.totalPrimaryBytes = totalPrimaryBytes;
@@ -97,6 +116,7 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         this.primaryRejections = primaryRejections;
         this.replicaRejections = replicaRejections;
         this.memoryLimit = memoryLimit;
+        this.shardStats = shardStats;
     }
 
     @Override
@@ -118,6 +138,9 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(LegacyESVersion.V_7_10_0)) {
             out.writeVLong(memoryLimit);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeMap(shardStats, (o, shardId) -> shardId.writeTo(o), (o, stats) -> stats.writeTo(o));
+        }
     }
 
     public long getTotalCombinedCoordinatingAndPrimaryBytes() {
@@ -164,6 +187,14 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         return replicaRejections;
     }
 
+    /**
+     * The indexing pressure of the shards that recently received write operations, empty unless shard indexing pressure
+     * is enabled.
+     */
+    public Map<ShardId, ShardIndexingPressureStats> getShardStats() {
+        return shardStats;
+    }
+
     private static final String COMBINED = "combined_coordinating_and_primary";
     private static final String COMBINED_IN_BYTES = "combined_coordinating_and_primary_in_bytes";
     private static final String COORDINATING = "coordinating";
@@ -203,6 +234,15 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         builder.endObject();
         builder.humanReadableField(LIMIT_IN_BYTES, LIMIT, new ByteSizeValue(memoryLimit));
         builder.endObject();
+        if (shardStats.isEmpty() == false) {
+            builder.startObject("shards");
+            for (Map.Entry<ShardId, ShardIndexingPressureStats> entry : shardStats.entrySet()) {
+                builder.startObject(entry.getKey().toString());
+                entry.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         return builder.endObject();
     }
 }
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.stats;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * The indexing pressure of a single shard, see {@link IndexingPressureStats#getShardStats()}.
+ */
+public class ShardIndexingPressureStats implements Writeable, ToXContentFragment {
+
+    private final long currentPrimaryBytes;
+    private final long currentReplicaBytes;
+    private final long totalPrimaryBytes;
+    private final long totalReplicaBytes;
+    private final long primaryRejections;
+    private final long replicaRejections;
+    private final long throughputDegradationRejections;
+    private final long successfulRequestTimeoutRejections;
+    private final double recentThroughput;
+    private final double historicalThroughput;
+
+    public ShardIndexingPressureStats(long currentPrimaryBytes, long currentReplicaBytes, long totalPrimaryBytes, long totalReplicaBytes,
+                                      long primaryRejections, long replicaRejections, long throughputDegradationRejections,
+                                      long successfulRequestTimeoutRejections, double recentThroughput, double historicalThroughput) {
+        this.currentPrimaryBytes = currentPrimaryBytes;
+        this.currentReplicaBytes = currentReplicaBytes;
+        this.totalPrimaryBytes = totalPrimaryBytes;
+        this.totalReplicaBytes = totalReplicaBytes;
+        this.primaryRejections = primaryRejections;
+        this.replicaRejections = replicaRejections;
+        this.throughputDegradationRejections = throughputDegradationRejections;
+        this.successfulRequestTimeoutRejections = successfulRequestTimeoutRejections;
+        this.recentThroughput = recentThroughput;
+        this.historicalThroughput = historicalThroughput;
+    }
+
+    public ShardIndexingPressureStats(StreamInput in) throws IOException {
+        currentPrimaryBytes = in.readVLong();
+        currentReplicaBytes = in.readVLong();
+        totalPrimaryBytes = in.readVLong();
+        totalReplicaBytes = in.readVLong();
+        primaryRejections = in.readVLong();
+        replicaRejections = in.readVLong();
+        throughputDegradationRejections = in.readVLong();
+        successfulRequestTimeoutRejections = in.readVLong();
+        recentThroughput = in.readDouble();
+        historicalThroughput = in.readDouble();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(currentPrimaryBytes);
+        out.writeVLong(currentReplicaBytes);
+        out.writeVLong(totalPrimaryBytes);
+        out.writeVLong(totalReplicaBytes);
+        out.writeVLong(primaryRejections);
+        out.writeVLong(replicaRejections);
+        out.writeVLong(throughputDegradationRejections);
+        out.writeVLong(successfulRequestTimeoutRejections);
+        out.writeDouble(recentThroughput);
+        out.writeDouble(historicalThroughput);
+    }
+
+    public long getCurrentPrimaryBytes() {
+        return currentPrimaryBytes;
+    }
+
+    public long getCurrentReplicaBytes() {
+        return currentReplicaBytes;
+    }
+
+    public long getTotalPrimaryBytes() {
+        return totalPrimaryBytes;
+    }
+
+    public long getTotalReplicaBytes() {
+        return totalReplicaBytes;
+    }
+
+    public long getPrimaryRejections() {
+        return primaryRejections;
+    }
+
+    public long getReplicaRejections() {
+        return replicaRejections;
+    }
+
+    public long getThroughputDegradationRejections() {
+        return throughputDegradationRejections;
+    }
+
+    public long getSuccessfulRequestTimeoutRejections() {
+        return successfulRequestTimeoutRejections;
+    }
+
+    /**
+     * The moving average of the throughput of the recent operations of the shard, in bytes per millisecond.
+     */
+    public double getRecentThroughput() {
+        return recentThroughput;
+    }
+
+    /**
+     * The long term moving average of the throughput of the operations of the shard, in bytes per millisecond.
+     */
+    public double getHistoricalThroughput() {
+        return historicalThroughput;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("current");
+        builder.humanReadableField("primary_in_bytes", "primary", new ByteSizeValue(currentPrimaryBytes));
+        builder.humanReadableField("replica_in_bytes", "replica", new ByteSizeValue(currentReplicaBytes));
+        builder.endObject();
+        builder.startObject("total");
+        builder.humanReadableField("primary_in_bytes", "primary", new ByteSizeValue(totalPrimaryBytes));
+        builder.humanReadableField("replica_in_bytes", "replica", new ByteSizeValue(totalReplicaBytes));
+        builder.field("primary_rejections", primaryRejections);
+        builder.field("replica_rejections", replicaRejections);
+        builder.startObject("rejection_breakdown");
+        builder.field("throughput_degradation", throughputDegradationRejections);
+        builder.field("successful_request_timeout", successfulRequestTimeoutRejections);
+        builder.endObject();
+        builder.endObject();
+        builder.startObject("throughput");
+        builder.field("recent_bytes_per_millis", recentThroughput);
+        builder.field("historical_bytes_per_millis", historicalThroughput);
+        builder.endObject();
+        return builder;
+    }
+}
@@ -33,6 +33,7 @@
 package org.opensearch.index.translog;
 
 import org.apache.lucene.store.BufferedChecksum;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.FilterStreamInput;
 import org.opensearch.common.io.stream.StreamInput;
 
@@ -83,6 +84,12 @@ public final class BufferedChecksumStreamInput extends FilterStreamInput {
         digest.update(b, offset, len);
     }
 
+    @Override
+    public ReleasableBytesReference readReleasableBytesReference() throws IOException {
+        // read through this stream rather than the delegate so the bytes are part of the checksum
+        return ReleasableBytesReference.wrap(readBytesReference());
+    }
+
     private static final ThreadLocal<byte[]> buffer = ThreadLocal.withInitial(() -> new byte[8]);
 
     @Override
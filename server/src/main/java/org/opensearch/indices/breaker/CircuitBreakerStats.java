@@ -32,10 +32,12 @@
 
 package org.opensearch.indices.breaker;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentObject;
 import org.opensearch.common.xcontent.XContentBuilder;
 
@@ -49,16 +51,25 @@ public class CircuitBreakerStats implements Writeable, ToXContentObject {
 
     private final String name;
     private final long limit;
+    private final long effectiveLimit;
     private final long estimated;
     private final long trippedCount;
     private final double overhead;
+    private final long predictedTimeToLimitMillis;
 
     public CircuitBreakerStats(String name, long limit, long estimated, double overhead, long trippedCount) {
+        this(name, limit, limit, estimated, overhead, trippedCount, -1L);
+    }
+
+    public CircuitBreakerStats(String name, long limit, long effectiveLimit, long estimated, double overhead, long trippedCount,
+                               long predictedTimeToLimitMillis) {
         this.name = name;
         this.limit = limit;
+        this.effectiveLimit = effectiveLimit;
         this.estimated = estimated;
         this.trippedCount = trippedCount;
         this.overhead = overhead;
+        this.predictedTimeToLimitMillis = predictedTimeToLimitMillis;
     }
 
     public CircuitBreakerStats(StreamInput in) throws IOException {
@@ -67,6 +78,13 @@ public class CircuitBreakerStats implements Writeable, ToXContentObject {
         this.overhead = in.readDouble();
         this.trippedCount = in.readLong();
         this.name = in.readString();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            this.effectiveLimit = in.readLong();
+            this.predictedTimeToLimitMillis = in.readLong();
+        } else {
+            this.effectiveLimit = limit;
+            this.predictedTimeToLimitMillis = -1L;
+        }
     }
 
     @Override
@@ -76,6 +94,10 @@ public class CircuitBreakerStats implements Writeable, ToXContentObject {
         out.writeDouble(overhead);
         out.writeLong(trippedCount);
         out.writeString(name);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeLong(effectiveLimit);
+            out.writeLong(predictedTimeToLimitMillis);
+        }
     }
 
     public String getName() {
@@ -86,6 +108,20 @@ public class CircuitBreakerStats implements Writeable, ToXContentObject {
         return this.limit;
     }
 
+    /**
+     * @return the limit the breaker currently enforces, which is lower than {@link #getLimit()} while adaptive limits tighten it
+     */
+    public long getEffectiveLimit() {
+        return this.effectiveLimit;
+    }
+
+    /**
+     * @return the predicted time in milliseconds until heap usage reaches the limit, or {@code -1} if there is no prediction
+     */
+    public long getPredictedTimeToLimitMillis() {
+        return this.predictedTimeToLimitMillis;
+    }
+
     public long getEstimated() {
         return this.estimated;
     }
@@ -103,10 +139,18 @@ public class CircuitBreakerStats implements Writeable, ToXContentObject {
         builder.startObject(name.toLowerCase(Locale.ROOT));
         builder.field(Fields.LIMIT, limit);
         builder.field(Fields.LIMIT_HUMAN, new ByteSizeValue(limit));
+        if (effectiveLimit != limit) {
+            builder.field(Fields.EFFECTIVE_LIMIT, effectiveLimit);
+            builder.field(Fields.EFFECTIVE_LIMIT_HUMAN, new ByteSizeValue(effectiveLimit));
+        }
         builder.field(Fields.ESTIMATED, estimated);
         builder.field(Fields.ESTIMATED_HUMAN, new ByteSizeValue(estimated));
         builder.field(Fields.OVERHEAD, overhead);
         builder.field(Fields.TRIPPED_COUNT, trippedCount);
+        if (predictedTimeToLimitMillis >= 0) {
+            builder.humanReadableField(Fields.PREDICTED_TIME_TO_LIMIT_IN_MILLIS, Fields.PREDICTED_TIME_TO_LIMIT,
+                TimeValue.timeValueMillis(predictedTimeToLimitMillis));
+        }
         builder.endObject();
         return builder;
     }
@@ -126,5 +170,9 @@ public class CircuitBreakerStats implements Writeable, ToXContentObject {
         static final String ESTIMATED_HUMAN = "estimated_size";
         static final String OVERHEAD = "overhead";
         static final String TRIPPED_COUNT = "tripped";
+        static final String EFFECTIVE_LIMIT = "effective_limit_size_in_bytes";
+        static final String EFFECTIVE_LIMIT_HUMAN = "effective_limit_size";
+        static final String PREDICTED_TIME_TO_LIMIT = "predicted_time_to_limit";
+        static final String PREDICTED_TIME_TO_LIMIT_IN_MILLIS = "predicted_time_to_limit_in_millis";
     }
 }
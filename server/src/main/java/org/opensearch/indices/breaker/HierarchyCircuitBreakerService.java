@@ -54,11 +54,16 @@ import org.opensearch.monitor.jvm.JvmInfo;
 import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
@@ -78,6 +83,7 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
     private static final String CHILD_LOGGER_PREFIX = "org.opensearch.indices.breaker.";
 
     private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+    private static final MemoryPoolMXBean OLD_GENERATION_POOL = findOldGenerationPool();
 
     private final Map<String, CircuitBreaker> breakers;
 
@@ -121,9 +127,32 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
     public static final Setting<CircuitBreaker.Type> IN_FLIGHT_REQUESTS_CIRCUIT_BREAKER_TYPE_SETTING =
         new Setting<>("network.breaker.inflight_requests.type", "memory", CircuitBreaker.Type::parseValue, Property.NodeScope);
 
+    public static final Setting<Boolean> ADAPTIVE_LIMITS_ENABLED_SETTING =
+        Setting.boolSetting("indices.breaker.total.adaptive.enabled", false, Property.Dynamic, Property.NodeScope);
+    public static final Setting<TimeValue> ADAPTIVE_LIMITS_HORIZON_SETTING =
+        Setting.positiveTimeSetting("indices.breaker.total.adaptive.horizon", TimeValue.timeValueMinutes(5),
+            Property.Dynamic, Property.NodeScope);
+    public static final Setting<Double> ADAPTIVE_LIMITS_MIN_RATIO_SETTING =
+        Setting.doubleSetting("indices.breaker.total.adaptive.min_ratio", 0.5d, 0.0d, 1.0d, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The child breakers whose limits are tightened when the heap is predicted to reach the parent limit soon. These account for
+     * memory that is allocated in bursts by incoming requests, unlike the accounting breaker which tracks memory already held.
+     */
+    private static final Set<String> ADAPTIVE_BREAKERS =
+        Collections.unmodifiableSet(new HashSet<>(Arrays.asList(CircuitBreaker.REQUEST, CircuitBreaker.IN_FLIGHT_REQUESTS,
+            CircuitBreaker.FIELDDATA)));
+
     private final boolean trackRealMemoryUsage;
     private volatile BreakerSettings parentSettings;
 
+    private final HeapUsageTrend heapUsageTrend;
+    private volatile boolean adaptiveLimitsEnabled;
+    private volatile long adaptiveLimitsHorizonNanos;
+    private volatile double adaptiveLimitsMinRatio;
+    // the fraction of their configured limit the adaptive child breakers currently allow
+    private volatile double adaptiveLimitRatio = 1.0d;
+
     // Tripped count for when redistribution was attempted but wasn't successful
     private final AtomicLong parentTripCount = new AtomicLong(0);
 
@@ -200,6 +229,22 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
             (s, t) -> {});
 
         this.overLimitStrategy = overLimitStrategyFactory.apply(this.trackRealMemoryUsage);
+
+        this.heapUsageTrend = new HeapUsageTrend(this::relativeTimeInNanos, this::retainedMemoryUsage, ADAPTIVE_SAMPLE_INTERVAL_NANOS);
+        this.adaptiveLimitsEnabled = ADAPTIVE_LIMITS_ENABLED_SETTING.get(settings);
+        this.adaptiveLimitsHorizonNanos = ADAPTIVE_LIMITS_HORIZON_SETTING.get(settings).nanos();
+        this.adaptiveLimitsMinRatio = ADAPTIVE_LIMITS_MIN_RATIO_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_LIMITS_ENABLED_SETTING, this::setAdaptiveLimitsEnabled);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_LIMITS_HORIZON_SETTING,
+            horizon -> this.adaptiveLimitsHorizonNanos = horizon.nanos());
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_LIMITS_MIN_RATIO_SETTING, ratio -> this.adaptiveLimitsMinRatio = ratio);
+    }
+
+    private void setAdaptiveLimitsEnabled(boolean enabled) {
+        this.adaptiveLimitsEnabled = enabled;
+        if (enabled == false) {
+            this.adaptiveLimitRatio = 1.0d;
+        }
     }
 
     private void updateCircuitBreakerSettings(String name, ByteSizeValue newLimit, Double newOverhead) {
@@ -251,16 +296,58 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
             allStats.add(stats(breaker.getName()));
         }
         // Manually add the parent breaker settings since they aren't part of the breaker map
-        allStats.add(new CircuitBreakerStats(CircuitBreaker.PARENT, parentSettings.getLimit(),
-            memoryUsed(0L).totalUsage, 1.0, parentTripCount.get()));
+        final long parentLimit = parentSettings.getLimit();
+        final long totalUsage = memoryUsed(0L).totalUsage;
+        final long predictedTimeToLimit = isAdaptive() ? heapUsageTrend.predictedNanosToReach(parentLimit) : -1L;
+        allStats.add(new CircuitBreakerStats(CircuitBreaker.PARENT, parentLimit, parentLimit, totalUsage, 1.0, parentTripCount.get(),
+            predictedTimeToLimit < 0 ? -1L : TimeUnit.NANOSECONDS.toMillis(predictedTimeToLimit)));
         return new AllCircuitBreakerStats(allStats.toArray(new CircuitBreakerStats[0]));
     }
 
     @Override
     public CircuitBreakerStats stats(String name) {
         CircuitBreaker breaker = this.breakers.get(name);
-        return new CircuitBreakerStats(breaker.getName(), breaker.getLimit(), breaker.getUsed(), breaker.getOverhead(),
-            breaker.getTrippedCount());
+        return new CircuitBreakerStats(breaker.getName(), breaker.getLimit(), effectiveChildLimit(name, breaker.getLimit()),
+            breaker.getUsed(), breaker.getOverhead(), breaker.getTrippedCount(), -1L);
+    }
+
+    private boolean isAdaptive() {
+        return trackRealMemoryUsage && adaptiveLimitsEnabled;
+    }
+
+    /**
+     * Returns the limit that the given child breaker should currently enforce. With adaptive limits enabled, the limits of the
+     * request, in-flight requests and fielddata breakers are scaled down while the heap usage that old generation collections leave
+     * behind is predicted to reach the parent limit within {@link #ADAPTIVE_LIMITS_HORIZON_SETTING}, so that requests are rejected
+     * before the collections can no longer bring real memory usage below the limit.
+     */
+    public long effectiveChildLimit(String name, long configuredLimit) {
+        final double ratio = this.adaptiveLimitRatio;
+        if (configuredLimit <= 0 || ratio >= 1.0d || ADAPTIVE_BREAKERS.contains(name) == false) {
+            return configuredLimit;
+        }
+        return Math.max(1L, (long) (configuredLimit * ratio));
+    }
+
+    private void updateAdaptiveLimitRatio() {
+        final long predictedNanos = heapUsageTrend.predictedNanosToReach(parentSettings.getLimit());
+        final double ratio;
+        if (predictedNanos < 0) {
+            // the old generation collections don't leave more and more behind
+            ratio = 1.0d;
+        } else {
+            ratio = Math.max(adaptiveLimitsMinRatio, Math.min(1.0d, (double) predictedNanos / adaptiveLimitsHorizonNanos));
+        }
+        final double previousRatio = this.adaptiveLimitRatio;
+        this.adaptiveLimitRatio = ratio;
+        if (ratio < 1.0d && previousRatio >= 1.0d) {
+            logger.info("retained heap usage [{}] is predicted to reach the parent limit [{}] in [{}], " +
+                    "reducing child breaker limits to [{}]", new ByteSizeValue(heapUsageTrend.retainedUsage()),
+                new ByteSizeValue(parentSettings.getLimit()), TimeValue.timeValueNanos(predictedNanos), ratio);
+        } else if (ratio >= 1.0d && previousRatio < 1.0d) {
+            logger.info("retained heap usage [{}] is no longer predicted to reach the parent limit soon, restoring child breaker limits",
+                new ByteSizeValue(heapUsageTrend.retainedUsage()));
+        }
     }
 
     static class MemoryUsage {
@@ -291,6 +378,9 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         }
         if (this.trackRealMemoryUsage) {
             final long current = currentMemoryUsage();
+            if (adaptiveLimitsEnabled && heapUsageTrend.sample()) {
+                updateAdaptiveLimitRatio();
+            }
             return new MemoryUsage(current, current + newBytesReserved, transientUsage, permanentUsage);
         } else {
             long parentEstimated = transientUsage + permanentUsage;
@@ -303,6 +393,16 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         return realMemoryUsage();
     }
 
+    //package private to allow overriding it in tests
+    long retainedMemoryUsage() {
+        return oldGenerationCollectionUsage();
+    }
+
+    //package private to allow overriding it in tests
+    long relativeTimeInNanos() {
+        return System.nanoTime();
+    }
+
     static long realMemoryUsage() {
         try {
             return MEMORY_MX_BEAN.getHeapMemoryUsage().getUsed();
@@ -316,6 +416,27 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         }
     }
 
+    /**
+     * Returns the usage of the old generation after its last collection, or {@code -1} if the old generation wasn't collected yet or
+     * its memory pool is unknown.
+     */
+    public static long oldGenerationCollectionUsage() {
+        if (OLD_GENERATION_POOL == null) {
+            return -1L;
+        }
+        final java.lang.management.MemoryUsage usage = OLD_GENERATION_POOL.getCollectionUsage();
+        return usage == null || usage.getUsed() <= 0 ? -1L : usage.getUsed();
+    }
+
+    private static MemoryPoolMXBean findOldGenerationPool() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (GcNames.OLD.equals(GcNames.getByMemoryPoolName(pool.getName(), null))) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
     public long getParentLimit() {
         return this.parentSettings.getLimit();
     }
@@ -403,6 +524,121 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         }
     }
 
+    // hardcode interval and window, old generation collections are far apart so the trend follows minutes rather than seconds
+    static final long ADAPTIVE_SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Follows how the heap usage that old generation collections leave behind grows. This is the live data that no collection can
+     * free, so if it keeps growing the heap will eventually stay above the parent limit, however much garbage the young generation
+     * produces in between. The growth rate is the least squares slope of this usage over the last {@link #WINDOW} samples, so that
+     * a single collection that frees more or less than usual does not dominate it.
+     */
+    static class HeapUsageTrend {
+        static final int WINDOW = 30;
+        // the number of samples needed before there is a trend
+        static final int MIN_SAMPLES = 6;
+
+        private final LongSupplier relativeNanoTimeSupplier;
+        private final LongSupplier retainedUsageSupplier;
+        private final long minimumIntervalNanos;
+
+        private final long[] sampleNanos = new long[WINDOW];
+        private final long[] sampleUsages = new long[WINDOW];
+        private int samples;
+        private int nextSample;
+        private volatile long lastSampleNanos;
+        private volatile boolean sampled;
+        private volatile long retainedUsage = -1L;
+        private volatile double retainedBytesPerSecond;
+
+        HeapUsageTrend(LongSupplier relativeNanoTimeSupplier, LongSupplier retainedUsageSupplier, long minimumIntervalNanos) {
+            this.relativeNanoTimeSupplier = relativeNanoTimeSupplier;
+            this.retainedUsageSupplier = retainedUsageSupplier;
+            this.minimumIntervalNanos = minimumIntervalNanos;
+        }
+
+        /**
+         * Records the usage that the last old generation collection left behind if the last sample is older than the minimum interval.
+         *
+         * @return whether the sample was recorded
+         */
+        boolean sample() {
+            final long now = relativeNanoTimeSupplier.getAsLong();
+            if (sampled && now - lastSampleNanos < minimumIntervalNanos) {
+                return false;
+            }
+            synchronized (this) {
+                if (sampled && now - lastSampleNanos < minimumIntervalNanos) {
+                    return false;
+                }
+                sampled = true;
+                lastSampleNanos = now;
+                final long usage = retainedUsageSupplier.getAsLong();
+                if (usage < 0) {
+                    // the old generation wasn't collected yet
+                    return false;
+                }
+                sampleNanos[nextSample] = now;
+                sampleUsages[nextSample] = usage;
+                nextSample = (nextSample + 1) % WINDOW;
+                samples = Math.min(samples + 1, WINDOW);
+                retainedUsage = usage;
+                retainedBytesPerSecond = samples < MIN_SAMPLES ? 0d : slope(now);
+                return true;
+            }
+        }
+
+        private double slope(long now) {
+            double meanSeconds = 0d;
+            double meanUsage = 0d;
+            for (int i = 0; i < samples; i++) {
+                meanSeconds += seconds(sampleNanos[i] - now);
+                meanUsage += sampleUsages[i];
+            }
+            meanSeconds /= samples;
+            meanUsage /= samples;
+            double covariance = 0d;
+            double variance = 0d;
+            for (int i = 0; i < samples; i++) {
+                final double seconds = seconds(sampleNanos[i] - now) - meanSeconds;
+                covariance += seconds * (sampleUsages[i] - meanUsage);
+                variance += seconds * seconds;
+            }
+            return variance == 0d ? 0d : covariance / variance;
+        }
+
+        /**
+         * @return the predicted time in nanoseconds until the retained heap usage reaches the given limit, zero if it is already
+         * there or {@code -1} if it does not grow
+         */
+        long predictedNanosToReach(long limit) {
+            final long usage = retainedUsage;
+            final double rate = retainedBytesPerSecond;
+            if (usage < 0) {
+                return -1L;
+            }
+            if (usage >= limit) {
+                return 0L;
+            }
+            if (rate <= 0) {
+                return -1L;
+            }
+            return (long) Math.min(Long.MAX_VALUE, (limit - usage) / rate * TimeUnit.SECONDS.toNanos(1));
+        }
+
+        long retainedUsage() {
+            return retainedUsage;
+        }
+
+        double retainedBytesPerSecond() {
+            return retainedBytesPerSecond;
+        }
+
+        private static double seconds(long nanos) {
+            return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+
     interface OverLimitStrategy {
         MemoryUsage overLimit(MemoryUsage memoryUsed);
     }
@@ -39,7 +39,9 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.Strings;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.store.Store;
@@ -164,6 +166,7 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
 
     @Override
     protected void closeInternal() {
+        Releasables.close(fileChunkWriters.values());
         fileChunkWriters.clear();
         // clean open index outputs
         Iterator<Map.Entry<String, IndexOutput>> iterator = openIndexOutputs.entrySet().iterator();
@@ -192,20 +195,27 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         store.renameTempFilesSafe(tempFileNames);
     }
 
-    static final class FileChunk {
+    static final class FileChunk implements Releasable {
         final StoreFileMetadata md;
-        final BytesReference content;
+        final ReleasableBytesReference content;
         final long position;
         final boolean lastChunk;
         FileChunk(StoreFileMetadata md, BytesReference content, long position, boolean lastChunk) {
             this.md = md;
-            this.content = content;
+            // chunks may be buffered beyond the request they arrived with, so keep the network buffer they point into alive
+            this.content = content instanceof ReleasableBytesReference
+                ? ((ReleasableBytesReference) content).retain() : ReleasableBytesReference.wrap(content);
             this.position = position;
             this.lastChunk = lastChunk;
         }
+
+        @Override
+        public void close() {
+            content.close();
+        }
     }
 
-    private final class FileChunkWriter {
+    private final class FileChunkWriter implements Releasable {
         // chunks can be delivered out of order, we need to buffer chunks if there's a gap between them.
         final PriorityQueue<FileChunk> pendingChunks = new PriorityQueue<>(Comparator.comparing(fc -> fc.position));
         long lastPosition = 0;
@@ -223,7 +233,9 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
                     }
                     pendingChunks.remove();
                 }
-                innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
+                try (FileChunk ignored = chunk) {
+                    innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
+                }
                 synchronized (this) {
                     assert lastPosition == chunk.position : "last_position " + lastPosition + " != chunk_position " + chunk.position;
                     lastPosition += chunk.content.length();
@@ -235,5 +247,11 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
                 }
             }
         }
+
+        @Override
+        public synchronized void close() {
+            Releasables.close(pendingChunks);
+            pendingChunks.clear();
+        }
     }
 }
@@ -34,6 +34,7 @@ package org.opensearch.indices.recovery;
 
 import org.apache.lucene.util.Version;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lucene.Lucene;
@@ -47,7 +48,7 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
     private final long recoveryId;
     private final ShardId shardId;
     private final long position;
-    private final BytesReference content;
+    private final ReleasableBytesReference content;
     private final StoreFileMetadata metadata;
     private final long sourceThrottleTimeInNanos;
 
@@ -61,13 +62,19 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         position = in.readVLong();
         long length = in.readVLong();
         String checksum = in.readString();
-        content = in.readBytesReference();
-        Version writtenBy = Lucene.parseVersionLenient(in.readString(), null);
-        assert writtenBy != null;
-        metadata = new StoreFileMetadata(name, length, checksum, writtenBy);
-        lastChunk = in.readBoolean();
-        totalTranslogOps = in.readVInt();
-        sourceThrottleTimeInNanos = in.readLong();
+        content = in.readReleasableBytesReference();
+        try {
+            Version writtenBy = Lucene.parseVersionLenient(in.readString(), null);
+            assert writtenBy != null;
+            metadata = new StoreFileMetadata(name, length, checksum, writtenBy);
+            lastChunk = in.readBoolean();
+            totalTranslogOps = in.readVInt();
+            sourceThrottleTimeInNanos = in.readLong();
+        } catch (Exception e) {
+            // the request is not handed to anyone who would release the content it retained
+            content.decRef();
+            throw e;
+        }
     }
 
     public RecoveryFileChunkRequest(long recoveryId, final long requestSeqNo, ShardId shardId, StoreFileMetadata metadata, long position,
@@ -77,7 +84,7 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         this.shardId = shardId;
         this.metadata = metadata;
         this.position = position;
-        this.content = content;
+        this.content = ReleasableBytesReference.wrap(content);
         this.lastChunk = lastChunk;
         this.totalTranslogOps = totalTranslogOps;
         this.sourceThrottleTimeInNanos = sourceThrottleTimeInNanos;
@@ -131,6 +138,21 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         out.writeLong(sourceThrottleTimeInNanos);
     }
 
+    @Override
+    public void incRef() {
+        content.incRef();
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        return content.tryIncRef();
+    }
+
+    @Override
+    public boolean decRef() {
+        return content.decRef();
+    }
+
     @Override
     public String toString() {
         return shardId + ": name='" + name() + '\'' +
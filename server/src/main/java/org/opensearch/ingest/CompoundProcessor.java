@@ -40,7 +40,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
@@ -154,8 +153,7 @@ public class CompoundProcessor implements Processor {
         final long startTimeInNanos = relativeTimeProvider.getAsLong();
         metric.preIngest();
         processor.execute(ingestDocument, (result, e) -> {
-            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
-            metric.postIngest(ingestTimeInMillis);
+            metric.postIngest(relativeTimeProvider.getAsLong() - startTimeInNanos);
 
             if (e != null) {
                 metric.ingestFailed();
@@ -76,6 +76,10 @@ public final class IngestDocument {
     // Contains all pipelines that have been executed for this document
     private final Set<String> executedPipelines = new LinkedHashSet<>();
 
+    // Whether the source (as opposed to the metadata fields) may have been modified since this document was created from a request.
+    // Documents that are created from maps provided by the caller are always considered to be modified.
+    private boolean sourceModified;
+
     public IngestDocument(String index, String type, String id, String routing,
                           Long version, VersionType versionType, Map<String, Object> source) {
         this.sourceAndMetadata = new HashMap<>();
@@ -95,6 +99,8 @@ public final class IngestDocument {
 
         this.ingestMetadata = new HashMap<>();
         this.ingestMetadata.put(TIMESTAMP, ZonedDateTime.now(ZoneOffset.UTC));
+        // metadata fields that are part of the source get overridden, and need to be removed from the source when writing it back
+        this.sourceModified = source.keySet().stream().anyMatch(IngestDocument::isMetadataField);
     }
 
     /**
@@ -112,6 +118,7 @@ public final class IngestDocument {
     public IngestDocument(Map<String, Object> sourceAndMetadata, Map<String, Object> ingestMetadata) {
         this.sourceAndMetadata = sourceAndMetadata;
         this.ingestMetadata = ingestMetadata;
+        this.sourceModified = true;
     }
 
     /**
@@ -128,6 +135,10 @@ public final class IngestDocument {
         for (String pathElement : fieldPath.pathElements) {
             context = resolve(pathElement, path, context);
         }
+        if (context instanceof Map || context instanceof List) {
+            // the returned object can be modified in place by the caller
+            fieldPath.markSourceModified();
+        }
         return cast(path, context, clazz);
     }
 
@@ -308,6 +319,7 @@ public final class IngestDocument {
      */
     public void removeField(String path) {
         FieldPath fieldPath = new FieldPath(path);
+        fieldPath.markSourceModified();
         Object context = fieldPath.initialContext;
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             context = resolve(fieldPath.pathElements[i], path, context);
@@ -508,6 +520,7 @@ public final class IngestDocument {
 
     private void setFieldValue(String path, Object value, boolean append, boolean allowDuplicates) {
         FieldPath fieldPath = new FieldPath(path);
+        fieldPath.markSourceModified();
         Object context = fieldPath.initialContext;
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
@@ -704,9 +717,27 @@ public final class IngestDocument {
      * Modify the document instead using {@link #setFieldValue(String, Object)} and {@link #removeField(String)}
      */
     public Map<String, Object> getSourceAndMetadata() {
+        // the returned map can be modified in place by the caller
+        sourceModified = true;
+        return this.sourceAndMetadata;
+    }
+
+    /**
+     * Same as {@link #getSourceAndMetadata()}, for callers that guarantee to never modify the returned map.
+     */
+    Map<String, Object> getSourceAndMetadataForReading() {
         return this.sourceAndMetadata;
     }
 
+    /**
+     * Returns whether the source of this document may have been modified since it was created from an index request. Changes to the
+     * metadata fields only (like {@code _index} or {@code _routing}) don't count as modifications, so that the original source of the
+     * request can be kept as-is instead of being serialized again.
+     */
+    public boolean isSourceModified() {
+        return sourceModified;
+    }
+
     @SuppressWarnings("unchecked")
     public static <K, V> Map<K, V> deepCopyMap(Map<K, V> source) {
         return (Map<K, V>) deepCopy(source);
@@ -848,5 +879,22 @@ public final class IngestDocument {
             }
         }
 
+        /**
+         * Records that the value at this path may get modified, unless it belongs to the ingest metadata or is a metadata field.
+         */
+        private void markSourceModified() {
+            if (initialContext == sourceAndMetadata && (pathElements.length > 1 || isMetadataField(pathElements[0]) == false)) {
+                sourceModified = true;
+            }
+        }
+    }
+
+    private static boolean isMetadataField(String fieldName) {
+        for (Metadata metadata : Metadata.values()) {
+            if (metadata.getFieldName().equals(fieldName)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -32,9 +32,12 @@
 
 package org.opensearch.ingest;
 
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -46,6 +49,13 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 class IngestMetric {
 
+    /**
+     * Latencies are tracked in microseconds up to an hour, longer ones are recorded as taking an hour. A single significant digit keeps
+     * each histogram at a few KB, which matters because every processor of every pipeline has its own metric.
+     */
+    private static final long MAX_TRACKED_LATENCY_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int LATENCY_SIGNIFICANT_DIGITS = 1;
+
     /**
      * The time it takes to complete the measured item.
      */
@@ -63,6 +73,10 @@ class IngestMetric {
      * The only increasing count of failures
      */
     private final CounterMetric ingestFailed = new CounterMetric();
+    /**
+     * The distribution of the time it takes to complete the measured item, in microseconds.
+     */
+    private final AtomicHistogram ingestLatency = new AtomicHistogram(1, MAX_TRACKED_LATENCY_MICROS, LATENCY_SIGNIFICANT_DIGITS);
 
     /**
      * Call this prior to the ingest action.
@@ -73,12 +87,13 @@ class IngestMetric {
 
     /**
      * Call this after the performing the ingest action, even if the action failed.
-     * @param ingestTimeInMillis The time it took to perform the action.
+     * @param ingestTimeInNanos The time it took to perform the action.
      */
-    void postIngest(long ingestTimeInMillis) {
+    void postIngest(long ingestTimeInNanos) {
         ingestCurrent.decrementAndGet();
-        ingestTime.inc(ingestTimeInMillis);
+        ingestTime.inc(TimeUnit.NANOSECONDS.toMillis(ingestTimeInNanos));
         ingestCount.inc();
+        ingestLatency.recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(ingestTimeInNanos), 0L), MAX_TRACKED_LATENCY_MICROS));
     }
 
     /**
@@ -99,12 +114,17 @@ class IngestMetric {
         ingestCount.inc(metrics.ingestCount.count());
         ingestTime.inc(metrics.ingestTime.sum());
         ingestFailed.inc(metrics.ingestFailed.count());
+        ingestLatency.add(metrics.ingestLatency);
     }
 
     /**
      * Creates a serializable representation for these metrics.
      */
     IngestStats.Stats createStats() {
-        return new IngestStats.Stats(ingestCount.count(), ingestTime.sum(), ingestCurrent.get(), ingestFailed.count());
+        // copy the histogram so that all percentiles are computed from the same values
+        Histogram latency = ingestLatency.copy();
+        IngestStats.LatencyStats latencyStats = new IngestStats.LatencyStats(latency.getValueAtPercentile(50),
+            latency.getValueAtPercentile(90), latency.getValueAtPercentile(99), latency.getMaxValue());
+        return new IngestStats.Stats(ingestCount.count(), ingestTime.sum(), ingestCurrent.get(), ingestFailed.count(), latencyStats);
     }
 }
@@ -59,6 +59,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.regex.Regex;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -84,7 +85,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -99,6 +99,13 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
 
     public static final String INGEST_ORIGIN = "ingest";
 
+    /**
+     * The maximum number of threads of the write pool that the documents of a single bulk request are spread across while they are
+     * run through their ingest pipelines. Defaults to {@code 1}, processing all the documents of a bulk request on a single thread.
+     */
+    public static final Setting<Integer> BULK_PARALLELISM_SETTING =
+        Setting.intSetting("ingest.bulk.parallelism", 1, 1, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
     private static final Logger logger = LogManager.getLogger(IngestService.class);
 
     private final ClusterService clusterService;
@@ -113,6 +120,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
     private final IngestMetric totalMetrics = new IngestMetric();
     private final List<Consumer<ClusterState>> ingestClusterStateListeners = new CopyOnWriteArrayList<>();
     private volatile ClusterState state;
+    private volatile int bulkParallelism = BULK_PARALLELISM_SETTING.getDefault(Settings.EMPTY);
 
     public IngestService(ClusterService clusterService, ThreadPool threadPool,
                          Environment env, ScriptService scriptService, AnalysisRegistry analysisRegistry,
@@ -479,6 +487,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             protected void doRun() {
                 final Thread originalThread = Thread.currentThread();
                 final AtomicInteger counter = new AtomicInteger(numberOfActionRequests);
+                final List<SlotExecution> slotExecutions = new ArrayList<>();
                 int i = 0;
                 for (DocWriteRequest<?> actionRequest : actionRequests) {
                     IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(actionRequest);
@@ -514,15 +523,60 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                         continue;
                     }
 
-                    executePipelines(i, pipelines.iterator(), hasFinalPipeline, indexRequest, onDropped, onFailure, counter,
-                                     onCompletion, originalThread);
-
+                    slotExecutions.add(new SlotExecution(i, pipelines, hasFinalPipeline, indexRequest));
                     i++;
                 }
+
+                // Split the documents into contiguous partitions, executing the first one on this thread and forking the others
+                final int partitions = Math.min(bulkParallelism, slotExecutions.size());
+                final int partitionSize = partitions == 0 ? 0 : (slotExecutions.size() + partitions - 1) / partitions;
+                for (int from = partitionSize; from < slotExecutions.size(); from += partitionSize) {
+                    final List<SlotExecution> partition =
+                        slotExecutions.subList(from, Math.min(from + partitionSize, slotExecutions.size()));
+                    threadPool.executor(executorName).execute(new AbstractRunnable() {
+                        @Override
+                        public void onFailure(Exception e) {
+                            for (SlotExecution slotExecution : partition) {
+                                onFailure.accept(slotExecution.slot, e);
+                                if (counter.decrementAndGet() == 0) {
+                                    onCompletion.accept(originalThread, null);
+                                }
+                                assert counter.get() >= 0;
+                            }
+                        }
+
+                        @Override
+                        protected void doRun() {
+                            executePartition(partition, onDropped, onFailure, counter, onCompletion, originalThread);
+                        }
+
+                        @Override
+                        public boolean isForceExecution() {
+                            // the bulk request was already admitted to the write pool, its documents must not be rejected half-way
+                            return true;
+                        }
+                    });
+                }
+                executePartition(slotExecutions.subList(0, partitionSize), onDropped, onFailure, counter, onCompletion,
+                    originalThread);
             }
         });
     }
 
+    private void executePartition(
+        final List<SlotExecution> partition,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        for (SlotExecution slotExecution : partition) {
+            executePipelines(slotExecution.slot, slotExecution.pipelines.iterator(), slotExecution.hasFinalPipeline,
+                slotExecution.indexRequest, onDropped, onFailure, counter, onCompletion, originalThread);
+        }
+    }
+
     private void executePipelines(
         final int slot,
         final Iterator<String> it,
@@ -598,6 +652,13 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         }
     }
 
+    /**
+     * Sets the maximum number of threads the documents of a single bulk request are spread across, see {@link #BULK_PARALLELISM_SETTING}.
+     */
+    public void setBulkParallelism(int bulkParallelism) {
+        this.bulkParallelism = bulkParallelism;
+    }
+
     public IngestStats stats() {
         IngestStats.Builder statsBuilder = new IngestStats.Builder();
         statsBuilder.addTotalMetrics(totalMetrics);
@@ -669,8 +730,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
         IngestDocument ingestDocument = new IngestDocument(index, type, id, routing, version, versionType, sourceAsMap);
         ingestDocument.executePipeline(pipeline, (result, e) -> {
-            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
-            totalMetrics.postIngest(ingestTimeInMillis);
+            totalMetrics.postIngest(System.nanoTime() - startTimeInNanos);
             if (e != null) {
                 totalMetrics.ingestFailed();
                 handler.accept(e);
@@ -695,7 +755,9 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
                     indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
                 }
-                indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+                if (ingestDocument.isSourceModified()) {
+                    indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+                }
                 handler.accept(null);
             }
         });
@@ -873,6 +935,23 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         return new Pipeline(id, description, null, new CompoundProcessor(failureProcessor));
     }
 
+    /**
+     * The ingest pipelines to run a single document of a bulk request through.
+     */
+    private static final class SlotExecution {
+        private final int slot;
+        private final List<String> pipelines;
+        private final boolean hasFinalPipeline;
+        private final IndexRequest indexRequest;
+
+        private SlotExecution(int slot, List<String> pipelines, boolean hasFinalPipeline, IndexRequest indexRequest) {
+            this.slot = slot;
+            this.pipelines = pipelines;
+            this.hasFinalPipeline = hasFinalPipeline;
+            this.indexRequest = indexRequest;
+        }
+    }
+
     static class PipelineHolder {
 
         final PipelineConfiguration configuration;
@@ -33,6 +33,8 @@
 package org.opensearch.ingest;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -185,12 +187,20 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private final long ingestTimeInMillis;
         private final long ingestCurrent;
         private final long ingestFailedCount;
+        @Nullable
+        private final LatencyStats latency;
 
         public Stats(long ingestCount, long ingestTimeInMillis, long ingestCurrent, long ingestFailedCount) {
+            this(ingestCount, ingestTimeInMillis, ingestCurrent, ingestFailedCount, null);
+        }
+
+        public Stats(long ingestCount, long ingestTimeInMillis, long ingestCurrent, long ingestFailedCount,
+                     @Nullable LatencyStats latency) {
             this.ingestCount = ingestCount;
             this.ingestTimeInMillis = ingestTimeInMillis;
             this.ingestCurrent = ingestCurrent;
             this.ingestFailedCount = ingestFailedCount;
+            this.latency = latency;
         }
 
         /**
@@ -201,6 +211,11 @@ public class IngestStats implements Writeable, ToXContentFragment {
             ingestTimeInMillis = in.readVLong();
             ingestCurrent = in.readVLong();
             ingestFailedCount = in.readVLong();
+            if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                latency = in.readOptionalWriteable(LatencyStats::new);
+            } else {
+                latency = null;
+            }
         }
 
         @Override
@@ -209,6 +224,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
             out.writeVLong(ingestTimeInMillis);
             out.writeVLong(ingestCurrent);
             out.writeVLong(ingestFailedCount);
+            if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                out.writeOptionalWriteable(latency);
+            }
         }
 
         /**
@@ -239,12 +257,23 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return ingestFailedCount;
         }
 
+        /**
+         * @return The distribution of the time spent on single ingest preprocessing operations, or null if not available.
+         */
+        @Nullable
+        public LatencyStats getLatency() {
+            return latency;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.field("count", ingestCount);
             builder.humanReadableField("time_in_millis", "time", new TimeValue(ingestTimeInMillis, TimeUnit.MILLISECONDS));
             builder.field("current", ingestCurrent);
             builder.field("failed", ingestFailedCount);
+            if (latency != null) {
+                latency.toXContent(builder, params);
+            }
             return builder;
         }
 
@@ -256,12 +285,100 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return Objects.equals(ingestCount, that.ingestCount)
                 && Objects.equals(ingestTimeInMillis, that.ingestTimeInMillis)
                 && Objects.equals(ingestFailedCount, that.ingestFailedCount)
-                && Objects.equals(ingestCurrent, that.ingestCurrent);
+                && Objects.equals(ingestCurrent, that.ingestCurrent)
+                && Objects.equals(latency, that.latency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ingestCount, ingestTimeInMillis, ingestFailedCount, ingestCurrent, latency);
+        }
+    }
+
+    /**
+     * Percentiles of the time spent on single ingest preprocessing operations, in microseconds. These are approximations with a relative
+     * error of up to 10%.
+     */
+    public static class LatencyStats implements Writeable, ToXContentFragment {
+
+        private final long p50Micros;
+        private final long p90Micros;
+        private final long p99Micros;
+        private final long maxMicros;
+
+        public LatencyStats(long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+            this.p50Micros = p50Micros;
+            this.p90Micros = p90Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+        }
+
+        /**
+         * Read from a stream.
+         */
+        public LatencyStats(StreamInput in) throws IOException {
+            p50Micros = in.readVLong();
+            p90Micros = in.readVLong();
+            p99Micros = in.readVLong();
+            maxMicros = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(p50Micros);
+            out.writeVLong(p90Micros);
+            out.writeVLong(p99Micros);
+            out.writeVLong(maxMicros);
+        }
+
+        public long getP50Micros() {
+            return p50Micros;
+        }
+
+        public long getP90Micros() {
+            return p90Micros;
+        }
+
+        public long getP99Micros() {
+            return p99Micros;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject("latency");
+            field(builder, "p50", p50Micros);
+            field(builder, "p90", p90Micros);
+            field(builder, "p99", p99Micros);
+            field(builder, "max", maxMicros);
+            builder.endObject();
+            return builder;
+        }
+
+        private static void field(XContentBuilder builder, String name, long micros) throws IOException {
+            if (builder.humanReadable()) {
+                builder.field(name, new TimeValue(micros, TimeUnit.MICROSECONDS).toString());
+            }
+            builder.field(name + "_in_micros", micros);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            IngestStats.LatencyStats that = (IngestStats.LatencyStats) o;
+            return p50Micros == that.p50Micros
+                && p90Micros == that.p90Micros
+                && p99Micros == that.p99Micros
+                && maxMicros == that.maxMicros;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(ingestCount, ingestTimeInMillis, ingestFailedCount, ingestCurrent);
+            return Objects.hash(p50Micros, p90Micros, p99Micros, maxMicros);
         }
     }
 
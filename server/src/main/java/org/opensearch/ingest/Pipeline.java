@@ -39,7 +39,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.LongSupplier;
 
@@ -111,8 +110,7 @@ public final class Pipeline {
         final long startTimeInNanos = relativeTimeProvider.getAsLong();
         metrics.preIngest();
         compoundProcessor.execute(ingestDocument, (result, e) -> {
-            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
-            metrics.postIngest(ingestTimeInMillis);
+            metrics.postIngest(relativeTimeProvider.getAsLong() - startTimeInNanos);
             if (e != null) {
                 metrics.ingestFailed();
             }
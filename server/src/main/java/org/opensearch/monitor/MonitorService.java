@@ -36,6 +36,7 @@ import org.opensearch.common.component.AbstractLifecycleComponent;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.monitor.fs.FsService;
+import org.opensearch.monitor.jvm.HotThreadsSampler;
 import org.opensearch.monitor.jvm.JvmGcMonitorService;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.os.OsService;
@@ -47,6 +48,7 @@ import java.io.IOException;
 public class MonitorService extends AbstractLifecycleComponent {
 
     private final JvmGcMonitorService jvmGcMonitorService;
+    private final HotThreadsSampler hotThreadsSampler;
     private final OsService osService;
     private final ProcessService processService;
     private final JvmService jvmService;
@@ -54,6 +56,7 @@ public class MonitorService extends AbstractLifecycleComponent {
 
     public MonitorService(Settings settings, NodeEnvironment nodeEnvironment, ThreadPool threadPool) throws IOException {
         this.jvmGcMonitorService = new JvmGcMonitorService(settings, threadPool);
+        this.hotThreadsSampler = new HotThreadsSampler(settings, threadPool);
         this.osService = new OsService(settings);
         this.processService = new ProcessService(settings);
         this.jvmService = new JvmService(settings);
@@ -76,19 +79,26 @@ public class MonitorService extends AbstractLifecycleComponent {
         return this.fsService;
     }
 
+    public HotThreadsSampler hotThreadsSampler() {
+        return this.hotThreadsSampler;
+    }
+
     @Override
     protected void doStart() {
         jvmGcMonitorService.start();
+        hotThreadsSampler.start();
     }
 
     @Override
     protected void doStop() {
         jvmGcMonitorService.stop();
+        hotThreadsSampler.stop();
     }
 
     @Override
     protected void doClose() {
         jvmGcMonitorService.close();
+        hotThreadsSampler.close();
     }
 
 }
@@ -0,0 +1,451 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.monitor.jvm;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.Scheduler.Cancellable;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPool.Names;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Continuously samples the states and stack traces of all threads of the node into a fixed-size ring buffer, so that stalls can be
+ * diagnosed after the fact by looking at any window of the retained history. Stacks are interned into a table of collapsed stacks
+ * (the thread pool, the thread state and the frames from the root, separated by {@code ;}) and the ring buffer only stores the ids
+ * of the stacks seen in each sample, so a sample costs a few bytes per thread beyond the thread dump itself. Once the table is full
+ * it is rebuilt from the stacks that the retained samples still refer to.
+ */
+public class HotThreadsSampler extends AbstractLifecycleComponent {
+    private static final Logger logger = LogManager.getLogger(HotThreadsSampler.class);
+
+    private static final DateFormatter DATE_TIME_FORMATTER = DateFormatter.forPattern("date_optional_time");
+
+    public static final Setting<Boolean> ENABLED_SETTING =
+        Setting.boolSetting("monitor.jvm.hot_threads.sampler.enabled", false, Property.NodeScope);
+    public static final Setting<TimeValue> INTERVAL_SETTING =
+        Setting.timeSetting("monitor.jvm.hot_threads.sampler.interval", TimeValue.timeValueMillis(200), TimeValue.timeValueMillis(10),
+            Property.NodeScope);
+    public static final Setting<TimeValue> RETENTION_SETTING =
+        Setting.timeSetting("monitor.jvm.hot_threads.sampler.retention", TimeValue.timeValueMinutes(5), TimeValue.timeValueSeconds(1),
+            TimeValue.timeValueHours(1), Property.NodeScope);
+    public static final Setting<Integer> MAX_STACK_DEPTH_SETTING =
+        Setting.intSetting("monitor.jvm.hot_threads.sampler.max_stack_depth", 64, 1, Property.NodeScope);
+
+    // the number of distinct stacks that are interned, samples of further stacks are only counted per thread pool and state until
+    // the table is rebuilt from the stacks that retained samples refer to
+    static final int MAX_STACKS = 10_000;
+    private static final int MAX_SAMPLES = 100_000;
+
+    private final ThreadPool threadPool;
+    private final LongSupplier currentTimeMillisSupplier;
+    private final boolean enabled;
+    private final TimeValue interval;
+    private final int maxStackDepth;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private final StackTable stacks;
+    private final long[] sampleTimes;
+    private final int[][] sampleStacks;
+    private final int[] sampleSizes;
+    // the slot the next sample is written to, and the number of slots holding samples
+    private int nextSample;
+    private int sampleCount;
+    // rebuilding the table scans the whole ring buffer, so it waits for part of the samples to be replaced since the last rebuild
+    private final int minSamplesBetweenCompactions;
+    private int samplesSinceCompaction;
+
+    private volatile Cancellable scheduledFuture;
+
+    public HotThreadsSampler(Settings settings, ThreadPool threadPool) {
+        this(settings, threadPool, System::currentTimeMillis);
+    }
+
+    HotThreadsSampler(Settings settings, ThreadPool threadPool, LongSupplier currentTimeMillisSupplier) {
+        this(settings, threadPool, currentTimeMillisSupplier, MAX_STACKS);
+    }
+
+    HotThreadsSampler(Settings settings, ThreadPool threadPool, LongSupplier currentTimeMillisSupplier, int maxStacks) {
+        this.threadPool = threadPool;
+        this.currentTimeMillisSupplier = currentTimeMillisSupplier;
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.interval = INTERVAL_SETTING.get(settings);
+        this.maxStackDepth = MAX_STACK_DEPTH_SETTING.get(settings);
+        final int capacity = enabled
+            ? (int) Math.min(MAX_SAMPLES, Math.max(1, RETENTION_SETTING.get(settings).millis() / interval.millis()))
+            : 0;
+        this.sampleTimes = new long[capacity];
+        this.sampleStacks = new int[capacity][];
+        this.sampleSizes = new int[capacity];
+        this.stacks = new StackTable(maxStacks);
+        this.minSamplesBetweenCompactions = Math.max(1, capacity / 10);
+        this.samplesSinceCompaction = minSamplesBetweenCompactions;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected void doStart() {
+        if (enabled == false) {
+            return;
+        }
+        scheduledFuture = threadPool.scheduleWithFixedDelay(() -> {
+            try {
+                sample();
+            } catch (Exception e) {
+                logger.debug("failed to sample threads", e);
+            }
+        }, interval, Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        if (enabled == false) {
+            return;
+        }
+        scheduledFuture.cancel();
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    /**
+     * Takes a thread dump and records the stacks of all threads but the sampling one in the next slot of the ring buffer.
+     */
+    void sample() {
+        final ThreadInfo[] threads = threadBean.dumpAllThreads(false, false, maxStackDepth);
+        record(currentTimeMillisSupplier.getAsLong(), threads, Thread.currentThread().getId());
+    }
+
+    synchronized void record(long now, ThreadInfo[] threads, long samplingThreadId) {
+        if (stacks.size() + threads.length > stacks.maxStacks && samplesSinceCompaction >= minSamplesBetweenCompactions) {
+            compactStacks();
+        }
+        samplesSinceCompaction++;
+        int[] slot = sampleStacks[nextSample];
+        if (slot == null || slot.length < threads.length) {
+            // only allocates while the number of threads grows
+            slot = sampleStacks[nextSample] = new int[threads.length];
+        }
+        int size = 0;
+        for (ThreadInfo thread : threads) {
+            if (thread != null && thread.getThreadId() != samplingThreadId) {
+                final String pool = threadPoolName(thread.getThreadName());
+                slot[size++] = stacks.intern(pool, thread.getThreadState(), thread.getStackTrace(), thread);
+            }
+        }
+        sampleTimes[nextSample] = now;
+        sampleSizes[nextSample] = size;
+        nextSample = (nextSample + 1) % sampleTimes.length;
+        sampleCount = Math.min(sampleCount + 1, sampleTimes.length);
+    }
+
+    /**
+     * Drops the stacks that none of the retained samples refers to and renumbers the others in the ring buffer. The samples in the
+     * slot that is written next are about to be overwritten, so they don't keep their stacks.
+     */
+    private void compactStacks() {
+        final BitSet live = new BitSet(stacks.size());
+        for (int i = 0; i < sampleCount; i++) {
+            final int index = Math.floorMod(nextSample - 1 - i, sampleTimes.length);
+            if (index != nextSample) {
+                for (int j = 0; j < sampleSizes[index]; j++) {
+                    live.set(sampleStacks[index][j]);
+                }
+            }
+        }
+        final int[] newIds = stacks.retain(live);
+        for (int i = 0; i < sampleCount; i++) {
+            final int index = Math.floorMod(nextSample - 1 - i, sampleTimes.length);
+            if (index != nextSample) {
+                for (int j = 0; j < sampleSizes[index]; j++) {
+                    sampleStacks[index][j] = newIds[sampleStacks[index][j]];
+                }
+            }
+        }
+        samplesSinceCompaction = 0;
+    }
+
+    /**
+     * Aggregates the samples taken in the given window into collapsed stacks, one per line, followed by the number of samples they
+     * were seen in and sorted by that number. This is the input format of common flame graph tools.
+     *
+     * @param window the length of the window
+     * @param windowOffset how long ago the window ends
+     * @param ignoreIdleThreads whether to leave out threads that wait for work
+     */
+    public String collapsedStacks(TimeValue window, TimeValue windowOffset, boolean ignoreIdleThreads) {
+        if (enabled == false) {
+            throw new IllegalStateException("continuous thread sampling is disabled, enable it with [" + ENABLED_SETTING.getKey() + "]");
+        }
+        final long end = currentTimeMillisSupplier.getAsLong() - windowOffset.millis();
+        final long start = end - window.millis();
+        final int[] counts;
+        final String[] collapsed;
+        int samples = 0;
+        synchronized (this) {
+            counts = new int[stacks.size()];
+            for (int i = 0; i < sampleCount; i++) {
+                final int index = Math.floorMod(nextSample - 1 - i, sampleTimes.length);
+                final long time = sampleTimes[index];
+                if (time < start) {
+                    break;
+                }
+                if (time > end) {
+                    continue;
+                }
+                samples++;
+                for (int j = 0; j < sampleSizes[index]; j++) {
+                    counts[sampleStacks[index][j]]++;
+                }
+            }
+            collapsed = new String[counts.length];
+            for (int id = 0; id < counts.length; id++) {
+                if (ignoreIdleThreads && stacks.isIdle(id)) {
+                    counts[id] = 0;
+                }
+                collapsed[id] = stacks.collapsed(id);
+            }
+        }
+        final Integer[] ids = new Integer[counts.length];
+        for (int id = 0; id < ids.length; id++) {
+            ids[id] = id;
+        }
+        Arrays.sort(ids, (a, b) -> Integer.compare(counts[b], counts[a]));
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("Sampled hot threads from ");
+        sb.append(DATE_TIME_FORMATTER.format(Instant.ofEpochMilli(start)));
+        sb.append(" to ");
+        sb.append(DATE_TIME_FORMATTER.format(Instant.ofEpochMilli(end)));
+        sb.append(", samples=");
+        sb.append(samples);
+        sb.append(", interval=");
+        sb.append(interval);
+        sb.append(", ignoreIdleThreads=");
+        sb.append(ignoreIdleThreads);
+        sb.append(":\n");
+        for (int id : ids) {
+            if (counts[id] == 0) {
+                break;
+            }
+            sb.append(collapsed[id]).append(' ').append(counts[id]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the name of the thread pool of a thread from its name, which is the last bracketed part of it for the threads created
+     * by {@link org.opensearch.common.util.concurrent.OpenSearchExecutors}, ignoring the thread number.
+     */
+    static String threadPoolName(String threadName) {
+        String name = threadName;
+        if (name.endsWith("]") && name.lastIndexOf("[T#") >= 0) {
+            name = name.substring(0, name.lastIndexOf("[T#"));
+        }
+        if (name.startsWith("opensearch[") && name.endsWith("]")) {
+            final int start = name.lastIndexOf('[', name.length() - 2);
+            // skip nested brackets like [[timer]]
+            return name.substring(start + 1, name.length() - 1).replace("]", "");
+        }
+        return name;
+    }
+
+    /**
+     * Interns collapsed stacks. Lookups hash the pool, state and frames of a thread without building the collapsed stack, which is
+     * only built the first time a stack is seen, and compare the frames with the collapsed stacks that have the same hash.
+     */
+    static final class StackTable {
+        final int maxStacks;
+        // the id of the first stack with a given hash, the others are chained from it
+        private final LongIntHashMap firstIds = new LongIntHashMap();
+        private final List<Stack> stacks = new ArrayList<>();
+
+        StackTable(int maxStacks) {
+            this.maxStacks = maxStacks;
+        }
+
+        /**
+         * Returns the id of the given stack. Once the table is full, stacks that it doesn't hold yet are only kept apart by their pool
+         * and state.
+         *
+         * @param thread the thread the stack was sampled from, used to tell whether it is idle, or {@code null} if it isn't
+         */
+        int intern(String pool, Thread.State state, StackTraceElement[] frames, ThreadInfo thread) {
+            final long hash = hash(pool, state, frames);
+            final int id = find(hash, pool, state, frames);
+            if (id >= 0) {
+                return id;
+            }
+            if (stacks.size() >= maxStacks) {
+                final long otherHash = hash(pool, state, null);
+                final int otherId = find(otherHash, pool, state, null);
+                return otherId >= 0 ? otherId : add(new Stack(otherHash, pool, state, null, false));
+            }
+            return add(new Stack(hash, pool, state, frames, thread != null && HotThreads.isIdleThread(thread)));
+        }
+
+        /**
+         * Only keeps the stacks with the given ids and returns the new id of each stack, or {@code -1} for the dropped ones.
+         */
+        int[] retain(BitSet live) {
+            final int[] newIds = new int[stacks.size()];
+            Arrays.fill(newIds, -1);
+            final List<Stack> retained = new ArrayList<>(live.cardinality());
+            for (int id = live.nextSetBit(0); id >= 0; id = live.nextSetBit(id + 1)) {
+                newIds[id] = retained.size();
+                retained.add(stacks.get(id));
+            }
+            stacks.clear();
+            firstIds.clear();
+            for (Stack stack : retained) {
+                stack.nextWithSameHash = -1;
+                add(stack);
+            }
+            return newIds;
+        }
+
+        private int find(long hash, String pool, Thread.State state, StackTraceElement[] frames) {
+            final int index = firstIds.indexOf(hash);
+            if (firstIds.indexExists(index) == false) {
+                return -1;
+            }
+            for (int id = firstIds.indexGet(index); id >= 0; id = stacks.get(id).nextWithSameHash) {
+                if (stacks.get(id).matches(pool, state, frames)) {
+                    return id;
+                }
+            }
+            return -1;
+        }
+
+        private int add(Stack stack) {
+            final int id = stacks.size();
+            stacks.add(stack);
+            final int index = firstIds.indexOf(stack.hash);
+            if (firstIds.indexExists(index)) {
+                Stack last = stacks.get(firstIds.indexGet(index));
+                while (last.nextWithSameHash >= 0) {
+                    last = stacks.get(last.nextWithSameHash);
+                }
+                last.nextWithSameHash = id;
+            } else {
+                firstIds.indexInsert(index, stack.hash, id);
+            }
+            return id;
+        }
+
+        static long hash(String pool, Thread.State state, StackTraceElement[] frames) {
+            long hash = 31L * pool.hashCode() + state.ordinal();
+            if (frames == null) {
+                hash = 31L * hash - 1;
+            } else {
+                for (StackTraceElement frame : frames) {
+                    hash = 31L * hash + frame.getClassName().hashCode();
+                    hash = 31L * hash + frame.getMethodName().hashCode();
+                }
+            }
+            return BitMixer.mix64(hash);
+        }
+
+        int size() {
+            return stacks.size();
+        }
+
+        String collapsed(int id) {
+            return stacks.get(id).collapsed;
+        }
+
+        boolean isIdle(int id) {
+            return stacks.get(id).idle;
+        }
+    }
+
+    /**
+     * An interned stack. Only the collapsed form of the stack is kept, the frames of a thread are compared against it. The stacks
+     * that stand for all the stacks of a pool and state that couldn't be interned are built from {@code null} frames.
+     */
+    private static final class Stack {
+        private static final String OTHER_STACKS = ";[other stacks]";
+
+        final long hash;
+        final String pool;
+        final Thread.State state;
+        final String collapsed;
+        final boolean idle;
+        int nextWithSameHash = -1;
+
+        Stack(long hash, String pool, Thread.State state, StackTraceElement[] frames, boolean idle) {
+            this.hash = hash;
+            this.pool = pool;
+            this.state = state;
+            this.idle = idle;
+            final StringBuilder sb = new StringBuilder(pool).append(';').append(state);
+            if (frames == null) {
+                sb.append(OTHER_STACKS);
+            } else {
+                for (int i = frames.length - 1; i >= 0; i--) {
+                    sb.append(';').append(frames[i].getClassName()).append('.').append(frames[i].getMethodName());
+                }
+            }
+            this.collapsed = sb.toString();
+        }
+
+        boolean matches(String pool, Thread.State state, StackTraceElement[] frames) {
+            if (this.state != state || this.pool.equals(pool) == false) {
+                return false;
+            }
+            int offset = pool.length() + 1 + state.name().length();
+            if (frames == null) {
+                return collapsed.length() == offset + OTHER_STACKS.length() && collapsed.startsWith(OTHER_STACKS, offset);
+            }
+            for (int i = frames.length - 1; i >= 0; i--) {
+                offset = matchesAt(';', offset);
+                offset = matchesAt(frames[i].getClassName(), offset);
+                offset = matchesAt('.', offset);
+                offset = matchesAt(frames[i].getMethodName(), offset);
+                if (offset < 0) {
+                    return false;
+                }
+            }
+            return offset == collapsed.length();
+        }
+
+        /**
+         * Returns the offset in the collapsed stack after the given part if the collapsed stack holds it at the given offset, or
+         * {@code -1} if it doesn't.
+         */
+        private int matchesAt(String part, int offset) {
+            return offset >= 0 && collapsed.startsWith(part, offset) ? offset + part.length() : -1;
+        }
+
+        private int matchesAt(char part, int offset) {
+            return offset >= 0 && offset < collapsed.length() && collapsed.charAt(offset) == part ? offset + 1 : -1;
+        }
+    }
+}
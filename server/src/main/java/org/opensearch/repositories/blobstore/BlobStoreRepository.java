@@ -78,7 +78,6 @@ import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.component.AbstractLifecycleComponent;
-import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.compress.NotXContentException;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.lease.Releasable;
@@ -138,6 +137,7 @@ import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -146,6 +146,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -216,6 +217,13 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     public static final Setting<Boolean> CACHE_REPOSITORY_DATA =
         Setting.boolSetting("cache_repository_data", true, Setting.Property.Deprecated);
 
+    /**
+     * The size of the serialized (uncompressed) repository data above which the latest repository data is not cached. The cached
+     * repository data is kept in heap in deserialized form for the life time of the repository.
+     */
+    public static final Setting<ByteSizeValue> CACHE_REPOSITORY_DATA_MAX_SIZE = Setting.byteSizeSetting("cache_repository_data_max_size",
+        new ByteSizeValue(5, ByteSizeUnit.MB));
+
     /**
      * Size hint for the IO buffer size to use when reading from and writing to the repository.
      */
@@ -235,6 +243,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     private final boolean cacheRepositoryData;
 
+    private final long cacheRepositoryDataMaxSize;
+
     private final RateLimiter snapshotRateLimiter;
 
     private final RateLimiter restoreRateLimiter;
@@ -329,6 +339,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         restoreRateLimiter = getRateLimiter(metadata.settings(), "max_restore_bytes_per_sec", ByteSizeValue.ZERO);
         readOnly = metadata.settings().getAsBoolean("readonly", false);
         cacheRepositoryData = CACHE_REPOSITORY_DATA.get(metadata.settings());
+        cacheRepositoryDataMaxSize = CACHE_REPOSITORY_DATA_MAX_SIZE.get(metadata.settings()).getBytes();
         bufferSize = Math.toIntExact(BUFFER_SIZE_SETTING.get(metadata.settings()).getBytes());
     }
 
@@ -679,7 +690,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     private RepositoryData safeRepositoryData(long repositoryStateId, Map<String, BlobMetadata> rootBlobs) throws IOException {
         final long generation = latestGeneration(rootBlobs.keySet());
         final long genToLoad;
-        final Tuple<Long, BytesReference> cached;
+        final RepositoryData cached;
         if (bestEffortConsistency) {
             genToLoad = latestKnownRepoGen.updateAndGet(known -> Math.max(known, repositoryStateId));
             cached = null;
@@ -698,8 +709,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             throw new RepositoryException(metadata.name(), "concurrent modification of the index-N file, expected current generation [" +
                 repositoryStateId + "], actual current generation [" + genToLoad + "]");
         }
-        if (cached != null && cached.v1() == genToLoad) {
-            return repositoryDataFromCachedEntry(cached);
+        if (cached != null && cached.getGenId() == genToLoad) {
+            return cached;
         }
         return getRepositoryData(genToLoad);
     }
@@ -1338,8 +1349,9 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     // and concurrent modifications.
     private final AtomicLong latestKnownRepoGen = new AtomicLong(RepositoryData.UNKNOWN_REPO_GEN);
 
-    // Best effort cache of the latest known repository data and its generation, cached serialized as compressed json
-    private final AtomicReference<Tuple<Long, BytesReference>> latestKnownRepositoryData = new AtomicReference<>();
+    // Best effort cache of the latest known repository data, cached deserialized so that it does not need to be parsed again for every
+    // operation on the repository
+    private final AtomicReference<RepositoryData> latestKnownRepositoryData = new AtomicReference<>();
 
     @Override
     public void getRepositoryData(ActionListener<RepositoryData> listener) {
@@ -1347,15 +1359,11 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             listener.onFailure(corruptedStateException(null));
             return;
         }
-        final Tuple<Long, BytesReference> cached = latestKnownRepositoryData.get();
+        final RepositoryData cached = latestKnownRepositoryData.get();
         // Fast path loading repository data directly from cache if we're in fully consistent mode and the cache matches up with
         // the latest known repository generation
-        if (bestEffortConsistency == false && cached != null && cached.v1() == latestKnownRepoGen.get()) {
-            try {
-                listener.onResponse(repositoryDataFromCachedEntry(cached));
-            } catch (Exception e) {
-                listener.onFailure(e);
-            }
+        if (bestEffortConsistency == false && cached != null && cached.getGenId() == latestKnownRepoGen.get()) {
+            listener.onResponse(cached);
             return;
         }
         // Slow path if we were not able to safely read the repository data from cache
@@ -1390,18 +1398,17 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 genToLoad = latestKnownRepoGen.get();
             }
             try {
-                final Tuple<Long, BytesReference> cached = latestKnownRepositoryData.get();
+                final RepositoryData cached = latestKnownRepositoryData.get();
                 final RepositoryData loaded;
                 // Caching is not used with #bestEffortConsistency see docs on #cacheRepositoryData for details
-                if (bestEffortConsistency == false && cached != null && cached.v1() == genToLoad) {
-                    loaded = repositoryDataFromCachedEntry(cached);
+                if (bestEffortConsistency == false && cached != null && cached.getGenId() == genToLoad) {
+                    loaded = cached;
                 } else {
-                    loaded = getRepositoryData(genToLoad);
-                    // We can cache serialized in the most recent version here without regard to the actual repository metadata version
-                    // since we're only caching the information that we just wrote and thus won't accidentally cache any information that
-                    // isn't safe
-                    cacheRepositoryData(
-                            BytesReference.bytes(loaded.snapshotsToXContent(XContentFactory.jsonBuilder(), Version.CURRENT)), genToLoad);
+                    final Tuple<RepositoryData, Long> loadedWithSize = readRepositoryData(genToLoad);
+                    loaded = loadedWithSize.v1();
+                    // We can cache the loaded instance without regard to the repository metadata version it was written with since it
+                    // only contains the information that was physically read from the repository
+                    cacheRepositoryData(loaded, loadedWithSize.v2());
                 }
                 listener.onResponse(loaded);
                 return;
@@ -1436,49 +1443,30 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      * modification can lead to moving from a higher {@code N} to a lower {@code N} value which mean we can't safely assume that a given
      * generation will always contain the same {@link RepositoryData}.
      *
-     * @param updated    serialized RepositoryData to cache if newer than the cache contents
-     * @param generation repository generation of the given repository data
+     * Repository data that is larger than {@link #CACHE_REPOSITORY_DATA_MAX_SIZE} when serialized is not cached and clears the cache
+     * instead, so that large repositories do not keep their repository data in heap.
+     *
+     * @param updated        RepositoryData to cache if newer than the cache contents
+     * @param serializedSize size of the given repository data when serialized
      */
-    private void cacheRepositoryData(BytesReference updated, long generation) {
+    private void cacheRepositoryData(RepositoryData updated, long serializedSize) {
         if (cacheRepositoryData && bestEffortConsistency == false) {
-            final BytesReference serialized;
-            try {
-                serialized = CompressorFactory.COMPRESSOR.compress(updated);
-                final int len = serialized.length();
-                if (len > ByteSizeUnit.KB.toBytes(500)) {
-                    logger.debug("Not caching repository data of size [{}] for repository [{}] because it is larger than 500KB in" +
-                        " serialized size", len, metadata.name());
-                    if (len > ByteSizeUnit.MB.toBytes(5)) {
-                        logger.warn("Your repository metadata blob for repository [{}] is larger than 5MB. Consider moving to a fresh" +
-                            " repository for new snapshots or deleting unneeded snapshots from your repository to ensure stable" +
-                            " repository behavior going forward.", metadata.name());
-                    }
-                    // Set empty repository data to not waste heap for an outdated cached value
-                    latestKnownRepositoryData.set(null);
-                    return;
-                }
-            } catch (IOException e) {
-                assert false : new AssertionError("Impossible, no IO happens here", e);
-                logger.warn("Failed to serialize repository data", e);
+            if (serializedSize > cacheRepositoryDataMaxSize) {
+                logger.debug("Not caching repository data of size [{}] for repository [{}] because it is larger than [{}] in" +
+                    " serialized size", serializedSize, metadata.name(), new ByteSizeValue(cacheRepositoryDataMaxSize));
+                // Set empty repository data to not waste heap for an outdated cached value
+                latestKnownRepositoryData.set(null);
                 return;
             }
             latestKnownRepositoryData.updateAndGet(known -> {
-                if (known != null && known.v1() > generation) {
+                if (known != null && known.getGenId() > updated.getGenId()) {
                     return known;
                 }
-                return new Tuple<>(generation, serialized);
+                return updated;
             });
         }
     }
 
-    private RepositoryData repositoryDataFromCachedEntry(Tuple<Long, BytesReference> cacheEntry) throws IOException {
-        try (InputStream input = CompressorFactory.COMPRESSOR.threadLocalInputStream(cacheEntry.v2().streamInput())) {
-            return RepositoryData.snapshotsFromXContent(
-                    XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
-                            LoggingDeprecationHandler.INSTANCE, input), cacheEntry.v1(), false);
-        }
-    }
-
     private RepositoryException corruptedStateException(@Nullable Exception cause) {
         return new RepositoryException(metadata.name(),
             "Could not read repository data because the contents of the repository do not match its " +
@@ -1531,17 +1519,25 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     }
 
     private RepositoryData getRepositoryData(long indexGen) {
+        return readRepositoryData(indexGen).v1();
+    }
+
+    /**
+     * Reads the {@link RepositoryData} of the given generation, along with the size of the blob it was read from.
+     */
+    private Tuple<RepositoryData, Long> readRepositoryData(long indexGen) {
         if (indexGen == RepositoryData.EMPTY_REPO_GEN) {
-            return RepositoryData.EMPTY;
+            return Tuple.tuple(RepositoryData.EMPTY, 0L);
         }
         try {
             final String snapshotsIndexBlobName = INDEX_FILE_PREFIX + Long.toString(indexGen);
 
             // EMPTY is safe here because RepositoryData#fromXContent calls namedObject
-            try (InputStream blob = blobContainer().readBlob(snapshotsIndexBlobName);
+            try (CountingInputStream blob = new CountingInputStream(blobContainer().readBlob(snapshotsIndexBlobName));
                  XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
                      LoggingDeprecationHandler.INSTANCE, blob)) {
-                return RepositoryData.snapshotsFromXContent(parser, indexGen, true);
+                final RepositoryData repositoryData = RepositoryData.snapshotsFromXContent(parser, indexGen, true);
+                return Tuple.tuple(repositoryData, blob.count);
             }
         } catch (IOException ioe) {
             if (bestEffortConsistency) {
@@ -1692,6 +1688,11 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             logger.debug("Repository [{}] writing new index generational blob [{}]", metadata.name(), indexBlob);
             final BytesReference serializedRepoData =
                     BytesReference.bytes(newRepositoryData.snapshotsToXContent(XContentFactory.jsonBuilder(), version));
+            if (serializedRepoData.length() > ByteSizeUnit.MB.toBytes(5)) {
+                logger.warn("Your repository metadata blob for repository [{}] is larger than 5MB. Consider moving to a fresh" +
+                    " repository for new snapshots or deleting unneeded snapshots from your repository to ensure stable" +
+                    " repository behavior going forward.", metadata.name());
+            }
             writeAtomic(blobContainer(), indexBlob, serializedRepoData, true);
             maybeWriteIndexLatest(newGen);
 
@@ -1724,7 +1725,13 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
                     @Override
                     public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
-                        cacheRepositoryData(serializedRepoData, newGen);
+                        if (SnapshotsService.useIndexGenerations(version)) {
+                            cacheRepositoryData(newRepositoryData, serializedRepoData.length());
+                        } else {
+                            // Older repository metadata versions do not physically store all the information contained in the new
+                            // repository data, so we must not cache it and rather load it back from the repository when needed
+                            latestKnownRepositoryData.set(null);
+                        }
                         threadPool.executor(ThreadPool.Names.SNAPSHOT).execute(ActionRunnable.supply(listener, () -> {
                             // Delete all now outdated index files up to 1000 blobs back from the new generation.
                             // If there are more than 1000 dangling index-N cleanup functionality on repo delete will take care of them.
@@ -1958,7 +1965,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             int indexTotalNumberOfFiles = 0;
             long indexIncrementalSize = 0;
             long indexTotalFileSize = 0;
-            final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot = new LinkedBlockingQueue<>();
+            // Upload the largest files first so that a single large segment file does not end up being the only upload still running
+            // for this shard after all smaller files are done
+            final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot = new PriorityBlockingQueue<>(11,
+                Comparator.comparingLong(BlobStoreIndexShardSnapshot.FileInfo::length).reversed());
             // If we did not find a set of files that is equal to the current commit we determine the files to upload by comparing files
             // in the commit with files already in the repository
             if (filesFromSegmentInfos == null) {
@@ -2480,23 +2490,42 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                               IndexShardSnapshotStatus snapshotStatus, Store store) throws IOException {
         final BlobContainer shardContainer = shardContainer(indexId, shardId);
         final String file = fileInfo.physicalName();
+        // number of bytes of this file already reported to the snapshot status, capped at the file length in case a blob container
+        // reads (parts of) the stream more than once
+        final long[] reportedBytes = new long[1];
         try (IndexInput indexInput = store.openVerifyingInput(file, IOContext.READONCE, fileInfo.metadata())) {
             for (int i = 0; i < fileInfo.numberOfParts(); i++) {
                 final long partBytes = fileInfo.partBytes(i);
 
-                // Make reads abortable by mutating the snapshotStatus object
+                // Make reads abortable by mutating the snapshotStatus object and report the progress of large files while they are read
                 final InputStream inputStream = new FilterInputStream(maybeRateLimitSnapshots(
                     new InputStreamIndexInput(indexInput, partBytes))) {
                     @Override
                     public int read() throws IOException {
                         checkAborted();
-                        return super.read();
+                        final int b = super.read();
+                        if (b >= 0) {
+                            reportProgress(1);
+                        }
+                        return b;
                     }
 
                     @Override
                     public int read(byte[] b, int off, int len) throws IOException {
                         checkAborted();
-                        return super.read(b, off, len);
+                        final int read = super.read(b, off, len);
+                        if (read > 0) {
+                            reportProgress(read);
+                        }
+                        return read;
+                    }
+
+                    private void reportProgress(int bytes) {
+                        final long toReport = Math.min(bytes, fileInfo.length() - reportedBytes[0]);
+                        if (toReport > 0) {
+                            reportedBytes[0] += toReport;
+                            snapshotStatus.addProcessedBytes(toReport);
+                        }
                     }
 
                     private void checkAborted() {
@@ -2513,10 +2542,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 shardContainer.writeBlob(partName, inputStream, partBytes, false);
             }
             Store.verify(indexInput);
-            snapshotStatus.addProcessedFile(fileInfo.length());
+            snapshotStatus.addProcessedFile(fileInfo.length() - reportedBytes[0]);
         } catch (Exception t) {
             failStoreIfCorrupted(store, t);
-            snapshotStatus.addProcessedFile(0);
+            snapshotStatus.addFailedFile(reportedBytes[0]);
             throw t;
         }
     }
@@ -2556,4 +2585,41 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             this.blobsToDelete = blobsToDelete;
         }
     }
+
+    /**
+     * Counts the bytes read from the wrapped stream.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A response whose body is streamed to the client chunk by chunk as it is serialized, so that large responses don't have to be held
+ * on heap in full. HTTP implementations that can't stream responses send the {@link #content()}, which serializes the whole body.
+ */
+public class ChunkedRestResponse extends RestResponse {
+
+    private final RestStatus status;
+    private final ChunkedRestResponseBody body;
+    private BytesReference content;
+
+    public ChunkedRestResponse(RestStatus status, ChunkedRestResponseBody body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    public ChunkedRestResponseBody body() {
+        return body;
+    }
+
+    @Override
+    public String contentType() {
+        return body.getResponseContentTypeString();
+    }
+
+    @Override
+    public BytesReference content() {
+        if (content == null) {
+            final BytesStreamOutput out = new BytesStreamOutput();
+            try {
+                while (body.isDone() == false) {
+                    body.encodeChunk(out, Integer.MAX_VALUE);
+                }
+                content = out.bytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return content;
+    }
+
+    @Override
+    public RestStatus status() {
+        return status;
+    }
+}
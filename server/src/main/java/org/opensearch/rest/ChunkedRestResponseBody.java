@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * The body of a {@link ChunkedRestResponse}, which is serialized chunk by chunk as the HTTP layer is ready to send it rather than
+ * all at once before the response is sent. Chunks are requested from a single thread at a time.
+ */
+public interface ChunkedRestResponseBody extends Releasable {
+
+    /**
+     * Whether the whole body was serialized.
+     */
+    boolean isDone();
+
+    /**
+     * Serializes the next chunk of the body to the given stream, stopping at the first fragment boundary after at least
+     * {@code sizeHint} bytes.
+     */
+    void encodeChunk(OutputStream out, int sizeHint) throws IOException;
+
+    /**
+     * The content type of the body.
+     */
+    String getResponseContentTypeString();
+
+    /**
+     * Creates a body that serializes the given fragments one after the other with a builder of the given channel. The builder writes
+     * to {@link RestChannel#bytesOutput()}, which only ever holds the serialized chunk. The body takes over the bytes output of the
+     * channel and releases it when it is closed, which may happen on another thread while a chunk is being serialized: the bytes
+     * output is then only released once that chunk is complete.
+     */
+    static ChunkedRestResponseBody fromXContent(Iterator<? extends ToXContent> fragments, ToXContent.Params params,
+                                                RestChannel channel) throws IOException {
+        final XContentBuilder builder = channel.newBuilder();
+        // the builder writes to the bytes output of the channel, that we get a reference to here without resetting anything
+        // since nothing was written yet
+        final BytesStreamOutput chunk = channel.bytesOutput();
+        return new ChunkedRestResponseBody() {
+
+            private final Object mutex = new Object();
+            private boolean done;
+            private boolean encoding;
+            private boolean closed;
+
+            @Override
+            public boolean isDone() {
+                synchronized (mutex) {
+                    return done;
+                }
+            }
+
+            @Override
+            public void encodeChunk(OutputStream out, int sizeHint) throws IOException {
+                synchronized (mutex) {
+                    if (closed) {
+                        throw new IllegalStateException("the body was closed before it was fully serialized");
+                    }
+                    assert done == false : "the body was already serialized";
+                    assert encoding == false : "chunks must be serialized one at a time";
+                    encoding = true;
+                }
+                boolean last = false;
+                try {
+                    while (fragments.hasNext() && chunk.size() < sizeHint) {
+                        fragments.next().toXContent(builder, params);
+                        builder.flush();
+                    }
+                    if (fragments.hasNext() == false) {
+                        builder.close();
+                        last = true;
+                    }
+                    chunk.bytes().writeTo(out);
+                    chunk.reset();
+                } finally {
+                    synchronized (mutex) {
+                        encoding = false;
+                        done |= last;
+                        if (closed) {
+                            release();
+                        }
+                    }
+                }
+            }
+
+            @Override
+            public String getResponseContentTypeString() {
+                return builder.contentType().mediaType();
+            }
+
+            @Override
+            public void close() {
+                synchronized (mutex) {
+                    closed = true;
+                    done = true;
+                    if (encoding == false) {
+                        release();
+                    }
+                }
+            }
+
+            private void release() {
+                if (chunk instanceof Releasable) {
+                    ((Releasable) chunk).close();
+                }
+            }
+        };
+    }
+}
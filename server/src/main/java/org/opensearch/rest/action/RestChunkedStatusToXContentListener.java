@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.xcontent.ChunkedToXContent;
+import org.opensearch.common.xcontent.StatusToXContentObject;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.ChunkedRestResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
+import org.opensearch.rest.RestChannel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Like {@link RestStatusToXContentListener}, but large responses are streamed to the client chunk by chunk as they are serialized
+ * rather than serialized in full before they are sent. Responses that are smaller than {@link #CHUNKED_RESPONSE_THRESHOLD} are
+ * serialized right away and sent in full with a content length.
+ */
+public class RestChunkedStatusToXContentListener<Response extends StatusToXContentObject & ChunkedToXContent>
+    extends RestActionListener<Response> {
+
+    /**
+     * The size up to which responses are sent in full: streaming only pays off for responses that are too large to hold on heap
+     * comfortably, and clients and proxies handle responses with a content length better.
+     */
+    public static final int CHUNKED_RESPONSE_THRESHOLD = ByteSizeUnit.KB.toIntBytes(256);
+
+    public RestChunkedStatusToXContentListener(RestChannel channel) {
+        super(channel);
+    }
+
+    @Override
+    protected void processResponse(Response response) throws Exception {
+        assert response.isFragment() == false;
+        final ChunkedRestResponseBody body = ChunkedRestResponseBody.fromXContent(response.toXContentChunked(), channel.request(), channel);
+        final BytesStreamOutput head = new BytesStreamOutput();
+        body.encodeChunk(head, CHUNKED_RESPONSE_THRESHOLD);
+        if (body.isDone()) {
+            channel.sendResponse(new BytesRestResponse(response.status(), body.getResponseContentTypeString(), head.bytes()));
+        } else {
+            channel.sendResponse(new ChunkedRestResponse(response.status(), new PrefixedBody(head.bytes(), body)));
+        }
+    }
+
+    /**
+     * A body whose first chunk was already serialized while deciding whether to stream it.
+     */
+    private static final class PrefixedBody implements ChunkedRestResponseBody {
+
+        private final ChunkedRestResponseBody delegate;
+        private volatile BytesReference head;
+
+        PrefixedBody(BytesReference head, ChunkedRestResponseBody delegate) {
+            this.head = head;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isDone() {
+            return head == null && delegate.isDone();
+        }
+
+        @Override
+        public void encodeChunk(OutputStream out, int sizeHint) throws IOException {
+            if (head != null) {
+                head.writeTo(out);
+                head = null;
+            } else {
+                delegate.encodeChunk(out, sizeHint);
+            }
+        }
+
+        @Override
+        public String getResponseContentTypeString() {
+            return delegate.getResponseContentTypeString();
+        }
+
+        @Override
+        public void close() {
+            head = null;
+            delegate.close();
+        }
+    }
+}
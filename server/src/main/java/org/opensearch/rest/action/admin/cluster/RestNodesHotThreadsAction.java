@@ -124,6 +124,8 @@ public class RestNodesHotThreadsAction extends BaseRestHandler {
         nodesHotThreadsRequest.type(request.param("type", nodesHotThreadsRequest.type()));
         nodesHotThreadsRequest.interval(TimeValue.parseTimeValue(request.param("interval"), nodesHotThreadsRequest.interval(), "interval"));
         nodesHotThreadsRequest.snapshots(request.paramAsInt("snapshots", nodesHotThreadsRequest.snapshots()));
+        nodesHotThreadsRequest.window(request.paramAsTime("window", nodesHotThreadsRequest.window()));
+        nodesHotThreadsRequest.windowOffset(request.paramAsTime("window_offset", nodesHotThreadsRequest.windowOffset()));
         nodesHotThreadsRequest.timeout(request.param("timeout"));
         return channel -> client.admin().cluster().nodesHotThreads(
                 nodesHotThreadsRequest,
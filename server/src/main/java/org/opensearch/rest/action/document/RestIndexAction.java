@@ -171,4 +171,11 @@ public class RestIndexAction extends BaseRestHandler {
                 client.index(indexRequest, new RestStatusToXContentListener<>(channel, r -> r.getLocation(indexRequest.routing())));
     }
 
+    @Override
+    public boolean allowsUnsafeBuffers() {
+        // the source of the index request is a slice of the request content, which is only released once the response has been sent,
+        // so there is no need to copy potentially large documents out of the pooled network buffers
+        return true;
+    }
+
 }
@@ -36,7 +36,7 @@ import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.RestRequest;
-import org.opensearch.rest.action.RestStatusToXContentListener;
+import org.opensearch.rest.action.RestChunkedStatusToXContentListener;
 import org.opensearch.search.Scroll;
 
 import java.io.IOException;
@@ -86,7 +86,7 @@ public class RestSearchScrollAction extends BaseRestHandler {
                     throw new IllegalArgumentException("Failed to parse request body", e);
                 }
             }});
-        return channel -> client.searchScroll(searchScrollRequest, new RestStatusToXContentListener<>(channel));
+        return channel -> client.searchScroll(searchScrollRequest, new RestChunkedStatusToXContentListener<>(channel));
     }
 
     @Override
@@ -158,6 +158,14 @@ public abstract class AggregationScript implements ScorerAware {
         return ((Number) execute()).doubleValue();
     }
 
+    /**
+     * Whether {@link #execute()} always returns exactly one {@link Number}, in which case the result may be
+     * read with {@link #runAsDouble()} or {@link #runAsLong()} instead to avoid boxing it for every document.
+     */
+    public boolean returnsSingleNumber() {
+        return false;
+    }
+
     public abstract Object execute();
 
     /**
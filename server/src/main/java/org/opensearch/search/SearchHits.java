@@ -208,6 +208,17 @@ public final class SearchHits implements Writeable, ToXContentFragment, Iterable
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        toXContentHeader(builder, params);
+        for (SearchHit hit : hits) {
+            hit.toXContent(builder, params);
+        }
+        return toXContentFooter(builder);
+    }
+
+    /**
+     * Renders the hits object up to the start of the hits array, see {@link #toXContent}.
+     */
+    public XContentBuilder toXContentHeader(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.HITS);
         boolean totalHitAsInt = params.paramAsBoolean(RestSearchAction.TOTAL_HITS_AS_INT_PARAM, false);
         if (totalHitAsInt) {
@@ -225,13 +236,15 @@ public final class SearchHits implements Writeable, ToXContentFragment, Iterable
             builder.field(Fields.MAX_SCORE, maxScore);
         }
         builder.field(Fields.HITS);
-        builder.startArray();
-        for (SearchHit hit : hits) {
-            hit.toXContent(builder, params);
-        }
+        return builder.startArray();
+    }
+
+    /**
+     * Renders the end of the hits object after the hits, see {@link #toXContent}.
+     */
+    public XContentBuilder toXContentFooter(XContentBuilder builder) throws IOException {
         builder.endArray();
-        builder.endObject();
-        return builder;
+        return builder.endObject();
     }
 
     public static SearchHits fromXContent(XContentParser parser) throws IOException {
@@ -65,6 +65,8 @@ import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.CollectionUtils;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ConcurrentMapLong;
+import org.opensearch.common.util.concurrent.LaneRunnable;
+import org.opensearch.common.util.concurrent.QueueResizingOpenSearchThreadPoolExecutor;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.Index;
 import org.opensearch.index.IndexNotFoundException;
@@ -78,6 +80,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.Rewriteable;
+import org.opensearch.index.search.stats.ShardSearchStats;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
@@ -181,6 +184,23 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final Setting<Integer> MAX_OPEN_SCROLL_CONTEXT =
         Setting.intSetting("search.max_open_scroll_context", 500, 0, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * The estimated cost of a shard search above which it is queued in the {@link ThreadPool.SearchLane#EXPENSIVE} lane of the
+     * search thread pool, when the pool is split into lanes. The cost is estimated from the recent query times of the shard and
+     * only adjusted for aggregations and large hit windows, so on a shard that serves both cheap and expensive queries, cheap
+     * queries are queued in the expensive lane too while the expensive ones dominate its recent query times.
+     */
+    public static final Setting<TimeValue> EXPENSIVE_SEARCH_LANE_THRESHOLD_SETTING =
+        Setting.positiveTimeSetting("search.lanes.expensive_threshold", timeValueMillis(500), Property.Dynamic, Property.NodeScope);
+
+    // aggregations visit every matching document rather than collecting the top hits, so they cost more than the average query
+    static final int AGGREGATIONS_COST_FACTOR = 2;
+    // collecting and sorting a large window of hits costs more than collecting the top hits of the average query
+    static final int LARGE_HITS_WINDOW_COST_FACTOR = 2;
+    static final int LARGE_HITS_WINDOW = 1000;
+    // the recent query time of a shard that served fewer queries says little about the cost of the next one
+    static final long MIN_QUERIES_FOR_SEARCH_LANE_ESTIMATE = 10;
+
     public static final int DEFAULT_SIZE = 10;
     public static final int DEFAULT_FROM = 0;
 
@@ -214,6 +234,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile int maxOpenScrollContext;
 
+    private volatile TimeValue expensiveSearchLaneThreshold;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -260,6 +282,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
+
+        expensiveSearchLaneThreshold = EXPENSIVE_SEARCH_LANE_THRESHOLD_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(EXPENSIVE_SEARCH_LANE_THRESHOLD_SETTING,
+            this::setExpensiveSearchLaneThreshold);
     }
 
     private void validateKeepAlives(TimeValue defaultKeepAlive, TimeValue maxKeepAlive) {
@@ -296,6 +322,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    private void setExpensiveSearchLaneThreshold(TimeValue expensiveSearchLaneThreshold) {
+        this.expensiveSearchLaneThreshold = expensiveSearchLaneThreshold;
+    }
+
     @Override
     public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
         // once an index is removed due to deletion or closing, we can just clean up all the pending search context information
@@ -348,7 +378,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             @Override
             public void onResponse(ShardSearchRequest rewritten) {
                 // fork the execution in the search thread pool
-                runAsync(getExecutor(shard), () -> executeDfsPhase(request, task, keepStatesInContext), listener);
+                runAsync(getExecutor(shard, request), task, () -> executeDfsPhase(request, task, keepStatesInContext), listener);
             }
 
             @Override
@@ -411,7 +441,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     }
                 }
                 // fork the execution in the search thread pool
-                runAsync(getExecutor(shard), () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
+                runAsync(getExecutor(shard, orig), task, () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
             }
 
             @Override
@@ -429,8 +459,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
     }
 
-    private <T> void runAsync(Executor executor, CheckedSupplier<T, Exception> executable, ActionListener<T> listener) {
-        executor.execute(ActionRunnable.supply(listener, executable::get));
+    private <T> void runAsync(Executor executor, SearchShardTask task, CheckedSupplier<T, Exception> executable,
+                              ActionListener<T> listener) {
+        executor.execute(ActionRunnable.supply(listener, () -> {
+            try (Releasable ignored = task.trackResourceUsage()) {
+                return executable.get();
+            }
+        }));
     }
 
     private SearchPhaseResult executeQueryPhase(ShardSearchRequest request,
@@ -493,7 +528,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             freeReaderContext(readerContext.id());
             throw e;
         }
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(null);
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -515,7 +550,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final ReaderContext readerContext = findReaderContext(request.contextId(), request.shardSearchRequest());
         final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(request.shardSearchRequest());
         final Releasable markAsUsed = readerContext.markAsUsed(getKeepAlive(shardSearchRequest));
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             readerContext.setAggregatedDfs(request.dfs());
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, true);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -554,6 +589,50 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return threadPool.executor(executorName);
     }
 
+    /**
+     * Returns the executor of a shard search that is queued in the search lane of its estimated cost, if the search thread pool is
+     * split into lanes.
+     */
+    private Executor getExecutor(IndexShard indexShard, ShardSearchRequest request) {
+        final Executor executor = getExecutor(indexShard);
+        if (executor instanceof QueueResizingOpenSearchThreadPoolExecutor == false
+            || ((QueueResizingOpenSearchThreadPoolExecutor) executor).getLanes() == null) {
+            return executor;
+        }
+        final ShardSearchStats shardStats = indexShard.shardSearchStats();
+        final int lane = searchLane(shardStats.queryCount(), shardStats.recentQueryTimeInMillis(), request, expensiveSearchLaneThreshold)
+            .ordinal();
+        return command -> executor.execute(new LaneRunnable(command, lane));
+    }
+
+    /**
+     * Estimates the cost of a shard search and returns the lane of the search thread pool it should be queued in. The estimate
+     * starts from the moving average of the recent query times of the shard and is weighted up if the search has aggregations
+     * or asks for a large window of hits. This approximates the cost of a typical recent query of the shard adjusted for the
+     * shape of the request, not the cost of the query itself: a selective query on a shard that recently served slow ones
+     * is still estimated as expensive. Fetches and other follow-up phases stay in the interactive lane since they complete
+     * searches that are already running.
+     */
+    static ThreadPool.SearchLane searchLane(long queryCount, double recentQueryTimeInMillis, ShardSearchRequest request,
+                                            TimeValue threshold) {
+        if (queryCount < MIN_QUERIES_FOR_SEARCH_LANE_ESTIMATE) {
+            return ThreadPool.SearchLane.INTERACTIVE;
+        }
+        double estimatedMillis = recentQueryTimeInMillis;
+        final SearchSourceBuilder source = request.source();
+        if (source != null) {
+            if (source.aggregations() != null) {
+                estimatedMillis *= AGGREGATIONS_COST_FACTOR;
+            }
+            final int from = source.from() == -1 ? DEFAULT_FROM : source.from();
+            final int size = source.size() == -1 ? DEFAULT_SIZE : source.size();
+            if ((long) from + size > LARGE_HITS_WINDOW) {
+                estimatedMillis *= LARGE_HITS_WINDOW_COST_FACTOR;
+            }
+        }
+        return estimatedMillis >= threshold.millis() ? ThreadPool.SearchLane.EXPENSIVE : ThreadPool.SearchLane.INTERACTIVE;
+    }
+
     public void executeFetchPhase(InternalScrollSearchRequest request, SearchShardTask task,
                                   ActionListener<ScrollQueryFetchSearchResult> listener) {
         final LegacyReaderContext readerContext = (LegacyReaderContext) findReaderContext(request.contextId(), request);
@@ -565,7 +644,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             freeReaderContext(readerContext.id());
             throw e;
         }
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(null);
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -589,7 +668,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final ReaderContext readerContext = findReaderContext(request.contextId(), request);
         final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(request.getShardSearchRequest());
         final Releasable markAsUsed = readerContext.markAsUsed(getKeepAlive(shardSearchRequest));
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false)) {
                 if (request.lastEmittedDoc() != null) {
                     searchContext.scrollContext().lastEmittedDoc = request.lastEmittedDoc();
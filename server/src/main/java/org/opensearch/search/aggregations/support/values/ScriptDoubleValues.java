@@ -59,6 +59,11 @@ public class ScriptDoubleValues extends SortingNumericDoubleValues implements Sc
     @Override
     public boolean advanceExact(int target) throws IOException {
         script.setDocument(target);
+        if (script.returnsSingleNumber()) {
+            resize(1);
+            values[0] = script.runAsDouble();
+            return true;
+        }
         final Object value = script.execute();
 
         if (value == null) {
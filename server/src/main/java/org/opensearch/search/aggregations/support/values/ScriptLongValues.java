@@ -61,6 +61,11 @@ public class ScriptLongValues extends AbstractSortingNumericDocValues implements
     @Override
     public boolean advanceExact(int target) throws IOException {
         script.setDocument(target);
+        if (script.returnsSingleNumber()) {
+            resize(1);
+            values[0] = script.runAsLong();
+            return true;
+        }
         final Object value = script.execute();
 
         if (value == null) {
@@ -0,0 +1,360 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.monitor.jvm.JvmInfo;
+import org.opensearch.monitor.process.ProcessProbe;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceUsage;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Protects the node from a few expensive searches starving it of heap and CPU. Runs periodically and, once the heap or
+ * the CPU usage of the node stayed above their thresholds for a number of successive checks, cancels the search shard
+ * tasks that exceed their own CPU time, heap allocation or elapsed time thresholds, the most expensive ones first.
+ * Only a fraction of the running search shard tasks is cancelled per check, so that a duress caused by something else
+ * than searches doesn't cancel every search of the node. Each task is cancelled, or in {@code monitor_only} mode counted
+ * as a task that would have been cancelled, at most once.
+ */
+public class SearchBackpressureService extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(SearchBackpressureService.class);
+
+    /**
+     * Whether the service is disabled, only tracks the tasks that it would cancel, or cancels them.
+     */
+    public enum Mode {
+        DISABLED,
+        MONITOR_ONLY,
+        ENFORCED;
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Mode fromName(String name) {
+            for (Mode mode : values()) {
+                if (mode.getName().equals(name)) {
+                    return mode;
+                }
+            }
+            throw new IllegalArgumentException("unknown search backpressure mode [" + name + "]");
+        }
+    }
+
+    public static final Setting<Mode> MODE_SETTING = new Setting<>("search_backpressure.mode", Mode.MONITOR_ONLY.getName(),
+        Mode::fromName, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<TimeValue> INTERVAL_SETTING =
+        Setting.timeSetting("search_backpressure.interval", TimeValue.timeValueSeconds(1), TimeValue.timeValueMillis(1),
+            Setting.Property.NodeScope);
+    public static final Setting<Integer> NUM_SUCCESSIVE_BREACHES_SETTING =
+        Setting.intSetting("search_backpressure.node_duress.num_successive_breaches", 3, 1,
+            Setting.Property.NodeScope, Setting.Property.Dynamic);
+    /**
+     * The heap usage of the node, as a fraction of the maximum heap, above which the node is in duress. The heap usage is the
+     * usage of the old generation after its last collection, so that garbage that the next collection frees doesn't count, and
+     * the heap never puts the node in duress if the old generation of the garbage collector in use is unknown.
+     */
+    public static final Setting<Double> HEAP_THRESHOLD_SETTING =
+        Setting.doubleSetting("search_backpressure.node_duress.heap_threshold", 0.7, 0.0, 1.0,
+            Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Double> CPU_THRESHOLD_SETTING =
+        Setting.doubleSetting("search_backpressure.node_duress.cpu_threshold", 0.9, 0.0, 1.0,
+            Setting.Property.NodeScope, Setting.Property.Dynamic);
+    /**
+     * The bytes that a search shard task may allocate, as a fraction of the maximum heap. This is compared to the total
+     * number of bytes that the threads working on behalf of the task allocated so far, including the ones that were
+     * already garbage collected, so it is an allocation budget per task rather than a limit on the heap that it retains.
+     */
+    public static final Setting<Double> TASK_HEAP_THRESHOLD_SETTING =
+        Setting.doubleSetting("search_backpressure.search_shard_task.heap_threshold", 0.005, 0.0, 1.0,
+            Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<TimeValue> TASK_CPU_TIME_THRESHOLD_SETTING =
+        Setting.timeSetting("search_backpressure.search_shard_task.cpu_time_threshold", TimeValue.timeValueSeconds(15),
+            TimeValue.timeValueMillis(1), Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<TimeValue> TASK_ELAPSED_TIME_THRESHOLD_SETTING =
+        Setting.timeSetting("search_backpressure.search_shard_task.elapsed_time_threshold", TimeValue.timeValueSeconds(30),
+            TimeValue.timeValueMillis(1), Setting.Property.NodeScope, Setting.Property.Dynamic);
+    /**
+     * The maximum fraction of the running search shard tasks cancelled per check, at least one task is cancelled if it
+     * is above {@code 0}, and none if it is {@code 0}.
+     */
+    public static final Setting<Double> CANCELLATION_RATIO_SETTING =
+        Setting.doubleSetting("search_backpressure.cancellation_ratio", 0.1, 0.0, 1.0,
+            Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final TimeValue interval;
+    private final DoubleSupplier heapUsage;
+    private final DoubleSupplier cpuUsage;
+    private final long maxHeapBytes;
+    private final LongSupplier nanoTimeSupplier;
+
+    private volatile Mode mode;
+    private volatile int numSuccessiveBreaches;
+    private volatile double heapThreshold;
+    private volatile double cpuThreshold;
+    private volatile double taskHeapThreshold;
+    private volatile TimeValue taskCpuTimeThreshold;
+    private volatile TimeValue taskElapsedTimeThreshold;
+    private volatile double cancellationRatio;
+
+    private volatile Scheduler.Cancellable scheduledFuture;
+
+    // only accessed by the scheduled check, which never runs concurrently with itself
+    private int successiveBreaches;
+    private Mode lastMode;
+    // the tasks that were cancelled, or would have been cancelled, by a previous check and are still running
+    private final Set<Long> cancelledTaskIds = new HashSet<>();
+    private volatile boolean inDuress;
+
+    private final AtomicLong duressCount = new AtomicLong();
+    private final AtomicLong cancellationCount = new AtomicLong();
+    private final AtomicLong wouldCancelCount = new AtomicLong();
+    private final AtomicLong cancellationLimitReachedCount = new AtomicLong();
+    private final AtomicLong heapUsageCancellations = new AtomicLong();
+    private final AtomicLong cpuUsageCancellations = new AtomicLong();
+    private final AtomicLong elapsedTimeCancellations = new AtomicLong();
+
+    public SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager) {
+        this(settings, clusterSettings, threadPool, taskManager, SearchBackpressureService::heapUsage,
+            () -> ProcessProbe.getInstance().getProcessCpuPercent() / 100.0, JvmInfo.jvmInfo().getMem().getHeapMax().getBytes(),
+            System::nanoTime);
+    }
+
+    SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager,
+                              DoubleSupplier heapUsage, DoubleSupplier cpuUsage, long maxHeapBytes, LongSupplier nanoTimeSupplier) {
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.interval = INTERVAL_SETTING.get(settings);
+        this.heapUsage = heapUsage;
+        this.cpuUsage = cpuUsage;
+        this.maxHeapBytes = maxHeapBytes;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.mode = MODE_SETTING.get(settings);
+        this.numSuccessiveBreaches = NUM_SUCCESSIVE_BREACHES_SETTING.get(settings);
+        this.heapThreshold = HEAP_THRESHOLD_SETTING.get(settings);
+        this.cpuThreshold = CPU_THRESHOLD_SETTING.get(settings);
+        this.taskHeapThreshold = TASK_HEAP_THRESHOLD_SETTING.get(settings);
+        this.taskCpuTimeThreshold = TASK_CPU_TIME_THRESHOLD_SETTING.get(settings);
+        this.taskElapsedTimeThreshold = TASK_ELAPSED_TIME_THRESHOLD_SETTING.get(settings);
+        this.cancellationRatio = CANCELLATION_RATIO_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MODE_SETTING, value -> this.mode = value);
+        clusterSettings.addSettingsUpdateConsumer(NUM_SUCCESSIVE_BREACHES_SETTING, value -> this.numSuccessiveBreaches = value);
+        clusterSettings.addSettingsUpdateConsumer(HEAP_THRESHOLD_SETTING, value -> this.heapThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(CPU_THRESHOLD_SETTING, value -> this.cpuThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(TASK_HEAP_THRESHOLD_SETTING, value -> this.taskHeapThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(TASK_CPU_TIME_THRESHOLD_SETTING, value -> this.taskCpuTimeThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(TASK_ELAPSED_TIME_THRESHOLD_SETTING, value -> this.taskElapsedTimeThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(CANCELLATION_RATIO_SETTING, value -> this.cancellationRatio = value);
+    }
+
+    @Override
+    protected void doStart() {
+        scheduledFuture = threadPool.scheduleWithFixedDelay(() -> {
+            try {
+                doRun();
+            } catch (Exception e) {
+                logger.warn("failed to check the search backpressure of the node", e);
+            }
+        }, interval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        scheduledFuture.cancel();
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    /**
+     * Checks whether the node is in duress and, if so, cancels the most expensive search shard tasks.
+     */
+    void doRun() {
+        final Mode mode = this.mode;
+        if (mode != lastMode) {
+            // tasks that would have been cancelled in monitor_only mode may be cancelled once enforced
+            cancelledTaskIds.clear();
+            lastMode = mode;
+        }
+        if (mode == Mode.DISABLED) {
+            successiveBreaches = 0;
+            inDuress = false;
+            return;
+        }
+        final Map<Long, CancellableTask> cancellableTasks = taskManager.getCancellableTasks();
+        cancelledTaskIds.retainAll(cancellableTasks.keySet());
+        if (heapUsage.getAsDouble() >= heapThreshold || cpuUsage.getAsDouble() >= cpuThreshold) {
+            successiveBreaches++;
+        } else {
+            successiveBreaches = 0;
+        }
+        inDuress = successiveBreaches >= numSuccessiveBreaches;
+        if (inDuress == false) {
+            return;
+        }
+        duressCount.incrementAndGet();
+
+        final long now = nanoTimeSupplier.getAsLong();
+        final long heapThresholdBytes = (long) (maxHeapBytes * taskHeapThreshold);
+        final long cpuTimeThresholdNanos = taskCpuTimeThreshold.nanos();
+        final long elapsedTimeThresholdNanos = taskElapsedTimeThreshold.nanos();
+        int searchShardTasks = 0;
+        final List<CancellationCandidate> candidates = new ArrayList<>();
+        for (CancellableTask task : cancellableTasks.values()) {
+            if (task instanceof SearchShardTask == false || task.isCancelled()) {
+                continue;
+            }
+            searchShardTasks++;
+            if (cancelledTaskIds.contains(task.getId())) {
+                continue;
+            }
+            final CancellationCandidate candidate = new CancellationCandidate(task, now - task.getStartTimeNanos(),
+                heapThresholdBytes, cpuTimeThresholdNanos, elapsedTimeThresholdNanos);
+            if (candidate.score > 0) {
+                candidates.add(candidate);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        final double cancellationRatio = this.cancellationRatio;
+        final int limit = cancellationRatio == 0 ? 0 : Math.max(1, (int) (searchShardTasks * cancellationRatio));
+        if (candidates.size() > limit) {
+            cancellationLimitReachedCount.incrementAndGet();
+        }
+        candidates.sort(Comparator.comparingDouble((CancellationCandidate c) -> c.score).reversed());
+        for (CancellationCandidate candidate : candidates.subList(0, Math.min(limit, candidates.size()))) {
+            cancelledTaskIds.add(candidate.task.getId());
+            final String reason = candidate.reason();
+            if (mode == Mode.ENFORCED) {
+                cancellationCount.incrementAndGet();
+                if (candidate.heapExceeded) {
+                    heapUsageCancellations.incrementAndGet();
+                }
+                if (candidate.cpuExceeded) {
+                    cpuUsageCancellations.incrementAndGet();
+                }
+                if (candidate.elapsedExceeded) {
+                    elapsedTimeCancellations.incrementAndGet();
+                }
+                logger.debug("cancelling task [{}] due to search backpressure: {}", candidate.task.getId(), reason);
+                taskManager.cancelTaskAndDescendants(candidate.task, "search backpressure: " + reason, false, ActionListener.wrap(
+                    r -> {},
+                    e -> logger.debug(new ParameterizedMessage("failed to cancel task [{}]", candidate.task.getId()), e)));
+            } else {
+                wouldCancelCount.incrementAndGet();
+                logger.debug("task [{}] would be cancelled due to search backpressure: {}", candidate.task.getId(), reason);
+            }
+        }
+    }
+
+    /**
+     * Whether the node was found in duress by the last check.
+     */
+    public boolean isInDuress() {
+        return inDuress;
+    }
+
+    public SearchBackpressureStats stats() {
+        return new SearchBackpressureStats(mode.getName(), inDuress, duressCount.get(), cancellationCount.get(),
+            wouldCancelCount.get(), cancellationLimitReachedCount.get(), heapUsageCancellations.get(), cpuUsageCancellations.get(),
+            elapsedTimeCancellations.get());
+    }
+
+    private static double heapUsage() {
+        final long max = MEMORY_MX_BEAN.getHeapMemoryUsage().getMax();
+        final long retained = HierarchyCircuitBreakerService.oldGenerationCollectionUsage();
+        return max <= 0 || retained < 0 ? 0 : (double) retained / max;
+    }
+
+    /**
+     * A search shard task that exceeds at least one of the task thresholds, scored by how far it exceeds them.
+     */
+    private static final class CancellationCandidate {
+        private final CancellableTask task;
+        private final long allocatedBytes;
+        private final long cpuTimeNanos;
+        private final long elapsedTimeNanos;
+        private final boolean heapExceeded;
+        private final boolean cpuExceeded;
+        private final boolean elapsedExceeded;
+        private final double score;
+
+        private CancellationCandidate(CancellableTask task, long elapsedTimeNanos, long heapThresholdBytes, long cpuTimeThresholdNanos,
+                                      long elapsedTimeThresholdNanos) {
+            this.task = task;
+            final TaskResourceUsage usage = task.getResourceUsage();
+            this.allocatedBytes = usage == null ? 0 : usage.getAllocatedBytes();
+            this.cpuTimeNanos = usage == null ? 0 : usage.getCpuTimeNanos();
+            this.elapsedTimeNanos = elapsedTimeNanos;
+            this.heapExceeded = heapThresholdBytes > 0 && allocatedBytes >= heapThresholdBytes;
+            this.cpuExceeded = cpuTimeNanos >= cpuTimeThresholdNanos;
+            this.elapsedExceeded = elapsedTimeNanos >= elapsedTimeThresholdNanos;
+            double score = 0;
+            if (heapExceeded) {
+                score += (double) allocatedBytes / heapThresholdBytes;
+            }
+            if (cpuExceeded) {
+                score += (double) cpuTimeNanos / cpuTimeThresholdNanos;
+            }
+            if (elapsedExceeded) {
+                score += (double) elapsedTimeNanos / elapsedTimeThresholdNanos;
+            }
+            this.score = score;
+        }
+
+        private String reason() {
+            List<String> reasons = new ArrayList<>(3);
+            if (heapExceeded) {
+                reasons.add("heap allocations [" + new ByteSizeValue(allocatedBytes) + "]");
+            }
+            if (cpuExceeded) {
+                reasons.add("cpu time [" + TimeValue.timeValueNanos(cpuTimeNanos) + "]");
+            }
+            if (elapsedExceeded) {
+                reasons.add("elapsed time [" + TimeValue.timeValueNanos(elapsedTimeNanos) + "]");
+            }
+            return String.join(", ", reasons) + " exceeded the limits while the node is in duress";
+        }
+    }
+}
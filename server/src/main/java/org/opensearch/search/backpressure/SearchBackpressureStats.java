@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Statistics of the {@link SearchBackpressureService} of a node.
+ */
+public class SearchBackpressureStats implements Writeable, ToXContentFragment {
+
+    private final String mode;
+    private final boolean inDuress;
+    private final long duressCount;
+    private final long cancellationCount;
+    private final long wouldCancelCount;
+    private final long cancellationLimitReachedCount;
+    private final long heapUsageCancellations;
+    private final long cpuUsageCancellations;
+    private final long elapsedTimeCancellations;
+
+    public SearchBackpressureStats(String mode, boolean inDuress, long duressCount, long cancellationCount, long wouldCancelCount,
+                                   long cancellationLimitReachedCount, long heapUsageCancellations, long cpuUsageCancellations,
+                                   long elapsedTimeCancellations) {
+        this.mode = mode;
+        this.inDuress = inDuress;
+        this.duressCount = duressCount;
+        this.cancellationCount = cancellationCount;
+        this.wouldCancelCount = wouldCancelCount;
+        this.cancellationLimitReachedCount = cancellationLimitReachedCount;
+        this.heapUsageCancellations = heapUsageCancellations;
+        this.cpuUsageCancellations = cpuUsageCancellations;
+        this.elapsedTimeCancellations = elapsedTimeCancellations;
+    }
+
+    public SearchBackpressureStats(StreamInput in) throws IOException {
+        mode = in.readString();
+        inDuress = in.readBoolean();
+        duressCount = in.readVLong();
+        cancellationCount = in.readVLong();
+        wouldCancelCount = in.readVLong();
+        cancellationLimitReachedCount = in.readVLong();
+        heapUsageCancellations = in.readVLong();
+        cpuUsageCancellations = in.readVLong();
+        elapsedTimeCancellations = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(mode);
+        out.writeBoolean(inDuress);
+        out.writeVLong(duressCount);
+        out.writeVLong(cancellationCount);
+        out.writeVLong(wouldCancelCount);
+        out.writeVLong(cancellationLimitReachedCount);
+        out.writeVLong(heapUsageCancellations);
+        out.writeVLong(cpuUsageCancellations);
+        out.writeVLong(elapsedTimeCancellations);
+    }
+
+    /**
+     * The mode of the service, see {@link SearchBackpressureService.Mode}.
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * Whether the node was in duress at the last check.
+     */
+    public boolean isInDuress() {
+        return inDuress;
+    }
+
+    /**
+     * The number of checks that found the node in duress.
+     */
+    public long getDuressCount() {
+        return duressCount;
+    }
+
+    /**
+     * The number of search shard tasks cancelled in {@code enforced} mode.
+     */
+    public long getCancellationCount() {
+        return cancellationCount;
+    }
+
+    /**
+     * The number of search shard tasks that would have been cancelled in {@code monitor_only} mode, each task is counted once.
+     */
+    public long getWouldCancelCount() {
+        return wouldCancelCount;
+    }
+
+    /**
+     * The number of checks that found more tasks to cancel than the cancellation ratio allows.
+     */
+    public long getCancellationLimitReachedCount() {
+        return cancellationLimitReachedCount;
+    }
+
+    /**
+     * The number of cancelled tasks that exceeded the heap allocation threshold.
+     */
+    public long getHeapUsageCancellations() {
+        return heapUsageCancellations;
+    }
+
+    /**
+     * The number of cancelled tasks that exceeded the CPU time threshold.
+     */
+    public long getCpuUsageCancellations() {
+        return cpuUsageCancellations;
+    }
+
+    /**
+     * The number of cancelled tasks that exceeded the elapsed time threshold.
+     */
+    public long getElapsedTimeCancellations() {
+        return elapsedTimeCancellations;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("search_backpressure");
+        builder.field("mode", mode);
+        builder.startObject("node_duress");
+        builder.field("in_duress", inDuress);
+        builder.field("duress_count", duressCount);
+        builder.endObject();
+        builder.startObject("search_shard_task");
+        builder.field("cancellation_count", cancellationCount);
+        builder.field("would_cancel_count", wouldCancelCount);
+        builder.field("cancellation_limit_reached_count", cancellationLimitReachedCount);
+        builder.startObject("cancellation_breakdown");
+        builder.field("heap_usage", heapUsageCancellations);
+        builder.field("cpu_usage", cpuUsageCancellations);
+        builder.field("elapsed_time", elapsedTimeCancellations);
+        builder.endObject();
+        builder.endObject();
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SearchBackpressureStats that = (SearchBackpressureStats) o;
+        return inDuress == that.inDuress
+            && duressCount == that.duressCount
+            && cancellationCount == that.cancellationCount
+            && wouldCancelCount == that.wouldCancelCount
+            && cancellationLimitReachedCount == that.cancellationLimitReachedCount
+            && heapUsageCancellations == that.heapUsageCancellations
+            && cpuUsageCancellations == that.cpuUsageCancellations
+            && elapsedTimeCancellations == that.elapsedTimeCancellations
+            && mode.equals(that.mode);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, inDuress, duressCount, cancellationCount, wouldCancelCount, cancellationLimitReachedCount,
+            heapUsageCancellations, cpuUsageCancellations, elapsedTimeCancellations);
+    }
+}
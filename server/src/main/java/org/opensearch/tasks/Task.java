@@ -36,11 +36,14 @@ package org.opensearch.tasks;
 import org.opensearch.action.ActionResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.NamedWriteable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentObject;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Current task information
@@ -74,6 +77,27 @@ public class Task {
      */
     private final long startTimeNanos;
 
+    /**
+     * The task that the current thread is working on behalf of, see {@link #trackResourceUsage()}.
+     */
+    private static final ThreadLocal<Task> TRACKED_TASK = new ThreadLocal<>();
+
+    /**
+     * The resources used by the threads that worked on behalf of this task and have finished doing so.
+     */
+    private final AtomicLong cpuTimeNanos = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+
+    /**
+     * The threads that are currently working on behalf of this task, by id, with their counters from when they started.
+     */
+    private final Map<Long, ThreadResourceUsage> activeThreads = ConcurrentCollections.newConcurrentMap();
+
+    /**
+     * Whether the resources of this task are measured, set by the {@link TaskManager} before the task is registered.
+     */
+    private boolean resourceTrackingEnabled = true;
+
     public Task(long id, String type, String action, String description, TaskId parentTask, Map<String, String> headers) {
         this(id, type, action, description, parentTask, System.currentTimeMillis(), System.nanoTime(), headers);
     }
@@ -115,7 +139,7 @@ public class Task {
      */
     protected final TaskInfo taskInfo(String localNodeId, String description, Status status) {
         return new TaskInfo(new TaskId(localNodeId, getId()), getType(), getAction(), description, status, startTime,
-                System.nanoTime() - startTimeNanos, this instanceof CancellableTask, parentTask, headers);
+                System.nanoTime() - startTimeNanos, this instanceof CancellableTask, parentTask, headers, getResourceUsage());
     }
 
     /**
@@ -160,6 +184,79 @@ public class Task {
         return startTimeNanos;
     }
 
+    /**
+     * Starts attributing the CPU time and the heap allocations of the current thread to this task, until the returned
+     * {@link Releasable} is closed on the same thread. If the thread is already working on behalf of another task, for
+     * instance a parent task executing a child task locally, that task stops being attributed the thread's resources
+     * until the returned {@link Releasable} is closed, so that they aren't counted twice.
+     */
+    public final Releasable trackResourceUsage() {
+        if (resourceTrackingEnabled == false || ThreadResourceUsage.isSupported() == false) {
+            return () -> {};
+        }
+        final Task outerTask = TRACKED_TASK.get();
+        if (outerTask == this) {
+            return () -> {};
+        }
+        if (outerTask != null) {
+            outerTask.stopTrackingCurrentThread();
+        }
+        startTrackingCurrentThread();
+        TRACKED_TASK.set(this);
+        return () -> {
+            stopTrackingCurrentThread();
+            if (outerTask != null) {
+                TRACKED_TASK.set(outerTask);
+                outerTask.startTrackingCurrentThread();
+            } else {
+                TRACKED_TASK.remove();
+            }
+        };
+    }
+
+    private void startTrackingCurrentThread() {
+        final ThreadResourceUsage start = ThreadResourceUsage.current();
+        activeThreads.put(start.threadId, start);
+    }
+
+    private void stopTrackingCurrentThread() {
+        final ThreadResourceUsage end = ThreadResourceUsage.current();
+        final ThreadResourceUsage start = activeThreads.remove(end.threadId);
+        if (start != null) {
+            addResourceUsage(end.cpuTimeNanosSince(start), end.allocatedBytesSince(start));
+        }
+    }
+
+    final void setResourceTrackingEnabled(boolean resourceTrackingEnabled) {
+        this.resourceTrackingEnabled = resourceTrackingEnabled;
+    }
+
+    /**
+     * Attributes the given resources to this task, for instance the ones used by its finished child tasks.
+     */
+    public final void addResourceUsage(long cpuTimeNanos, long allocatedBytes) {
+        this.cpuTimeNanos.addAndGet(cpuTimeNanos);
+        this.allocatedBytes.addAndGet(allocatedBytes);
+    }
+
+    /**
+     * Returns the resources used on behalf of this task so far, including the threads that are still working on it, or
+     * {@code null} if they aren't measured for this task or the JVM doesn't measure the CPU time of threads.
+     */
+    public final TaskResourceUsage getResourceUsage() {
+        if (resourceTrackingEnabled == false || ThreadResourceUsage.isSupported() == false) {
+            return null;
+        }
+        long cpuTimeNanos = this.cpuTimeNanos.get();
+        long allocatedBytes = this.allocatedBytes.get();
+        for (ThreadResourceUsage start : activeThreads.values()) {
+            final ThreadResourceUsage now = ThreadResourceUsage.of(start.threadId);
+            cpuTimeNanos += now.cpuTimeNanosSince(start);
+            allocatedBytes += now.allocatedBytesSince(start);
+        }
+        return new TaskResourceUsage(cpuTimeNanos, allocatedBytes);
+    }
+
     /**
      * Returns id of the parent task or NO_PARENT_ID if the task doesn't have any parent tasks
      */
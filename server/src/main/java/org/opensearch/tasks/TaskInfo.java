@@ -33,6 +33,7 @@
 package org.opensearch.tasks;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.Strings;
 import org.opensearch.common.bytes.BytesReference;
@@ -85,8 +86,16 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
 
     private final Map<String, String> headers;
 
+    private final TaskResourceUsage resourceUsage;
+
     public TaskInfo(TaskId taskId, String type, String action, String description, Task.Status status, long startTime,
                     long runningTimeNanos, boolean cancellable, TaskId parentTaskId, Map<String, String> headers) {
+        this(taskId, type, action, description, status, startTime, runningTimeNanos, cancellable, parentTaskId, headers, null);
+    }
+
+    public TaskInfo(TaskId taskId, String type, String action, String description, Task.Status status, long startTime,
+                    long runningTimeNanos, boolean cancellable, TaskId parentTaskId, Map<String, String> headers,
+                    TaskResourceUsage resourceUsage) {
         this.taskId = taskId;
         this.type = type;
         this.action = action;
@@ -97,6 +106,7 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         this.cancellable = cancellable;
         this.parentTaskId = parentTaskId;
         this.headers = headers;
+        this.resourceUsage = resourceUsage;
     }
 
     /**
@@ -117,6 +127,11 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         } else {
             headers = Collections.emptyMap();
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            resourceUsage = in.readOptionalWriteable(TaskResourceUsage::new);
+        } else {
+            resourceUsage = null;
+        }
     }
 
     @Override
@@ -133,6 +148,9 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(LegacyESVersion.V_6_2_0)) {
             out.writeMap(headers, StreamOutput::writeString, StreamOutput::writeString);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalWriteable(resourceUsage);
+        }
     }
 
     public TaskId getTaskId() {
@@ -198,6 +216,13 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         return headers;
     }
 
+    /**
+     * Returns the resources used on behalf of the task so far, or null if they aren't measured
+     */
+    public TaskResourceUsage getResourceUsage() {
+        return resourceUsage;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.field("node", taskId.getNodeId());
@@ -224,6 +249,11 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
             builder.field(attribute.getKey(), attribute.getValue());
         }
         builder.endObject();
+        if (resourceUsage != null) {
+            builder.startObject("resource_stats");
+            resourceUsage.toXContent(builder, params);
+            builder.endObject();
+        }
         return builder;
     }
 
@@ -248,10 +278,11 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
                     // This might happen if we are reading an old version of task info
                     headers = Collections.emptyMap();
                 }
+                TaskResourceUsage resourceUsage = (TaskResourceUsage) a[i++];
                 RawTaskStatus status = statusBytes == null ? null : new RawTaskStatus(statusBytes);
                 TaskId parentTaskId = parentTaskIdString == null ? TaskId.EMPTY_TASK_ID : new TaskId(parentTaskIdString);
                 return new TaskInfo(id, type, action, description, status, startTime, runningTimeNanos, cancellable, parentTaskId,
-                    headers);
+                    headers, resourceUsage);
             });
     static {
         // Note for the future: this has to be backwards and forwards compatible with all changes to the task storage format
@@ -267,6 +298,7 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         PARSER.declareBoolean(constructorArg(), new ParseField("cancellable"));
         PARSER.declareString(optionalConstructorArg(), new ParseField("parent_task_id"));
         PARSER.declareObject(optionalConstructorArg(), (p, c) -> p.mapStrings(), new ParseField("headers"));
+        PARSER.declareObject(optionalConstructorArg(), TaskResourceUsage.PARSER, new ParseField("resource_stats"));
     }
 
     @Override
@@ -290,11 +322,13 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
                 && Objects.equals(parentTaskId, other.parentTaskId)
                 && Objects.equals(cancellable, other.cancellable)
                 && Objects.equals(status, other.status)
-                && Objects.equals(headers, other.headers);
+                && Objects.equals(headers, other.headers)
+                && Objects.equals(resourceUsage, other.resourceUsage);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(taskId, type, action, description, startTime, runningTimeNanos, parentTaskId, cancellable, status, headers);
+        return Objects.hash(taskId, type, action, description, startTime, runningTimeNanos, parentTaskId, cancellable, status, headers,
+            resourceUsage);
     }
 }
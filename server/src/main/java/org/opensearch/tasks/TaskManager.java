@@ -50,6 +50,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
@@ -89,6 +90,13 @@ public class TaskManager implements ClusterStateApplier {
 
     private static final TimeValue WAIT_FOR_COMPLETION_POLL = timeValueMillis(100);
 
+    /**
+     * Whether the CPU time and the heap allocations of the threads working on behalf of tasks are measured, applies to the
+     * tasks registered after it is changed.
+     */
+    public static final Setting<Boolean> TASK_RESOURCE_TRACKING_ENABLED_SETTING =
+        Setting.boolSetting("task.resource_tracking.enabled", true, Setting.Property.Dynamic, Setting.Property.NodeScope);
+
     /** Rest headers that are copied to the task */
     private final List<String> taskHeaders;
     private final ThreadPool threadPool;
@@ -107,6 +115,7 @@ public class TaskManager implements ClusterStateApplier {
     private volatile DiscoveryNodes lastDiscoveryNodes = DiscoveryNodes.EMPTY_NODES;
 
     private final ByteSizeValue maxHeaderSize;
+    private volatile boolean resourceTrackingEnabled;
     private final Map<TcpChannel, ChannelPendingTaskTracker> channelPendingTaskTrackers = ConcurrentCollections.newConcurrentMap();
     private final SetOnce<TaskCancellationService> cancellationService = new SetOnce<>();
 
@@ -114,6 +123,11 @@ public class TaskManager implements ClusterStateApplier {
         this.threadPool = threadPool;
         this.taskHeaders = new ArrayList<>(taskHeaders);
         this.maxHeaderSize = SETTING_HTTP_MAX_HEADER_SIZE.get(settings);
+        this.resourceTrackingEnabled = TASK_RESOURCE_TRACKING_ENABLED_SETTING.get(settings);
+    }
+
+    public void setResourceTrackingEnabled(boolean resourceTrackingEnabled) {
+        this.resourceTrackingEnabled = resourceTrackingEnabled;
     }
 
     public void setTaskResultsService(TaskResultsService taskResultsService) {
@@ -146,6 +160,7 @@ public class TaskManager implements ClusterStateApplier {
         Task task = request.createTask(taskIdGenerator.incrementAndGet(), type, action, request.getParentTask(), headers);
         Objects.requireNonNull(task);
         assert task.getParentTaskId().equals(request.getParentTask()) : "Request [ " + request + "] didn't preserve it parentTaskId";
+        task.setResourceTrackingEnabled(resourceTrackingEnabled);
         if (logger.isTraceEnabled()) {
             logger.trace("register {} [{}] [{}] [{}]", task.getId(), type, action, task.getDescription());
         }
@@ -202,16 +217,37 @@ public class TaskManager implements ClusterStateApplier {
      */
     public Task unregister(Task task) {
         logger.trace("unregister task for id: {}", task.getId());
+        final Task removedTask;
         if (task instanceof CancellableTask) {
             CancellableTaskHolder holder = cancellableTasks.remove(task.getId());
             if (holder != null) {
                 holder.finish();
-                return holder.getTask();
+                removedTask = holder.getTask();
             } else {
-                return null;
+                removedTask = null;
             }
         } else {
-            return tasks.remove(task.getId());
+            removedTask = tasks.remove(task.getId());
+        }
+        if (removedTask != null) {
+            addResourceUsageToParent(removedTask);
+        }
+        return removedTask;
+    }
+
+    /**
+     * Attributes the resources used by a completed task to its parent task if that runs on this node too, so that a task
+     * accounts for the resources of its local child tasks.
+     */
+    private void addResourceUsageToParent(Task task) {
+        final TaskId parentTaskId = task.getParentTaskId();
+        if (parentTaskId.isSet() == false || parentTaskId.getNodeId().equals(lastDiscoveryNodes.getLocalNodeId()) == false) {
+            return;
+        }
+        final Task parentTask = getTask(parentTaskId.getId());
+        final TaskResourceUsage resourceUsage = task.getResourceUsage();
+        if (parentTask != null && resourceUsage != null) {
+            parentTask.addResourceUsage(resourceUsage.getCpuTimeNanos(), resourceUsage.getAllocatedBytes());
         }
     }
 
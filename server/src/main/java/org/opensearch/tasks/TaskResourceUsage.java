@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.tasks;
+
+import org.opensearch.common.ParseField;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ConstructingObjectParser;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.common.xcontent.ConstructingObjectParser.constructorArg;
+
+/**
+ * The CPU time and the heap allocations of the threads that worked on behalf of a task, see {@link Task#trackResourceUsage()}.
+ */
+public final class TaskResourceUsage implements Writeable, ToXContentFragment {
+
+    private static final ParseField CPU_TIME_IN_NANOS = new ParseField("cpu_time_in_nanos");
+    private static final ParseField ALLOCATED_BYTES = new ParseField("allocated_in_bytes");
+
+    public static final ConstructingObjectParser<TaskResourceUsage, Void> PARSER = new ConstructingObjectParser<>(
+        "task_resource_usage", true, a -> new TaskResourceUsage((Long) a[0], (Long) a[1]));
+    static {
+        PARSER.declareLong(constructorArg(), CPU_TIME_IN_NANOS);
+        PARSER.declareLong(constructorArg(), ALLOCATED_BYTES);
+    }
+
+    private final long cpuTimeNanos;
+    private final long allocatedBytes;
+
+    public TaskResourceUsage(long cpuTimeNanos, long allocatedBytes) {
+        this.cpuTimeNanos = cpuTimeNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public TaskResourceUsage(StreamInput in) throws IOException {
+        cpuTimeNanos = in.readVLong();
+        allocatedBytes = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(cpuTimeNanos);
+        out.writeVLong(allocatedBytes);
+    }
+
+    /**
+     * The CPU time spent on behalf of the task.
+     */
+    public long getCpuTimeNanos() {
+        return cpuTimeNanos;
+    }
+
+    /**
+     * The number of bytes allocated on the heap on behalf of the task, {@code 0} if the JVM doesn't measure allocations.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field(CPU_TIME_IN_NANOS.getPreferredName(), cpuTimeNanos);
+        if (builder.humanReadable()) {
+            builder.field("cpu_time", new TimeValue(cpuTimeNanos, TimeUnit.NANOSECONDS).toString());
+        }
+        builder.humanReadableField(ALLOCATED_BYTES.getPreferredName(), "allocated", new ByteSizeValue(allocatedBytes));
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TaskResourceUsage that = (TaskResourceUsage) o;
+        return cpuTimeNanos == that.cpuTimeNanos && allocatedBytes == that.allocatedBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cpuTimeNanos, allocatedBytes);
+    }
+
+    @Override
+    public String toString() {
+        return "cpu_time[" + new TimeValue(cpuTimeNanos, TimeUnit.NANOSECONDS) + "], allocated[" + new ByteSizeValue(allocatedBytes) + "]";
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.tasks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A snapshot of the CPU time and the heap allocations of a thread, as measured by the JVM. Counters that the JVM
+ * doesn't measure are reported as {@code -1}.
+ */
+final class ThreadResourceUsage {
+
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private static final boolean cpuTimeSupported = threadMXBean.isThreadCpuTimeSupported();
+
+    private static final LongUnaryOperator threadAllocatedBytes = threadAllocatedBytesReader();
+
+    final long threadId;
+    final long cpuTimeNanos;
+    final long allocatedBytes;
+
+    private ThreadResourceUsage(long threadId, long cpuTimeNanos, long allocatedBytes) {
+        this.threadId = threadId;
+        this.cpuTimeNanos = cpuTimeNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Whether the JVM measures the CPU time of threads, without it there is nothing worth reporting.
+     */
+    static boolean isSupported() {
+        return cpuTimeSupported && threadMXBean.isThreadCpuTimeEnabled();
+    }
+
+    /**
+     * Returns the counters of the current thread.
+     */
+    static ThreadResourceUsage current() {
+        long threadId = Thread.currentThread().getId();
+        long cpuTimeNanos = isSupported() ? threadMXBean.getCurrentThreadCpuTime() : -1;
+        return new ThreadResourceUsage(threadId, cpuTimeNanos, allocatedBytes(threadId));
+    }
+
+    /**
+     * Returns the counters of the given thread, {@code -1} if it is no longer alive.
+     */
+    static ThreadResourceUsage of(long threadId) {
+        long cpuTimeNanos = isSupported() ? threadMXBean.getThreadCpuTime(threadId) : -1;
+        return new ThreadResourceUsage(threadId, cpuTimeNanos, allocatedBytes(threadId));
+    }
+
+    /**
+     * Returns the CPU time that this thread spent since the given snapshot of it was taken.
+     */
+    long cpuTimeNanosSince(ThreadResourceUsage start) {
+        assert threadId == start.threadId;
+        return cpuTimeNanos < 0 || start.cpuTimeNanos < 0 ? 0 : Math.max(0, cpuTimeNanos - start.cpuTimeNanos);
+    }
+
+    /**
+     * Returns the bytes that this thread allocated since the given snapshot of it was taken.
+     */
+    long allocatedBytesSince(ThreadResourceUsage start) {
+        assert threadId == start.threadId;
+        return allocatedBytes < 0 || start.allocatedBytes < 0 ? 0 : Math.max(0, allocatedBytes - start.allocatedBytes);
+    }
+
+    private static long allocatedBytes(long threadId) {
+        return threadAllocatedBytes == null ? -1 : threadAllocatedBytes.applyAsLong(threadId);
+    }
+
+    /**
+     * Returns a function that reports the allocations of a thread through the extended ThreadMXBean of the JVM, or
+     * {@code null} if the JVM doesn't provide it. The method is looked up once, like the other JVM specific beans.
+     */
+    private static LongUnaryOperator threadAllocatedBytesReader() {
+        final Method method;
+        try {
+            Class<?> clazz = Class.forName("com.sun.management.ThreadMXBean");
+            if (clazz.isInstance(threadMXBean) == false) {
+                return null;
+            }
+            method = clazz.getMethod("getThreadAllocatedBytes", long.class);
+        } catch (Exception e) {
+            // not available
+            return null;
+        }
+        return threadId -> {
+            try {
+                return (long) method.invoke(threadMXBean, threadId);
+            } catch (Exception e) {
+                return -1;
+            }
+        };
+    }
+}
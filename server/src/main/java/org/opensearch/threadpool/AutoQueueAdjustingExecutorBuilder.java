@@ -40,6 +40,7 @@ import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.node.Node;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -61,10 +62,24 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
     private final Setting<Integer> maxQueueSizeSetting;
     private final Setting<TimeValue> targetedResponseTimeSetting;
     private final Setting<Integer> frameSizeSetting;
+    private final Setting<Boolean> lanesEnabledSetting;
+    private final String[] laneNames;
+    private final List<Setting<Integer>> laneWeightSettings;
 
     AutoQueueAdjustingExecutorBuilder(final Settings settings, final String name, final int size,
                                       final int initialQueueSize, final int minQueueSize,
                                       final int maxQueueSize, final int frameSize) {
+        this(settings, name, size, initialQueueSize, minQueueSize, maxQueueSize, frameSize, Collections.emptyMap());
+    }
+
+    /**
+     * @param lanes the default weight of each of the lanes that the queue can be split into, in lane order, see
+     *              {@link OpenSearchExecutors#newAutoQueueFixed(String, int, int, int, int, int, TimeValue, String[], int[],
+     *              ThreadFactory, ThreadContext)}
+     */
+    AutoQueueAdjustingExecutorBuilder(final Settings settings, final String name, final int size,
+                                      final int initialQueueSize, final int minQueueSize,
+                                      final int maxQueueSize, final int frameSize, final Map<String, Integer> lanes) {
         super(name);
         final String prefix = "thread_pool." + name;
         final String sizeKey = settingsKey(prefix, "size");
@@ -144,12 +159,28 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
                 Setting.Property.NodeScope, Setting.Property.Deprecated);
         this.frameSizeSetting = Setting.intSetting(frameSizeKey, frameSize, 100, Setting.Property.NodeScope, Setting.Property.Deprecated,
             Setting.Property.Deprecated);
+        this.laneNames = lanes.keySet().toArray(new String[0]);
+        this.laneWeightSettings = new ArrayList<>(lanes.size());
+        if (lanes.isEmpty()) {
+            this.lanesEnabledSetting = null;
+        } else {
+            this.lanesEnabledSetting = Setting.boolSetting(settingsKey(prefix, "lanes.enabled"), false, Setting.Property.NodeScope);
+            for (Map.Entry<String, Integer> lane : lanes.entrySet()) {
+                laneWeightSettings.add(Setting.intSetting(settingsKey(prefix, "lanes." + lane.getKey() + ".weight"), lane.getValue(), 1,
+                    Setting.Property.NodeScope));
+            }
+        }
     }
 
     @Override
     public List<Setting<?>> getRegisteredSettings() {
-        return Arrays.asList(sizeSetting, queueSizeSetting, minQueueSizeSetting,
-                maxQueueSizeSetting, frameSizeSetting, targetedResponseTimeSetting);
+        final List<Setting<?>> settings = new ArrayList<>(Arrays.asList(sizeSetting, queueSizeSetting, minQueueSizeSetting,
+                maxQueueSizeSetting, frameSizeSetting, targetedResponseTimeSetting));
+        if (lanesEnabledSetting != null) {
+            settings.add(lanesEnabledSetting);
+            settings.addAll(laneWeightSettings);
+        }
+        return Collections.unmodifiableList(settings);
     }
 
     @Override
@@ -161,7 +192,14 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         final int maxQueueSize = maxQueueSizeSetting.get(settings);
         final int frameSize = frameSizeSetting.get(settings);
         final TimeValue targetedResponseTime = targetedResponseTimeSetting.get(settings);
-        return new AutoExecutorSettings(nodeName, size, initialQueueSize, minQueueSize, maxQueueSize, frameSize, targetedResponseTime);
+        final int[] laneWeights;
+        if (lanesEnabledSetting != null && lanesEnabledSetting.get(settings)) {
+            laneWeights = laneWeightSettings.stream().mapToInt(setting -> setting.get(settings)).toArray();
+        } else {
+            laneWeights = null;
+        }
+        return new AutoExecutorSettings(nodeName, size, initialQueueSize, minQueueSize, maxQueueSize, frameSize, targetedResponseTime,
+            laneWeights);
     }
 
     @Override
@@ -175,8 +213,9 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         TimeValue targetedResponseTime = settings.targetedResponseTime;
         final ThreadFactory threadFactory =
             OpenSearchExecutors.daemonThreadFactory(OpenSearchExecutors.threadName(settings.nodeName, name()));
-        final ExecutorService executor =
-            OpenSearchExecutors.newAutoQueueFixed(
+        final ExecutorService executor;
+        if (settings.laneWeights == null) {
+            executor = OpenSearchExecutors.newAutoQueueFixed(
                         settings.nodeName + "/" + name(),
                         size,
                         initialQueueSize,
@@ -186,6 +225,20 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
                         targetedResponseTime,
                         threadFactory,
                         threadContext);
+        } else {
+            executor = OpenSearchExecutors.newAutoQueueFixed(
+                        settings.nodeName + "/" + name(),
+                        size,
+                        initialQueueSize,
+                        minQueueSize,
+                        maxQueueSize,
+                        frameSize,
+                        targetedResponseTime,
+                        laneNames,
+                        settings.laneWeights,
+                        threadFactory,
+                        threadContext);
+        }
         // TODO: in a subsequent change we hope to extend ThreadPool.Info to be more specific for the thread pool type
         final ThreadPool.Info info =
             new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.FIXED_AUTO_QUEUE_SIZE,
@@ -211,10 +264,11 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         final int maxQueueSize;
         final int frameSize;
         final TimeValue targetedResponseTime;
+        final int[] laneWeights;
 
         AutoExecutorSettings(final String nodeName, final int size, final int initialQueueSize,
                              final int minQueueSize, final int maxQueueSize, final int frameSize,
-                             final TimeValue targetedResponseTime) {
+                             final TimeValue targetedResponseTime, final int[] laneWeights) {
             super(nodeName);
             this.size = size;
             this.initialQueueSize = initialQueueSize;
@@ -222,6 +276,7 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
             this.maxQueueSize = maxQueueSize;
             this.frameSize = frameSize;
             this.targetedResponseTime = targetedResponseTime;
+            this.laneWeights = laneWeights;
         }
 
     }
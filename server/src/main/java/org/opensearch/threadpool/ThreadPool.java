@@ -44,9 +44,11 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.SizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.MultiLaneBlockingQueue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
+import org.opensearch.common.util.concurrent.QueueResizingOpenSearchThreadPoolExecutor;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.concurrent.XRejectedExecutionHandler;
 import org.opensearch.common.xcontent.ToXContentFragment;
@@ -59,6 +61,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
@@ -133,6 +136,39 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         }
     }
 
+    /**
+     * The lanes that the queue of the {@link Names#SEARCH} thread pool is split into when {@code thread_pool.search.lanes.enabled}
+     * is set. Cheap shard searches are queued in the interactive lane so that they don't wait behind expensive ones.
+     */
+    public enum SearchLane {
+        INTERACTIVE("interactive", 4),
+        EXPENSIVE("expensive", 1);
+
+        private final String laneName;
+        private final int defaultWeight;
+
+        SearchLane(String laneName, int defaultWeight) {
+            this.laneName = laneName;
+            this.defaultWeight = defaultWeight;
+        }
+
+        public String getLaneName() {
+            return laneName;
+        }
+
+        public int getDefaultWeight() {
+            return defaultWeight;
+        }
+
+        static Map<String, Integer> defaultWeights() {
+            final Map<String, Integer> weights = new LinkedHashMap<>();
+            for (SearchLane lane : values()) {
+                weights.put(lane.laneName, lane.defaultWeight);
+            }
+            return weights;
+        }
+    }
+
     public static final Map<String, ThreadPoolType> THREAD_POOL_TYPES;
 
     static {
@@ -193,7 +229,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         builders.put(Names.GET, new FixedExecutorBuilder(settings, Names.GET, allocatedProcessors, 1000));
         builders.put(Names.ANALYZE, new FixedExecutorBuilder(settings, Names.ANALYZE, 1, 16));
         builders.put(Names.SEARCH, new AutoQueueAdjustingExecutorBuilder(settings,
-                        Names.SEARCH, searchThreadPoolSize(allocatedProcessors), 1000, 1000, 1000, 2000));
+                        Names.SEARCH, searchThreadPoolSize(allocatedProcessors), 1000, 1000, 1000, 2000, SearchLane.defaultWeights()));
         builders.put(Names.SEARCH_THROTTLED, new AutoQueueAdjustingExecutorBuilder(settings,
             Names.SEARCH_THROTTLED, 1, 100, 100, 100, 200));
         builders.put(Names.MANAGEMENT, new ScalingExecutorBuilder(Names.MANAGEMENT, 1, 5, TimeValue.timeValueMinutes(5)));
@@ -308,6 +344,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             long rejected = -1;
             int largest = -1;
             long completed = -1;
+            List<ThreadPoolStats.LaneStats> lanes = Collections.emptyList();
             if (holder.executor() instanceof ThreadPoolExecutor) {
                 ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) holder.executor();
                 threads = threadPoolExecutor.getPoolSize();
@@ -320,7 +357,16 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                     rejected = ((XRejectedExecutionHandler) rejectedExecutionHandler).rejected();
                 }
             }
-            stats.add(new ThreadPoolStats.Stats(name, threads, queue, active, rejected, largest, completed));
+            final MultiLaneBlockingQueue<Runnable> queueLanes = holder.executor() instanceof QueueResizingOpenSearchThreadPoolExecutor
+                ? ((QueueResizingOpenSearchThreadPoolExecutor) holder.executor()).getLanes() : null;
+            if (queueLanes != null) {
+                lanes = new ArrayList<>(queueLanes.getLaneCount());
+                for (int lane = 0; lane < queueLanes.getLaneCount(); lane++) {
+                    lanes.add(new ThreadPoolStats.LaneStats(queueLanes.getLaneName(lane), queueLanes.getLaneWeight(lane),
+                        queueLanes.getLaneSize(lane), queueLanes.getLanePolled(lane), (long) queueLanes.getLaneQueueLatencyEWMA(lane)));
+                }
+            }
+            stats.add(new ThreadPoolStats.Stats(name, threads, queue, active, rejected, largest, completed, lanes));
         }
         return new ThreadPoolStats(stats);
     }
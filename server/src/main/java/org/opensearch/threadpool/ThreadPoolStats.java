@@ -32,9 +32,11 @@
 
 package org.opensearch.threadpool;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -43,6 +45,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<ThreadPoolStats.Stats> {
 
@@ -55,8 +58,14 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         private final long rejected;
         private final int largest;
         private final long completed;
+        private final List<LaneStats> lanes;
 
         public Stats(String name, int threads, int queue, int active, long rejected, int largest, long completed) {
+            this(name, threads, queue, active, rejected, largest, completed, Collections.emptyList());
+        }
+
+        public Stats(String name, int threads, int queue, int active, long rejected, int largest, long completed,
+                     List<LaneStats> lanes) {
             this.name = name;
             this.threads = threads;
             this.queue = queue;
@@ -64,6 +73,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.rejected = rejected;
             this.largest = largest;
             this.completed = completed;
+            this.lanes = lanes;
         }
 
         public Stats(StreamInput in) throws IOException {
@@ -74,6 +84,11 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             rejected = in.readLong();
             largest = in.readInt();
             completed = in.readLong();
+            if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                lanes = in.readList(LaneStats::new);
+            } else {
+                lanes = Collections.emptyList();
+            }
         }
 
         @Override
@@ -85,6 +100,9 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             out.writeLong(rejected);
             out.writeInt(largest);
             out.writeLong(completed);
+            if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                out.writeList(lanes);
+            }
         }
 
         public String getName() {
@@ -115,6 +133,13 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             return this.completed;
         }
 
+        /**
+         * The lanes that the queue of the thread pool is split into, empty if it has a single queue.
+         */
+        public List<LaneStats> getLanes() {
+            return lanes;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.startObject(name);
@@ -136,6 +161,13 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             if (completed != -1) {
                 builder.field(Fields.COMPLETED, completed);
             }
+            if (lanes.isEmpty() == false) {
+                builder.startObject(Fields.LANES);
+                for (LaneStats lane : lanes) {
+                    lane.toXContent(builder, params);
+                }
+                builder.endObject();
+            }
             builder.endObject();
             return builder;
         }
@@ -158,6 +190,84 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         }
     }
 
+    /**
+     * The statistics of a lane of the queue of a thread pool, see
+     * {@link org.opensearch.common.util.concurrent.MultiLaneBlockingQueue}.
+     */
+    public static class LaneStats implements Writeable, ToXContentFragment {
+
+        private final String name;
+        private final int weight;
+        private final int queue;
+        private final long completed;
+        private final long queueLatencyNanos;
+
+        public LaneStats(String name, int weight, int queue, long completed, long queueLatencyNanos) {
+            this.name = name;
+            this.weight = weight;
+            this.queue = queue;
+            this.completed = completed;
+            this.queueLatencyNanos = queueLatencyNanos;
+        }
+
+        public LaneStats(StreamInput in) throws IOException {
+            name = in.readString();
+            weight = in.readVInt();
+            queue = in.readVInt();
+            completed = in.readVLong();
+            queueLatencyNanos = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(name);
+            out.writeVInt(weight);
+            out.writeVInt(queue);
+            out.writeVLong(completed);
+            out.writeVLong(queueLatencyNanos);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public int getQueue() {
+            return queue;
+        }
+
+        /**
+         * The number of tasks taken out of the lane to be executed.
+         */
+        public long getCompleted() {
+            return completed;
+        }
+
+        /**
+         * The moving average of the time that the tasks of the lane waited in the queue, in nanoseconds.
+         */
+        public long getQueueLatencyNanos() {
+            return queueLatencyNanos;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject(name);
+            builder.field(Fields.WEIGHT, weight);
+            builder.field(Fields.QUEUE, queue);
+            builder.field(Fields.COMPLETED, completed);
+            if (builder.humanReadable()) {
+                builder.field(Fields.QUEUE_LATENCY, new TimeValue(queueLatencyNanos, TimeUnit.NANOSECONDS).toString());
+            }
+            builder.field(Fields.QUEUE_LATENCY_IN_NANOS, queueLatencyNanos);
+            builder.endObject();
+            return builder;
+        }
+    }
+
     private List<Stats> stats;
 
     public ThreadPoolStats(List<Stats> stats) {
@@ -187,6 +297,10 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         static final String REJECTED = "rejected";
         static final String LARGEST = "largest";
         static final String COMPLETED = "completed";
+        static final String LANES = "lanes";
+        static final String WEIGHT = "weight";
+        static final String QUEUE_LATENCY = "queue_latency";
+        static final String QUEUE_LATENCY_IN_NANOS = "queue_latency_in_nanos";
     }
 
     @Override
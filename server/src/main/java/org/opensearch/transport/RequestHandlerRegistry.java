@@ -74,7 +74,9 @@ public class RequestHandlerRegistry<Request extends TransportRequest> {
 
     public void processMessageReceived(Request request, TransportChannel channel) throws Exception {
         final Task task = taskManager.register(channel.getChannelType(), action, request);
-        Releasable unregisterTask = () -> taskManager.unregister(task);
+        // keep any network buffers the request retained alive until the response has been sent
+        request.incRef();
+        Releasable unregisterTask = Releasables.wrap(() -> taskManager.unregister(task), request::decRef);
         try {
             if (channel instanceof TcpTransportChannel && task instanceof CancellableTask) {
                 final TcpChannel tcpChannel = ((TcpTransportChannel) channel).getChannel();
@@ -82,7 +84,9 @@ public class RequestHandlerRegistry<Request extends TransportRequest> {
                 unregisterTask = Releasables.wrap(unregisterTask, stopTracking);
             }
             final TaskTransportChannel taskTransportChannel = new TaskTransportChannel(channel, unregisterTask);
-            handler.messageReceived(request, taskTransportChannel, task);
+            try (Releasable ignored = task.trackResourceUsage()) {
+                handler.messageReceived(request, taskTransportChannel, task);
+            }
             unregisterTask = null;
         } finally {
             Releasables.close(unregisterTask);
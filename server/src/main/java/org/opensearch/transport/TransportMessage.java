@@ -35,8 +35,9 @@ package org.opensearch.transport;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.util.concurrent.RefCounted;
 
-public abstract class TransportMessage implements Writeable {
+public abstract class TransportMessage implements Writeable, RefCounted {
 
     private TransportAddress remoteAddress;
 
@@ -58,4 +59,23 @@ public abstract class TransportMessage implements Writeable {
      * currently a no-op
      */
     public TransportMessage(StreamInput in) {}
+
+    /**
+     * Messages that hold on to the network buffer they were read from (see
+     * {@link StreamInput#readReleasableBytesReference()}) override the ref-counting methods to retain and release those buffers.
+     * Plain messages own no such resources, so these are no-ops by default.
+     */
+    @Override
+    public void incRef() {
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        return true;
+    }
+
+    @Override
+    public boolean decRef() {
+        return false;
+    }
 }
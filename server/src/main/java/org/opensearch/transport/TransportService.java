@@ -198,6 +198,8 @@ public class TransportService extends AbstractLifecycleComponent implements Repo
                 remoteClusterService.listenForUpdates(clusterSettings);
             }
             clusterSettings.addSettingsUpdateConsumer(TransportSettings.SLOW_OPERATION_THRESHOLD_SETTING, transport::setSlowLogThreshold);
+            clusterSettings.addSettingsUpdateConsumer(TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING,
+                taskManager::setResourceTrackingEnabled);
         }
         registerRequestHandler(
             HANDSHAKE_ACTION_NAME,
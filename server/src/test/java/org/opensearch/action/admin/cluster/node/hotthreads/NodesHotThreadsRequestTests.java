@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.cluster.node.hotthreads;
+
+import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class NodesHotThreadsRequestTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws Exception {
+        final NodesHotThreadsRequest request = randomRequest();
+        final NodesHotThreadsRequest deserializedRequest = roundTripRequest(request, Version.CURRENT);
+        assertThat(deserializedRequest.threads(), equalTo(request.threads()));
+        assertThat(deserializedRequest.ignoreIdleThreads(), equalTo(request.ignoreIdleThreads()));
+        assertThat(deserializedRequest.type(), equalTo(request.type()));
+        assertThat(deserializedRequest.interval(), equalTo(request.interval()));
+        assertThat(deserializedRequest.snapshots(), equalTo(request.snapshots()));
+        assertThat(deserializedRequest.window(), equalTo(request.window()));
+        assertThat(deserializedRequest.windowOffset(), equalTo(request.windowOffset()));
+    }
+
+    public void testSerializationWithoutWindow() throws Exception {
+        final NodesHotThreadsRequest request = randomRequest().window(null);
+        final NodesHotThreadsRequest deserializedRequest = roundTripRequest(request, Version.CURRENT);
+        assertThat(deserializedRequest.window(), nullValue());
+        assertThat(deserializedRequest.windowOffset(), equalTo(request.windowOffset()));
+    }
+
+    public void testWindowIsNotSentToOlderVersions() throws Exception {
+        final NodesHotThreadsRequest request = randomRequest();
+        final NodesHotThreadsRequest deserializedRequest = roundTripRequest(request, LegacyESVersion.V_7_10_2);
+        assertThat(deserializedRequest.threads(), equalTo(request.threads()));
+        assertThat(deserializedRequest.snapshots(), equalTo(request.snapshots()));
+        assertThat(deserializedRequest.window(), nullValue());
+        assertThat(deserializedRequest.windowOffset(), equalTo(TimeValue.ZERO));
+    }
+
+    private static NodesHotThreadsRequest randomRequest() {
+        return new NodesHotThreadsRequest(randomAlphaOfLength(8))
+            .threads(randomIntBetween(1, 10))
+            .ignoreIdleThreads(randomBoolean())
+            .type(randomFrom("cpu", "wait", "block"))
+            .interval(TimeValue.timeValueMillis(randomIntBetween(1, 1000)))
+            .snapshots(randomIntBetween(1, 20))
+            .window(TimeValue.timeValueSeconds(randomIntBetween(1, 300)))
+            .windowOffset(TimeValue.timeValueSeconds(randomIntBetween(1, 300)));
+    }
+
+    private static NodesHotThreadsRequest roundTripRequest(NodesHotThreadsRequest request, Version version) throws Exception {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                return new NodesHotThreadsRequest(in);
+            }
+        }
+    }
+}
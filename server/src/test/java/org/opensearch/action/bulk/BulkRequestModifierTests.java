@@ -47,6 +47,7 @@ import org.opensearch.action.bulk.TransportBulkAction;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -100,6 +101,43 @@ public class BulkRequestModifierTests extends OpenSearchTestCase {
         }
     }
 
+    public void testFailuresMarkedOutOfOrder() {
+        int numRequests = scaledRandomIntBetween(8, 64);
+        BulkRequest bulkRequest = new BulkRequest();
+        for (int i = 0; i < numRequests; i++) {
+            bulkRequest.add(new IndexRequest("_index", "_type", String.valueOf(i)).source("{}", XContentType.JSON));
+        }
+        CaptureActionListener actionListener = new CaptureActionListener();
+        TransportBulkAction.BulkRequestModifier bulkRequestModifier = new TransportBulkAction.BulkRequestModifier(bulkRequest);
+
+        // documents processed by several threads may fail in any order
+        List<Integer> failedSlots = new ArrayList<>();
+        for (int i = 0; i < numRequests; i++) {
+            if (randomBoolean()) {
+                failedSlots.add(i);
+            }
+        }
+        Collections.shuffle(failedSlots, random());
+        for (int slot : failedSlots) {
+            bulkRequestModifier.markItemAsFailed(slot, new RuntimeException());
+        }
+
+        assertThat(bulkRequestModifier.getBulkRequest().requests().size(), equalTo(numRequests - failedSlots.size()));
+        ActionListener<BulkResponse> result = bulkRequestModifier.wrapActionListenerIfNeeded(randomLong(), actionListener);
+        result.onResponse(new BulkResponse(new BulkItemResponse[numRequests - failedSlots.size()], 0));
+
+        BulkResponse bulkResponse = actionListener.getResponse();
+        assertThat(bulkResponse.getItems().length, equalTo(numRequests));
+        for (int j = 0; j < bulkResponse.getItems().length; j++) {
+            if (failedSlots.contains(j)) {
+                assertThat(bulkResponse.getItems()[j].isFailed(), is(true));
+                assertThat(bulkResponse.getItems()[j].getFailure().getId(), equalTo(String.valueOf(j)));
+            } else {
+                assertThat(bulkResponse.getItems()[j], nullValue());
+            }
+        }
+    }
+
     public void testPipelineFailures() {
         BulkRequest originalBulkRequest = new BulkRequest();
         for (int i = 0; i < 32; i++) {
@@ -37,6 +37,8 @@ import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.support.ActiveShardCount;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.unit.ByteSizeValue;
@@ -49,13 +51,16 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 
@@ -200,6 +205,56 @@ public class IndexRequestTests extends OpenSearchTestCase {
         }
     }
 
+    public void testShardLevelRequestRetainsItsSourceUntilReleased() throws IOException {
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference bytes = new ReleasableBytesReference(serializeThin(shardLevelRequest()), () -> released.set(true));
+        final IndexRequest request;
+        try (StreamInput in = bytes.streamInput()) {
+            request = new IndexRequest(shardId, in);
+        }
+        assertEquals("{\"field\":\"value\"}", request.source().utf8ToString());
+        bytes.close();
+        assertFalse(released.get());
+        request.decRef();
+        assertTrue(released.get());
+    }
+
+    public void testShardLevelRequestReleasesItsSourceWhenDeserializationFails() throws IOException {
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final byte[] serialized = BytesReference.toBytes(serializeThin(shardLevelRequest()));
+        // the op type is serialized right after the source, make it unknown
+        final byte[] source = "{\"field\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+        int opTypeOffset = -1;
+        for (int i = 0; i + source.length <= serialized.length && opTypeOffset == -1; i++) {
+            if (Arrays.equals(source, 0, source.length, serialized, i, i + source.length)) {
+                opTypeOffset = i + source.length;
+            }
+        }
+        assertThat(opTypeOffset, greaterThan(0));
+        assertThat(serialized[opTypeOffset], equalTo(DocWriteRequest.OpType.INDEX.getId()));
+        serialized[opTypeOffset] = Byte.MAX_VALUE;
+
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference bytes = new ReleasableBytesReference(new BytesArray(serialized), () -> released.set(true));
+        try (StreamInput in = bytes.streamInput()) {
+            expectThrows(IllegalArgumentException.class, () -> new IndexRequest(shardId, in));
+        }
+        bytes.close();
+        assertTrue(released.get());
+    }
+
+    private static IndexRequest shardLevelRequest() {
+        return new IndexRequest("index").id("id").source("{\"field\":\"value\"}", XContentType.JSON);
+    }
+
+    private static BytesReference serializeThin(IndexRequest request) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeThin(out);
+            return out.bytes();
+        }
+    }
+
     public void testToStringSizeLimit() throws UnsupportedEncodingException {
         IndexRequest request = new IndexRequest("index");
 
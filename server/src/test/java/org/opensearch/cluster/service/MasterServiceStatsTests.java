@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.service;
+
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.test.AbstractWireSerializingTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class MasterServiceStatsTests extends AbstractWireSerializingTestCase<MasterServiceStats> {
+
+    @Override
+    protected Writeable.Reader<MasterServiceStats> instanceReader() {
+        return MasterServiceStats::new;
+    }
+
+    @Override
+    protected MasterServiceStats createTestInstance() {
+        final int numExecutors = randomIntBetween(0, 5);
+        final Map<String, MasterServiceStats.ExecutorStats> executorStats = new HashMap<>();
+        for (int i = 0; i < numExecutors; i++) {
+            executorStats.put(randomAlphaOfLength(10) + i, randomExecutorStats());
+        }
+        return new MasterServiceStats(executorStats);
+    }
+
+    @Override
+    protected MasterServiceStats mutateInstance(MasterServiceStats instance) {
+        final Map<String, MasterServiceStats.ExecutorStats> executorStats = new HashMap<>(instance.getExecutorStats());
+        if (executorStats.isEmpty() || randomBoolean()) {
+            executorStats.put(randomAlphaOfLength(11), randomExecutorStats());
+        } else {
+            final String executor = randomFrom(executorStats.keySet());
+            final MasterServiceStats.ExecutorStats stats = executorStats.get(executor);
+            executorStats.put(executor, new MasterServiceStats.ExecutorStats(stats.getBatches(), stats.getTasks(),
+                stats.getMaxBatchSize(), stats.getQueueTimeMillis(), stats.getMaxQueueTimeMillis(), stats.getComputeTimeMillis(),
+                stats.getPublishTimeMillis(), stats.getFailedPublications() + 1));
+        }
+        return new MasterServiceStats(executorStats);
+    }
+
+    private static MasterServiceStats.ExecutorStats randomExecutorStats() {
+        return new MasterServiceStats.ExecutorStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong());
+    }
+}
@@ -94,6 +94,7 @@ import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.instanceOf;
 
 public class MasterServiceTests extends OpenSearchTestCase {
 
@@ -321,6 +322,99 @@ public class MasterServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testExecutorStats() throws InterruptedException {
+        final int numTasks = randomIntBetween(1, 10);
+        final CountDownLatch latch = new CountDownLatch(numTasks);
+        final ClusterStateTaskExecutor<Object> executor = new ClusterStateTaskExecutor<Object>() {
+            @Override
+            public ClusterTasksResult<Object> execute(ClusterState currentState, List<Object> tasks) {
+                return ClusterTasksResult.builder().successes(tasks).build(ClusterState.builder(currentState).build());
+            }
+
+            @Override
+            public String getExecutorName() {
+                return "test_executor";
+            }
+        };
+        final ClusterStateTaskListener listener = new ClusterStateTaskListener() {
+            @Override
+            public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+        };
+        final Map<Object, ClusterStateTaskListener> tasks = new HashMap<>();
+        for (int i = 0; i < numTasks; i++) {
+            tasks.put(new Object(), listener);
+        }
+
+        try (MasterService masterService = createMasterService(true)) {
+            masterService.submitStateUpdateTasks("testExecutorStats", tasks, ClusterStateTaskConfig.build(Priority.NORMAL), executor);
+            latch.await();
+
+            final MasterServiceStats.ExecutorStats stats = masterService.stats().getExecutorStats().get("test_executor");
+            assertNotNull(stats);
+            assertThat(stats.getBatches(), equalTo(1L));
+            assertThat(stats.getTasks(), equalTo((long) numTasks));
+            assertThat(stats.getMaxBatchSize(), equalTo((long) numTasks));
+            assertThat(stats.getFailedPublications(), equalTo(0L));
+        }
+    }
+
+    public void testFailedPublicationsAreCountedOnce() throws Exception {
+        final boolean throwSynchronously = randomBoolean();
+        try (MasterService masterService = createMasterService(true)) {
+            masterService.setClusterStatePublisher((event, publishListener, ackListener) -> {
+                final FailedToCommitClusterStateException e = new FailedToCommitClusterStateException("simulated");
+                if (throwSynchronously) {
+                    throw e;
+                }
+                publishListener.onFailure(e);
+            });
+            final CountDownLatch latch = new CountDownLatch(1);
+            masterService.submitStateUpdateTask("testFailedPublicationsAreCountedOnce", new Object(),
+                ClusterStateTaskConfig.build(Priority.NORMAL),
+                new ClusterStateTaskExecutor<Object>() {
+                    @Override
+                    public ClusterTasksResult<Object> execute(ClusterState currentState, List<Object> tasks) {
+                        return ClusterTasksResult.builder().successes(tasks).build(ClusterState.builder(currentState).build());
+                    }
+
+                    @Override
+                    public String getExecutorName() {
+                        return "failing_executor";
+                    }
+                },
+                new ClusterStateTaskListener() {
+                    @Override
+                    public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                        throw new AssertionError("publication should have failed");
+                    }
+
+                    @Override
+                    public void onFailure(String source, Exception e) {
+                        assertFalse("synchronous failures of the publisher are only logged", throwSynchronously);
+                        assertThat(e, instanceOf(FailedToCommitClusterStateException.class));
+                        latch.countDown();
+                    }
+                });
+            if (throwSynchronously == false) {
+                latch.await();
+            }
+
+            assertBusy(() -> {
+                final MasterServiceStats.ExecutorStats stats = masterService.stats().getExecutorStats().get("failing_executor");
+                assertNotNull(stats);
+                assertThat(stats.getBatches(), equalTo(1L));
+                assertThat(stats.getFailedPublications(), equalTo(1L));
+            });
+        }
+    }
+
     @TestLogging(value = "org.opensearch.cluster.service:TRACE", reason = "to ensure that we log cluster state events on TRACE level")
     public void testClusterStateUpdateLogging() throws Exception {
         MockLogAppender mockAppender = new MockLogAppender();
@@ -34,12 +34,14 @@ package org.opensearch.common.bytes;
 
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.util.ByteArray;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 
@@ -97,6 +99,47 @@ public class ReleasableBytesReferenceTests extends AbstractBytesReferenceTestCas
         return ReleasableBytesReference.wrap(delegate);
     }
 
+    public void testReadReleasableBytesReferenceRetainsSlice() throws IOException {
+        final BytesReference first = new BytesArray(randomByteArrayOfLength(randomIntBetween(0, 64)));
+        final BytesReference second = new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 64)));
+        final BytesStreamOutput out = new BytesStreamOutput();
+        out.writeBytesReference(first);
+        out.writeBytesReference(second);
+        out.writeVInt(42);
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference reference = new ReleasableBytesReference(out.bytes(), () -> released.set(true));
+
+        final ReleasableBytesReference firstRead;
+        final ReleasableBytesReference secondRead;
+        try (StreamInput in = reference.streamInput()) {
+            firstRead = in.readReleasableBytesReference();
+            secondRead = in.readReleasableBytesReference();
+            assertThat(in.readVInt(), equalTo(42));
+            assertThat(in.available(), equalTo(0));
+        }
+        assertThat(firstRead, equalTo(first));
+        assertThat(secondRead, equalTo(second));
+        assertThat(reference.refCount(), equalTo(first.length() == 0 ? 2 : 3));
+
+        reference.close();
+        assertFalse(released.get());
+        secondRead.close();
+        firstRead.close();
+        assertTrue(released.get());
+    }
+
+    public void testReadReleasableBytesReferenceCopiesFromOtherStreams() throws IOException {
+        final BytesReference bytes = new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 64)));
+        final BytesStreamOutput out = new BytesStreamOutput();
+        out.writeBytesReference(bytes);
+        try (StreamInput in = out.bytes().streamInput()) {
+            final ReleasableBytesReference read = in.readReleasableBytesReference();
+            assertThat(read, equalTo(bytes));
+            read.close();
+            assertThat(read.refCount(), equalTo(0));
+        }
+    }
+
     @Override
     public void testToBytesRefSharedPage() throws IOException {
         // CompositeBytesReference doesn't share pages
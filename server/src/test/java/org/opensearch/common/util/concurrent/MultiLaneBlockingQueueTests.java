@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class MultiLaneBlockingQueueTests extends OpenSearchTestCase {
+
+    public void testLanesAreServedByWeight() {
+        MultiLaneBlockingQueue<String> queue = newQueue(3, 1);
+        for (int i = 0; i < 8; i++) {
+            queue.offer("a" + i);
+            queue.offer("b" + i);
+        }
+        assertThat(queue.size(), equalTo(16));
+
+        List<String> polled = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            polled.add(queue.poll());
+        }
+        assertThat(polled, contains("a0", "a1", "b0", "a2", "a3", "a4", "b1", "a5"));
+        assertThat(queue.getLanePolled(0), equalTo(6L));
+        assertThat(queue.getLanePolled(1), equalTo(2L));
+        assertThat(queue.getLaneSize(0), equalTo(2));
+        assertThat(queue.getLaneSize(1), equalTo(6));
+
+        // a lane gets all the polls while the other ones are empty
+        polled.clear();
+        queue.drainTo(polled);
+        assertThat(polled, contains("a6", "a7", "b2", "b3", "b4", "b5", "b6", "b7"));
+        assertThat(queue.poll(), nullValue());
+        assertThat(queue.size(), equalTo(0));
+    }
+
+    public void testUnknownLanesUseTheFirstLane() {
+        MultiLaneBlockingQueue<String> queue = new MultiLaneBlockingQueue<>(new String[] { "a", "b" }, new int[] { 1, 1 }, e -> 42);
+        queue.offer("x");
+        assertThat(queue.getLaneSize(0), equalTo(1));
+        assertThat(queue.peek(), equalTo("x"));
+    }
+
+    public void testRemove() {
+        MultiLaneBlockingQueue<String> queue = newQueue(1, 1);
+        queue.addAll(Arrays.asList("a0", "b0", "a1", "b1"));
+        assertTrue(queue.remove("b0"));
+        assertFalse(queue.remove("b0"));
+        assertThat(queue.size(), equalTo(3));
+        assertThat(queue.getLaneSize(1), equalTo(1));
+
+        List<String> iterated = new ArrayList<>();
+        queue.iterator().forEachRemaining(iterated::add);
+        assertThat(iterated, contains("a0", "a1", "b1"));
+        queue.removeIf(e -> e.startsWith("a"));
+        assertThat(queue.poll(), equalTo("b1"));
+        assertThat(queue, empty());
+    }
+
+    public void testPollWaitsForElements() throws Exception {
+        MultiLaneBlockingQueue<String> queue = newQueue(1, 1);
+        assertThat(queue.poll(1, TimeUnit.MILLISECONDS), nullValue());
+        Thread thread = new Thread(() -> queue.offer("b0"));
+        thread.start();
+        assertThat(queue.take(), equalTo("b0"));
+        thread.join();
+        assertThat(queue.getLaneQueueLatencyEWMA(1) >= 0, equalTo(true));
+    }
+
+    public void testInvalidLanes() {
+        expectThrows(IllegalArgumentException.class, () -> new MultiLaneBlockingQueue<String>(new String[0], new int[0], e -> 0));
+        expectThrows(IllegalArgumentException.class,
+            () -> new MultiLaneBlockingQueue<String>(new String[] { "a" }, new int[] { 1, 1 }, e -> 0));
+        expectThrows(IllegalArgumentException.class,
+            () -> new MultiLaneBlockingQueue<String>(new String[] { "a" }, new int[] { 0 }, e -> 0));
+    }
+
+    public void testExecutorRunsTasksByLane() throws Exception {
+        final ThreadContext context = new ThreadContext(Settings.EMPTY);
+        final OpenSearchThreadPoolExecutor executor = OpenSearchExecutors.newAutoQueueFixed(getTestName(), 1, 100, 100, 100, 100,
+            TimeValue.timeValueSeconds(1), new String[] { "interactive", "expensive" }, new int[] { 2, 1 },
+            OpenSearchExecutors.daemonThreadFactory("test"), context);
+        try {
+            final CountDownLatch blocked = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            executor.execute(() -> {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            blocked.await();
+
+            final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+            final CountDownLatch done = new CountDownLatch(6);
+            for (int i = 0; i < 3; i++) {
+                final String expensive = "expensive" + i;
+                executor.execute(new LaneRunnable(() -> {
+                    executed.add(expensive);
+                    done.countDown();
+                }, 1));
+            }
+            for (int i = 0; i < 3; i++) {
+                final String interactive = "interactive" + i;
+                executor.execute(new LaneRunnable(() -> {
+                    executed.add(interactive);
+                    done.countDown();
+                }, 0));
+            }
+            assertThat(executor.getQueue().size(), equalTo(6));
+            release.countDown();
+            done.await();
+            assertThat(executed, contains("interactive0", "expensive0", "interactive1", "interactive2", "expensive1", "expensive2"));
+        } finally {
+            terminate(executor);
+        }
+    }
+
+    private static MultiLaneBlockingQueue<String> newQueue(int... weights) {
+        String[] names = new String[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            names[i] = Character.toString((char) ('a' + i));
+        }
+        return new MultiLaneBlockingQueue<>(names, weights, e -> e.charAt(0) - 'a');
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodeGatewayStartedShards;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodesGatewayStartedShards;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShardsBatch.NodeGatewayStartedShardsBatch;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShardsBatch.NodesGatewayStartedShardsBatch;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class StartedShardsFetchBatcherTests extends OpenSearchTestCase {
+
+    private final DiscoveryNode node1 = new DiscoveryNode("node1", buildNewFakeTransportAddress(), Collections.emptyMap(),
+        Collections.singleton(DiscoveryNodeRole.DATA_ROLE), Version.CURRENT);
+    private final DiscoveryNode node2 = new DiscoveryNode("node2", buildNewFakeTransportAddress(), Collections.emptyMap(),
+        Collections.singleton(DiscoveryNodeRole.DATA_ROLE), Version.CURRENT);
+    private final DiscoveryNode legacyNode = new DiscoveryNode("legacy", buildNewFakeTransportAddress(), Collections.emptyMap(),
+        Collections.singleton(DiscoveryNodeRole.DATA_ROLE), LegacyESVersion.V_7_10_2);
+
+    private final List<Map<ShardId, String>> batches = new ArrayList<>();
+    private final List<ActionListener<NodesGatewayStartedShardsBatch>> batchListeners = new ArrayList<>();
+    private final List<ShardId> singleShardFetches = new ArrayList<>();
+
+    private StartedShardsFetchBatcher newBatcher(int batchSize) {
+        return new StartedShardsFetchBatcher(
+            (shardId, customDataPath, nodes, listener) -> singleShardFetches.add(shardId),
+            (shards, nodes, listener) -> {
+                batches.add(shards);
+                batchListeners.add(listener);
+            },
+            batchSize);
+    }
+
+    public void testFetchesAreQueuedUntilFlushed() {
+        final StartedShardsFetchBatcher batcher = newBatcher(10);
+        final DiscoveryNode[] nodes = new DiscoveryNode[] { node1, node2 };
+        for (int i = 0; i < 5; i++) {
+            batcher.list(new ShardId("test", "_na_", i), "", nodes, ActionListener.wrap(() -> {}));
+        }
+        assertThat(batcher.getNumberOfPendingFetches(), equalTo(5));
+        assertThat(batches, hasSize(0));
+
+        batcher.flush();
+        assertThat(batcher.getNumberOfPendingFetches(), equalTo(0));
+        assertThat(batches, hasSize(1));
+        assertThat(batches.get(0).size(), equalTo(5));
+
+        // nothing left to send
+        batcher.flush();
+        assertThat(batches, hasSize(1));
+    }
+
+    public void testBatchesAreSplitByNodesAndSize() {
+        final StartedShardsFetchBatcher batcher = newBatcher(2);
+        for (int i = 0; i < 3; i++) {
+            batcher.list(new ShardId("test", "_na_", i), "", new DiscoveryNode[] { node1, node2 }, ActionListener.wrap(() -> {}));
+        }
+        batcher.list(new ShardId("test", "_na_", 3), "", new DiscoveryNode[] { node1 }, ActionListener.wrap(() -> {}));
+        batcher.flush();
+        assertThat(batches, hasSize(3));
+        assertThat(batches.get(0).size(), equalTo(2));
+        assertThat(batches.get(1).size(), equalTo(1));
+        assertThat(batches.get(2).size(), equalTo(1));
+        assertThat(singleShardFetches, hasSize(0));
+    }
+
+    public void testLegacyNodesUseSingleShardFetches() {
+        final StartedShardsFetchBatcher batcher = newBatcher(10);
+        final ShardId shardId = new ShardId("test", "_na_", 0);
+        batcher.list(shardId, "", new DiscoveryNode[] { node1, legacyNode }, ActionListener.wrap(() -> {}));
+        batcher.flush();
+        assertThat(batches, hasSize(0));
+        assertThat(singleShardFetches, equalTo(Collections.singletonList(shardId)));
+    }
+
+    public void testResponsesAreSplitPerShard() {
+        final StartedShardsFetchBatcher batcher = newBatcher(10);
+        final ShardId shard0 = new ShardId("test", "_na_", 0);
+        final ShardId shard1 = new ShardId("test", "_na_", 1);
+        final Map<ShardId, NodesGatewayStartedShards> responses = new HashMap<>();
+        final DiscoveryNode[] nodes = new DiscoveryNode[] { node1, node2 };
+        batcher.list(shard0, "", nodes, ActionListener.wrap(r -> responses.put(shard0, r), e -> fail()));
+        batcher.list(shard1, "", nodes, ActionListener.wrap(r -> responses.put(shard1, r), e -> fail()));
+        batcher.flush();
+        assertThat(batchListeners, hasSize(1));
+
+        final NodeGatewayStartedShards shard0OnNode1 = new NodeGatewayStartedShards(node1, "alloc0", true);
+        final NodeGatewayStartedShards shard1OnNode1 = new NodeGatewayStartedShards(node1, null, false);
+        final Exception shard1Failure = new IllegalStateException("simulated");
+        final Map<ShardId, NodeGatewayStartedShards> node1Shards = new HashMap<>();
+        node1Shards.put(shard0, shard0OnNode1);
+        node1Shards.put(shard1, shard1OnNode1);
+        final NodeGatewayStartedShardsBatch node1Response = new NodeGatewayStartedShardsBatch(node1, node1Shards, Collections.emptyMap());
+        final NodeGatewayStartedShards shard0OnNode2 = new NodeGatewayStartedShards(node2, "alloc1", false);
+        final NodeGatewayStartedShardsBatch node2Response = new NodeGatewayStartedShardsBatch(node2,
+            Collections.singletonMap(shard0, shard0OnNode2), Collections.singletonMap(shard1, shard1Failure));
+        final List<NodeGatewayStartedShardsBatch> nodeResponses = new ArrayList<>();
+        nodeResponses.add(node1Response);
+        nodeResponses.add(node2Response);
+        batchListeners.get(0).onResponse(new NodesGatewayStartedShardsBatch(ClusterName.DEFAULT, nodeResponses, Collections.emptyList()));
+
+        assertThat(responses.get(shard0).getNodes(), hasSize(2));
+        assertThat(responses.get(shard0).getNodesMap().get(node1.getId()), sameInstance(shard0OnNode1));
+        assertThat(responses.get(shard0).getNodesMap().get(node2.getId()), sameInstance(shard0OnNode2));
+        assertThat(responses.get(shard0).failures(), hasSize(0));
+
+        assertThat(responses.get(shard1).getNodes(), hasSize(1));
+        assertThat(responses.get(shard1).getNodesMap().get(node1.getId()), sameInstance(shard1OnNode1));
+        assertThat(responses.get(shard1).getNodesMap().get(node2.getId()), nullValue());
+        assertThat(responses.get(shard1).failures(), hasSize(1));
+        final FailedNodeException failure = responses.get(shard1).failures().get(0);
+        assertThat(failure.nodeId(), equalTo(node2.getId()));
+        assertThat(failure.getCause(), sameInstance(shard1Failure));
+    }
+
+    public void testFailuresAreReportedForEveryShard() {
+        final StartedShardsFetchBatcher batcher = newBatcher(10);
+        final List<Exception> failures = new ArrayList<>();
+        final DiscoveryNode[] nodes = new DiscoveryNode[] { node1 };
+        for (int i = 0; i < 3; i++) {
+            batcher.list(new ShardId("test", "_na_", i), "", nodes, ActionListener.wrap(r -> fail(), failures::add));
+        }
+        batcher.flush();
+        final Exception e = new IllegalStateException("simulated");
+        batchListeners.get(0).onFailure(e);
+        assertThat(failures, hasSize(3));
+        for (Exception failure : failures) {
+            assertThat(failure, sameInstance(e));
+        }
+    }
+
+    public void testClearDropsPendingFetches() {
+        final StartedShardsFetchBatcher batcher = newBatcher(10);
+        batcher.list(new ShardId("test", "_na_", 0), "", new DiscoveryNode[] { node1 }, ActionListener.wrap(() -> {}));
+        batcher.clear();
+        assertThat(batcher.getNumberOfPendingFetches(), equalTo(0));
+        batcher.flush();
+        assertThat(batches, hasSize(0));
+    }
+}
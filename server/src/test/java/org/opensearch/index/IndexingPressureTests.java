@@ -35,9 +35,16 @@ package org.opensearch.index;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.stats.IndexingPressureStats;
+import org.opensearch.index.stats.ShardIndexingPressureStats;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.containsString;
+
 public class IndexingPressureTests extends OpenSearchTestCase {
 
     private final Settings settings = Settings.builder().put(IndexingPressure.MAX_INDEXING_BYTES.getKey(), "10KB").build();
@@ -155,4 +162,113 @@ public class IndexingPressureTests extends OpenSearchTestCase {
         }
         assertEquals(0, indexingPressure.stats().getCurrentCoordinatingBytes());
     }
+
+    public void testShardIndexingPressureIsDisabledByDefault() {
+        IndexingPressure indexingPressure = new IndexingPressure(settings);
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        try (Releasable primary = indexingPressure.markPrimaryOperationStarted(shardId, 10, false);
+             Releasable replica = indexingPressure.markReplicaOperationStarted(shardId, 10, false)) {
+            assertEquals(10, indexingPressure.stats().getCurrentPrimaryBytes());
+            assertTrue(indexingPressure.stats().getShardStats().isEmpty());
+        }
+    }
+
+    public void testStuckShardIsRejected() {
+        AtomicLong nanos = new AtomicLong();
+        IndexingPressure indexingPressure = new IndexingPressure(Settings.builder()
+            .put(settings)
+            .put(IndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED.getKey(), true)
+            .put(IndexingPressure.SHARD_INDEXING_PRESSURE_SOFT_LIMIT.getKey(), 0.1)
+            .put(IndexingPressure.SHARD_INDEXING_PRESSURE_MAX_OUTSTANDING_REQUESTS.getKey(), 1)
+            .put(IndexingPressure.SHARD_INDEXING_PRESSURE_SUCCESSFUL_REQUEST_TIMEOUT.getKey(), "1s")
+            .build(), nanos::get);
+        ShardId stuckShard = new ShardId("stuck", "_na_", 0);
+        ShardId healthyShard = new ShardId("healthy", "_na_", 0);
+        try (Releasable first = indexingPressure.markPrimaryOperationStarted(stuckShard, 1024, false);
+             Releasable second = indexingPressure.markPrimaryOperationStarted(stuckShard, 1024, false)) {
+            // the shard isn't stuck until no operation completed for the timeout
+            indexingPressure.markPrimaryOperationStarted(stuckShard, 1024, false).close();
+            try (Releasable third = indexingPressure.markPrimaryOperationStarted(stuckShard, 1024, false)) {
+                nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+                OpenSearchRejectedExecutionException e = expectThrows(OpenSearchRejectedExecutionException.class,
+                    () -> indexingPressure.markPrimaryOperationStarted(stuckShard, 1024, false));
+                assertThat(e.getMessage(), containsString("successful_request_timeout"));
+                assertEquals(1024 * 3, indexingPressure.stats().getCurrentPrimaryBytes());
+
+                // other shards and forced operations are unaffected
+                indexingPressure.markPrimaryOperationStarted(healthyShard, 1024, false).close();
+                indexingPressure.markReplicaOperationStarted(stuckShard, 1024, true).close();
+
+                ShardIndexingPressureStats shardStats = indexingPressure.stats().getShardStats().get(stuckShard);
+                assertEquals(1, shardStats.getPrimaryRejections());
+                assertEquals(1, shardStats.getSuccessfulRequestTimeoutRejections());
+                assertEquals(1024 * 3, shardStats.getCurrentPrimaryBytes());
+                assertEquals(0, indexingPressure.stats().getShardStats().get(healthyShard).getPrimaryRejections());
+            }
+        }
+    }
+
+    public void testShardWithDegradedThroughputIsRejected() {
+        AtomicLong nanos = new AtomicLong();
+        IndexingPressure indexingPressure = new IndexingPressure(Settings.builder()
+            .put(settings)
+            .put(IndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED.getKey(), true)
+            .put(IndexingPressure.SHARD_INDEXING_PRESSURE_SOFT_LIMIT.getKey(), 0.1)
+            .build(), nanos::get);
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        for (int i = 0; i < 100; i++) {
+            try (Releasable ignored = indexingPressure.markReplicaOperationStarted(shardId, 1000, false)) {
+                nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+        try (Releasable load = indexingPressure.markCoordinatingOperationStarted(2048, false)) {
+            // the throughput is steady
+            indexingPressure.markReplicaOperationStarted(shardId, 1000, false).close();
+        }
+        for (int i = 0; i < 10; i++) {
+            try (Releasable ignored = indexingPressure.markReplicaOperationStarted(shardId, 1000, false)) {
+                nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+        try (Releasable load = indexingPressure.markCoordinatingOperationStarted(2048, false)) {
+            OpenSearchRejectedExecutionException e = expectThrows(OpenSearchRejectedExecutionException.class,
+                () -> indexingPressure.markReplicaOperationStarted(shardId, 1000, false));
+            assertThat(e.getMessage(), containsString("throughput_degradation"));
+            assertEquals(1, indexingPressure.stats().getShardStats().get(shardId).getThroughputDegradationRejections());
+            assertEquals(0, indexingPressure.stats().getReplicaRejections());
+        }
+        // without pressure on the node the degraded shard is still accepted
+        indexingPressure.markReplicaOperationStarted(shardId, 1000, false).close();
+    }
+
+    public void testIdleShardsStopBeingTracked() {
+        AtomicLong nanos = new AtomicLong();
+        IndexingPressure indexingPressure = new IndexingPressure(Settings.builder()
+            .put(settings)
+            .put(IndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED.getKey(), true)
+            .put(IndexingPressure.SHARD_INDEXING_PRESSURE_SUCCESSFUL_REQUEST_TIMEOUT.getKey(), "1s")
+            .build(), nanos::get);
+        ShardId idleShard = new ShardId("idle", "_na_", 0);
+        ShardId busyShard = new ShardId("busy", "_na_", 0);
+        indexingPressure.markPrimaryOperationStarted(idleShard, 10, false).close();
+        try (Releasable busy = indexingPressure.markPrimaryOperationStarted(busyShard, 10, false)) {
+            nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+            indexingPressure.markPrimaryOperationStarted(new ShardId("new", "_na_", 0), 10, false).close();
+            // shards with outstanding operations are never evicted
+            assertNull(indexingPressure.stats().getShardStats().get(idleShard));
+            assertEquals(10, indexingPressure.stats().getShardStats().get(busyShard).getCurrentPrimaryBytes());
+        }
+        indexingPressure.markPrimaryOperationStarted(idleShard, 10, false).close();
+        assertEquals(10, indexingPressure.stats().getShardStats().get(idleShard).getTotalPrimaryBytes());
+    }
+
+    public void testOperationsCannotStartOnEvictedShardTrackers() {
+        ShardIndexingPressureTracker tracker = new ShardIndexingPressureTracker(new ShardId("index", "_na_", 0), 0);
+        assertTrue(tracker.tryStart(0));
+        assertFalse(tracker.tryEvict(TimeUnit.SECONDS.toNanos(2), TimeUnit.SECONDS.toNanos(1)));
+        tracker.onCompleted(10, false, 0, 0);
+        assertFalse(tracker.tryEvict(TimeUnit.MILLISECONDS.toNanos(500), TimeUnit.SECONDS.toNanos(1)));
+        assertTrue(tracker.tryEvict(TimeUnit.SECONDS.toNanos(2), TimeUnit.SECONDS.toNanos(1)));
+        assertFalse(tracker.tryStart(TimeUnit.SECONDS.toNanos(2)));
+    }
 }
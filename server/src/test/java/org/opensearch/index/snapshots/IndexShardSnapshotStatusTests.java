@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.snapshots;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class IndexShardSnapshotStatusTests extends OpenSearchTestCase {
+
+    public void testProcessedBytesAreReportedBeforeFileCompletes() {
+        final IndexShardSnapshotStatus status = IndexShardSnapshotStatus.newInitializing(null);
+        status.moveToStarted(randomNonNegativeLong(), 2, 2, 300L, 300L);
+
+        status.addProcessedBytes(50L);
+        status.addProcessedBytes(25L);
+        IndexShardSnapshotStatus.Copy copy = status.asCopy();
+        assertThat(copy.getProcessedFileCount(), equalTo(0));
+        assertThat(copy.getProcessedSize(), equalTo(75L));
+
+        // the remainder of the first file is reported on completion
+        status.addProcessedFile(25L);
+        status.addProcessedFile(200L);
+        copy = status.asCopy();
+        assertThat(copy.getProcessedFileCount(), equalTo(2));
+        assertThat(copy.getProcessedSize(), equalTo(copy.getIncrementalSize()));
+    }
+}
@@ -59,13 +59,16 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
@@ -729,4 +732,144 @@ public class HierarchyCircuitBreakerServiceTests extends OpenSearchTestCase {
     private static long mb(long size) {
         return new ByteSizeValue(size, ByteSizeUnit.MB).getBytes();
     }
+
+    public void testHeapUsageTrendPredictsTimeToLimit() {
+        final AtomicLong time = new AtomicLong();
+        final AtomicLong retainedUsage = new AtomicLong(-1L);
+        final HierarchyCircuitBreakerService.HeapUsageTrend trend =
+            new HierarchyCircuitBreakerService.HeapUsageTrend(time::get, retainedUsage::get, TimeUnit.SECONDS.toNanos(10));
+        // the old generation wasn't collected yet
+        assertFalse(trend.sample());
+        assertThat(trend.predictedNanosToReach(1000), equalTo(-1L));
+
+        // the old generation collections leave 10 more bytes behind every second
+        for (int i = 0; i < HierarchyCircuitBreakerService.HeapUsageTrend.MIN_SAMPLES; i++) {
+            assertThat("no trend before enough samples", trend.predictedNanosToReach(1000), equalTo(-1L));
+            time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+            retainedUsage.set(100 + 100 * i);
+            assertTrue(trend.sample());
+            // samples within the minimum interval are ignored
+            time.addAndGet(TimeUnit.SECONDS.toNanos(5));
+            retainedUsage.set(randomLongBetween(0, 10_000));
+            assertFalse(trend.sample());
+            time.addAndGet(-TimeUnit.SECONDS.toNanos(5));
+        }
+        assertThat(trend.retainedUsage(), equalTo(600L));
+        assertThat(trend.retainedBytesPerSecond(), closeTo(10d, 0.000001d));
+        assertThat(trend.predictedNanosToReach(1000), equalTo(TimeUnit.SECONDS.toNanos(40)));
+        assertThat(trend.predictedNanosToReach(600), equalTo(0L));
+
+        // a single collection that frees more than usual does not reverse the trend
+        time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        retainedUsage.set(400);
+        assertTrue(trend.sample());
+        assertThat(trend.retainedBytesPerSecond(), greaterThan(0d));
+    }
+
+    public void testAdaptiveLimitsTightenChildBreakers() {
+        final AtomicLong memoryUsage = new AtomicLong();
+        final AtomicLong retainedUsage = new AtomicLong(-1L);
+        final AtomicLong time = new AtomicLong();
+        final Settings settings = adaptiveLimitsSettings();
+        final ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final CircuitBreakerService service = adaptiveLimitsService(settings, clusterSettings, memoryUsage, retainedUsage, time);
+        final LongConsumer sampleAfterTenSeconds = retained -> {
+            time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+            retainedUsage.set(retained);
+            memoryUsage.set(retained);
+            service.stats();
+        };
+
+        // the old generation collections leave 10 more bytes behind every second
+        for (int i = 0; i < HierarchyCircuitBreakerService.HeapUsageTrend.MIN_SAMPLES - 1; i++) {
+            sampleAfterTenSeconds.accept(100 + 100 * i);
+        }
+        assertThat(service.stats().getStats(CircuitBreaker.REQUEST).getEffectiveLimit(), equalTo(1000L));
+        sampleAfterTenSeconds.accept(600);
+
+        // 400 bytes of headroom at 10 bytes per second are 40 seconds, within the 50 second horizon
+        final AllCircuitBreakerStats stats = service.stats();
+        assertThat(stats.getStats(CircuitBreaker.PARENT).getPredictedTimeToLimitMillis(), equalTo(40000L));
+        assertThat(stats.getStats(CircuitBreaker.REQUEST).getLimit(), equalTo(1000L));
+        assertThat(stats.getStats(CircuitBreaker.REQUEST).getEffectiveLimit(), equalTo(800L));
+        assertThat(stats.getStats(CircuitBreaker.FIELDDATA).getEffectiveLimit(),
+            equalTo((long) (stats.getStats(CircuitBreaker.FIELDDATA).getLimit() * 0.8)));
+        // the accounting breaker tracks memory that is already held, tightening it would not prevent a spike
+        assertThat(stats.getStats(CircuitBreaker.ACCOUNTING).getEffectiveLimit(), equalTo(1000L));
+
+        final CircuitBreaker requestBreaker = service.getBreaker(CircuitBreaker.REQUEST);
+        final CircuitBreakingException exception = expectThrows(CircuitBreakingException.class,
+            () -> requestBreaker.addEstimateBytesAndMaybeBreak(850, "request"));
+        assertThat(exception.getMessage(), containsString("[request] Data too large"));
+        assertThat(exception.getMessage(), containsString("which is larger than the limit of [800/800b], " +
+            "adaptively reduced from [1000/1000b]"));
+        assertThat(exception.getByteLimit(), equalTo(800L));
+        assertEquals(1, requestBreaker.getTrippedCount());
+
+        // the limits never drop below the minimum ratio
+        sampleAfterTenSeconds.accept(950);
+        assertThat(service.stats().getStats(CircuitBreaker.REQUEST).getEffectiveLimit(), equalTo(500L));
+
+        clusterSettings.applySettings(Settings.builder().put(settings)
+            .put(HierarchyCircuitBreakerService.ADAPTIVE_LIMITS_ENABLED_SETTING.getKey(), false).build());
+        assertThat(service.stats().getStats(CircuitBreaker.REQUEST).getEffectiveLimit(), equalTo(1000L));
+        assertThat(service.stats().getStats(CircuitBreaker.PARENT).getPredictedTimeToLimitMillis(), equalTo(-1L));
+        memoryUsage.set(100);
+        requestBreaker.addEstimateBytesAndMaybeBreak(50, "request");
+    }
+
+    public void testAdaptiveLimitsIgnoreGarbageOfTheYoungGeneration() {
+        final AtomicLong memoryUsage = new AtomicLong();
+        final AtomicLong retainedUsage = new AtomicLong(-1L);
+        final AtomicLong time = new AtomicLong();
+        final Settings settings = adaptiveLimitsSettings();
+        final ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final CircuitBreakerService service = adaptiveLimitsService(settings, clusterSettings, memoryUsage, retainedUsage, time);
+
+        // the heap fills up with garbage and gets collected over and over, but the old generation retains about the same
+        final long[] retained = new long[] { 200, 210, 190, 205, 195, 200, 190, 210 };
+        for (long usage : retained) {
+            for (int i = 0; i < 10; i++) {
+                time.addAndGet(TimeUnit.SECONDS.toNanos(1));
+                memoryUsage.set(usage + randomLongBetween(0, 990 - usage));
+                service.stats();
+            }
+            retainedUsage.set(usage);
+        }
+        final AllCircuitBreakerStats stats = service.stats();
+        assertThat(stats.getStats(CircuitBreaker.PARENT).getPredictedTimeToLimitMillis(), equalTo(-1L));
+        assertThat(stats.getStats(CircuitBreaker.REQUEST).getEffectiveLimit(), equalTo(1000L));
+    }
+
+    private static Settings adaptiveLimitsSettings() {
+        return Settings.builder()
+            .put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), true)
+            .put(HierarchyCircuitBreakerService.TOTAL_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), "1000b")
+            .put(HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), "1000b")
+            .put(HierarchyCircuitBreakerService.ACCOUNTING_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), "1000b")
+            .put(HierarchyCircuitBreakerService.ADAPTIVE_LIMITS_ENABLED_SETTING.getKey(), true)
+            .put(HierarchyCircuitBreakerService.ADAPTIVE_LIMITS_HORIZON_SETTING.getKey(), "50s")
+            .put(HierarchyCircuitBreakerService.ADAPTIVE_LIMITS_MIN_RATIO_SETTING.getKey(), 0.5)
+            .build();
+    }
+
+    private static CircuitBreakerService adaptiveLimitsService(Settings settings, ClusterSettings clusterSettings, AtomicLong memoryUsage,
+                                                               AtomicLong retainedUsage, AtomicLong time) {
+        return new HierarchyCircuitBreakerService(settings, Collections.emptyList(), clusterSettings) {
+            @Override
+            long currentMemoryUsage() {
+                return memoryUsage.get();
+            }
+
+            @Override
+            long retainedMemoryUsage() {
+                return retainedUsage.get();
+            }
+
+            @Override
+            long relativeTimeInNanos() {
+                return time.get();
+            }
+        };
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.Version;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.test.DummyShardLock;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+
+public class MultiFileWriterTests extends OpenSearchTestCase {
+
+    private final ShardId shardId = new ShardId("index", "_na_", 0);
+
+    public void testOutOfOrderChunksAreRetainedUntilTheyAreWritten() throws IOException {
+        final byte[] file = randomFile();
+        final StoreFileMetadata metadata = metadata(file);
+        final List<AtomicBoolean> released = new ArrayList<>();
+        final List<ReleasableBytesReference> chunks = splitIntoChunks(file, released);
+
+        final Store store = newStore();
+        final MultiFileWriter writer = new MultiFileWriter(store, mock(RecoveryState.Index.class), "recovery.", logger, () -> {});
+        try {
+            writeChunk(writer, metadata, chunks, 2);
+            writeChunk(writer, metadata, chunks, 1);
+            // the chunks that arrived before the first one are buffered and keep their network buffers alive
+            assertFalse(released.get(1).get());
+            assertFalse(released.get(2).get());
+
+            writeChunk(writer, metadata, chunks, 0);
+            for (AtomicBoolean chunkReleased : released) {
+                assertTrue(chunkReleased.get());
+            }
+            try (IndexInput in = store.directory().openInput(writer.getTempNameForFile(metadata.name()), IOContext.DEFAULT)) {
+                final byte[] written = new byte[(int) in.length()];
+                in.readBytes(written, 0, written.length);
+                assertThat(written, equalTo(file));
+            }
+        } finally {
+            writer.close();
+            store.close();
+        }
+    }
+
+    public void testBufferedChunksAreReleasedWhenTheWriterIsClosed() throws IOException {
+        final byte[] file = randomFile();
+        final StoreFileMetadata metadata = metadata(file);
+        final List<AtomicBoolean> released = new ArrayList<>();
+        final List<ReleasableBytesReference> chunks = splitIntoChunks(file, released);
+
+        final Store store = newStore();
+        try {
+            final MultiFileWriter writer = new MultiFileWriter(store, mock(RecoveryState.Index.class), "recovery.", logger, () -> {});
+            writeChunk(writer, metadata, chunks, 1);
+            writeChunk(writer, metadata, chunks, 2);
+            assertFalse(released.get(1).get());
+            assertFalse(released.get(2).get());
+
+            // the first chunk never arrives, e.g. because the recovery was cancelled
+            writer.close();
+            assertTrue(released.get(1).get());
+            assertTrue(released.get(2).get());
+            chunks.get(0).close();
+        } finally {
+            store.close();
+        }
+    }
+
+    private static void writeChunk(MultiFileWriter writer, StoreFileMetadata metadata, List<ReleasableBytesReference> chunks,
+                                   int chunk) throws IOException {
+        long position = 0;
+        for (int i = 0; i < chunk; i++) {
+            position += chunks.get(i).length();
+        }
+        final ReleasableBytesReference content = chunks.get(chunk);
+        try {
+            writer.writeFileChunk(metadata, position, content, chunk == chunks.size() - 1);
+        } finally {
+            // the request the chunk arrived with is released once it was handled
+            content.close();
+        }
+    }
+
+    private static List<ReleasableBytesReference> splitIntoChunks(byte[] file, List<AtomicBoolean> released) {
+        final int firstEnd = randomIntBetween(1, file.length - 2);
+        final int secondEnd = randomIntBetween(firstEnd + 1, file.length - 1);
+        final int[] boundaries = new int[] { 0, firstEnd, secondEnd, file.length };
+        final List<ReleasableBytesReference> chunks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final AtomicBoolean chunkReleased = new AtomicBoolean();
+            released.add(chunkReleased);
+            chunks.add(new ReleasableBytesReference(new BytesArray(file, boundaries[i], boundaries[i + 1] - boundaries[i]),
+                () -> assertTrue("released twice", chunkReleased.compareAndSet(false, true))));
+        }
+        return chunks;
+    }
+
+    private static byte[] randomFile() throws IOException {
+        try (Directory directory = new ByteBuffersDirectory()) {
+            try (IndexOutput out = directory.createOutput("file", IOContext.DEFAULT)) {
+                CodecUtil.writeHeader(out, "test", 0);
+                final byte[] payload = randomByteArrayOfLength(randomIntBetween(10, 1000));
+                out.writeBytes(payload, payload.length);
+                CodecUtil.writeFooter(out);
+            }
+            try (IndexInput in = directory.openInput("file", IOContext.DEFAULT)) {
+                final byte[] file = new byte[(int) in.length()];
+                in.readBytes(file, 0, file.length);
+                return file;
+            }
+        }
+    }
+
+    private static StoreFileMetadata metadata(byte[] file) throws IOException {
+        try (Directory directory = new ByteBuffersDirectory()) {
+            try (IndexOutput out = directory.createOutput("file", IOContext.DEFAULT)) {
+                out.writeBytes(file, file.length);
+            }
+            try (IndexInput in = directory.openInput("file", IOContext.DEFAULT)) {
+                return new StoreFileMetadata("file", file.length, Store.digestToString(CodecUtil.retrieveChecksum(in)), Version.LATEST);
+            }
+        }
+    }
+
+    private Store newStore() {
+        return new Store(shardId, IndexSettingsModule.newIndexSettings("index", Settings.EMPTY), newDirectory(),
+            new DummyShardLock(shardId));
+    }
+}
@@ -1070,4 +1070,42 @@ public class IngestDocumentTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSourceModificationTracking() {
+        assertFalse(ingestDocument.isSourceModified());
+        ingestDocument.getFieldValue("foo", String.class);
+        ingestDocument.getFieldValue("fizz.buzz", String.class);
+        ingestDocument.setFieldValue("_index", "other_index");
+        ingestDocument.setFieldValue("_routing", "routing");
+        ingestDocument.removeField("_routing");
+        ingestDocument.setFieldValue("_ingest.field", "value");
+        assertFalse(ingestDocument.isSourceModified());
+
+        IngestDocument document = new IngestDocument(ingestDocument);
+        assertTrue(document.isSourceModified());
+
+        document = new IngestDocument("index", "type", "id", null, null, null, Collections.singletonMap("foo", "bar"));
+        document.getFieldValue("fizz", Map.class, true);
+        assertFalse(document.isSourceModified());
+        switch (randomIntBetween(0, 4)) {
+            case 0:
+                document.setFieldValue("foo", "baz");
+                break;
+            case 1:
+                document.setFieldValue("_source.new_field", "value");
+                break;
+            case 2:
+                document.removeField("foo");
+                break;
+            case 3:
+                document.appendFieldValue("foo", "baz");
+                break;
+            default:
+                document.getSourceAndMetadata();
+                break;
+        }
+        assertTrue(document.isSourceModified());
+
+        document = new IngestDocument("index", "type", "id", null, null, null, Collections.singletonMap("_id", "other_id"));
+        assertTrue(document.isSourceModified());
+    }
 }
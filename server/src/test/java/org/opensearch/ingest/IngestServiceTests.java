@@ -61,6 +61,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentType;
@@ -87,9 +88,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -819,6 +822,7 @@ public class IngestServiceTests extends OpenSearchTestCase {
         }).when(processor).execute(any(), any());
         final IndexRequest indexRequest =
             new IndexRequest("_index", "_type", "_id").source(emptyMap()).setPipeline("_id").setFinalPipeline("_none");
+        final Object originalSource = indexRequest.source();
         @SuppressWarnings("unchecked")
         final BiConsumer<Integer, Exception> failureHandler = mock(BiConsumer.class);
         @SuppressWarnings("unchecked")
@@ -828,6 +832,8 @@ public class IngestServiceTests extends OpenSearchTestCase {
         verify(processor).execute(any(), any());
         verify(failureHandler, never()).accept(any(), any());
         verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
+        // only metadata fields were updated, so the source does not need to be serialized again
+        assertThat(indexRequest.source(), sameInstance(originalSource));
         assertThat(indexRequest.index(), equalTo("update_index"));
         assertThat(indexRequest.type(), equalTo("update_type"));
         assertThat(indexRequest.id(), equalTo("update_id"));
@@ -1004,6 +1010,55 @@ public class IngestServiceTests extends OpenSearchTestCase {
         verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
     }
 
+    public void testBulkRequestExecutionWithParallelism() throws Exception {
+        final int numRequest = scaledRandomIntBetween(8, 64);
+        final BulkRequest bulkRequest = new BulkRequest();
+        for (int i = 0; i < numRequest; i++) {
+            IndexRequest indexRequest = new IndexRequest("_index", "_type", String.valueOf(i)).setPipeline("_id").setFinalPipeline("_none");
+            indexRequest.source(Requests.INDEX_CONTENT_TYPE, "field1", "value1");
+            bulkRequest.add(indexRequest);
+        }
+
+        final Processor processor = mock(Processor.class);
+        when(processor.getType()).thenReturn("mock");
+        when(processor.getTag()).thenReturn("mockTag");
+        doAnswer(args -> {
+            IngestDocument ingestDocument = (IngestDocument) args.getArguments()[0];
+            @SuppressWarnings("unchecked")
+            BiConsumer<IngestDocument, Exception> handler = (BiConsumer) args.getArguments()[1];
+            if (Integer.parseInt(ingestDocument.getFieldValue(IngestDocument.Metadata.ID.getFieldName(), String.class)) % 3 == 0) {
+                handler.accept(null, new IllegalStateException("simulated"));
+            } else {
+                handler.accept(ingestDocument, null);
+            }
+            return null;
+        }).when(processor).execute(any(), any());
+        Map<String, Processor.Factory> map = new HashMap<>(2);
+        map.put("mock", (factories, tag, description, config) -> processor);
+
+        IngestService ingestService = createWithProcessors(map);
+        ingestService.setBulkParallelism(randomIntBetween(2, numRequest + 1));
+        PutPipelineRequest putRequest = new PutPipelineRequest("_id",
+            new BytesArray("{\"processors\": [{\"mock\": {}}], \"description\": \"_description\"}"), XContentType.JSON);
+        ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build();
+        ClusterState previousClusterState = clusterState;
+        clusterState = IngestService.innerPut(putRequest, clusterState);
+        ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+        final Set<Integer> failedSlots = ConcurrentCollections.newConcurrentSet();
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Thread, Exception> completionHandler = mock(BiConsumer.class);
+        ingestService.executeBulkRequest(numRequest, bulkRequest.requests(), (slot, e) -> failedSlots.add(slot), completionHandler,
+            indexReq -> {}, Names.WRITE);
+
+        verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
+        final Set<Integer> expectedFailedSlots = new HashSet<>();
+        for (int i = 0; i < numRequest; i += 3) {
+            expectedFailedSlots.add(i);
+        }
+        assertThat(failedSlots, equalTo(expectedFailedSlots));
+    }
+
     public void testBulkRequestExecution() throws Exception {
         BulkRequest bulkRequest = new BulkRequest();
         String pipelineId = "_id";
@@ -44,9 +44,14 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
 public class IngestStatsTests extends OpenSearchTestCase {
 
     public void testSerialization() throws IOException {
@@ -96,6 +101,41 @@ public class IngestStatsTests extends OpenSearchTestCase {
         assertIngestStats(expectedIngestStats, serializedStats, true, false);
     }
 
+    public void testLatencySerialization() throws IOException {
+        IngestStats.LatencyStats latency = new IngestStats.LatencyStats(10, 100, 1000, 5000);
+        IngestStats.Stats totalStats = new IngestStats.Stats(50, 100, 200, 300, latency);
+        IngestStats ingestStats = new IngestStats(totalStats, Collections.emptyList(), Collections.emptyMap());
+        assertEquals(latency, serialize(ingestStats).getTotalStats().getLatency());
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(LegacyESVersion.V_7_10_2);
+        ingestStats.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(LegacyESVersion.V_7_10_2);
+        IngestStats serializedStats = new IngestStats(in);
+        assertNull(serializedStats.getTotalStats().getLatency());
+        assertStats(totalStats, serializedStats.getTotalStats());
+    }
+
+    public void testLatencyIsRecorded() {
+        IngestMetric metric = new IngestMetric();
+        for (int i = 1; i <= 100; i++) {
+            metric.preIngest();
+            metric.postIngest(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        IngestStats.Stats stats = metric.createStats();
+        assertEquals(100, stats.getIngestCount());
+        IngestStats.LatencyStats latency = stats.getLatency();
+        // histogram values are approximations with a single significant digit
+        assertThat(latency.getP50Micros(), allOf(greaterThanOrEqualTo(45_000L), lessThanOrEqualTo(55_000L)));
+        assertThat(latency.getP99Micros(), allOf(greaterThanOrEqualTo(90_000L), lessThanOrEqualTo(110_000L)));
+        assertThat(latency.getMaxMicros(), allOf(greaterThanOrEqualTo(100_000L), lessThanOrEqualTo(110_000L)));
+
+        IngestMetric other = new IngestMetric();
+        other.add(metric);
+        assertEquals(latency, other.createStats().getLatency());
+    }
+
     private List<IngestStats.PipelineStat> createPipelineStats() {
         IngestStats.PipelineStat pipeline1Stats = new IngestStats.PipelineStat("pipeline1", new IngestStats.Stats(3, 3, 3, 3));
         IngestStats.PipelineStat pipeline2Stats = new IngestStats.PipelineStat("pipeline2", new IngestStats.Stats(47, 97, 197, 297));
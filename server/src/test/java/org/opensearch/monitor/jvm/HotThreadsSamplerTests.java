@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.monitor.jvm;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class HotThreadsSamplerTests extends OpenSearchTestCase {
+
+    public void testThreadPoolName() {
+        assertThat(HotThreadsSampler.threadPoolName("opensearch[node_1][search][T#3]"), equalTo("search"));
+        assertThat(HotThreadsSampler.threadPoolName("opensearch[node_1][write][T#12]"), equalTo("write"));
+        assertThat(HotThreadsSampler.threadPoolName("opensearch[node_1][[timer]]"), equalTo("timer"));
+        assertThat(HotThreadsSampler.threadPoolName("main"), equalTo("main"));
+    }
+
+    public void testDisabled() {
+        final HotThreadsSampler sampler = new HotThreadsSampler(Settings.EMPTY, null);
+        assertFalse(sampler.isEnabled());
+        final IllegalStateException e = expectThrows(IllegalStateException.class,
+            () -> sampler.collapsedStacks(TimeValue.timeValueMinutes(1), TimeValue.ZERO, true));
+        assertThat(e.getMessage(), containsString(HotThreadsSampler.ENABLED_SETTING.getKey()));
+    }
+
+    public void testCollapsedStacks() throws Exception {
+        final AtomicLong currentTimeMillis = new AtomicLong(randomLongBetween(1_000_000, 2_000_000));
+        final Settings settings = Settings.builder()
+            .put(HotThreadsSampler.ENABLED_SETTING.getKey(), true)
+            .put(HotThreadsSampler.INTERVAL_SETTING.getKey(), "1s")
+            .put(HotThreadsSampler.RETENTION_SETTING.getKey(), "10s")
+            .build();
+        final HotThreadsSampler sampler = new HotThreadsSampler(settings, null, currentTimeMillis::get);
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        final Thread thread = new Thread(() -> waitInKnownMethod(started, done), "opensearch[node_1][sampled][T#1]");
+        thread.start();
+        try {
+            started.await();
+            assertBusy(() -> assertThat(thread.getState(), equalTo(Thread.State.WAITING)));
+            for (int i = 0; i < 3; i++) {
+                currentTimeMillis.addAndGet(1000);
+                sampler.sample();
+            }
+        } finally {
+            done.countDown();
+            thread.join();
+        }
+
+        final String expectedStack = "sampled;WAITING;java.lang.Thread.run;";
+        final String allSamples = sampler.collapsedStacks(TimeValue.timeValueSeconds(5), TimeValue.ZERO, false);
+        assertThat(allSamples, containsString("samples=3"));
+        assertThat(allSamples, containsString(expectedStack));
+        assertThat(allSamples, containsString(HotThreadsSamplerTests.class.getName() + ".waitInKnownMethod;"));
+        for (String line : allSamples.split("\n")) {
+            if (line.startsWith(expectedStack)) {
+                assertThat(line, line.endsWith(" 3"), equalTo(true));
+            }
+        }
+
+        // the window only covers the first two samples
+        final String earlierSamples = sampler.collapsedStacks(TimeValue.timeValueMillis(1500), TimeValue.timeValueSeconds(1), false);
+        assertThat(earlierSamples, containsString("samples=2"));
+
+        // the window ends before the first sample
+        final String noSamples = sampler.collapsedStacks(TimeValue.timeValueSeconds(5), TimeValue.timeValueSeconds(5), false);
+        assertThat(noSamples, containsString("samples=0"));
+        assertThat(noSamples, not(containsString(expectedStack)));
+    }
+
+    public void testRingBufferOverwritesOldestSamples() {
+        final AtomicLong currentTimeMillis = new AtomicLong(randomLongBetween(1_000_000, 2_000_000));
+        final Settings settings = Settings.builder()
+            .put(HotThreadsSampler.ENABLED_SETTING.getKey(), true)
+            .put(HotThreadsSampler.INTERVAL_SETTING.getKey(), "1s")
+            .put(HotThreadsSampler.RETENTION_SETTING.getKey(), "3s")
+            .build();
+        final HotThreadsSampler sampler = new HotThreadsSampler(settings, null, currentTimeMillis::get);
+        for (int i = 0; i < 5; i++) {
+            currentTimeMillis.addAndGet(1000);
+            sampler.sample();
+        }
+        assertThat(sampler.collapsedStacks(TimeValue.timeValueMinutes(1), TimeValue.ZERO, false), containsString("samples=3"));
+    }
+
+    public void testStacksAreEvictedOnceNoSampleRefersToThem() throws Exception {
+        final AtomicLong currentTimeMillis = new AtomicLong(randomLongBetween(1_000_000, 2_000_000));
+        final Settings settings = Settings.builder()
+            .put(HotThreadsSampler.ENABLED_SETTING.getKey(), true)
+            .put(HotThreadsSampler.INTERVAL_SETTING.getKey(), "1s")
+            .put(HotThreadsSampler.RETENTION_SETTING.getKey(), "2s")
+            .build();
+        // each sample fills half of the table with new stacks
+        final HotThreadsSampler sampler = new HotThreadsSampler(settings, null, currentTimeMillis::get, 4);
+
+        final CountDownLatch started = new CountDownLatch(8);
+        final CountDownLatch done = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final int depth = i;
+            threads.add(new Thread(() -> waitAtDepth(depth, started, done), "opensearch[node_1][pool" + i + "][T#1]"));
+        }
+        threads.forEach(Thread::start);
+        try {
+            started.await();
+            for (Thread thread : threads) {
+                assertBusy(() -> assertThat(thread.getState(), equalTo(Thread.State.WAITING)));
+            }
+            for (int i = 0; i < 4; i++) {
+                currentTimeMillis.addAndGet(1000);
+                sampler.record(currentTimeMillis.get(), threadInfos(threads.get(2 * i), threads.get(2 * i + 1)), -1);
+            }
+        } finally {
+            done.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        final String samples = sampler.collapsedStacks(TimeValue.timeValueMinutes(1), TimeValue.ZERO, false);
+        assertThat(samples, containsString("samples=2"));
+        assertThat(samples, not(containsString("[other stacks]")));
+        assertThat(samples, not(containsString("pool3;")));
+        for (int i = 4; i < 8; i++) {
+            assertThat(samples, containsString("pool" + i + ";WAITING;java.lang.Thread.run;"));
+        }
+    }
+
+    public void testStacksWithTheSameHashAreKeptApart() {
+        final HotThreadsSampler.StackTable stacks = new HotThreadsSampler.StackTable(HotThreadsSampler.MAX_STACKS);
+        // "Aa" and "BB" have the same hash code
+        final StackTraceElement[] first = new StackTraceElement[] { new StackTraceElement("Aa", "run", null, 1) };
+        final StackTraceElement[] second = new StackTraceElement[] { new StackTraceElement("BB", "run", null, 2) };
+        assertThat(HotThreadsSampler.StackTable.hash("pool", Thread.State.RUNNABLE, first),
+            equalTo(HotThreadsSampler.StackTable.hash("pool", Thread.State.RUNNABLE, second)));
+
+        final int firstId = stacks.intern("pool", Thread.State.RUNNABLE, first, null);
+        final int secondId = stacks.intern("pool", Thread.State.RUNNABLE, second, null);
+        assertThat(secondId, not(equalTo(firstId)));
+        assertThat(stacks.collapsed(firstId), equalTo("pool;RUNNABLE;Aa.run"));
+        assertThat(stacks.collapsed(secondId), equalTo("pool;RUNNABLE;BB.run"));
+        // line numbers are not part of collapsed stacks
+        assertThat(stacks.intern("pool", Thread.State.RUNNABLE, new StackTraceElement[] { new StackTraceElement("BB", "run", null, 3) },
+            null), equalTo(secondId));
+
+        // the stacks are still told apart after a rebuild of the table
+        final BitSet live = new BitSet();
+        live.set(secondId);
+        final int[] newIds = stacks.retain(live);
+        assertThat(newIds[firstId], equalTo(-1));
+        assertThat(stacks.size(), equalTo(1));
+        assertThat(stacks.intern("pool", Thread.State.RUNNABLE, second, null), equalTo(newIds[secondId]));
+        assertThat(stacks.collapsed(stacks.intern("pool", Thread.State.RUNNABLE, first, null)), equalTo("pool;RUNNABLE;Aa.run"));
+    }
+
+    private static ThreadInfo[] threadInfos(Thread... threads) {
+        final long[] ids = new long[threads.length];
+        for (int i = 0; i < threads.length; i++) {
+            ids[i] = threads[i].getId();
+        }
+        return ManagementFactory.getThreadMXBean().getThreadInfo(ids, Integer.MAX_VALUE);
+    }
+
+    private static void waitAtDepth(int depth, CountDownLatch started, CountDownLatch done) {
+        if (depth > 0) {
+            waitAtDepth(depth - 1, started, done);
+        } else {
+            waitInKnownMethod(started, done);
+        }
+    }
+
+    private static void waitInKnownMethod(CountDownLatch started, CountDownLatch done) {
+        started.countDown();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
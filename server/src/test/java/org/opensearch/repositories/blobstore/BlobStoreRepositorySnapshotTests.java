@@ -0,0 +1,239 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.repositories.blobstore;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.metadata.RepositoryMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.BlobStore;
+import org.opensearch.common.blobstore.support.FilterBlobContainer;
+import org.opensearch.common.io.Streams;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.Environment;
+import org.opensearch.env.TestEnvironment;
+import org.opensearch.index.Index;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.index.snapshots.IndexShardSnapshotStatus;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.Repository;
+import org.opensearch.repositories.fs.FsRepository;
+import org.opensearch.snapshots.SnapshotId;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+/**
+ * This class tests the behavior of {@link BlobStoreRepository} when it uploads the files of a shard snapshot.
+ */
+public class BlobStoreRepositorySnapshotTests extends IndexShardTestCase {
+
+    public void testSnapshotUploadsLargestFilesFirstAndReportsProgress() throws Exception {
+        final List<Long> uploadedSizes = Collections.synchronizedList(new ArrayList<>());
+        final AtomicReference<IndexShardSnapshotStatus> snapshotStatus = new AtomicReference<>();
+        final AtomicInteger uploadsInProgress = new AtomicInteger();
+        final Repository repository = createRepository(container -> new DataBlobInterceptingContainer(container,
+            (blobName, blobSize, bytesRead) -> {
+                // the snapshot pool has a single thread so the files are uploaded one after another
+                assertThat(uploadsInProgress.get(), equalTo(1));
+                final long uploadedBefore = uploadedSizes.stream().mapToLong(Long::longValue).sum();
+                assertThat(snapshotStatus.get().asCopy().getProcessedSize(), equalTo(uploadedBefore + bytesRead));
+            }, uploadsInProgress, uploadedSizes));
+
+        final IndexShard shard = newIndexedShard();
+        try {
+            assertNotNull(snapshotShard(shard, repository, snapshotStatus).actionGet());
+            final IndexShardSnapshotStatus.Copy status = snapshotStatus.get().asCopy();
+            assertThat(status.getStage(), equalTo(IndexShardSnapshotStatus.Stage.DONE));
+
+            assertThat(uploadedSizes.size(), greaterThan(1));
+            final List<Long> largestFirst = new ArrayList<>(uploadedSizes);
+            largestFirst.sort(Collections.reverseOrder());
+            assertThat(uploadedSizes, equalTo(largestFirst));
+            assertThat(status.getProcessedSize(), equalTo(uploadedSizes.stream().mapToLong(Long::longValue).sum()));
+        } finally {
+            closeShards(shard);
+        }
+    }
+
+    public void testFailedUploadIsRemovedFromProcessedSize() throws Exception {
+        final List<Long> uploadedSizes = Collections.synchronizedList(new ArrayList<>());
+        final AtomicReference<IndexShardSnapshotStatus> snapshotStatus = new AtomicReference<>();
+        final Repository repository = createRepository(container -> new DataBlobInterceptingContainer(container,
+            (blobName, blobSize, bytesRead) -> {
+                if (uploadedSizes.isEmpty()) {
+                    assertThat(snapshotStatus.get().asCopy().getProcessedSize(), equalTo(bytesRead));
+                    throw new IOException("simulated upload failure of [" + blobName + "]");
+                }
+            }, new AtomicInteger(), uploadedSizes));
+
+        final IndexShard shard = newIndexedShard();
+        try {
+            final PlainActionFuture<String> future = snapshotShard(shard, repository, snapshotStatus);
+            final Exception e = expectThrows(Exception.class, future::actionGet);
+            assertThat(ExceptionsHelper.stackTrace(e), containsString("simulated upload failure"));
+            final IndexShardSnapshotStatus.Copy status = snapshotStatus.get().asCopy();
+            assertThat(status.getProcessedFileCount(), greaterThanOrEqualTo(1));
+            assertThat(status.getProcessedSize(), equalTo(uploadedSizes.stream().mapToLong(Long::longValue).sum()));
+        } finally {
+            closeShards(shard);
+        }
+    }
+
+    @Override
+    public Settings threadPoolSettings() {
+        return Settings.builder().put("thread_pool.snapshot.max", 1).build();
+    }
+
+    private IndexShard newIndexedShard() throws IOException {
+        final IndexShard shard = newStartedShard(true);
+        final int numSegments = randomIntBetween(2, 5);
+        int docId = 0;
+        for (int i = 0; i < numSegments; i++) {
+            // segments of different sizes
+            final int numDocs = randomIntBetween(1, 50) * (i + 1);
+            for (int j = 0; j < numDocs; j++) {
+                indexDoc(shard, "_doc", Integer.toString(docId++));
+            }
+            flushShard(shard, true);
+        }
+        return shard;
+    }
+
+    private PlainActionFuture<String> snapshotShard(IndexShard shard, Repository repository,
+                                                    AtomicReference<IndexShardSnapshotStatus> snapshotStatus) throws IOException {
+        final Index index = shard.shardId().getIndex();
+        final IndexId indexId = new IndexId(index.getName(), index.getUUID());
+        final SnapshotId snapshotId = new SnapshotId(randomAlphaOfLength(10), "_uuid");
+        snapshotStatus.set(IndexShardSnapshotStatus.newInitializing(null));
+        final PlainActionFuture<String> future = PlainActionFuture.newFuture();
+        try (Engine.IndexCommitRef indexCommitRef = shard.acquireLastIndexCommit(true)) {
+            repository.snapshotShard(shard.store(), shard.mapperService(), snapshotId, indexId, indexCommitRef.getIndexCommit(), null,
+                snapshotStatus.get(), Version.CURRENT, Collections.emptyMap(), future);
+            try {
+                future.get();
+            } catch (Exception e) {
+                // checked by the caller
+            }
+        }
+        return future;
+    }
+
+    @FunctionalInterface
+    private interface UploadProgressCheck {
+        void accept(String blobName, long blobSize, long bytesRead) throws IOException;
+    }
+
+    /**
+     * Reads data blobs in two halves and runs a check in between, before the blob is written.
+     */
+    private static class DataBlobInterceptingContainer extends FilterBlobContainer {
+
+        private final UploadProgressCheck check;
+        private final AtomicInteger uploadsInProgress;
+        private final List<Long> uploadedSizes;
+
+        DataBlobInterceptingContainer(BlobContainer delegate, UploadProgressCheck check, AtomicInteger uploadsInProgress,
+                                      List<Long> uploadedSizes) {
+            super(delegate);
+            this.check = check;
+            this.uploadsInProgress = uploadsInProgress;
+            this.uploadedSizes = uploadedSizes;
+        }
+
+        @Override
+        protected BlobContainer wrapChild(BlobContainer child) {
+            return new DataBlobInterceptingContainer(child, check, uploadsInProgress, uploadedSizes);
+        }
+
+        @Override
+        public void writeBlob(String blobName, InputStream inputStream, long blobSize, boolean failIfAlreadyExists) throws IOException {
+            if (blobName.startsWith("__") == false) {
+                super.writeBlob(blobName, inputStream, blobSize, failIfAlreadyExists);
+                return;
+            }
+            uploadsInProgress.incrementAndGet();
+            try {
+                final byte[] bytes = new byte[Math.toIntExact(blobSize)];
+                final int half = bytes.length / 2;
+                assertThat(Streams.readFully(inputStream, bytes, 0, half), equalTo(half));
+                check.accept(blobName, blobSize, half);
+                assertThat(Streams.readFully(inputStream, bytes, half, bytes.length - half), equalTo(bytes.length - half));
+                super.writeBlob(blobName, new ByteArrayInputStream(bytes), blobSize, failIfAlreadyExists);
+                uploadedSizes.add(blobSize);
+            } finally {
+                uploadsInProgress.decrementAndGet();
+            }
+        }
+    }
+
+    /** Create a {@link Repository} with a random name whose blob containers are wrapped with the given function **/
+    private Repository createRepository(UnaryOperator<BlobContainer> containerWrapper) {
+        Settings settings = Settings.builder().put("location", randomAlphaOfLength(10)).build();
+        RepositoryMetadata repositoryMetadata = new RepositoryMetadata(randomAlphaOfLength(10), FsRepository.TYPE, settings);
+        final ClusterService clusterService = BlobStoreTestUtil.mockClusterService(repositoryMetadata);
+        final FsRepository repository = new FsRepository(repositoryMetadata, createEnvironment(), xContentRegistry(), clusterService,
+            new RecoverySettings(Settings.EMPTY, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS))) {
+            @Override
+            protected void assertSnapshotOrGenericThread() {
+                // eliminate thread name check as we create repo manually
+            }
+
+            @Override
+            protected BlobStore createBlobStore() throws Exception {
+                final BlobStore blobStore = super.createBlobStore();
+                return new BlobStore() {
+                    @Override
+                    public BlobContainer blobContainer(BlobPath path) {
+                        return containerWrapper.apply(blobStore.blobContainer(path));
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        blobStore.close();
+                    }
+                };
+            }
+        };
+        clusterService.addStateApplier(event -> repository.updateState(event.state()));
+        // Apply state once to initialize repo properly like RepositoriesService would
+        repository.updateState(clusterService.state());
+        repository.start();
+        return repository;
+    }
+
+    /** Create a {@link Environment} with random path.home and path.repo **/
+    private Environment createEnvironment() {
+        Path home = createTempDir();
+        return TestEnvironment.newEnvironment(Settings.builder()
+            .put(Environment.PATH_HOME_SETTING.getKey(), home.toAbsolutePath())
+            .put(Environment.PATH_REPO_SETTING.getKey(), home.resolve("repo").toAbsolutePath())
+            .build());
+    }
+}
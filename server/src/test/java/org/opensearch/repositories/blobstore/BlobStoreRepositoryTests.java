@@ -63,6 +63,7 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -70,7 +71,9 @@ import java.util.stream.Collectors;
 
 import static org.opensearch.repositories.RepositoryDataTests.generateRandomRepoData;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 /**
  * Tests for the {@link BlobStoreRepository} and its subclasses.
@@ -176,6 +179,34 @@ public class BlobStoreRepositoryTests extends OpenSearchSingleNodeTestCase {
         assertEquals(repoData, OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository));
     }
 
+    public void testRepositoryDataIsCachedAfterWrite() throws Exception {
+        final BlobStoreRepository repository = setupRepo();
+        final RepositoryData repoData = addRandomSnapshotsToRepoData(
+            OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository), true);
+        writeIndexGen(repository, repoData, repoData.getGenId());
+
+        final RepositoryData cached = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+        assertEquals(repoData, cached);
+        // the cached instance is returned as is instead of being parsed again for every read
+        assertThat(OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository), sameInstance(cached));
+    }
+
+    public void testLargeRepositoryDataIsNotCached() throws Exception {
+        final BlobStoreRepository repository = setupRepo(Settings.builder()
+            .put(BlobStoreRepository.CACHE_REPOSITORY_DATA_MAX_SIZE.getKey(), "100b").build());
+        final RepositoryData repoData = addRandomSnapshotsToRepoData(
+            OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository), true);
+        writeIndexGen(repository, repoData, repoData.getGenId());
+
+        // neither the written nor the loaded repository data is cached, so every read parses the repository data again
+        final RepositoryData loaded = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+        assertThat(loaded, not(sameInstance(repoData)));
+        assertEquals(new HashSet<>(repoData.getSnapshotIds()), new HashSet<>(loaded.getSnapshotIds()));
+        final RepositoryData loadedAgain = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+        assertThat(loadedAgain, not(sameInstance(loaded)));
+        assertEquals(loaded, loadedAgain);
+    }
+
     public void testIndexGenerationalFiles() throws Exception {
         final BlobStoreRepository repository = setupRepo();
         assertEquals(OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository), RepositoryData.EMPTY);
@@ -259,6 +290,10 @@ public class BlobStoreRepositoryTests extends OpenSearchSingleNodeTestCase {
     }
 
     private BlobStoreRepository setupRepo() {
+        return setupRepo(Settings.EMPTY);
+    }
+
+    private BlobStoreRepository setupRepo(Settings repositorySettings) {
         final Client client = client();
         final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
         final String repositoryName = "test-repo";
@@ -266,7 +301,8 @@ public class BlobStoreRepositoryTests extends OpenSearchSingleNodeTestCase {
         AcknowledgedResponse putRepositoryResponse =
             client.admin().cluster().preparePutRepository(repositoryName)
                                     .setType(REPO_TYPE)
-                                    .setSettings(Settings.builder().put(node().settings()).put("location", location))
+                                    .setSettings(Settings.builder().put(node().settings()).put("location", location)
+                                        .put(repositorySettings))
                                     .get();
         assertThat(putRepositoryResponse.isAcknowledged(), equalTo(true));
 
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.text.Text;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.rest.action.RestChunkedStatusToXContentListener;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class ChunkedRestResponseTests extends OpenSearchTestCase {
+
+    public void testChunkedSearchResponseMatchesFullResponse() throws Exception {
+        final SearchResponse response = searchResponse(randomIntBetween(0, 50), 0);
+
+        final RestRequest request = new FakeRestRequest();
+        final BytesReference expected = BytesReference.bytes(
+            response.toXContent(new FakeRestChannel(request, false, 1).newBuilder(), request));
+
+        final ChunkedRestResponseBody body = ChunkedRestResponseBody.fromXContent(response.toXContentChunked(), request,
+            new FakeRestChannel(request, false, 1));
+        final BytesStreamOutput out = new BytesStreamOutput();
+        int chunks = 0;
+        while (body.isDone() == false) {
+            final long before = out.size();
+            body.encodeChunk(out, randomIntBetween(1, 512));
+            assertTrue("every chunk has content", out.size() > before);
+            chunks++;
+        }
+        assertThat(out.bytes(), equalTo(expected));
+        assertTrue(chunks >= 1);
+        body.close();
+    }
+
+    public void testSmallResponsesAreSentInFull() throws Exception {
+        final SearchResponse response = searchResponse(randomIntBetween(0, 10), 0);
+        final RestRequest request = new FakeRestRequest();
+        final FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        new RestChunkedStatusToXContentListener<SearchResponse>(channel).onResponse(response);
+
+        assertThat(channel.capturedResponse(), instanceOf(BytesRestResponse.class));
+        assertThat(channel.capturedResponse().content(), equalTo(BytesReference.bytes(
+            response.toXContent(new FakeRestChannel(request, false, 1).newBuilder(), request))));
+    }
+
+    public void testLargeResponsesAreStreamed() throws Exception {
+        final int sourceLength = 1024;
+        final int numHits = RestChunkedStatusToXContentListener.CHUNKED_RESPONSE_THRESHOLD / sourceLength + randomIntBetween(1, 100);
+        final SearchResponse response = searchResponse(numHits, sourceLength);
+        final RestRequest request = new FakeRestRequest();
+        final FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        new RestChunkedStatusToXContentListener<SearchResponse>(channel).onResponse(response);
+
+        assertThat(channel.capturedResponse(), instanceOf(ChunkedRestResponse.class));
+        final ChunkedRestResponseBody body = ((ChunkedRestResponse) channel.capturedResponse()).body();
+        assertFalse(body.isDone());
+        final BytesStreamOutput out = new BytesStreamOutput();
+        while (body.isDone() == false) {
+            body.encodeChunk(out, randomIntBetween(1024, 64 * 1024));
+        }
+        assertThat(out.bytes(), equalTo(BytesReference.bytes(
+            response.toXContent(new FakeRestChannel(request, false, 1).newBuilder(), request))));
+        body.close();
+    }
+
+    public void testClosingTheBodyWhileAChunkIsSerializedDefersRelease() throws Exception {
+        final RestRequest request = new FakeRestRequest();
+        final AtomicReference<ChunkedRestResponseBody> bodyRef = new AtomicReference<>();
+        final ToXContent fragment = (builder, params) -> {
+            // the HTTP layer gives up on the response while the chunk is being serialized
+            bodyRef.get().close();
+            return builder.startObject().field("field", "value").endObject();
+        };
+        final ChunkedRestResponseBody body = ChunkedRestResponseBody.fromXContent(Collections.singletonList(fragment).iterator(),
+            request, new FakeRestChannel(request, false, 1));
+        bodyRef.set(body);
+        final BytesStreamOutput out = new BytesStreamOutput();
+        body.encodeChunk(out, Integer.MAX_VALUE);
+        assertThat(out.bytes().utf8ToString(), equalTo("{\"field\":\"value\"}"));
+        assertTrue(body.isDone());
+        expectThrows(IllegalStateException.class, () -> body.encodeChunk(new BytesStreamOutput(), Integer.MAX_VALUE));
+    }
+
+    private static SearchResponse searchResponse(int numHits, int sourceLength) {
+        final SearchHit[] hits = new SearchHit[numHits];
+        for (int i = 0; i < numHits; i++) {
+            hits[i] = new SearchHit(i, "id" + i, new Text("_doc"), Collections.emptyMap(), Collections.emptyMap());
+            hits[i].score(randomFloat());
+            if (sourceLength > 0) {
+                hits[i].sourceRef(new BytesArray("{\"field\":\"" + randomAlphaOfLength(sourceLength) + "\"}"));
+            }
+        }
+        final SearchHits searchHits = new SearchHits(hits, new TotalHits(numHits, TotalHits.Relation.EQUAL_TO), 1.0f);
+        return new SearchResponse(new InternalSearchResponse(searchHits, null, null, null, false, null, 1),
+            null, 1, 1, 0, randomNonNegativeLong(), ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+    }
+
+    public void testContentSerializesTheWholeBody() throws Exception {
+        final RestRequest request = new FakeRestRequest();
+        final ToXContent fragment = (builder, params) -> builder.startObject().field("field", "value").endObject();
+        final ChunkedRestResponseBody body = ChunkedRestResponseBody.fromXContent(Collections.singletonList(fragment).iterator(),
+            request, new FakeRestChannel(request, false, 1));
+        final ChunkedRestResponse response = new ChunkedRestResponse(RestStatus.OK, body);
+        assertThat(response.content().utf8ToString(), equalTo("{\"field\":\"value\"}"));
+        assertTrue(body.isDone());
+        assertThat(response.contentType(), equalTo("application/json; charset=UTF-8"));
+    }
+}
@@ -108,6 +108,12 @@ public class RestIndexActionTests extends RestActionTestCase {
         assertThat(e.getMessage(), equalTo("opType must be 'create', found: [" + illegalOpType + "]"));
     }
 
+    public void testAllowsUnsafeBuffers() {
+        assertTrue(new RestIndexAction().allowsUnsafeBuffers());
+        assertTrue(new CreateHandler().allowsUnsafeBuffers());
+        assertTrue(new AutoIdHandler(() -> clusterStateSupplier.get().nodes()).allowsUnsafeBuffers());
+    }
+
     public void testAutoIdDefaultsToOptypeCreate() {
         checkAutoIdOpType(Version.CURRENT, DocWriteRequest.OpType.CREATE);
     }
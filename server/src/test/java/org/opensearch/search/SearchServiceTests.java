@@ -71,6 +71,7 @@ import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.search.stats.SearchStats;
+import org.opensearch.index.search.stats.ShardSearchStats;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.index.shard.ShardId;
@@ -100,6 +101,7 @@ import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.suggest.SuggestBuilder;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
+import org.opensearch.test.TestSearchContext;
 import org.opensearch.threadpool.ThreadPool;
 import org.junit.Before;
 
@@ -114,6 +116,7 @@ import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -129,6 +132,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.Matchers.greaterThan;
 
 public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
 
@@ -1105,6 +1109,56 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         assertTrue(searchService.freeReaderContext(future.actionGet()));
     }
 
+    public void testSearchLane() {
+        final TimeValue threshold = TimeValue.timeValueMillis(500);
+        final ShardSearchRequest query = shardSearchRequest(new SearchSourceBuilder());
+        final ShardSearchRequest aggregation =
+            shardSearchRequest(new SearchSourceBuilder().aggregation(AggregationBuilders.terms("terms").field("field")));
+        final ShardSearchRequest largeWindow = shardSearchRequest(new SearchSourceBuilder().from(900).size(200));
+
+        // too few queries to estimate the cost of the next one
+        assertThat(SearchService.searchLane(5, 1000, query, threshold), equalTo(ThreadPool.SearchLane.INTERACTIVE));
+        assertThat(SearchService.searchLane(100, 10, query, threshold), equalTo(ThreadPool.SearchLane.INTERACTIVE));
+        assertThat(SearchService.searchLane(100, 10, aggregation, threshold), equalTo(ThreadPool.SearchLane.INTERACTIVE));
+        assertThat(SearchService.searchLane(100, 300, query, threshold), equalTo(ThreadPool.SearchLane.INTERACTIVE));
+        assertThat(SearchService.searchLane(100, 300, aggregation, threshold), equalTo(ThreadPool.SearchLane.EXPENSIVE));
+        assertThat(SearchService.searchLane(100, 300, largeWindow, threshold), equalTo(ThreadPool.SearchLane.EXPENSIVE));
+        assertThat(SearchService.searchLane(100, 600, query, threshold), equalTo(ThreadPool.SearchLane.EXPENSIVE));
+    }
+
+    public void testRecentQueryTimeFollowsTheLoadOfTheShard() {
+        final ShardSearchStats stats = new ShardSearchStats();
+        final SearchContext context = new TestSearchContext(null) {
+            @Override
+            public ShardSearchRequest request() {
+                return shardSearchRequest(new SearchSourceBuilder());
+            }
+        };
+        final TimeValue threshold = TimeValue.timeValueMillis(500);
+        final ShardSearchRequest query = shardSearchRequest(new SearchSourceBuilder());
+        // a long history of slow queries
+        for (int i = 0; i < 1000; i++) {
+            stats.onPreQueryPhase(context);
+            stats.onQueryPhase(context, TimeUnit.SECONDS.toNanos(1));
+        }
+        assertThat(stats.queryCount(), equalTo(1000L));
+        assertThat(SearchService.searchLane(stats.queryCount(), stats.recentQueryTimeInMillis(), query, threshold),
+            equalTo(ThreadPool.SearchLane.EXPENSIVE));
+        // the shard got fast again, which the average of its total query time would only reflect after another thousand queries
+        for (int i = 0; i < 10; i++) {
+            stats.onPreQueryPhase(context);
+            stats.onQueryPhase(context, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertThat(stats.stats().getTotal().getQueryTimeInMillis() / stats.queryCount(), greaterThan(threshold.millis()));
+        assertThat(SearchService.searchLane(stats.queryCount(), stats.recentQueryTimeInMillis(), query, threshold),
+            equalTo(ThreadPool.SearchLane.INTERACTIVE));
+    }
+
+    private static ShardSearchRequest shardSearchRequest(SearchSourceBuilder source) {
+        return new ShardSearchRequest(OriginalIndices.NONE, new SearchRequest().allowPartialSearchResults(true).source(source),
+            new ShardId(new Index("index", "_na_"), 0), 1, new AliasFilter(null, Strings.EMPTY_ARRAY), 1.0f, -1, null, null);
+    }
+
     private ReaderContext createReaderContext(IndexService indexService, IndexShard indexShard) {
         return new ReaderContext(new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong()),
             indexService, indexShard, indexShard.acquireSearcherSupplier(), randomNonNegativeLong(), false);
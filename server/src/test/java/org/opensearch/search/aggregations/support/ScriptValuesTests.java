@@ -173,6 +173,45 @@ public class ScriptValuesTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSingleNumbers() throws IOException {
+        final double[] results = new double[randomInt(10)];
+        for (int i = 0; i < results.length; ++i) {
+            results[i] = randomDouble() * 1000;
+        }
+        AggregationScript script = new FakeAggregationScript(new Object[0][]) {
+
+            @Override
+            public Object execute() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public long runAsLong() {
+                return (long) results[index];
+            }
+
+            @Override
+            public double runAsDouble() {
+                return results[index];
+            }
+
+            @Override
+            public boolean returnsSingleNumber() {
+                return true;
+            }
+        };
+        ScriptDoubleValues doubleValues = new ScriptDoubleValues(script);
+        ScriptLongValues longValues = new ScriptLongValues(script);
+        for (int i = 0; i < results.length; ++i) {
+            assertTrue(doubleValues.advanceExact(i));
+            assertEquals(1, doubleValues.docValueCount());
+            assertEquals(results[i], doubleValues.nextValue(), 0d);
+            assertTrue(longValues.advanceExact(i));
+            assertEquals(1, longValues.docValueCount());
+            assertEquals((long) results[i], longValues.nextValue());
+        }
+    }
+
     public void testBytes() throws IOException {
         final String[][] values = new String[randomInt(10)][];
         for (int i = 0; i < values.length; ++i) {
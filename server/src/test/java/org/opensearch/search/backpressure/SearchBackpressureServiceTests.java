@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SearchBackpressureServiceTests extends OpenSearchTestCase {
+
+    private final Map<Long, CancellableTask> tasks = new HashMap<>();
+    private final TaskManager taskManager = mock(TaskManager.class);
+    private final AtomicLong heapUsage = new AtomicLong();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+    private ClusterSettings clusterSettings;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        when(taskManager.getCancellableTasks()).thenReturn(tasks);
+    }
+
+    public void testCancelsOnlyAfterSuccessiveBreaches() {
+        SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "enforced")
+            .build());
+        SearchShardTask task = addTask(1);
+        elapsedNanos.set(TimeUnit.MINUTES.toNanos(1));
+
+        heapUsage.set(50);
+        service.doRun();
+        assertFalse(service.isInDuress());
+
+        heapUsage.set(80);
+        service.doRun();
+        service.doRun();
+        assertFalse(service.isInDuress());
+        verify(taskManager, never()).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+
+        service.doRun();
+        assertTrue(service.isInDuress());
+        verify(taskManager, times(1)).cancelTaskAndDescendants(eq(task), anyString(), eq(false), any());
+        SearchBackpressureStats stats = service.stats();
+        assertThat(stats.getDuressCount(), equalTo(1L));
+        assertThat(stats.getCancellationCount(), equalTo(1L));
+        assertThat(stats.getElapsedTimeCancellations(), equalTo(1L));
+
+        // a check below the thresholds resets the breaches
+        heapUsage.set(50);
+        service.doRun();
+        assertFalse(service.isInDuress());
+        heapUsage.set(80);
+        service.doRun();
+        assertFalse(service.isInDuress());
+    }
+
+    public void testTasksBelowTheirThresholdsAreNotCancelled() {
+        SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "enforced")
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .build());
+        addTask(1);
+        heapUsage.set(80);
+        elapsedNanos.set(TimeUnit.SECONDS.toNanos(1));
+        service.doRun();
+        assertTrue(service.isInDuress());
+        verify(taskManager, never()).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        assertThat(service.stats().getCancellationCount(), equalTo(0L));
+    }
+
+    public void testCancellationRatioLimitsCancellations() {
+        SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "enforced")
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .put(SearchBackpressureService.CANCELLATION_RATIO_SETTING.getKey(), 0.2)
+            .build());
+        for (int i = 0; i < 10; i++) {
+            addTask(i);
+        }
+        heapUsage.set(80);
+        elapsedNanos.set(TimeUnit.MINUTES.toNanos(1));
+        service.doRun();
+        verify(taskManager, times(2)).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        SearchBackpressureStats stats = service.stats();
+        assertThat(stats.getCancellationCount(), equalTo(2L));
+        assertThat(stats.getCancellationLimitReachedCount(), equalTo(1L));
+    }
+
+    public void testMonitorOnlyModeDoesNotCancel() {
+        SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .build());
+        addTask(1);
+        heapUsage.set(80);
+        elapsedNanos.set(TimeUnit.MINUTES.toNanos(1));
+        service.doRun();
+        verify(taskManager, never()).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        SearchBackpressureStats stats = service.stats();
+        assertThat(stats.getMode(), equalTo("monitor_only"));
+        assertThat(stats.getCancellationCount(), equalTo(0L));
+        assertThat(stats.getWouldCancelCount(), equalTo(1L));
+        assertThat(stats.getElapsedTimeCancellations(), equalTo(0L));
+    }
+
+    public void testTasksAreCountedOnce() {
+        SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .build());
+        addTask(1);
+        heapUsage.set(80);
+        elapsedNanos.set(TimeUnit.MINUTES.toNanos(1));
+        for (int i = 0; i < 5; i++) {
+            service.doRun();
+        }
+        assertThat(service.stats().getDuressCount(), equalTo(5L));
+        assertThat(service.stats().getWouldCancelCount(), equalTo(1L));
+
+        // new tasks are counted, finished ones are forgotten
+        addTask(2);
+        tasks.remove(1L);
+        service.doRun();
+        service.doRun();
+        assertThat(service.stats().getWouldCancelCount(), equalTo(2L));
+
+        // once enforced, the tasks that would have been cancelled are cancelled, once
+        clusterSettings.applySettings(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "enforced")
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .build());
+        service.doRun();
+        service.doRun();
+        verify(taskManager, times(1)).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        assertThat(service.stats().getCancellationCount(), equalTo(1L));
+        assertThat(service.stats().getWouldCancelCount(), equalTo(2L));
+    }
+
+    public void testZeroCancellationRatioCancelsNothing() {
+        SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "enforced")
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .put(SearchBackpressureService.CANCELLATION_RATIO_SETTING.getKey(), 0.0)
+            .build());
+        addTask(1);
+        heapUsage.set(80);
+        elapsedNanos.set(TimeUnit.MINUTES.toNanos(1));
+        service.doRun();
+        assertTrue(service.isInDuress());
+        verify(taskManager, never()).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        assertThat(service.stats().getCancellationCount(), equalTo(0L));
+        assertThat(service.stats().getCancellationLimitReachedCount(), equalTo(1L));
+    }
+
+    public void testDisabledMode() {
+        SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "disabled")
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .build());
+        addTask(1);
+        heapUsage.set(80);
+        elapsedNanos.set(TimeUnit.MINUTES.toNanos(1));
+        service.doRun();
+        assertFalse(service.isInDuress());
+        assertThat(service.stats().getCancellationCount(), equalTo(0L));
+    }
+
+    private SearchBackpressureService newService(Settings settings) {
+        clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        return new SearchBackpressureService(settings, clusterSettings, mock(ThreadPool.class), taskManager,
+            () -> heapUsage.get() / 100.0, () -> 0.0, 1024 * 1024 * 1024, () -> System.nanoTime() + elapsedNanos.get());
+    }
+
+    private SearchShardTask addTask(long id) {
+        SearchShardTask task = new SearchShardTask(id, "transport", "indices:data/read/search[phase/query]", "", TaskId.EMPTY_TASK_ID,
+            Collections.emptyMap());
+        tasks.put(id, task);
+        return task;
+    }
+}
@@ -82,7 +82,7 @@ public class TaskInfoTests extends AbstractSerializingTestCase<TaskInfo> {
 
     @Override
     protected TaskInfo mutateInstance(TaskInfo info) {
-        switch (between(0, 9)) {
+        switch (between(0, 10)) {
             case 0:
                 TaskId taskId = new TaskId(info.getTaskId().getNodeId() + randomAlphaOfLength(5), info.getTaskId().getId());
                 return new TaskInfo(taskId, info.getType(), info.getAction(), info.getDescription(), info.getStatus(),
@@ -129,6 +129,11 @@ public class TaskInfoTests extends AbstractSerializingTestCase<TaskInfo> {
                 headers.put(randomAlphaOfLength(15), randomAlphaOfLength(15));
                 return new TaskInfo(info.getTaskId(), info.getType(), info.getAction(), info.getDescription(), info.getStatus(),
                     info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(), headers);
+            case 10:
+                TaskResourceUsage resourceUsage = randomValueOtherThan(info.getResourceUsage(), TaskInfoTests::randomResourceUsage);
+                return new TaskInfo(info.getTaskId(), info.getType(), info.getAction(), info.getDescription(), info.getStatus(),
+                    info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(), info.getHeaders(),
+                    resourceUsage);
             default:
                 throw new IllegalStateException();
         }
@@ -147,7 +152,13 @@ public class TaskInfoTests extends AbstractSerializingTestCase<TaskInfo> {
         Map<String, String> headers = randomBoolean() ?
                 Collections.emptyMap() :
                 Collections.singletonMap(randomAlphaOfLength(5), randomAlphaOfLength(5));
-        return new TaskInfo(taskId, type, action, description, status, startTime, runningTimeNanos, cancellable, parentTaskId, headers);
+        TaskResourceUsage resourceUsage = randomBoolean() ? randomResourceUsage() : null;
+        return new TaskInfo(taskId, type, action, description, status, startTime, runningTimeNanos, cancellable, parentTaskId, headers,
+            resourceUsage);
+    }
+
+    private static TaskResourceUsage randomResourceUsage() {
+        return new TaskResourceUsage(randomNonNegativeLong(), randomNonNegativeLong());
     }
 
     private static TaskId randomTaskId() {
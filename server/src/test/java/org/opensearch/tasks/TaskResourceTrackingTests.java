@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.tasks;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TaskResourceTrackingTests extends OpenSearchTestCase {
+
+    public void testTrackingAccumulatesUsage() {
+        assumeTrue("thread cpu time must be measured", ThreadResourceUsage.isSupported());
+        Task task = newTask(1);
+        try (Releasable ignored = task.trackResourceUsage()) {
+            burnCpu();
+            // usage is reported while the thread still works on behalf of the task
+            assertThat(task.getResourceUsage().getCpuTimeNanos(), greaterThan(0L));
+        }
+        TaskResourceUsage usage = task.getResourceUsage();
+        assertThat(usage.getCpuTimeNanos(), greaterThan(0L));
+        assertThat(usage.getAllocatedBytes(), greaterThanOrEqualTo(0L));
+
+        // tracking the task again on the same thread doesn't count the same work twice
+        try (Releasable outer = task.trackResourceUsage(); Releasable inner = task.trackResourceUsage()) {
+            burnCpu();
+        }
+        assertThat(task.getResourceUsage().getCpuTimeNanos(), greaterThan(usage.getCpuTimeNanos()));
+    }
+
+    public void testNestedTaskPausesOuterTask() {
+        assumeTrue("thread cpu time must be measured", ThreadResourceUsage.isSupported());
+        Task outer = newTask(1);
+        Task inner = newTask(2);
+        try (Releasable ignored = outer.trackResourceUsage()) {
+            try (Releasable nested = inner.trackResourceUsage()) {
+                TaskResourceUsage before = outer.getResourceUsage();
+                burnCpu();
+                assertThat(outer.getResourceUsage(), equalTo(before));
+            }
+            assertThat(inner.getResourceUsage().getCpuTimeNanos(), greaterThan(0L));
+            burnCpu();
+        }
+        assertThat(outer.getResourceUsage().getCpuTimeNanos(), greaterThan(0L));
+    }
+
+    public void testAddResourceUsage() {
+        assumeTrue("thread cpu time must be measured", ThreadResourceUsage.isSupported());
+        Task task = newTask(1);
+        task.addResourceUsage(10, 20);
+        task.addResourceUsage(1, 2);
+        assertThat(task.getResourceUsage(), equalTo(new TaskResourceUsage(11, 22)));
+    }
+
+    public void testAllocationsAreMeasured() {
+        assumeTrue("thread cpu time must be measured", ThreadResourceUsage.isSupported());
+        assumeTrue("thread allocations must be measured", ThreadResourceUsage.current().allocatedBytes >= 0);
+        Task task = newTask(1);
+        try (Releasable ignored = task.trackResourceUsage()) {
+            burnCpu();
+        }
+        assertThat(task.getResourceUsage().getAllocatedBytes(), greaterThan(0L));
+    }
+
+    public void testTrackingCanBeDisabled() {
+        assumeTrue("thread cpu time must be measured", ThreadResourceUsage.isSupported());
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            Settings settings = Settings.builder().put(TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING.getKey(), false).build();
+            TaskManager taskManager = new TaskManager(settings, threadPool, Collections.emptySet());
+            Task untracked = taskManager.register("transport", "test", new TaskManagerTests.CancellableRequest("untracked"));
+            try (Releasable ignored = untracked.trackResourceUsage()) {
+                burnCpu();
+            }
+            assertThat(untracked.getResourceUsage(), nullValue());
+
+            // only applies to the tasks registered after the change
+            taskManager.setResourceTrackingEnabled(true);
+            Task tracked = taskManager.register("transport", "test", new TaskManagerTests.CancellableRequest("tracked"));
+            try (Releasable ignored = tracked.trackResourceUsage()) {
+                burnCpu();
+            }
+            assertThat(tracked.getResourceUsage().getCpuTimeNanos(), greaterThan(0L));
+            assertThat(untracked.getResourceUsage(), nullValue());
+            taskManager.unregister(untracked);
+            taskManager.unregister(tracked);
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    private static Task newTask(long id) {
+        return new Task(id, "test", "test", "", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+    }
+
+    private static void burnCpu() {
+        long start = ThreadResourceUsage.current().cpuTimeNanos;
+        List<String> strings = new ArrayList<>();
+        while (ThreadResourceUsage.current().cpuTimeNanos - start < 5_000_000) {
+            strings.add(Integer.toString(strings.size()));
+        }
+    }
+}
@@ -34,6 +34,9 @@ package org.opensearch.threadpool;
 
 import org.opensearch.common.settings.Settings;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.hamcrest.CoreMatchers.containsString;
 
 public class AutoQueueAdjustingExecutorBuilderTests extends OpenSearchThreadPoolTestCase {
@@ -121,4 +124,25 @@ public class AutoQueueAdjustingExecutorBuilderTests extends OpenSearchThreadPool
         assertSettingDeprecationsAndWarnings(new String[]{"thread_pool.test.min_queue_size", "thread_pool.test.max_queue_size"});
     }
 
+    public void testLaneSettings() {
+        Map<String, Integer> lanes = new LinkedHashMap<>();
+        lanes.put("fast", 3);
+        lanes.put("slow", 1);
+        AutoQueueAdjustingExecutorBuilder builder =
+            new AutoQueueAdjustingExecutorBuilder(Settings.EMPTY, "test", 1, 1000, 1000, 1000, 2000, lanes);
+        assertNull(builder.getSettings(Settings.EMPTY).laneWeights);
+
+        Settings settings = Settings.builder()
+            .put("thread_pool.test.lanes.enabled", true)
+            .put("thread_pool.test.lanes.slow.weight", 2)
+            .build();
+        assertArrayEquals(new int[] { 3, 2 }, builder.getSettings(settings).laneWeights);
+
+        Settings invalid = Settings.builder()
+            .put("thread_pool.test.lanes.enabled", true)
+            .put("thread_pool.test.lanes.fast.weight", 0)
+            .build();
+        expectThrows(IllegalArgumentException.class, () -> builder.getSettings(invalid));
+    }
+
 }
@@ -46,6 +46,7 @@ import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.InputStreamStreamInput;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
@@ -54,6 +55,7 @@ import org.opensearch.tasks.TaskManager;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.MockLogAppender;
 import org.opensearch.test.VersionUtils;
+import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 import org.junit.After;
@@ -62,15 +64,20 @@ import org.junit.Before;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 
 public class InboundHandlerTests extends OpenSearchTestCase {
 
-    private final TestThreadPool threadPool = new TestThreadPool(getClass().getName());
+    private static final String BLOCKING_EXECUTOR = "blocking";
+
+    private final TestThreadPool threadPool = new TestThreadPool(getClass().getName(),
+        new FixedExecutorBuilder(Settings.EMPTY, BLOCKING_EXECUTOR, 1, 0, BLOCKING_EXECUTOR));
     private final Version version = Version.CURRENT;
 
     private TaskManager taskManager;
@@ -293,6 +300,129 @@ public class InboundHandlerTests extends OpenSearchTestCase {
         }
     }
 
+    public void testRetainedRequestIsReleasedOnceTheResponseIsSent() throws Exception {
+        final String action = "retaining-request";
+        final AtomicReference<TransportChannel> channelCaptor = new AtomicReference<>();
+        final String executor = randomFrom(ThreadPool.Names.SAME, ThreadPool.Names.GENERIC);
+        final CountDownLatch handled = new CountDownLatch(1);
+        requestHandlers.registerHandler(new RequestHandlerRegistry<>(action, RetainingRequest::new, taskManager,
+            (request, channel, task) -> {
+                assertThat(request.content.utf8ToString(), equalTo("content"));
+                channelCaptor.set(channel);
+                handled.countDown();
+            }, executor, false, true));
+
+        final AtomicBoolean released = new AtomicBoolean();
+        try (InboundMessage message = requestMessage(action, new RetainingRequest("content"), released)) {
+            handler.inboundMessage(channel, message);
+        }
+        assertTrue(handled.await(10, TimeUnit.SECONDS));
+        assertFalse("the request is released before the response was sent", released.get());
+        channelCaptor.get().sendResponse(TransportResponse.Empty.INSTANCE);
+        // a forked handler releases its own reference once it returns, which may be after it responded
+        assertBusy(() -> assertTrue(released.get()));
+    }
+
+    public void testRetainedRequestIsReleasedWhenTheExecutorRejectsIt() throws Exception {
+        final String action = "retaining-request";
+        requestHandlers.registerHandler(new RequestHandlerRegistry<>(action, RetainingRequest::new, taskManager,
+            (request, channel, task) -> fail("the request should have been rejected"), BLOCKING_EXECUTOR, false, true));
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch unblock = new CountDownLatch(1);
+        threadPool.executor(BLOCKING_EXECUTOR).execute(() -> {
+            blocked.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        });
+        try {
+            assertTrue(blocked.await(10, TimeUnit.SECONDS));
+            final AtomicBoolean released = new AtomicBoolean();
+            try (InboundMessage message = requestMessage(action, new RetainingRequest("content"), released)) {
+                handler.inboundMessage(channel, message);
+            }
+            assertNotNull("an error response is sent", channel.getMessageCaptor().get());
+            assertTrue(released.get());
+        } finally {
+            unblock.countDown();
+        }
+    }
+
+    public void testRetainedRequestIsReleasedWhenDeserializationFails() throws Exception {
+        final String action = "retaining-request";
+        requestHandlers.registerHandler(new RequestHandlerRegistry<>(action, RetainingRequest::new, taskManager,
+            (request, channel, task) -> fail("the request should not have been read"), ThreadPool.Names.SAME, false, true));
+
+        // the request has trailing bytes that the reader doesn't consume, so it fails once it has retained its content
+        final AtomicBoolean released = new AtomicBoolean();
+        try (InboundMessage message = requestMessage(action, new RetainingRequest("content") {
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                super.writeTo(out);
+                out.writeBoolean(true);
+            }
+        }, released)) {
+            handler.inboundMessage(channel, message);
+        }
+        assertNotNull("an error response is sent", channel.getMessageCaptor().get());
+        assertTrue(released.get());
+    }
+
+    private InboundMessage requestMessage(String action, TransportRequest request, AtomicBoolean released) throws IOException {
+        final long requestId = randomNonNegativeLong();
+        final int headerSize = TcpHeader.headerSize(version);
+        final OutboundMessage.Request outboundMessage = new OutboundMessage.Request(threadPool.getThreadContext(), new String[0],
+            request, version, action, requestId, false, false);
+        final BytesReference fullRequestBytes = outboundMessage.serialize(new BytesStreamOutput());
+        final BytesReference requestContent = fullRequestBytes.slice(headerSize, fullRequestBytes.length() - headerSize);
+        final Header requestHeader = new Header(fullRequestBytes.length() - 6, requestId, TransportStatus.setRequest((byte) 0), version);
+        final InboundMessage message =
+            new InboundMessage(requestHeader, new ReleasableBytesReference(requestContent, () -> released.set(true)), () -> {});
+        requestHeader.finishParsingHeader(message.openOrGetStreamInput());
+        return message;
+    }
+
+    /**
+     * A request that holds on to a slice of the network buffer it was read from, like shard level index requests do.
+     */
+    private static class RetainingRequest extends TransportRequest {
+
+        private final ReleasableBytesReference content;
+
+        RetainingRequest(String content) {
+            this.content = ReleasableBytesReference.wrap(new BytesArray(content));
+        }
+
+        RetainingRequest(StreamInput in) throws IOException {
+            super(in);
+            content = in.readReleasableBytesReference();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeBytesReference(content);
+        }
+
+        @Override
+        public void incRef() {
+            content.incRef();
+        }
+
+        @Override
+        public boolean tryIncRef() {
+            return content.tryIncRef();
+        }
+
+        @Override
+        public boolean decRef() {
+            return content.decRef();
+        }
+    }
+
     private static InboundMessage unreadableInboundHandshake(Version remoteVersion, Header requestHeader) {
         return new InboundMessage(requestHeader, ReleasableBytesReference.wrap(BytesArray.EMPTY), () -> { }) {
             @Override
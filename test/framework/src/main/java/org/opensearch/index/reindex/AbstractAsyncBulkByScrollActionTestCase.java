@@ -33,8 +33,10 @@
 package org.opensearch.index.reindex;
 
 import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.client.ParentTaskAssigningClient;
 import org.opensearch.tasks.TaskId;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.client.NoOpClient;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 import org.junit.After;
@@ -48,12 +50,17 @@ public abstract class AbstractAsyncBulkByScrollActionTestCase<
         extends OpenSearchTestCase {
     protected ThreadPool threadPool;
     protected BulkByScrollTask task;
+    /**
+     * A client that answers every request with {@code null}, for tests that build actions without sending requests.
+     */
+    protected ParentTaskAssigningClient client;
 
     @Before
     public void setupForTest() {
         threadPool = new TestThreadPool(getTestName());
         task = new BulkByScrollTask(1, "test", "test", "test", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
         task.setWorker(Float.POSITIVE_INFINITY, null);
+        client = new ParentTaskAssigningClient(new NoOpClient(threadPool), new TaskId("node", 1));
 
     }
 